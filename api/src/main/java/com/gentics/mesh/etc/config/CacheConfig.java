@@ -11,14 +11,64 @@ public class CacheConfig implements Option {
 
 	public static final String MESH_CACHE_PATH_SIZE_ENV = "MESH_CACHE_PATH_SIZE";
 
+	public static final String MESH_CACHE_LINK_SIZE_ENV = "MESH_CACHE_LINK_SIZE";
+
+	public static final String MESH_CACHE_NODE_RESPONSE_SIZE_ENV = "MESH_CACHE_NODE_RESPONSE_SIZE";
+
+	public static final String MESH_CACHE_GRAPHQL_SCHEMA_SIZE_ENV = "MESH_CACHE_GRAPHQL_SCHEMA_SIZE";
+
+	public static final String MESH_CACHE_GRAPHQL_DOCUMENT_SIZE_ENV = "MESH_CACHE_GRAPHQL_DOCUMENT_SIZE";
+
+	public static final String MESH_CACHE_GRAPHQL_PERSISTED_QUERY_SIZE_ENV = "MESH_CACHE_GRAPHQL_PERSISTED_QUERY_SIZE";
+
 	private static final long DEFAULT_PATH_CACHE_SIZE = 20_000;
 
+	private static final long DEFAULT_LINK_CACHE_SIZE = 50_000;
+
+	private static final long DEFAULT_NODE_RESPONSE_CACHE_SIZE = 0;
+
+	private static final long DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE = 100;
+
+	private static final long DEFAULT_GRAPHQL_DOCUMENT_CACHE_SIZE = 1_000;
+
+	private static final long DEFAULT_GRAPHQL_PERSISTED_QUERY_CACHE_SIZE = 5_000;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Set the maximum size of the path cache. A value of 0 will disable the cache. Default: "
 		+ DEFAULT_PATH_CACHE_SIZE)
 	@EnvironmentVariable(name = MESH_CACHE_PATH_SIZE_ENV, description = "Override the path cache size.")
 	private long pathCacheSize = DEFAULT_PATH_CACHE_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of resolved mesh links which will be cached. A link is cached per target node, branch, type and set of languages. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_LINK_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_LINK_SIZE_ENV, description = "Override the link cache size.")
+	private long linkCacheSize = DEFAULT_LINK_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of rendered node responses which will be cached. A response is cached per etag of the node and roles of the user. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_NODE_RESPONSE_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_NODE_RESPONSE_SIZE_ENV, description = "Override the node response cache size.")
+	private long nodeResponseCacheSize = DEFAULT_NODE_RESPONSE_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of GraphQL schemas which will be cached. A schema is cached per project, branch and set of schema versions. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_GRAPHQL_SCHEMA_SIZE_ENV, description = "Override the GraphQL schema cache size.")
+	private long graphQLSchemaCacheSize = DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of parsed and validated GraphQL query documents which will be cached. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_GRAPHQL_DOCUMENT_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_GRAPHQL_DOCUMENT_SIZE_ENV, description = "Override the GraphQL document cache size.")
+	private long graphQLDocumentCacheSize = DEFAULT_GRAPHQL_DOCUMENT_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of persisted GraphQL queries which will be kept. Clients can reference persisted queries by their SHA-256 hash. A value of 0 will disable persisted queries. Default: "
+		+ DEFAULT_GRAPHQL_PERSISTED_QUERY_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_GRAPHQL_PERSISTED_QUERY_SIZE_ENV, description = "Override the GraphQL persisted query cache size.")
+	private long graphQLPersistedQueryCacheSize = DEFAULT_GRAPHQL_PERSISTED_QUERY_CACHE_SIZE;
+
 	public CacheConfig() {
 
 	}
@@ -32,6 +82,51 @@ public class CacheConfig implements Option {
 		return this;
 	}
 
+	public long getLinkCacheSize() {
+		return linkCacheSize;
+	}
+
+	public CacheConfig setLinkCacheSize(long linkCacheSize) {
+		this.linkCacheSize = linkCacheSize;
+		return this;
+	}
+
+	public long getNodeResponseCacheSize() {
+		return nodeResponseCacheSize;
+	}
+
+	public CacheConfig setNodeResponseCacheSize(long nodeResponseCacheSize) {
+		this.nodeResponseCacheSize = nodeResponseCacheSize;
+		return this;
+	}
+
+	public long getGraphQLSchemaCacheSize() {
+		return graphQLSchemaCacheSize;
+	}
+
+	public CacheConfig setGraphQLSchemaCacheSize(long graphQLSchemaCacheSize) {
+		this.graphQLSchemaCacheSize = graphQLSchemaCacheSize;
+		return this;
+	}
+
+	public long getGraphQLDocumentCacheSize() {
+		return graphQLDocumentCacheSize;
+	}
+
+	public CacheConfig setGraphQLDocumentCacheSize(long graphQLDocumentCacheSize) {
+		this.graphQLDocumentCacheSize = graphQLDocumentCacheSize;
+		return this;
+	}
+
+	public long getGraphQLPersistedQueryCacheSize() {
+		return graphQLPersistedQueryCacheSize;
+	}
+
+	public CacheConfig setGraphQLPersistedQueryCacheSize(long graphQLPersistedQueryCacheSize) {
+		this.graphQLPersistedQueryCacheSize = graphQLPersistedQueryCacheSize;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
 	}
@@ -23,6 +23,11 @@ public class ClusterOptions implements Option {
 	public static final int DEFAULT_VERTX_PORT = 4848;
 	public static final long DEFAULT_TOPOLOGY_LOCK_TIMEOUT = 0;
 	public static final long DEFAULT_TOPOLOGY_LOCK_DELAY = 20_000; // 20 seconds
+	public static final int DEFAULT_COORDINATOR_PROXY_POOL_SIZE = 32;
+	public static final boolean DEFAULT_COORDINATOR_PROXY_HTTP2 = false;
+	public static final int DEFAULT_COORDINATOR_PROXY_CONNECT_TIMEOUT = 5_000;
+	public static final long DEFAULT_COORDINATOR_PROXY_REQUEST_TIMEOUT = 60_000;
+	public static final long DEFAULT_COORDINATOR_READ_YOUR_WRITES_WINDOW = 0;
 
 	public static final String MESH_CLUSTER_NETWORK_HOST_ENV = "MESH_CLUSTER_NETWORK_HOST";
 	public static final String MESH_CLUSTER_ENABLED_ENV = "MESH_CLUSTER_ENABLED";
@@ -33,6 +38,11 @@ public class ClusterOptions implements Option {
 	public static final String MESH_CLUSTER_TOPOLOGY_LOCK_TIMEOUT_ENV = "MESH_CLUSTER_TOPOLOGY_LOCK_TIMEOUT";
 	public static final String MESH_CLUSTER_TOPOLOGY_LOCK_DELAY_ENV = "MESH_CLUSTER_TOPOLOGY_LOCK_DELAY";
 	public static final String MESH_CLUSTER_COORDINATOR_TOPOLOGY_ENV = "MESH_CLUSTER_COORDINATOR_TOPOLOGY";
+	public static final String MESH_CLUSTER_COORDINATOR_PROXY_POOL_SIZE_ENV = "MESH_CLUSTER_COORDINATOR_PROXY_POOL_SIZE";
+	public static final String MESH_CLUSTER_COORDINATOR_PROXY_HTTP2_ENV = "MESH_CLUSTER_COORDINATOR_PROXY_HTTP2";
+	public static final String MESH_CLUSTER_COORDINATOR_PROXY_CONNECT_TIMEOUT_ENV = "MESH_CLUSTER_COORDINATOR_PROXY_CONNECT_TIMEOUT";
+	public static final String MESH_CLUSTER_COORDINATOR_PROXY_REQUEST_TIMEOUT_ENV = "MESH_CLUSTER_COORDINATOR_PROXY_REQUEST_TIMEOUT";
+	public static final String MESH_CLUSTER_COORDINATOR_READ_YOUR_WRITES_WINDOW_ENV = "MESH_CLUSTER_COORDINATOR_READ_YOUR_WRITES_WINDOW";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("IP or host which is used to announce and reach the instance in the cluster. Gentics Mesh will try to determine the IP automatically but you may use this setting to override this automatic IP handling.")
@@ -85,6 +95,35 @@ public class ClusterOptions implements Option {
 	@EnvironmentVariable(name = MESH_CLUSTER_COORDINATOR_TOPOLOGY_ENV, description = "Override the cluster coordinator topology management mode.")
 	private CoordinationTopology coordinatorTopology = CoordinationTopology.UNMANAGED;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of pooled connections which are used to delegate requests to the elected master. Default: "
+		+ DEFAULT_COORDINATOR_PROXY_POOL_SIZE)
+	@EnvironmentVariable(name = MESH_CLUSTER_COORDINATOR_PROXY_POOL_SIZE_ENV, description = "Override the coordinator proxy connection pool size.")
+	private int coordinatorProxyPoolSize = DEFAULT_COORDINATOR_PROXY_POOL_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which controls whether requests are delegated to the elected master via HTTP/2. Default: "
+		+ DEFAULT_COORDINATOR_PROXY_HTTP2)
+	@EnvironmentVariable(name = MESH_CLUSTER_COORDINATOR_PROXY_HTTP2_ENV, description = "Override the coordinator proxy HTTP/2 flag.")
+	private boolean coordinatorProxyHttp2 = DEFAULT_COORDINATOR_PROXY_HTTP2;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Timeout in ms for establishing a connection to the elected master. Default: " + DEFAULT_COORDINATOR_PROXY_CONNECT_TIMEOUT)
+	@EnvironmentVariable(name = MESH_CLUSTER_COORDINATOR_PROXY_CONNECT_TIMEOUT_ENV, description = "Override the coordinator proxy connect timeout in ms.")
+	private int coordinatorProxyConnectTimeout = DEFAULT_COORDINATOR_PROXY_CONNECT_TIMEOUT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Timeout in ms for requests which are delegated to the elected master. A value of 0 will disable the timeout. Default: "
+		+ DEFAULT_COORDINATOR_PROXY_REQUEST_TIMEOUT)
+	@EnvironmentVariable(name = MESH_CLUSTER_COORDINATOR_PROXY_REQUEST_TIMEOUT_ENV, description = "Override the coordinator proxy request timeout in ms.")
+	private long coordinatorProxyRequestTimeout = DEFAULT_COORDINATOR_PROXY_REQUEST_TIMEOUT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Time in ms after a write in which read requests that provide the consistency token of the write will be delegated to the elected master. This ensures that clients can read their own writes before they have been replicated. A value of 0 will disable the read-your-writes consistency. Default: "
+		+ DEFAULT_COORDINATOR_READ_YOUR_WRITES_WINDOW)
+	@EnvironmentVariable(name = MESH_CLUSTER_COORDINATOR_READ_YOUR_WRITES_WINDOW_ENV, description = "Override the coordinator read-your-writes window in ms.")
+	private long coordinatorReadYourWritesWindow = DEFAULT_COORDINATOR_READ_YOUR_WRITES_WINDOW;
+
 	public boolean isEnabled() {
 		return enabled;
 	}
@@ -157,6 +196,51 @@ public class ClusterOptions implements Option {
 		return this;
 	}
 
+	public int getCoordinatorProxyPoolSize() {
+		return coordinatorProxyPoolSize;
+	}
+
+	public ClusterOptions setCoordinatorProxyPoolSize(int coordinatorProxyPoolSize) {
+		this.coordinatorProxyPoolSize = coordinatorProxyPoolSize;
+		return this;
+	}
+
+	public boolean isCoordinatorProxyHttp2() {
+		return coordinatorProxyHttp2;
+	}
+
+	public ClusterOptions setCoordinatorProxyHttp2(boolean coordinatorProxyHttp2) {
+		this.coordinatorProxyHttp2 = coordinatorProxyHttp2;
+		return this;
+	}
+
+	public int getCoordinatorProxyConnectTimeout() {
+		return coordinatorProxyConnectTimeout;
+	}
+
+	public ClusterOptions setCoordinatorProxyConnectTimeout(int coordinatorProxyConnectTimeout) {
+		this.coordinatorProxyConnectTimeout = coordinatorProxyConnectTimeout;
+		return this;
+	}
+
+	public long getCoordinatorProxyRequestTimeout() {
+		return coordinatorProxyRequestTimeout;
+	}
+
+	public ClusterOptions setCoordinatorProxyRequestTimeout(long coordinatorProxyRequestTimeout) {
+		this.coordinatorProxyRequestTimeout = coordinatorProxyRequestTimeout;
+		return this;
+	}
+
+	public long getCoordinatorReadYourWritesWindow() {
+		return coordinatorReadYourWritesWindow;
+	}
+
+	public ClusterOptions setCoordinatorReadYourWritesWindow(long coordinatorReadYourWritesWindow) {
+		this.coordinatorReadYourWritesWindow = coordinatorReadYourWritesWindow;
+		return this;
+	}
+
 	public long getTopologyLockDelay() {
 		return topologyLockDelay;
 	}
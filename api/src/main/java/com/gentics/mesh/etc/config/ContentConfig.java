@@ -10,8 +10,12 @@ import com.gentics.mesh.etc.config.env.Option;
 public class ContentConfig implements Option {
 
 	public static final String MESH_CONTENT_AUTO_PURGE_ENV = "MESH_CONTENT_AUTO_PURGE";
+	public static final String MESH_CONTENT_MIGRATION_CHUNK_SIZE_ENV = "MESH_CONTENT_MIGRATION_CHUNK_SIZE";
+	public static final String MESH_CONTENT_MIGRATION_WORKERS_ENV = "MESH_CONTENT_MIGRATION_WORKERS";
 
 	private static final boolean DEFAULT_AUTO_PURGE = true;
+	public static final int DEFAULT_MIGRATION_CHUNK_SIZE = 50;
+	public static final int DEFAULT_MIGRATION_WORKERS = 1;
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Flag which controls the global setting for the auto purge mechanism. The setting can be overriden by the schema 'autoPurge' flag. Default: "
@@ -19,6 +23,18 @@ public class ContentConfig implements Option {
 	@EnvironmentVariable(name = MESH_CONTENT_AUTO_PURGE_ENV, description = "Override the content versioning flag")
 	private boolean autoPurge = DEFAULT_AUTO_PURGE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of contents which are migrated within a single transaction during a schema migration. Default: "
+		+ DEFAULT_MIGRATION_CHUNK_SIZE)
+	@EnvironmentVariable(name = MESH_CONTENT_MIGRATION_CHUNK_SIZE_ENV, description = "Override the schema migration chunk size.")
+	private int migrationChunkSize = DEFAULT_MIGRATION_CHUNK_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of worker threads which migrate chunks of contents concurrently during a schema migration. Default: "
+		+ DEFAULT_MIGRATION_WORKERS)
+	@EnvironmentVariable(name = MESH_CONTENT_MIGRATION_WORKERS_ENV, description = "Override the amount of schema migration workers.")
+	private int migrationWorkers = DEFAULT_MIGRATION_WORKERS;
+
 	public ContentConfig() {
 
 	}
@@ -32,6 +48,24 @@ public class ContentConfig implements Option {
 		return this;
 	}
 
+	public int getMigrationChunkSize() {
+		return migrationChunkSize;
+	}
+
+	public ContentConfig setMigrationChunkSize(int migrationChunkSize) {
+		this.migrationChunkSize = migrationChunkSize;
+		return this;
+	}
+
+	public int getMigrationWorkers() {
+		return migrationWorkers;
+	}
+
+	public ContentConfig setMigrationWorkers(int migrationWorkers) {
+		this.migrationWorkers = migrationWorkers;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
 	}
@@ -24,6 +24,8 @@ public class GraphStorageOptions implements Option {
 	public static final long DEFAULT_SYNC_WRITES_TIMEOUT = 60_000;
 	public static final int DEFAULT_TX_RETRY_DELAY = 10;
 	public static final int DEFAULT_TX_RETRY_LIMIT = 10;
+	public static final int DEFAULT_TX_RETRY_MAX_DELAY = 1_000;
+	public static final long DEFAULT_TX_RETRY_MAX_TIME = 30_000;
 	public static final long DEFAULT_TX_COMMIT_TIMEOUT = 0;
 
 	public static final String MESH_GRAPH_DB_DIRECTORY_ENV = "MESH_GRAPH_DB_DIRECTORY";
@@ -34,6 +36,8 @@ public class GraphStorageOptions implements Option {
 	public static final String MESH_GRAPH_SYNC_WRITES_TIMEOUT_ENV = "MESH_GRAPH_SYNC_WRITES_TIMEOUT";
 	public static final String MESH_GRAPH_TX_RETRY_DELAY_ENV = "MESH_GRAPH_TX_RETRY_DELAY";
 	public static final String MESH_GRAPH_TX_RETRY_LIMIT_ENV = "MESH_GRAPH_TX_RETRY_LIMIT";
+	public static final String MESH_GRAPH_TX_RETRY_MAX_DELAY_ENV = "MESH_GRAPH_TX_RETRY_MAX_DELAY";
+	public static final String MESH_GRAPH_TX_RETRY_MAX_TIME_ENV = "MESH_GRAPH_TX_RETRY_MAX_TIME";
 	public static final String MESH_GRAPH_TX_COMMIT_TIMEOUT_ENV = "MESH_GRAPH_TX_COMMIT_TIMEOUT";
 
 	@JsonProperty(required = true)
@@ -67,7 +71,7 @@ public class GraphStorageOptions implements Option {
 	private long synchronizeWritesTimeout = DEFAULT_SYNC_WRITES_TIMEOUT;
 
 	@JsonProperty(defaultValue = DEFAULT_TX_RETRY_DELAY + "ms")
-	@JsonPropertyDescription("The delay in milliseconds when a transaction has to be retried.")
+	@JsonPropertyDescription("The base delay in milliseconds when a transaction has to be retried. The delay grows exponentially with every retry and is randomized to avoid that conflicting transactions are retried at the same time.")
 	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_DELAY_ENV, description = "Override the transaction retry delay. Default: "
 		+ DEFAULT_TX_RETRY_DELAY)
 	private int txRetryDelay = DEFAULT_TX_RETRY_DELAY;
@@ -78,6 +82,18 @@ public class GraphStorageOptions implements Option {
 		+ DEFAULT_TX_RETRY_LIMIT)
 	private int txRetryLimit = DEFAULT_TX_RETRY_LIMIT;
 
+	@JsonProperty(defaultValue = DEFAULT_TX_RETRY_MAX_DELAY + "ms")
+	@JsonPropertyDescription("The maximum delay in milliseconds between two retries of a transaction.")
+	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_MAX_DELAY_ENV, description = "Override the maximum transaction retry delay. Default: "
+		+ DEFAULT_TX_RETRY_MAX_DELAY)
+	private int txRetryMaxDelay = DEFAULT_TX_RETRY_MAX_DELAY;
+
+	@JsonProperty(defaultValue = DEFAULT_TX_RETRY_MAX_TIME + "ms")
+	@JsonPropertyDescription("The maximum time in milliseconds which may elapse while a transaction gets retried. Transactions will no longer be retried afterwards. Use 0 to only limit the amount of retries.")
+	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_MAX_TIME_ENV, description = "Override the maximum transaction retry time. Default: "
+		+ DEFAULT_TX_RETRY_MAX_TIME)
+	private long txRetryMaxTime = DEFAULT_TX_RETRY_MAX_TIME;
+
 	@JsonProperty(defaultValue = DEFAULT_TX_COMMIT_TIMEOUT + " ms")
 	@JsonPropertyDescription("The transaction commit timeout in milliseconds. A timeout value of zero means that transaction commit operations will never timeout.")
 	@EnvironmentVariable(name = MESH_GRAPH_TX_COMMIT_TIMEOUT_ENV, description = "Override the transaction commit timeout. Default: "
@@ -182,6 +198,24 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	public int getTxRetryMaxDelay() {
+		return txRetryMaxDelay;
+	}
+
+	public GraphStorageOptions setTxRetryMaxDelay(int txRetryMaxDelay) {
+		this.txRetryMaxDelay = txRetryMaxDelay;
+		return this;
+	}
+
+	public long getTxRetryMaxTime() {
+		return txRetryMaxTime;
+	}
+
+	public GraphStorageOptions setTxRetryMaxTime(long txRetryMaxTime) {
+		this.txRetryMaxTime = txRetryMaxTime;
+		return this;
+	}
+
 	public long getTxCommitTimeout() {
 		return this.txCommitTimeout;
 	}
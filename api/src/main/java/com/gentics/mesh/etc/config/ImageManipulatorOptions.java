@@ -19,11 +19,13 @@ public class ImageManipulatorOptions implements Option {
 	public static final String MESH_IMAGE_JPEG_QUALITY_ENV = "MESH_IMAGE_JPEG_QUALITY";
 	public static final String MESH_IMAGE_RESAMPLE_FILTER_ENV = "MESH_IMAGE_RESAMPLE_FILTER";
 	public static final String MESH_IMAGE_CACHE_DIRECTORY_ENV = "MESH_IMAGE_CACHE_DIRECTORY";
+	public static final String MESH_IMAGE_CACHE_MAX_SIZE_ENV = "MESH_IMAGE_CACHE_MAX_SIZE";
 
 	public static final int DEFAULT_MAX_WIDTH = 2048;
 	public static final int DEFAULT_MAX_HEIGHT = 2048;
 	public static final float DEFAULT_JPEG_QUALITY = 0.95f;
 	public static final String DEFAULT_IMAGE_CACHE_DIRECTORY = "data" + File.separator + "binaryImageCache";
+	public static final long DEFAULT_IMAGE_CACHE_MAX_SIZE = 10L * 1024 * 1024 * 1024;
 	// This is the default filter in ImageMagick
 	public static final ResampleFilter DEFAULT_RESAMPLE_FILTER = ResampleFilter.LANCZOS;
 
@@ -32,6 +34,12 @@ public class ImageManipulatorOptions implements Option {
 	@EnvironmentVariable(name = MESH_IMAGE_CACHE_DIRECTORY_ENV, description = "Override the path for image cache directory.")
 	private String imageCacheDirectory = DEFAULT_IMAGE_CACHE_DIRECTORY;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum total size in bytes of the resized images in the image cache directory. The least recently used images will be removed once the size has been exceeded. A value of 0 or less disables the limit. Default: "
+		+ DEFAULT_IMAGE_CACHE_MAX_SIZE)
+	@EnvironmentVariable(name = MESH_IMAGE_CACHE_MAX_SIZE_ENV, description = "Override the maximum size of the image cache.")
+	private long imageCacheMaxSize = DEFAULT_IMAGE_CACHE_MAX_SIZE;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure the maximum allowed image resize width. Resizing is a memory intensive operation and thus this limit can help avoid memory issues. Default: "
 		+ DEFAULT_MAX_WIDTH)
@@ -64,6 +72,15 @@ public class ImageManipulatorOptions implements Option {
 		return this;
 	}
 
+	public long getImageCacheMaxSize() {
+		return imageCacheMaxSize;
+	}
+
+	public ImageManipulatorOptions setImageCacheMaxSize(long imageCacheMaxSize) {
+		this.imageCacheMaxSize = imageCacheMaxSize;
+		return this;
+	}
+
 	public Integer getMaxHeight() {
 		return maxHeight;
 	}
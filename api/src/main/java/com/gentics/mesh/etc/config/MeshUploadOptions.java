@@ -17,12 +17,14 @@ public class MeshUploadOptions implements Option {
 	public static final String DEFAULT_TEMP_DIR = "data" + File.separator + "tmp" + File.separator + "file-uploads";;
 	public static final int DEFAULT_DOCUMENT_PARSER_LIMIT = 40_000;
 	public static final boolean DEFAULT_UPLOAD_PARSER_FLAG = true;
+	public static final long DEFAULT_ANALYZER_PREFIX_LIMIT = 1024 * 1024 * 64; // 64 MiB
 
 	public static final String MESH_BINARY_DIR_ENV = "MESH_BINARY_DIR";
 	public static final String MESH_BINARY_UPLOAD_TEMP_DIR_ENV = "MESH_BINARY_UPLOAD_TEMP_DIR";
 	public static final String MESH_BINARY_UPLOAD_LIMIT_ENV = "MESH_BINARY_UPLOAD_LIMIT";
 	public static final String MESH_BINARY_DOCUMENT_PARSER_LIMIT_ENV = "MESH_BINARY_DOCUMENT_PARSER_LIMIT";
 	public static final String MESH_BINARY_DOCUMENT_PARSER_ENV = "MESH_BINARY_DOCUMENT_PARSER";
+	public static final String MESH_BINARY_ANALYZER_PREFIX_LIMIT_ENV = "MESH_BINARY_ANALYZER_PREFIX_LIMIT";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("The upload size limit in bytes. Default: " + DEFAULT_FILEUPLOAD_MB_LIMIT)
@@ -50,6 +52,12 @@ public class MeshUploadOptions implements Option {
 	@EnvironmentVariable(name = MESH_BINARY_DOCUMENT_PARSER_ENV, description = "Override the document parser enabled flag.")
 	private boolean parser = DEFAULT_UPLOAD_PARSER_FLAG;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The amount of leading bytes of an upload which are kept in memory for the upload processors (image information, document parser). Larger uploads are only processed up to this limit. Default: "
+		+ DEFAULT_ANALYZER_PREFIX_LIMIT)
+	@EnvironmentVariable(name = MESH_BINARY_ANALYZER_PREFIX_LIMIT_ENV, description = "Override the configured analyzer prefix limit.")
+	private long analyzerPrefixLimit = DEFAULT_ANALYZER_PREFIX_LIMIT;
+
 	/**
 	 * Return the upload limit in bytes.
 	 * 
@@ -153,4 +161,25 @@ public class MeshUploadOptions implements Option {
 		return this;
 	}
 
+	/**
+	 * Return the amount of leading bytes of an upload which are kept in memory for the upload processors.
+	 * 
+	 * @return Limit in bytes
+	 */
+	public long getAnalyzerPrefixLimit() {
+		return analyzerPrefixLimit;
+	}
+
+	/**
+	 * Set the amount of leading bytes of an upload which are kept in memory for the upload processors.
+	 * 
+	 * @param analyzerPrefixLimit
+	 *            Limit in bytes
+	 * @return Fluent API
+	 */
+	public MeshUploadOptions setAnalyzerPrefixLimit(long analyzerPrefixLimit) {
+		this.analyzerPrefixLimit = analyzerPrefixLimit;
+		return this;
+	}
+
 }
@@ -25,6 +25,13 @@ public class ElasticSearchOptions implements Option {
 	public static final int DEFAULT_BULK_LIMIT = 100;
 	public static final int DEFAULT_BULK_LENGTH_LIMIT = 5_000_000;
 
+	public static final int DEFAULT_BULK_CONCURRENCY = 1;
+	public static final int DEFAULT_TRANSFORMATION_CONCURRENCY = 1;
+	public static final int DEFAULT_SYNC_CONCURRENCY = 2;
+	public static final int DEFAULT_HYDRATION_CONCURRENCY = 1;
+	public static final int DEFAULT_EXPORT_BATCH_SIZE = 1000;
+	public static final String DEFAULT_SEARCH_TYPE = "dfs_query_then_fetch";
+
 	public static final int DEFAULT_EVENT_BUFFER_SIZE = 1000;
 	public static final int DEFAULT_BULK_DEBOUNCE_TIME = 2000;
 	public static final int DEFAULT_IDLE_DEBOUNCE_TIME = 100;
@@ -53,6 +60,12 @@ public class ElasticSearchOptions implements Option {
 	public static final String MESH_ELASTICSEARCH_PREFIX_ENV = "MESH_ELASTICSEARCH_PREFIX";
 	public static final String MESH_ELASTICSEARCH_BULK_LIMIT_ENV = "MESH_ELASTICSEARCH_BULK_LIMIT";
 	public static final String MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT_ENV = "MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT";
+	public static final String MESH_ELASTICSEARCH_BULK_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_BULK_CONCURRENCY";
+	public static final String MESH_ELASTICSEARCH_TRANSFORMATION_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_TRANSFORMATION_CONCURRENCY";
+	public static final String MESH_ELASTICSEARCH_SYNC_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_SYNC_CONCURRENCY";
+	public static final String MESH_ELASTICSEARCH_HYDRATION_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_HYDRATION_CONCURRENCY";
+	public static final String MESH_ELASTICSEARCH_EXPORT_BATCH_SIZE_ENV = "MESH_ELASTICSEARCH_EXPORT_BATCH_SIZE";
+	public static final String MESH_ELASTICSEARCH_SEARCH_TYPE_ENV = "MESH_ELASTICSEARCH_SEARCH_TYPE";
 	public static final String MESH_ELASTICSEARCH_EVENT_BUFFER_SIZE_ENV = "MESH_ELASTICSEARCH_EVENT_BUFFER_SIZE";
 	public static final String MESH_ELASTICSEARCH_BULK_DEBOUNCE_TIME_ENV = "MESH_ELASTICSEARCH_BULK_DEBOUNCE_TIME";
 	public static final String MESH_ELASTICSEARCH_IDLE_DEBOUNCE_TIME_ENV = "MESH_ELASTICSEARCH_IDLE_DEBOUNCE_TIME";
@@ -130,6 +143,46 @@ public class ElasticSearchOptions implements Option {
 		+ DEFAULT_BULK_LENGTH_LIMIT)
 	private long bulkLengthLimit = DEFAULT_BULK_LENGTH_LIMIT;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Upper limit for the amount of requests which are sent to Elasticsearch concurrently. Requests which affect the same document are never sent concurrently. Default: "
+		+ DEFAULT_BULK_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_BULK_CONCURRENCY_ENV, description = "Override the bulk concurrency. Default: " + DEFAULT_BULK_CONCURRENCY)
+	private int bulkConcurrency = DEFAULT_BULK_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Upper limit for the amount of mesh events that are mapped to Elasticsearch requests concurrently. Default: "
+		+ DEFAULT_TRANSFORMATION_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_TRANSFORMATION_CONCURRENCY_ENV, description = "Override the event transformation concurrency. Default: "
+		+ DEFAULT_TRANSFORMATION_CONCURRENCY)
+	private int transformationConcurrency = DEFAULT_TRANSFORMATION_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Upper limit for the amount of node indices which are compared with the graph concurrently during the index sync. Default: "
+		+ DEFAULT_SYNC_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_SYNC_CONCURRENCY_ENV, description = "Override the index sync concurrency. Default: "
+		+ DEFAULT_SYNC_CONCURRENCY)
+	private int syncConcurrency = DEFAULT_SYNC_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Upper limit for the amount of threads which load and transform the hits of a search request concurrently. By default all hits of a request are transformed in a single transaction. Default: "
+		+ DEFAULT_HYDRATION_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_HYDRATION_CONCURRENCY_ENV, description = "Override the search hit hydration concurrency. Default: "
+		+ DEFAULT_HYDRATION_CONCURRENCY)
+	private int hydrationConcurrency = DEFAULT_HYDRATION_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of hits which are loaded per request to Elasticsearch when all hits of a search are exported. Default: "
+		+ DEFAULT_EXPORT_BATCH_SIZE)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_EXPORT_BATCH_SIZE_ENV, description = "Override the search export batch size. Default: "
+		+ DEFAULT_EXPORT_BATCH_SIZE)
+	private int exportBatchSize = DEFAULT_EXPORT_BATCH_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Search type which is used for search requests. Use query_then_fetch to omit the additional round trip which is needed to compute global term frequencies. Default: "
+		+ DEFAULT_SEARCH_TYPE)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_SEARCH_TYPE_ENV, description = "Override the search type. Default: " + DEFAULT_SEARCH_TYPE)
+	private String searchType = DEFAULT_SEARCH_TYPE;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Upper limit for mesh events that are to be mapped to elastic search requests. Default: "
 		+ DEFAULT_EVENT_BUFFER_SIZE)
@@ -336,6 +389,60 @@ public class ElasticSearchOptions implements Option {
 		return this;
 	}
 
+	public int getBulkConcurrency() {
+		return bulkConcurrency;
+	}
+
+	public ElasticSearchOptions setBulkConcurrency(int bulkConcurrency) {
+		this.bulkConcurrency = bulkConcurrency;
+		return this;
+	}
+
+	public int getTransformationConcurrency() {
+		return transformationConcurrency;
+	}
+
+	public ElasticSearchOptions setTransformationConcurrency(int transformationConcurrency) {
+		this.transformationConcurrency = transformationConcurrency;
+		return this;
+	}
+
+	public int getHydrationConcurrency() {
+		return hydrationConcurrency;
+	}
+
+	public ElasticSearchOptions setHydrationConcurrency(int hydrationConcurrency) {
+		this.hydrationConcurrency = hydrationConcurrency;
+		return this;
+	}
+
+	public int getExportBatchSize() {
+		return exportBatchSize;
+	}
+
+	public ElasticSearchOptions setExportBatchSize(int exportBatchSize) {
+		this.exportBatchSize = exportBatchSize;
+		return this;
+	}
+
+	public String getSearchType() {
+		return searchType;
+	}
+
+	public ElasticSearchOptions setSearchType(String searchType) {
+		this.searchType = searchType;
+		return this;
+	}
+
+	public int getSyncConcurrency() {
+		return syncConcurrency;
+	}
+
+	public ElasticSearchOptions setSyncConcurrency(int syncConcurrency) {
+		this.syncConcurrency = syncConcurrency;
+		return this;
+	}
+
 	public int getEventBufferSize() {
 		return eventBufferSize;
 	}
@@ -418,7 +525,12 @@ public class ElasticSearchOptions implements Option {
 	}
 
 	public void validate(MeshOptions meshOptions) {
-
+		if (!"dfs_query_then_fetch".equals(searchType) && !"query_then_fetch".equals(searchType)) {
+			throw new IllegalArgumentException("The search type {" + searchType + "} is not supported. Use query_then_fetch or dfs_query_then_fetch.");
+		}
+		if (exportBatchSize < 1) {
+			throw new IllegalArgumentException("The export batch size must be greater than zero but it was {" + exportBatchSize + "}");
+		}
 	}
 
 	@JsonIgnore
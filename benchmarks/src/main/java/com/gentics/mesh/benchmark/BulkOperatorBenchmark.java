@@ -0,0 +1,70 @@
+package com.gentics.mesh.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.etc.config.search.ComplianceMode;
+import com.gentics.mesh.search.verticle.bulk.BulkOperator;
+
+import io.reactivex.Flowable;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Throughput benchmark for the bundling of search requests. The operator does not need a running Mesh instance, thus only Vert.x is started.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkOperatorBenchmark {
+
+	private static final int REQUESTS = 10_000;
+
+	private Vertx vertx;
+
+	private JsonObject document;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		vertx = Vertx.vertx();
+		document = new JsonObject()
+			.put("uuid", "8d2f5769fe114353af5769fe11e35355")
+			.put("displayField", new JsonObject().put("key", "name").put("value", "Concorde"))
+			.put("fields", new JsonObject().put("name", "Concorde").put("teaser", "Aérospatiale-BAC Concorde"));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		vertx.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(REQUESTS)
+	public long bulk() {
+		return Flowable.range(0, REQUESTS)
+			.<SearchRequest>map(i -> new CreateDocumentRequest("node", "mesh-node", String.valueOf(i), document, ComplianceMode.ES_6))
+			.lift(new BulkOperator(vertx, Duration.ofMillis(10), 100, 100_000_000))
+			.count()
+			.blockingGet();
+	}
+
+}
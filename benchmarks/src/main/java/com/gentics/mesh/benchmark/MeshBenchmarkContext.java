@@ -0,0 +1,111 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.test.TestSize.FULL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.dagger.MeshComponent;
+import com.gentics.mesh.test.TestDataProvider;
+import com.gentics.mesh.test.context.MeshTestContext;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+/**
+ * Shared benchmark state which boots Mesh with an in-memory graph database and the full test dataset. An additional folder with a configurable amount
+ * of children is generated which is used by the benchmarks that iterate over nodes or resolve links.
+ */
+@State(Scope.Benchmark)
+@MeshTestSetting(testSize = FULL, startServer = false, inMemoryDB = true)
+public class MeshBenchmarkContext {
+
+	/**
+	 * Amount of generated child nodes.
+	 */
+	@Param({ "100" })
+	public int children;
+
+	private MeshTestContext testContext;
+
+	private MeshTestSetting settings;
+
+	private String folderUuid;
+
+	private final List<String> childUuids = new ArrayList<>();
+
+	private String linkContent;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		// JMH generates subclasses of the state classes, thus the annotation must be read from this class
+		settings = MeshBenchmarkContext.class.getAnnotation(MeshTestSetting.class);
+		testContext = new MeshTestContext();
+		testContext.setupOnce(settings);
+		testContext.setup(settings);
+
+		TestDataProvider data = testContext.getData();
+		mesh().database().tx(tx -> {
+			HibNode folder = data.addFolder(data.getFolder("2015"), "benchmark", null);
+			folderUuid = folder.getUuid();
+			for (int i = 0; i < children; i++) {
+				childUuids.add(data.addFolder(folder, "benchmark-" + i, null).getUuid());
+			}
+			tx.success();
+		});
+
+		StringBuilder content = new StringBuilder();
+		for (String uuid : childUuids) {
+			content.append("<p>Link to <a href=\"{{mesh.link(\"").append(uuid).append("\", \"en\")}}\">").append(uuid).append("</a></p>\n");
+		}
+		linkContent = content.toString();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		testContext.tearDown(settings);
+		testContext.tearDownOnce(settings);
+	}
+
+	public MeshComponent mesh() {
+		return testContext.getMeshComponent();
+	}
+
+	public TestDataProvider data() {
+		return testContext.getData();
+	}
+
+	/**
+	 * Return the uuid of the generated folder.
+	 *
+	 * @return
+	 */
+	public String folderUuid() {
+		return folderUuid;
+	}
+
+	/**
+	 * Return the uuids of the generated children.
+	 *
+	 * @return
+	 */
+	public List<String> childUuids() {
+		return childUuids;
+	}
+
+	/**
+	 * Return content which contains a link to every generated child.
+	 *
+	 * @return
+	 */
+	public String linkContent() {
+		return linkContent;
+	}
+
+}
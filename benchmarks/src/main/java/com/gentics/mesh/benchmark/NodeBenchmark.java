@@ -0,0 +1,82 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.mock.Mocks;
+import com.gentics.mesh.search.index.node.NodeContainerTransformer;
+import com.gentics.mesh.test.TestDataProvider;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Benchmarks for the transformation of nodes into REST responses and search index documents and for the JSON serialization of node responses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NodeBenchmark {
+
+	private NodeContainerTransformer transformer;
+
+	private String nodeJson;
+
+	private NodeResponse nodeResponse;
+
+	@Setup(Level.Trial)
+	public void setup(MeshBenchmarkContext context) {
+		TestDataProvider data = context.data();
+		transformer = new NodeContainerTransformer(context.mesh().options());
+		nodeResponse = context.mesh().database().tx(tx -> {
+			InternalActionContext ac = Mocks.getMockedInternalActionContext("", data.user(), data.getProject());
+			return tx.data().nodeDao().transformToRestSync(data.getContent("concorde"), ac, 0);
+		});
+		nodeJson = JsonUtil.toJson(nodeResponse);
+	}
+
+	@Benchmark
+	public NodeResponse transformToRest(MeshBenchmarkContext context, TxState state) {
+		HibNode node = context.data().getContent("concorde");
+		return Tx.get().data().nodeDao().transformToRestSync(node, state.ac(), 0);
+	}
+
+	@Benchmark
+	public JsonObject toDocument(MeshBenchmarkContext context, TxState state) {
+		HibNode node = context.data().getContent("concorde");
+		NodeGraphFieldContainer container = Tx.get().data().contentDao().getLatestDraftFieldContainer(node, "en");
+		return transformer.toDocument(container, context.data().branchUuid(), PUBLISHED);
+	}
+
+	@Benchmark
+	public String serializeNodeResponse() {
+		return JsonUtil.toJson(nodeResponse);
+	}
+
+	@Benchmark
+	public NodeResponse deserializeNodeResponse() {
+		return JsonUtil.readValue(nodeJson, NodeResponse.class);
+	}
+
+}
@@ -0,0 +1,51 @@
+package com.gentics.mesh.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.gentics.mesh.core.data.page.impl.DynamicStreamPageImpl;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+
+/**
+ * Benchmark for the paging of streams. The last page is requested to measure the cost of skipping the elements of the previous pages and of counting the
+ * total amount of elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int elements;
+
+	@Param({ "25" })
+	public int perPage;
+
+	@Benchmark
+	public void lastPage(Blackhole blackhole) {
+		// Only every second element passes the filter
+		int page = Math.max(1, (elements / 2 + perPage - 1) / perPage);
+		DynamicStreamPageImpl<Integer> result = new DynamicStreamPageImpl<>(IntStream.range(0, elements).boxed(),
+			new PagingParametersImpl(page, (long) perPage), i -> i % 2 == 0);
+		List<? extends Integer> list = result.getWrappedList();
+		blackhole.consume(list);
+		blackhole.consume(result.getTotalElements());
+	}
+
+}
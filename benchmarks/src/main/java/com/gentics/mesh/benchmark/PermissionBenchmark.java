@@ -0,0 +1,71 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gentics.mesh.cache.PermissionCache;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.user.HibUser;
+import com.gentics.mesh.core.db.Tx;
+
+/**
+ * Benchmarks for permission checks. The raw cache lookups are measured separately from the check via the user DAO
+ * which consults the cache and falls back to the graph.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PermissionBenchmark {
+
+	private PermissionCache cache;
+
+	private long userId;
+
+	private long elementId;
+
+	@Setup(Level.Trial)
+	public void setup(MeshBenchmarkContext context) {
+		cache = context.mesh().permissionCache();
+		context.mesh().database().tx(tx -> {
+			HibUser user = context.data().user();
+			HibNode node = context.data().getContent("concorde");
+			userId = PermissionCache.key(user.getId());
+			elementId = PermissionCache.key(node.getId());
+			// Populate the cache for the cache hit benchmark
+			tx.data().userDao().hasPermission(user, node, READ_PERM);
+		});
+	}
+
+	@Benchmark
+	public Boolean cacheHit() {
+		return cache.getPermission(userId, READ_PERM, elementId);
+	}
+
+	@Benchmark
+	public Boolean cacheMiss() {
+		return cache.getPermission(userId, READ_PERM, elementId + 1);
+	}
+
+	@Benchmark
+	public boolean hasPermission(MeshBenchmarkContext context, TxState state) {
+		HibNode node = context.data().getFolder("benchmark");
+		return Tx.get().data().userDao().hasPermission(context.data().user(), node, READ_PERM);
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.gentics.mesh.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.mock.Mocks;
+import com.gentics.mesh.test.TestDataProvider;
+
+/**
+ * Per thread state which opens a transaction for each iteration and provides an action context for the admin user of the test dataset.
+ */
+@State(Scope.Thread)
+public class TxState {
+
+	private Tx tx;
+
+	private InternalActionContext ac;
+
+	@Setup(Level.Iteration)
+	public void open(MeshBenchmarkContext context) {
+		tx = context.mesh().database().tx();
+		TestDataProvider data = context.data();
+		ac = Mocks.getMockedInternalActionContext("", data.user(), data.getProject());
+	}
+
+	@TearDown(Level.Iteration)
+	public void close() {
+		if (tx != null) {
+			tx.close();
+			tx = null;
+		}
+	}
+
+	public Tx tx() {
+		return tx;
+	}
+
+	public InternalActionContext ac() {
+		return ac;
+	}
+
+}
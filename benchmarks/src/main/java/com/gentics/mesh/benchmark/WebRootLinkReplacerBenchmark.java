@@ -0,0 +1,43 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gentics.mesh.parameter.LinkType;
+
+/**
+ * Benchmark for the resolving of mesh links in content which links to all generated children of the benchmark folder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebRootLinkReplacerBenchmark {
+
+	private static final List<String> LANGUAGE_TAGS = Arrays.asList("en");
+
+	@Benchmark
+	public String replaceShort(MeshBenchmarkContext context, TxState state) {
+		return context.mesh().webRootLinkReplacer().replace(state.ac(), context.data().branchUuid(), DRAFT, context.linkContent(), LinkType.SHORT,
+			context.data().getProject().getName(), LANGUAGE_TAGS);
+	}
+
+	@Benchmark
+	public String replaceFull(MeshBenchmarkContext context, TxState state) {
+		return context.mesh().webRootLinkReplacer().replace(state.ac(), context.data().branchUuid(), DRAFT, context.linkContent(), LinkType.FULL,
+			context.data().getProject().getName(), LANGUAGE_TAGS);
+	}
+
+}
@@ -2,6 +2,7 @@ package com.gentics.mesh.core.data.search.request;
 
 import io.reactivex.Single;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,4 +20,20 @@ public interface Bulkable extends SearchRequest {
 	 * @return
 	 */
 	long bulkLength();
+
+	/**
+	 * Returns the keys of all documents which are affected by the request. See {@link #documentKey(String, String)}.
+	 * @return
+	 */
+	Collection<String> documentKeys();
+
+	/**
+	 * Creates the key which identifies a document across all indices.
+	 * @param index
+	 * @param id
+	 * @return
+	 */
+	static String documentKey(String index, String id) {
+		return index + "/" + id;
+	}
 }
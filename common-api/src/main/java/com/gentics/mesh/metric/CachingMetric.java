@@ -24,5 +24,7 @@ public class CachingMetric implements Metric {
 		MISS,
 		CLEAR_SINGLE,
 		CLEAR_ALL,
+		EVICTION,
+		SIZE,
 	}
 }
@@ -11,7 +11,9 @@ public enum SimpleMetric implements Metric {
 
 	TX_TIME("tx_time", "Timer which tracks transaction durations."),
 
-	TX_RETRY("tx_retry", "Amount of transaction retries which happen if a conflict has been encountered."),
+	TX_RETRY("tx_retry", "Amount of transaction retries which happen if a conflict has been encountered. Tagged with the cause and the call site of the transaction."),
+
+    TX_RETRY_EXHAUSTED("tx_retry_exhausted", "Amount of transactions which failed because the retry limit or the maximum retry time has been reached."),
 
     TX_INTERRUPT_COUNT("tx_interrupt", "Amount of commit interrupts."),
 
@@ -21,13 +23,43 @@ public enum SimpleMetric implements Metric {
 
 	NODE_MIGRATION_PENDING("node_migration_pending", "Pending contents which need to be processed by the node migration."),
 
+    MIGRATION_MIGRATED("migration_migrated", "Amount of elements which have been processed by migrations."),
+
+    MIGRATION_CHUNK_TIME("migration_chunk_time", "Timer which tracks the duration of migration chunk transactions."),
+
 	WRITE_LOCK_WAITING_TIME("write_lock_waiting_time", "Tracks the time which is spent waiting on the write lock."),
 
     WRITE_LOCK_TIMEOUT_COUNT("write_lock_timeout", "Amount of timeouts of acquiring the write lock."),
 
+    WRITE_LOCK_CONTENTION_COUNT("write_lock_contention", "Amount of write lock acquisitions which had to wait for other writes."),
+
     TOPOLOGY_LOCK_WAITING_TIME("topology_lock_waiting_time", "Tracks the time which is spent waiting on the write lock."),
 
-    TOPOLOGY_LOCK_TIMEOUT_COUNT("topology_lock_timeout", "Amount of timeouts of acquiring the write lock.");
+    TOPOLOGY_LOCK_TIMEOUT_COUNT("topology_lock_timeout", "Amount of timeouts of acquiring the write lock."),
+
+    COORDINATOR_PROXY_TIME("coordinator_proxy_time", "Timer which tracks the duration of requests which were delegated to the elected master. Tagged with the master."),
+
+    COORDINATOR_PROXY_ERROR("coordinator_proxy_error", "Amount of requests which could not be delegated to the elected master. Tagged with the master."),
+
+    COORDINATOR_READ_YOUR_WRITES("coordinator_read_your_writes", "Amount of read requests which were delegated to the elected master to read a preceding write."),
+
+    NODE_RESPONSE_CACHE_HIT("node_response_cache_hit", "Amount of node responses which were served from the node response cache."),
+
+    NODE_RESPONSE_CACHE_MISS("node_response_cache_miss", "Amount of node responses which had to be rendered and were added to the node response cache."),
+
+    EVENT_ENVELOPE_SIZE("event_envelope_size", "Amount of events per dispatched event envelope."),
+
+    SEARCH_BULK_IN_FLIGHT("search_bulk_in_flight", "Amount of requests which are currently sent to Elasticsearch."),
+
+    SEARCH_BULK_COALESCED("search_bulk_coalesced", "Amount of Elasticsearch requests which have not been sent because they were superseded by newer requests for the same document."),
+
+    SEARCH_EVENT_QUEUE_SIZE("search_event_queue_size", "Amount of events which are waiting to be transformed into Elasticsearch requests."),
+
+    BINARY_UPLOAD_BYTES("binary_upload_bytes", "Amount of bytes which have been uploaded to binary fields."),
+
+    BINARY_UPLOAD_THROUGHPUT("binary_upload_throughput", "Rate in bytes per second at which uploads were read and hashed."),
+
+    BINARY_UPLOAD_DEDUPLICATED("binary_upload_deduplicated", "Amount of uploads which were not stored because a binary with the same SHA-512 sum already existed.");
 
     private String key;
 
@@ -1,5 +1,6 @@
 package com.gentics.mesh.util;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import io.reactivex.Completable;
@@ -15,6 +16,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.AsyncFile;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.streams.WriteStream;
 
 public final class RxUtil {
 
@@ -60,6 +62,61 @@ public final class RxUtil {
 			.doOnCancel(file::close);
 	}
 
+	/**
+	 * Return the given range of the stream. The stream is cancelled once the end of the range has been reached.
+	 * 
+	 * @param stream
+	 * @param offset
+	 *            Position of the first byte of the range
+	 * @param length
+	 *            Amount of bytes of the range
+	 * @return
+	 */
+	public static Flowable<Buffer> slice(Flowable<Buffer> stream, long offset, long length) {
+		long end = offset + length;
+		return Flowable.defer(() -> {
+			AtomicLong position = new AtomicLong();
+			return stream.map(buffer -> {
+				long start = position.getAndAdd(buffer.length());
+				int from = (int) Math.max(0, Math.min(buffer.length(), offset - start));
+				int to = (int) Math.max(from, Math.min(buffer.length(), end - start));
+				return buffer.slice(from, to);
+			}).takeUntil(buffer -> position.get() >= end)
+				.filter(buffer -> buffer.length() > 0);
+		});
+	}
+
+	/**
+	 * Write the stream to the given write stream. The next buffer is only requested from the stream once the write queue of the write stream is no longer
+	 * full, so slow consumers don't cause the whole stream to be buffered in memory. The write stream will not be ended.
+	 * 
+	 * @param stream
+	 * @param writeStream
+	 * @return
+	 */
+	public static Completable writeTo(Flowable<Buffer> stream, WriteStream<Buffer> writeStream) {
+		return stream.concatMapCompletable(buffer -> {
+			writeStream.write(buffer);
+			return awaitDrain(writeStream);
+		}, 1);
+	}
+
+	/**
+	 * Return a completable which completes once the write queue of the write stream is no longer full.
+	 * 
+	 * @param writeStream
+	 * @return
+	 */
+	public static Completable awaitDrain(WriteStream<?> writeStream) {
+		return Completable.create(sub -> {
+			if (!writeStream.writeQueueFull()) {
+				sub.onComplete();
+			} else {
+				writeStream.drainHandler(v -> sub.onComplete());
+			}
+		});
+	}
+
 	/**
 	 * Flips a completable. Emits an error when the source has completed, and completes when the source emits an error.
 	 * 
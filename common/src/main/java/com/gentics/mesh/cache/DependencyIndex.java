@@ -0,0 +1,125 @@
+package com.gentics.mesh.cache;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Index of cache keys per uuid of the elements on which the cached values depend. The index is used to only invalidate the affected entries of a cache when
+ * an element gets changed.
+ *
+ * <p>Entries which get evicted from the cache are still referenced by the index. The index thus gets pruned once the amount of references exceeds the
+ * threshold.</p>
+ */
+public class DependencyIndex {
+
+	private final Map<String, Set<String>> keysByUuid = new ConcurrentHashMap<>();
+
+	private final AtomicLong references = new AtomicLong();
+
+	/**
+	 * Keys of the entries which have been added to the index but not yet been put into the cache.
+	 */
+	private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+
+	private final long maxReferences;
+
+	private volatile long pruneThreshold;
+
+	/**
+	 * Create a new index.
+	 *
+	 * @param maxSize
+	 *            Maximum size of the cache
+	 * @param referencesPerEntry
+	 *            Expected average amount of dependencies per cache entry
+	 */
+	public DependencyIndex(long maxSize, int referencesPerEntry) {
+		this.maxReferences = maxSize * referencesPerEntry;
+		this.pruneThreshold = maxReferences;
+	}
+
+	/**
+	 * Register the dependencies of the cache entry. This needs to be done before the entry is put into the cache. A concurrent invalidation may otherwise
+	 * miss the entry.
+	 *
+	 * @param key
+	 *            Key of the cache entry
+	 * @param uuids
+	 *            Uuids of the elements on which the entry depends
+	 */
+	public void add(String key, Collection<String> uuids) {
+		pendingKeys.add(key);
+		for (String uuid : uuids) {
+			keysByUuid.computeIfAbsent(uuid, k -> ConcurrentHashMap.newKeySet()).add(key);
+		}
+		references.addAndGet(uuids.size());
+	}
+
+	/**
+	 * Mark the entry as stored and prune the index if the amount of references exceeds the threshold. This needs to be done after the entry has been put
+	 * into the cache.
+	 *
+	 * @param key
+	 *            Key of the cache entry
+	 * @param cache
+	 *            Cache which contains the entries of the index
+	 */
+	public void stored(String key, EventAwareCache<String, ?> cache) {
+		pendingKeys.remove(key);
+		if (references.get() > pruneThreshold) {
+			prune(cache);
+			// Entries may have more dependencies than expected. Avoid pruning on every addition in this case.
+			pruneThreshold = Math.max(maxReferences, references.get() * 2);
+		}
+	}
+
+	/**
+	 * Remove the keys of the entries which depend on the element from the index.
+	 *
+	 * @param uuid
+	 * @return Removed keys or null if no entry depends on the element
+	 */
+	public Set<String> remove(String uuid) {
+		Set<String> keys = keysByUuid.remove(uuid);
+		if (keys != null) {
+			references.addAndGet(-keys.size());
+		}
+		return keys;
+	}
+
+	/**
+	 * Clear the index.
+	 */
+	public void clear() {
+		keysByUuid.clear();
+		pendingKeys.clear();
+		references.set(0);
+	}
+
+	/**
+	 * Remove the references to entries which have been evicted from the cache in the meantime.
+	 *
+	 * @param cache
+	 */
+	private synchronized void prune(EventAwareCache<String, ?> cache) {
+		Set<String> cachedKeys = new HashSet<>();
+		cache.forEach((key, value) -> cachedKeys.add(key));
+		long count = 0;
+		for (Iterator<Set<String>> it = keysByUuid.values().iterator(); it.hasNext();) {
+			Set<String> keys = it.next();
+			// Entries which are concurrently being stored are not yet contained in the cache
+			keys.removeIf(key -> !cachedKeys.contains(key) && !pendingKeys.contains(key));
+			if (keys.isEmpty()) {
+				it.remove();
+			}
+			count += keys.size();
+		}
+		references.set(count);
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.gentics.mesh.cache;
 
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import javax.annotation.Nonnull;
@@ -49,6 +50,13 @@ public interface EventAwareCache<K, V> {
 	 */
 	V get(K key, @Nonnull Function<? super K, ? extends V> mappingFunction);
 
+	/**
+	 * Invoke the action for every cached entry.
+	 * 
+	 * @param action
+	 */
+	void forEach(BiConsumer<? super K, ? super V> action);
+
 	/**
 	 * Disable the cache.
 	 */
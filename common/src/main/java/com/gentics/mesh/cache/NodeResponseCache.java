@@ -0,0 +1,32 @@
+package com.gentics.mesh.cache;
+
+import java.util.function.Supplier;
+
+import com.gentics.mesh.context.InternalActionContext;
+
+/**
+ * Cache for rendered node responses. Responses are cached per endpoint, etag of the node, roles of the requesting user and query parameters.
+ */
+public interface NodeResponseCache extends MeshCache<String, String> {
+
+	String NODE_ENDPOINT = "node";
+
+	String WEBROOT_ENDPOINT = "webroot";
+
+	/**
+	 * Return the cached response or render and store it.
+	 *
+	 * @param ac
+	 * @param endpoint
+	 *            Name of the endpoint which is used for the key and the metrics
+	 * @param nodeUuid
+	 *            Uuid of the rendered node
+	 * @param etag
+	 *            Etag of the node for the current request, optionally extended by further parts which change the response
+	 * @param renderer
+	 *            Supplier which renders the JSON response
+	 * @return Rendered JSON response
+	 */
+	String getResponse(InternalActionContext ac, String endpoint, String nodeUuid, String etag, Supplier<String> renderer);
+
+}
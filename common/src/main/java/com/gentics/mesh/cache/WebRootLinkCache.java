@@ -0,0 +1,51 @@
+package com.gentics.mesh.cache;
+
+import com.gentics.mesh.core.link.ResolvedLink;
+import com.gentics.mesh.core.rest.common.ContainerType;
+
+/**
+ * Cache for resolved mesh links. Cached links are invalidated when the linked node or one of its parents gets changed.
+ */
+public interface WebRootLinkCache extends MeshCache<String, ResolvedLink> {
+
+	/**
+	 * Return the cached link.
+	 *
+	 * @param uuid
+	 *            Uuid of the linked node
+	 * @param branchNameOrUuid
+	 *            Branch name or uuid which was specified for the link
+	 * @param type
+	 *            Container type
+	 * @param languageTags
+	 *            Languages which were used to resolve the link
+	 * @return Cached link or null if the link could not be found in the cache
+	 */
+	ResolvedLink getLink(String uuid, String branchNameOrUuid, ContainerType type, String... languageTags);
+
+	/**
+	 * Return the current generation of the cache. The generation changes with every invalidation and needs to be fetched before the link is resolved.
+	 *
+	 * @return Current generation
+	 */
+	long generation();
+
+	/**
+	 * Store the resolved link in the cache. The link is not stored if the cache has been invalidated since the given generation was fetched.
+	 *
+	 * @param uuid
+	 *            Uuid of the linked node
+	 * @param branchNameOrUuid
+	 *            Branch name or uuid which was specified for the link
+	 * @param type
+	 *            Container type
+	 * @param languageTags
+	 *            Languages which were used to resolve the link
+	 * @param link
+	 *            Resolved link
+	 * @param generation
+	 *            Generation of the cache before the link was resolved
+	 */
+	void store(String uuid, String branchNameOrUuid, ContainerType type, String[] languageTags, ResolvedLink link, long generation);
+
+}
@@ -176,6 +176,11 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		}
 	}
 
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		cache.asMap().forEach(action);
+	}
+
 	public static class Builder<K, V> {
 		private boolean disabled = false;
 
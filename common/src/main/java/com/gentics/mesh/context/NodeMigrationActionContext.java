@@ -54,4 +54,12 @@ public interface NodeMigrationActionContext extends InternalActionContext {
 	 * Validate that all needed information is present in the context.
 	 */
 	void validate();
+
+	/**
+	 * Create a copy of the context which can be used by another migration worker. The copy references the same migration information but uses its own
+	 * parameters.
+	 * 
+	 * @return copy of the context
+	 */
+	NodeMigrationActionContext copy();
 }
@@ -5,6 +5,7 @@ import java.util.function.Consumer;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 
 import io.reactivex.Maybe;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.FileUpload;
 
 /**
@@ -21,13 +22,26 @@ public interface BinaryDataProcessor {
 	 */
 	boolean accepts(String contentType);
 
+	/**
+	 * Return the amount of leading bytes of the upload which the processor needs. The upload is read only once, the prefix is collected while the upload is
+	 * hashed and stored.
+	 * 
+	 * @param upload
+	 * @return Length of the prefix in bytes
+	 */
+	long getPrefixLength(FileUpload upload);
+
 	/**
 	 * Process the binary data and return a consumer for the binary field.
 	 * 
 	 * @param upload
-	 * @param hash SHA512 sum of the upload
+	 * @param prefix
+	 *            Leading bytes of the upload. The prefix is shorter than the upload if the upload exceeds the requested prefix length or the configured
+	 *            analyzer prefix limit.
+	 * @param hash
+	 *            SHA512 sum of the upload
 	 * @return Modifier for the binary graph field.
 	 */
-	Maybe<Consumer<BinaryGraphField>> process(FileUpload upload, String hash);
+	Maybe<Consumer<BinaryGraphField>> process(FileUpload upload, Buffer prefix, String hash);
 
 }
@@ -15,6 +15,9 @@
  */
 package com.gentics.mesh.core.db;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.syncleus.ferma.FramedTransactionalGraph;
 
 /**
@@ -29,6 +32,8 @@ public abstract class AbstractTx<T extends FramedTransactionalGraph> implements
 
 	private boolean isSuccess = false;
 
+	private List<Runnable> commitActions;
+
 	/**
 	 * Initialize the transaction.
 	 * 
@@ -66,6 +71,7 @@ public abstract class AbstractTx<T extends FramedTransactionalGraph> implements
 		Tx.setActive(null);
 		if (isSuccess()) {
 			commit();
+			runCommitActions();
 		} else {
 			rollback();
 		}
@@ -74,6 +80,28 @@ public abstract class AbstractTx<T extends FramedTransactionalGraph> implements
 		getGraph().shutdown();
 	}
 
+	@Override
+	public void afterCommit(Runnable action) {
+		if (commitActions == null) {
+			commitActions = new ArrayList<>();
+		}
+		commitActions.add(action);
+	}
+
+	/**
+	 * Invoke the actions which have been registered via {@link #afterCommit(Runnable)}.
+	 */
+	protected void runCommitActions() {
+		if (commitActions == null) {
+			return;
+		}
+		List<Runnable> actions = commitActions;
+		commitActions = null;
+		for (Runnable action : actions) {
+			action.run();
+		}
+	}
+
 	/**
 	 * Invoke a commit on the database of this transaction.
 	 */
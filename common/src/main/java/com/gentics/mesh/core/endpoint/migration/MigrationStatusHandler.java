@@ -62,6 +62,34 @@ public interface MigrationStatusHandler {
 	 */
 	void incCompleted();
 
+	/**
+	 * Increment the completion counter by the given amount.
+	 * 
+	 * @param amount
+	 */
+	void incCompleted(long amount);
+
+	/**
+	 * Set the total amount of elements which need to be processed. The amount is used to estimate the remaining time of the migration.
+	 * 
+	 * @param totalCount
+	 */
+	void setTotalCount(long totalCount);
+
+	/**
+	 * Return the amount of elements which have been processed per second since the total count has been set.
+	 * 
+	 * @return Throughput in elements per second
+	 */
+	double getThroughput();
+
+	/**
+	 * Return the estimated remaining time of the migration.
+	 * 
+	 * @return Remaining time in milliseconds or -1 if the time can't be estimated yet
+	 */
+	long getEstimatedRemainingTime();
+
 	default Exception fail(HttpResponseStatus status, String message) {
 		GenericRestException ex = Errors.error(status, message);
 		error(ex, message);
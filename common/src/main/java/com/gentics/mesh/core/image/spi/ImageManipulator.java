@@ -7,6 +7,7 @@ import java.util.Map;
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import io.reactivex.Single;
+import io.vertx.core.buffer.Buffer;
 
 /**
  * SPI provider interface for image manipulators.
@@ -31,6 +32,14 @@ public interface ImageManipulator {
 	 */
 	Single<ImageInfo> readImageInfo(String file);
 
+	/**
+	 * Read the image information from the image data.
+	 *
+	 * @param data
+	 * @return
+	 */
+	Single<ImageInfo> readImageInfo(Buffer data);
+
 	/**
 	 * Return the dominant color in the image.
 	 *
@@ -0,0 +1,344 @@
+package com.gentics.mesh.core.image.spi;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.CachingMetric;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.parameter.ImageManipulationParameters;
+
+import io.micrometer.core.instrument.Counter;
+import io.reactivex.Single;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Cache for resized image variants which are stored in the image cache directory.
+ *
+ * <p>The cache keeps an in-memory index of all stored variants so that the directory does not need to be listed for every request. The total size of the
+ * stored variants is limited. The least recently used variants will be removed once the limit has been exceeded. Concurrent requests for the same uncached
+ * variant will share a single resize operation.</p>
+ *
+ * <p>The files of removed variants are only deleted after a delay, since the path of the variant may already have been handed out to a request which did
+ * not yet open the file. Files whose delay has passed are deleted by the following lookup or addition.</p>
+ */
+public class ImageVariantCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageVariantCache.class);
+
+	public static final String NAME = "image_variant";
+
+	private static final String FILE_PREFIX = "image-";
+
+	/**
+	 * Default delay after which the files of removed variants will be deleted.
+	 */
+	private static final long DEFAULT_DELETE_DELAY = TimeUnit.MINUTES.toMillis(1);
+
+	private final ImageManipulatorOptions options;
+
+	/**
+	 * Base path of the variant (without extension) -> variant file. The map is ordered by access.
+	 */
+	private final Map<String, Variant> index = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final Map<String, Single<String>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * Files of removed variants which will be deleted once the delay has passed. The map is ordered by the time of removal.
+	 */
+	private final Map<File, PendingDeletion> pendingDeletions = new LinkedHashMap<>();
+
+	private final long deleteDelay;
+
+	private long totalSize = 0;
+
+	private volatile boolean initialized = false;
+
+	private final boolean metricsEnabled;
+
+	private final Counter hitCounter;
+
+	private final Counter missCounter;
+
+	private final Counter evictionCounter;
+
+	private final AtomicLong sizeGauge;
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param options
+	 * @param metrics
+	 *            Metrics service or null if no metrics should be recorded
+	 */
+	public ImageVariantCache(ImageManipulatorOptions options, MetricsService metrics) {
+		this(options, metrics, DEFAULT_DELETE_DELAY);
+	}
+
+	ImageVariantCache(ImageManipulatorOptions options, MetricsService metrics, long deleteDelay) {
+		this.options = options;
+		this.deleteDelay = deleteDelay;
+		this.metricsEnabled = metrics != null && metrics.isEnabled();
+		if (metricsEnabled) {
+			this.hitCounter = metrics.counter(new CachingMetric(CachingMetric.Event.HIT, NAME));
+			this.missCounter = metrics.counter(new CachingMetric(CachingMetric.Event.MISS, NAME));
+			this.evictionCounter = metrics.counter(new CachingMetric(CachingMetric.Event.EVICTION, NAME));
+			this.sizeGauge = metrics.longGauge(new CachingMetric(CachingMetric.Event.SIZE, NAME));
+		} else {
+			this.hitCounter = null;
+			this.missCounter = null;
+			this.evictionCounter = null;
+			this.sizeGauge = null;
+		}
+	}
+
+	/**
+	 * Check whether the index of the stored variants has already been loaded. Lookups will block while loading the index.
+	 *
+	 * @return
+	 */
+	public boolean isInitialized() {
+		return initialized;
+	}
+
+	/**
+	 * Lookup the variant for the image and the manipulation parameters.
+	 *
+	 * @param sha512sum
+	 *            Hash of the original image
+	 * @param parameters
+	 * @return Info which contains the path to the stored variant or the base path (without extension) for a new variant
+	 */
+	public CacheFileInfo lookup(String sha512sum, ImageManipulationParameters parameters) {
+		init();
+		String basePath = getBasePath(sha512sum, parameters);
+		Variant variant;
+		synchronized (this) {
+			variant = index.get(basePath);
+			// Lookups happen far more often than additions, so that removed files are deleted even if no variants are created
+			deletePending();
+		}
+		if (variant != null && variant.file.exists()) {
+			if (metricsEnabled) {
+				hitCounter.increment();
+			}
+			return new CacheFileInfo(variant.file.getPath(), true);
+		}
+		if (variant != null) {
+			// The file has been removed from the cache directory
+			remove(basePath);
+		}
+		if (metricsEnabled) {
+			missCounter.increment();
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("No cache file found for base path {" + basePath + "}");
+		}
+		return new CacheFileInfo(basePath, false);
+	}
+
+	/**
+	 * Return the path of the stored variant or create it. Concurrent calls for the same missing variant will share a single invocation of the creator.
+	 *
+	 * @param info
+	 *            Result of the lookup
+	 * @param creator
+	 *            Function which creates the variant for the given base path and returns the path of the written file
+	 * @return Path of the variant
+	 */
+	public Single<String> getOrCreate(CacheFileInfo info, Function<String, Single<String>> creator) {
+		if (info.exists) {
+			return Single.just(info.path);
+		}
+		String basePath = info.path;
+		return Single.defer(() -> inFlight.computeIfAbsent(basePath, key -> Single.defer(() -> creator.apply(key))
+			.doOnSuccess(path -> add(key, new File(path)))
+			.doFinally(() -> inFlight.remove(key))
+			.cache()));
+	}
+
+	/**
+	 * Return the total size of all stored variants in bytes.
+	 *
+	 * @return
+	 */
+	public synchronized long getTotalSize() {
+		return totalSize;
+	}
+
+	/**
+	 * Load the index from the image cache directory. The variants are ordered by their modification date.
+	 */
+	public void init() {
+		if (initialized) {
+			return;
+		}
+		synchronized (this) {
+			if (initialized) {
+				return;
+			}
+			Path cacheDir = Paths.get(options.getImageCacheDirectory());
+			if (Files.isDirectory(cacheDir)) {
+				try (Stream<Path> files = Files.walk(cacheDir)) {
+					List<File> variants = files
+						.filter(path -> path.getFileName().toString().startsWith(FILE_PREFIX))
+						.map(Path::toFile)
+						.filter(File::isFile)
+						.sorted(Comparator.comparingLong(File::lastModified))
+						.collect(Collectors.toList());
+					for (File file : variants) {
+						String name = file.getName();
+						int dot = name.lastIndexOf('.');
+						String baseName = dot < 0 ? name : name.substring(0, dot);
+						String basePath = new File(file.getParentFile(), baseName).getPath();
+						Variant variant = new Variant(basePath, file);
+						Variant previous = index.put(basePath, variant);
+						if (previous != null) {
+							log.warn("More than one cache file found for {" + file.getPath() + "}. Removing {" + previous.file.getPath() + "}");
+							totalSize -= previous.size;
+							delete(previous.file);
+						}
+						totalSize += variant.size;
+					}
+				} catch (IOException e) {
+					log.error("Could not load the image cache index from {" + cacheDir + "}", e);
+				}
+			}
+			log.info("Loaded {" + index.size() + "} image variants with a total size of {" + totalSize + "} bytes from the image cache");
+			evict();
+			updateSizeGauge();
+			initialized = true;
+		}
+	}
+
+	private String getBasePath(String sha512sum, ImageManipulationParameters parameters) {
+		String[] parts = sha512sum.split("(?<=\\G.{8})");
+		StringBuilder buffer = new StringBuilder();
+		buffer.append(File.separator);
+		for (String part : parts) {
+			buffer.append(part + File.separator);
+		}
+		String baseFolder = Paths.get(options.getImageCacheDirectory(), buffer.toString()).toString();
+		return Paths.get(baseFolder, FILE_PREFIX + parameters.getCacheKey()).toString();
+	}
+
+	private synchronized void add(String basePath, File file) {
+		// The file has been written again after the variant was removed
+		pendingDeletions.remove(file);
+		Variant variant = new Variant(basePath, file);
+		Variant previous = index.put(basePath, variant);
+		if (previous != null) {
+			totalSize -= previous.size;
+			if (!previous.file.equals(file)) {
+				scheduleDeletion(basePath, previous.file);
+			}
+		}
+		totalSize += variant.size;
+		evict();
+		deletePending();
+		updateSizeGauge();
+	}
+
+	private synchronized void remove(String basePath) {
+		Variant variant = index.remove(basePath);
+		if (variant != null) {
+			totalSize -= variant.size;
+			updateSizeGauge();
+		}
+	}
+
+	/**
+	 * Remove the least recently used variants until the total size is within the limit. The most recently added variant is never removed.
+	 */
+	private void evict() {
+		long maxSize = options.getImageCacheMaxSize();
+		if (maxSize <= 0) {
+			return;
+		}
+		Iterator<Variant> it = index.values().iterator();
+		while (totalSize > maxSize && index.size() > 1 && it.hasNext()) {
+			Variant eldest = it.next();
+			it.remove();
+			totalSize -= eldest.size;
+			scheduleDeletion(eldest.basePath, eldest.file);
+			if (metricsEnabled) {
+				evictionCounter.increment();
+			}
+		}
+	}
+
+	private void scheduleDeletion(String basePath, File file) {
+		pendingDeletions.remove(file);
+		pendingDeletions.put(file, new PendingDeletion(basePath, System.currentTimeMillis() + deleteDelay));
+	}
+
+	/**
+	 * Delete the files of removed variants whose delay has passed. Files which are currently being written again are kept.
+	 */
+	private void deletePending() {
+		long now = System.currentTimeMillis();
+		Iterator<Map.Entry<File, PendingDeletion>> it = pendingDeletions.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<File, PendingDeletion> entry = it.next();
+			PendingDeletion pending = entry.getValue();
+			if (pending.deleteAt > now) {
+				break;
+			}
+			if (inFlight.containsKey(pending.basePath)) {
+				continue;
+			}
+			it.remove();
+			delete(entry.getKey());
+		}
+	}
+
+	private void updateSizeGauge() {
+		if (metricsEnabled) {
+			sizeGauge.set(totalSize);
+		}
+	}
+
+	private void delete(File file) {
+		if (file.exists() && !file.delete()) {
+			log.warn("Could not delete image cache file {" + file.getPath() + "}");
+		}
+	}
+
+	private static class Variant {
+		private final String basePath;
+		private final File file;
+		private final long size;
+
+		Variant(String basePath, File file) {
+			this.basePath = basePath;
+			this.file = file;
+			this.size = file.length();
+		}
+	}
+
+	private static class PendingDeletion {
+		private final String basePath;
+		private final long deleteAt;
+
+		PendingDeletion(String basePath, long deleteAt) {
+			this.basePath = basePath;
+			this.deleteAt = deleteAt;
+		}
+	}
+}
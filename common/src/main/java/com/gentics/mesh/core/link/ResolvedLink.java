@@ -0,0 +1,87 @@
+package com.gentics.mesh.core.link;
+
+import java.util.Set;
+
+/**
+ * Result of resolving the webroot path of a linked node. The result does not depend on the link type or the request and can thus be shared between requests
+ * and link types.
+ */
+public class ResolvedLink {
+
+	private final String path;
+
+	private final String projectName;
+
+	private final String branchUuid;
+
+	private final String branchName;
+
+	private final boolean latestBranch;
+
+	private final String schemeAuthority;
+
+	private final Set<String> nodeUuids;
+
+	/**
+	 * Create a new resolved link.
+	 *
+	 * @param path
+	 *            Webroot path of the node
+	 * @param projectName
+	 *            Name of the project of the node
+	 * @param branchUuid
+	 *            Uuid of the branch which was used to resolve the path
+	 * @param branchName
+	 *            Name of the branch which was used to resolve the path
+	 * @param latestBranch
+	 *            Whether the branch is the latest branch of the project
+	 * @param schemeAuthority
+	 *            Scheme and authority of the branch or an empty string
+	 * @param nodeUuids
+	 *            Uuids of the node and all of its parents. The path of the node depends on these nodes.
+	 */
+	public ResolvedLink(String path, String projectName, String branchUuid, String branchName, boolean latestBranch, String schemeAuthority,
+		Set<String> nodeUuids) {
+		this.path = path;
+		this.projectName = projectName;
+		this.branchUuid = branchUuid;
+		this.branchName = branchName;
+		this.latestBranch = latestBranch;
+		this.schemeAuthority = schemeAuthority;
+		this.nodeUuids = nodeUuids;
+	}
+
+	public String getPath() {
+		return path;
+	}
+
+	public String getProjectName() {
+		return projectName;
+	}
+
+	public String getBranchUuid() {
+		return branchUuid;
+	}
+
+	public String getBranchName() {
+		return branchName;
+	}
+
+	public boolean isLatestBranch() {
+		return latestBranch;
+	}
+
+	public String getSchemeAuthority() {
+		return schemeAuthority;
+	}
+
+	/**
+	 * Return the uuids of the node and all of its parents.
+	 *
+	 * @return
+	 */
+	public Set<String> getNodeUuids() {
+		return nodeUuids;
+	}
+
+}
@@ -6,7 +6,9 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -14,10 +16,12 @@ import javax.inject.Singleton;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import com.gentics.mesh.cache.WebRootLinkCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.dao.NodeDaoWrapper;
+import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.rest.common.ContainerType;
@@ -44,10 +48,13 @@ public class WebRootLinkReplacer {
 
 	private final MeshOptions options;
 
+	private final WebRootLinkCache linkCache;
+
 	@Inject
-	public WebRootLinkReplacer(BootstrapInitializer boot, MeshOptions options) {
+	public WebRootLinkReplacer(BootstrapInitializer boot, MeshOptions options, WebRootLinkCache linkCache) {
 		this.boot = boot;
 		this.options = options;
+		this.linkCache = linkCache;
 	}
 
 	/**
@@ -74,66 +81,89 @@ public class WebRootLinkReplacer {
 			return content;
 		}
 
-		List<String> segments = new ArrayList<>();
-		int pos = 0;
+		// The rendered content is only allocated once the first link was found
+		StringBuilder renderedContent = null;
 		int lastPos = 0;
 		int length = content.length();
+		List<String> linkArguments = new ArrayList<>(3);
+		StringBuilder argument = new StringBuilder();
 
-		// 1. Tokenize the content
 		while (lastPos < length) {
-			pos = content.indexOf(START_TAG, lastPos);
+			int pos = content.indexOf(START_TAG, lastPos);
 			if (pos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
 				break;
 			}
 			int endPos = content.indexOf(END_TAG, pos);
 			if (endPos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
 				break;
 			}
-
-			// add intermediate string segment
-			if (lastPos < pos) {
-				segments.add(content.substring(lastPos, pos));
+			if (renderedContent == null) {
+				renderedContent = new StringBuilder(length);
 			}
+			// Add the intermediate string segment
+			renderedContent.append(content, lastPos, pos);
 
-			// 2. Parse the link and invoke resolving
-			String link = content.substring(pos + START_TAG.length(), endPos);
-			// Strip away the quotes. We only care about the argument values
-			// double quotes may be escaped
-			link = link.replaceAll("\\\\\"", "");
-			link = link.replaceAll("'", "");
-			link = link.replaceAll("\"", "");
-			String[] linkArguments = link.split(",");
-			if (linkArguments.length == 3) {
+			// Parse the link arguments and resolve the link
+			parseLinkArguments(content, pos + START_TAG.length(), endPos, linkArguments, argument);
+			if (linkArguments.size() == 3) {
 				// Branch in link argument always comes first
-				branch = linkArguments[2].trim();
+				branch = linkArguments.get(2).trim();
 			}
-			if (linkArguments.length >= 2) {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName, linkArguments[1].trim()));
+			String uuid = linkArguments.get(0);
+			if (linkArguments.size() >= 2) {
+				renderedContent.append(resolve(ac, branch, edgeType, uuid, type, projectName, linkArguments.get(1).trim()));
 			} else if (languageTags != null) {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName,
+				renderedContent.append(resolve(ac, branch, edgeType, uuid, type, projectName,
 					languageTags.toArray(new String[languageTags.size()])));
 			} else {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName));
+				renderedContent.append(resolve(ac, branch, edgeType, uuid, type, projectName));
 			}
 
 			lastPos = endPos + END_TAG.length();
 		}
 
-		// 3.: Buildup the new content
-		StringBuilder renderedContent = new StringBuilder(length);
-		segments.stream().forEachOrdered(obs -> renderedContent.append(obs));
-
+		if (renderedContent == null) {
+			return content;
+		}
+		// Add the last string segment
+		renderedContent.append(content, lastPos, length);
 		return renderedContent.toString();
 	}
 
+	/**
+	 * Parse the comma separated arguments of the link between start and end. Quotes are stripped since we only care about the argument values. Double quotes
+	 * may be escaped. Trailing empty arguments are omitted.
+	 *
+	 * @param content
+	 * @param start
+	 *            Start index of the arguments
+	 * @param end
+	 *            End index (exclusive) of the arguments
+	 * @param linkArguments
+	 *            List which will be cleared and filled with the arguments
+	 * @param argument
+	 *            Buffer which is used to collect the characters of an argument
+	 */
+	private void parseLinkArguments(String content, int start, int end, List<String> linkArguments, StringBuilder argument) {
+		linkArguments.clear();
+		argument.setLength(0);
+		for (int i = start; i < end; i++) {
+			char c = content.charAt(i);
+			if (c == '\\' && i + 1 < end && content.charAt(i + 1) == '"') {
+				i++;
+			} else if (c == ',') {
+				linkArguments.add(argument.toString());
+				argument.setLength(0);
+			} else if (c != '"' && c != '\'') {
+				argument.append(c);
+			}
+		}
+		linkArguments.add(argument.toString());
+		while (linkArguments.size() > 1 && linkArguments.get(linkArguments.size() - 1).isEmpty()) {
+			linkArguments.remove(linkArguments.size() - 1);
+		}
+	}
+
 	/**
 	 * Resolve the link to the node with uuid (in the given language) into an observable
 	 * 
@@ -182,25 +212,37 @@ public class WebRootLinkReplacer {
 		String... languageTags) {
 		// Get rid of additional whitespaces
 		uuid = uuid.trim();
-		Node node = boot.meshRoot().findNodeByUuid(uuid);
+		languageTags = withDefaultLanguage(languageTags);
+		// edge type defaults to DRAFT
+		if (edgeType == null) {
+			edgeType = ContainerType.DRAFT;
+		}
 
-		// check for null
-		if (node == null) {
-			if (log.isDebugEnabled()) {
-				log.debug("Could not resolve link to '" + uuid + "', target node could not be found");
-			}
-			switch (type) {
-			case SHORT:
-				return "/error/404";
-			case MEDIUM:
-				return "/" + projectName + "/error/404";
-			case FULL:
-				return VersionHandler.baseRoute(ac.getApiVersion()) + "/" + projectName + "/webroot/error/404";
-			default:
-				throw error(BAD_REQUEST, "Cannot render link with type " + type);
+		long generation = linkCache.generation();
+		ResolvedLink link = linkCache.getLink(uuid, branch, edgeType, languageTags);
+		if (link == null) {
+			Node node = boot.meshRoot().findNodeByUuid(uuid);
+
+			// check for null
+			if (node == null) {
+				if (log.isDebugEnabled()) {
+					log.debug("Could not resolve link to '" + uuid + "', target node could not be found");
+				}
+				switch (type) {
+				case SHORT:
+					return "/error/404";
+				case MEDIUM:
+					return "/" + projectName + "/error/404";
+				case FULL:
+					return VersionHandler.baseRoute(ac.getApiVersion()) + "/" + projectName + "/webroot/error/404";
+				default:
+					throw error(BAD_REQUEST, "Cannot render link with type " + type);
+				}
 			}
+			link = resolveLink(ac, branch, edgeType, node, languageTags);
+			linkCache.store(uuid, branch, edgeType, languageTags, link, generation);
 		}
-		return resolve(ac, branch, edgeType, node, type, forceAbsolute, languageTags);
+		return render(ac, link, type, forceAbsolute);
 	}
 
 	/**
@@ -247,52 +289,102 @@ public class WebRootLinkReplacer {
 	public String resolve(InternalActionContext ac, String branchNameOrUuid, ContainerType edgeType, Node node, LinkType type,
 		boolean forceAbsolute,
 		String... languageTags) {
-		NodeDaoWrapper nodeDao = boot.nodeDao();
+		languageTags = withDefaultLanguage(languageTags);
+		// edge type defaults to DRAFT
+		if (edgeType == null) {
+			edgeType = ContainerType.DRAFT;
+		}
+
+		String uuid = node.getUuid();
+		long generation = linkCache.generation();
+		ResolvedLink link = linkCache.getLink(uuid, branchNameOrUuid, edgeType, languageTags);
+		if (link == null) {
+			link = resolveLink(ac, branchNameOrUuid, edgeType, node, languageTags);
+			linkCache.store(uuid, branchNameOrUuid, edgeType, languageTags, link, generation);
+		}
+		return render(ac, link, type, forceAbsolute);
+	}
 
+	/**
+	 * Return the language tags to be used for resolving a link. The default language is always used as the last fallback.
+	 *
+	 * @param languageTags
+	 * @return
+	 */
+	private String[] withDefaultLanguage(String... languageTags) {
 		String defaultLanguage = options.getDefaultLanguage();
 		if (languageTags == null || languageTags.length == 0) {
-			languageTags = new String[] { defaultLanguage };
-
 			if (log.isDebugEnabled()) {
 				log.debug("Fallback to default language " + defaultLanguage);
 			}
-		} else {
-			// In other cases add the default language to the list
-			List<String> languageTagList = new ArrayList<String>(Arrays.asList(languageTags));
-			languageTagList.add(defaultLanguage);
-			languageTags = languageTagList.toArray(new String[languageTagList.size()]);
+			return new String[] { defaultLanguage };
 		}
+		// In other cases add the default language to the list
+		String[] tags = Arrays.copyOf(languageTags, languageTags.length + 1);
+		tags[languageTags.length] = defaultLanguage;
+		return tags;
+	}
 
+	/**
+	 * Resolve the path of the node. The result does not depend on the link type and can be cached.
+	 *
+	 * @param ac
+	 * @param branchNameOrUuid
+	 * @param edgeType
+	 * @param node
+	 * @param languageTags
+	 * @return
+	 */
+	private ResolvedLink resolveLink(InternalActionContext ac, String branchNameOrUuid, ContainerType edgeType, Node node, String... languageTags) {
+		NodeDaoWrapper nodeDao = boot.nodeDao();
 		HibProject theirProject = node.getProject();
-
 		HibBranch branch = theirProject.findBranchOrLatest(branchNameOrUuid);
+		String branchUuid = branch.getUuid();
 
-		// edge type defaults to DRAFT
-		if (edgeType == null) {
-			edgeType = ContainerType.DRAFT;
-		}
 		if (log.isDebugEnabled()) {
-			log.debug("Resolving link to " + node.getUuid() + " in language " + Arrays.toString(languageTags) + " with type " + type.name());
+			log.debug("Resolving link to " + node.getUuid() + " in language " + Arrays.toString(languageTags));
 		}
 
-		String path = nodeDao.getPath(node, ac, branch.getUuid(), edgeType, languageTags);
+		String path = nodeDao.getPath(node, ac, branchUuid, edgeType, languageTags);
 		if (path == null) {
 			path = "/error/404";
 		}
+
+		// The path depends on the node and all of its parents
+		Set<String> nodeUuids = new HashSet<>();
+		for (HibNode current = node; current != null; current = nodeDao.getParentNode(current, branchUuid)) {
+			nodeUuids.add(current.getUuid());
+		}
+
+		return new ResolvedLink(path, theirProject.getName(), branchUuid, branch.getName(), branch.isLatest(),
+			generateSchemeAuthorityForNode(node, branch), nodeUuids);
+	}
+
+	/**
+	 * Render the resolved link with the given type.
+	 *
+	 * @param ac
+	 * @param link
+	 * @param type
+	 * @param forceAbsolute
+	 * @return
+	 */
+	private String render(InternalActionContext ac, ResolvedLink link, LinkType type, boolean forceAbsolute) {
+		String path = link.getPath();
 		switch (type) {
 		case SHORT:
 			// We also try to append the scheme and authority part of the uri for foreign nodes.
 			// Otherwise that part will be empty and thus the link relative.
-			if (!forceAbsolute && ac.getProject() != null && ac.getBranch().equals(branch)) {
+			if (!forceAbsolute && ac.getProject() != null && ac.getBranch().getUuid().equals(link.getBranchUuid())) {
 				return path;
 			} else {
-				return generateSchemeAuthorityForNode(node, branch) + path;
+				return link.getSchemeAuthority() + path;
 			}
 		case MEDIUM:
-			return "/" + node.getProject().getName() + path;
+			return "/" + link.getProjectName() + path;
 		case FULL:
-			return VersionHandler.baseRoute(ac.getApiVersion()) + "/" + node.getProject().getName() + "/webroot" + path
-				+ branchQueryParameter(branch);
+			return VersionHandler.baseRoute(ac.getApiVersion()) + "/" + link.getProjectName() + "/webroot" + path
+				+ branchQueryParameter(link);
 		default:
 			throw error(BAD_REQUEST, "Cannot render link with type " + type);
 		}
@@ -327,14 +419,14 @@ public class WebRootLinkReplacer {
 	 * Returns the query parameter for the given branch. This is the query parameter that is necessary to get the node in the correct branch. If the given
 	 * branch is the latest branch, no query parameter is necessary and thus an empty string is returned.
 	 *
-	 * @param branch
-	 *            The branch to generate the query parameter for.
+	 * @param link
+	 *            The resolved link which references the branch to generate the query parameter for.
 	 * @return Example: "?branch=test1"
 	 */
-	private String branchQueryParameter(HibBranch branch) {
-		if (branch.isLatest()) {
+	private String branchQueryParameter(ResolvedLink link) {
+		if (link.isLatestBranch()) {
 			return "";
 		}
-		return String.format("?%s=%s", VersioningParameters.BRANCH_QUERY_PARAM_KEY, branch.getName());
+		return String.format("?%s=%s", VersioningParameters.BRANCH_QUERY_PARAM_KEY, link.getBranchName());
 	}
 }
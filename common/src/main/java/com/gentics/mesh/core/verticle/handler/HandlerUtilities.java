@@ -100,7 +100,7 @@ public class HandlerUtilities {
 	public <T extends HibCoreElement, RM extends RestModel> void deleteElement(InternalActionContext ac, Function<Tx, Object> parentLoader,
 		DAOActions<T, RM> actions,
 		String uuid) {
-		try (WriteLock lock = writeLock.lock(ac)) {
+		try (WriteLock lock = writeLock.lock(ac, writeLockScope(ac, uuid, actions))) {
 			syncTx(ac, tx -> {
 				Object parent = null;
 				if (parentLoader != null) {
@@ -120,6 +120,24 @@ public class HandlerUtilities {
 
 	}
 
+	/**
+	 * Determine the scope of the write lock for the element. Elements which do not belong to a project are locked globally.
+	 * 
+	 * @param ac
+	 * @param uuid
+	 *            Uuid of the element or null if a new element will be created
+	 * @param actions
+	 * @return
+	 */
+	private WriteLockScope writeLockScope(InternalActionContext ac, String uuid, DAOActions<?, ?> actions) {
+		if (ac.isSkipWriteLock() || ac.getProject() == null) {
+			return WriteLockScope.global();
+		}
+		return database.tx(tx -> {
+			return actions.writeLockScope(tx, ac, uuid);
+		});
+	}
+
 	/**
 	 * Locate and update or create the element using the action context data.
 	 * 
@@ -152,7 +170,7 @@ public class HandlerUtilities {
 	 */
 	public <T extends HibCoreElement, RM extends RestModel> void createOrUpdateElement(InternalActionContext ac, Function<Tx, Object> parentLoader,
 		String uuid, DAOActions<T, RM> actions) {
-		try (WriteLock lock = writeLock.lock(ac)) {
+		try (WriteLock lock = writeLock.lock(ac, writeLockScope(ac, uuid, actions))) {
 			AtomicBoolean created = new AtomicBoolean(false);
 			syncTx(ac, tx -> {
 				// 1. Load the element from the root element using the given uuid (if not null)
@@ -10,6 +10,12 @@ import io.vertx.ext.web.RoutingContext;
 public interface RequestDelegator extends Handler<RoutingContext> {
 	String MESH_FORWARDED_FROM_HEADER = "X-Mesh-Forwarded-From";
 
+	/**
+	 * Header which carries the consistency token of a write. Read requests which provide the token of a recent write will be delegated to the master
+	 * when the read-your-writes consistency is enabled.
+	 */
+	String MESH_CONSISTENCY_TOKEN_HEADER = "X-Mesh-Consistency-Token";
+
 	/**
 	 * Returns true if this instance can be written to.
 	 * If not, mutating request should be delegated to the master.
@@ -10,9 +10,12 @@ import org.codehaus.jettison.json.JSONObject;
 import com.gentics.mesh.core.rest.auth.LoginRequest;
 import com.gentics.mesh.core.rest.common.GenericMessageResponse;
 import com.gentics.mesh.core.rest.search.EntityMetrics;
+import com.gentics.mesh.core.rest.search.SearchSourceHit;
+import com.gentics.mesh.core.rest.search.SearchSourceListResponse;
 import com.gentics.mesh.core.rest.search.SearchStatusResponse;
 import com.gentics.mesh.core.rest.search.TypeMetrics;
 
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 public class MiscExamples extends AbstractExamples {
@@ -91,4 +94,20 @@ public class MiscExamples extends AbstractExamples {
 		return new JsonObject();
 	}
 
+	public SearchSourceListResponse createSearchSourceListResponse() {
+		SearchSourceListResponse response = new SearchSourceListResponse();
+		JsonObject source = new JsonObject()
+			.put("uuid", "fdc937c9ce0440188937c9ce04b0185f")
+			.put("language", "en")
+			.put("displayField", new JsonObject().put("key", "name").put("value", "Concorde"))
+			.put("fields", new JsonObject().put("name", "Concorde"));
+		response.add(new SearchSourceHit()
+			.setId("fdc937c9ce0440188937c9ce04b0185f-en")
+			.setScore(1.0)
+			.setSource(source)
+			.setHighlight(new JsonObject().put("fields.name", new JsonArray().add("<em>Concorde</em>"))));
+		setPaging(response, 1, 1, 25, 1);
+		return response;
+	}
+
 }
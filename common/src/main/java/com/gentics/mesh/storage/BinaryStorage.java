@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.util.RxUtil;
 import com.gentics.mesh.util.UUIDUtil;
 
 import io.reactivex.Completable;
@@ -74,6 +75,21 @@ public interface BinaryStorage {
 	 */
 	Flowable<Buffer> read(String uuid);
 
+	/**
+	 * Read the given range of the binary data which is identified by the given binary uuid. The default implementation skips the data in front of the
+	 * range, storages which can access the range directly should override this method.
+	 * 
+	 * @param uuid
+	 * @param offset
+	 *            Position of the first byte of the range
+	 * @param length
+	 *            Amount of bytes which should be read
+	 * @return
+	 */
+	default Flowable<Buffer> read(String uuid, long offset, long length) {
+		return RxUtil.slice(read(uuid), offset, length);
+	}
+
 	/**
 	 * Opens a blocking {@link InputStream} to the binary file. This should only be used for some other blocking APIs (i.e. ImageIO)
 	 *
@@ -0,0 +1,266 @@
+package com.gentics.mesh.storage;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.gentics.mesh.util.RxUtil;
+import com.gentics.mesh.util.UUIDUtil;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.core.file.FileSystem;
+
+/**
+ * Bounded read-through cache which keeps copies of remotely stored binaries in a local directory. Binary storages which are not backed by the local
+ * filesystem can use the cache to provide a local path for frequently requested binaries. Once the total size of the cached files exceeds the limit, the
+ * least recently used files are removed.
+ *
+ * <p>Each load writes a new file. The files of evicted entries are only deleted after a delay on a worker thread, since their path may already have been
+ * handed out to a request which did not yet open the file.</p>
+ */
+public class LocalBinaryCache {
+
+	private static final Logger log = LoggerFactory.getLogger(LocalBinaryCache.class);
+
+	private static final String FILE_SUFFIX = ".bin";
+
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	/**
+	 * Default delay after which the files of evicted entries will be deleted.
+	 */
+	private static final long DEFAULT_DELETE_DELAY = TimeUnit.MINUTES.toMillis(1);
+
+	private final File directory;
+
+	private final long maxSize;
+
+	private final long deleteDelay;
+
+	private final Vertx rxVertx;
+
+	private final FileSystem fileSystem;
+
+	/**
+	 * Cached entries in access order.
+	 */
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final Map<String, Single<String>> loading = new ConcurrentHashMap<>();
+
+	private long size = 0;
+
+	/**
+	 * Create a new cache. Files which already exist in the directory are added to the cache.
+	 *
+	 * @param directory
+	 *            Directory of the cached files
+	 * @param maxSize
+	 *            Maximum total size of the cached files in bytes
+	 * @param rxVertx
+	 */
+	public LocalBinaryCache(File directory, long maxSize, Vertx rxVertx) {
+		this(directory, maxSize, rxVertx, DEFAULT_DELETE_DELAY);
+	}
+
+	LocalBinaryCache(File directory, long maxSize, Vertx rxVertx, long deleteDelay) {
+		this.directory = Objects.requireNonNull(directory, "The cache directory was not specified.");
+		this.maxSize = maxSize;
+		this.deleteDelay = deleteDelay;
+		this.rxVertx = rxVertx;
+		this.fileSystem = rxVertx.fileSystem();
+		init();
+	}
+
+	private void init() {
+		if (!directory.exists() && !directory.mkdirs()) {
+			throw new IllegalStateException("Could not create binary cache directory {" + directory.getAbsolutePath() + "}");
+		}
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+		// Register the files which remain from a previous run. The oldest files will be evicted first.
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+		for (File file : files) {
+			String name = file.getName();
+			if (name.endsWith(FILE_SUFFIX)) {
+				register(name.substring(0, name.indexOf('.')), file, file.length());
+			} else if (name.endsWith(TEMP_SUFFIX)) {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * Return the path to the cached file of the binary.
+	 *
+	 * @param uuid
+	 * @return Path or null if the binary is not cached
+	 */
+	public synchronized String getPath(String uuid) {
+		Entry entry = entries.get(uuid);
+		if (entry == null) {
+			return null;
+		}
+		return entry.file.getAbsolutePath();
+	}
+
+	/**
+	 * Return the path to the cached file of the binary. The binary will be loaded via the given stream and added to the cache if it is not yet cached.
+	 * Concurrent loads of the same binary are only executed once.
+	 *
+	 * @param uuid
+	 * @param loader
+	 *            Stream of the binary data
+	 * @return
+	 */
+	public Single<String> load(String uuid, Flowable<Buffer> loader) {
+		return Single.defer(() -> {
+			String path = getPath(uuid);
+			if (path != null) {
+				return Single.just(path);
+			}
+			return loading.computeIfAbsent(uuid, id -> download(id, loader)
+				.doFinally(() -> loading.remove(id))
+				.cache());
+		});
+	}
+
+	private Single<String> download(String uuid, Flowable<Buffer> loader) {
+		String name = uuid + "." + UUIDUtil.randomUUID();
+		String tempPath = new File(directory, name + TEMP_SUFFIX).getAbsolutePath();
+		File file = new File(directory, name + FILE_SUFFIX);
+		String path = file.getAbsolutePath();
+		if (log.isDebugEnabled()) {
+			log.debug("Loading binary {" + uuid + "} into the cache");
+		}
+		return fileSystem.rxOpen(tempPath, new OpenOptions())
+			.flatMapCompletable(file -> RxUtil.writeTo(loader, file.getDelegate())
+				.andThen(file.rxFlush())
+				.andThen(file.rxClose())
+				.doOnError(err -> file.close()))
+			.andThen(fileSystem.rxMove(tempPath, path))
+			.andThen(fileSystem.rxProps(path))
+			.map(props -> {
+				register(uuid, file, props.size());
+				return path;
+			})
+			.onErrorResumeNext(err -> {
+				log.error("Error while loading binary {" + uuid + "} into the cache", err);
+				return fileSystem.rxDelete(tempPath).onErrorComplete().andThen(Single.error(err));
+			});
+	}
+
+	/**
+	 * Remove the binary from the cache.
+	 *
+	 * @param uuid
+	 * @return
+	 */
+	public Completable invalidate(String uuid) {
+		return Completable.defer(() -> {
+			Entry entry;
+			synchronized (this) {
+				entry = entries.remove(uuid);
+				if (entry != null) {
+					size -= entry.size;
+				}
+			}
+			if (entry == null) {
+				return Completable.complete();
+			}
+			return fileSystem.rxDelete(entry.file.getAbsolutePath()).onErrorComplete();
+		});
+	}
+
+	/**
+	 * Return the total size of the cached files.
+	 *
+	 * @return
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+
+	private void register(String uuid, File file, long length) {
+		List<File> removed;
+		synchronized (this) {
+			Entry previous = entries.put(uuid, new Entry(file, length));
+			if (previous != null) {
+				size -= previous.size;
+			}
+			size += length;
+			removed = evict(uuid);
+			if (previous != null && !previous.file.equals(file)) {
+				removed.add(previous.file);
+			}
+		}
+		removed.forEach(this::scheduleDeletion);
+	}
+
+	/**
+	 * Remove the least recently used entries until the size limit is no longer exceeded. The given entry is kept, even if it exceeds the limit by itself.
+	 *
+	 * @param keep
+	 * @return Files of the removed entries
+	 */
+	private List<File> evict(String keep) {
+		if (size <= maxSize) {
+			return new ArrayList<>(1);
+		}
+		List<File> removed = new ArrayList<>();
+		Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+		while (size > maxSize && it.hasNext()) {
+			Map.Entry<String, Entry> eldest = it.next();
+			if (eldest.getKey().equals(keep)) {
+				continue;
+			}
+			it.remove();
+			size -= eldest.getValue().size;
+			if (log.isDebugEnabled()) {
+				log.debug("Evicting binary {" + eldest.getKey() + "} from the cache");
+			}
+			removed.add(eldest.getValue().file);
+		}
+		return removed;
+	}
+
+	/**
+	 * Delete the file once the delay has passed. The file is deleted by the filesystem of Vert.x, which does not block the calling thread.
+	 *
+	 * @param file
+	 */
+	private void scheduleDeletion(File file) {
+		rxVertx.setTimer(Math.max(1, deleteDelay), id -> {
+			fileSystem.rxDelete(file.getAbsolutePath()).subscribe(() -> {
+			}, err -> log.warn("Could not delete cached binary file {" + file.getAbsolutePath() + "}", err));
+		});
+	}
+
+	private static class Entry {
+		private final File file;
+		private final long size;
+
+		Entry(File file, long size) {
+			this.file = file;
+			this.size = size;
+		}
+	}
+
+}
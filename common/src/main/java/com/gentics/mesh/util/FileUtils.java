@@ -30,7 +30,7 @@ public final class FileUtils {
 		try {
 			MessageDigest md = MessageDigest.getInstance("SHA-512");
 			return stream.reduce(md, (digest, buffer) -> {
-				digest.update(buffer.getBytes());
+				digest.update(buffer.getByteBuf().nioBuffer());
 				return digest;
 			}).map(MessageDigest::digest).map(FileUtils::bytesToHex);
 		} catch (Exception e) {
@@ -0,0 +1,80 @@
+package com.gentics.mesh.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.junit.Test;
+
+public class DependencyIndexTest {
+
+	@Test
+	public void testRemove() {
+		DependencyIndex index = new DependencyIndex(10, 4);
+		EventAwareCache<String, Object> cache = cache("a", "b");
+		index.add("a", Arrays.asList("root", "folder", "a"));
+		index.stored("a", cache);
+		index.add("b", Arrays.asList("root", "b"));
+		index.stored("b", cache);
+
+		assertEquals(set("a"), index.remove("folder"));
+		assertEquals(set("a", "b"), index.remove("root"));
+		assertNull(index.remove("root"));
+		assertNull(index.remove("unknown"));
+	}
+
+	@Test
+	public void testPrune() {
+		// Pruning is triggered once more than 2 references are stored
+		DependencyIndex index = new DependencyIndex(1, 2);
+		index.add("a", Arrays.asList("root", "a"));
+		index.stored("a", cache("a"));
+		index.add("b", Arrays.asList("root", "b"));
+		index.stored("b", cache("b"));
+
+		// The evicted entry a is no longer referenced
+		assertNull(index.remove("a"));
+		assertEquals(set("b"), index.remove("root"));
+	}
+
+	@Test
+	public void testPruneRetainsKeysWhichAreNotYetCached() {
+		DependencyIndex index = new DependencyIndex(1, 2);
+		index.add("a", Arrays.asList("root", "a"));
+		index.stored("a", cache("a"));
+		index.add("b", Arrays.asList("root", "b"));
+		// c is still being stored by another thread when the index is pruned
+		index.add("c", Arrays.asList("root", "c"));
+		index.stored("b", cache("a", "b"));
+
+		assertEquals(set("a", "b", "c"), index.remove("root"));
+		assertEquals(set("c"), index.remove("c"));
+	}
+
+	@SuppressWarnings("unchecked")
+	private EventAwareCache<String, Object> cache(String... cachedKeys) {
+		EventAwareCache<String, Object> cache = mock(EventAwareCache.class);
+		doAnswer(invocation -> {
+			BiConsumer<String, Object> action = (BiConsumer<String, Object>) invocation.getArguments()[0];
+			for (String key : cachedKeys) {
+				action.accept(key, key);
+			}
+			return null;
+		}).when(cache).forEach(any());
+		return cache;
+	}
+
+	private Set<String> set(String... keys) {
+		Set<String> set = new HashSet<>();
+		Collections.addAll(set, keys);
+		return set;
+	}
+}
@@ -0,0 +1,162 @@
+package com.gentics.mesh.core.image.spi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.CachingMetric;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reactivex.Single;
+import io.reactivex.subjects.SingleSubject;
+
+public class ImageVariantCacheTest {
+
+	private static final String HASH = "0123456789abcdef0123456789abcdef";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ImageManipulatorOptions options;
+
+	private SimpleMeterRegistry registry;
+
+	private MetricsService metrics;
+
+	@Before
+	public void setup() {
+		registry = new SimpleMeterRegistry();
+		metrics = new MetricsService() {
+			@Override
+			public boolean isEnabled() {
+				return true;
+			}
+
+			@Override
+			public MeterRegistry getMetricRegistry() {
+				return registry;
+			}
+		};
+		options = new ImageManipulatorOptions();
+		options.setImageCacheDirectory(folder.getRoot().getAbsolutePath());
+	}
+
+	@Test
+	public void testLookupAfterCreate() {
+		ImageVariantCache cache = new ImageVariantCache(options, null);
+		CacheFileInfo info = cache.lookup(HASH, new ImageManipulationParametersImpl().setWidth(100));
+		assertFalse(info.exists);
+
+		String path = cache.getOrCreate(info, basePath -> Single.fromCallable(() -> write(basePath, 10))).blockingGet();
+		CacheFileInfo cached = cache.lookup(HASH, new ImageManipulationParametersImpl().setWidth(100));
+		assertTrue(cached.exists);
+		assertEquals(path, cached.path);
+
+		// The index is loaded from the directory after a restart
+		ImageVariantCache restarted = new ImageVariantCache(options, null);
+		assertEquals(path, restarted.lookup(HASH, new ImageManipulationParametersImpl().setWidth(100)).path);
+		assertEquals(10, restarted.getTotalSize());
+	}
+
+	@Test
+	public void testConcurrentRequestsShareResize() {
+		ImageVariantCache cache = new ImageVariantCache(options, null);
+		CacheFileInfo info = cache.lookup(HASH, new ImageManipulationParametersImpl().setWidth(100));
+		AtomicInteger invocations = new AtomicInteger();
+		SingleSubject<String> resize = SingleSubject.create();
+
+		Single<String> first = cache.getOrCreate(info, basePath -> {
+			invocations.incrementAndGet();
+			return resize;
+		});
+		Single<String> second = cache.getOrCreate(info, basePath -> {
+			invocations.incrementAndGet();
+			return resize;
+		});
+		first.test().assertNotComplete();
+		second.test().assertNotComplete();
+
+		resize.onSuccess(write(info.path, 10));
+		assertEquals(1, invocations.get());
+	}
+
+	@Test
+	public void testEviction() {
+		options.setImageCacheMaxSize(25);
+		ImageVariantCache cache = new ImageVariantCache(options, metrics, 0);
+		String first = create(cache, 100);
+		String second = create(cache, 200);
+		// Access the first variant so that the second one is the least recently used
+		assertTrue(cache.lookup(HASH, new ImageManipulationParametersImpl().setWidth(100)).exists);
+		String third = create(cache, 300);
+
+		assertTrue(new File(first).exists());
+		assertFalse(new File(second).exists());
+		assertTrue(new File(third).exists());
+		assertEquals(20, cache.getTotalSize());
+		assertEquals("The size should be reported in bytes.", 20, registry.get(new CachingMetric(CachingMetric.Event.SIZE, ImageVariantCache.NAME).key())
+			.gauge().value(), 0);
+		assertEquals(1, registry.get(new CachingMetric(CachingMetric.Event.EVICTION, ImageVariantCache.NAME).key()).counter().count(), 0);
+	}
+
+	@Test
+	public void testDeferredDeletion() {
+		options.setImageCacheMaxSize(15);
+		ImageVariantCache cache = new ImageVariantCache(options, null, TimeUnit.MINUTES.toMillis(1));
+		String first = create(cache, 100);
+		create(cache, 200);
+
+		assertFalse("The evicted variant should no longer be found.", cache.lookup(HASH, new ImageManipulationParametersImpl().setWidth(100)).exists);
+		assertTrue("The file may still be read and must not be deleted yet.", new File(first).exists());
+		assertEquals(10, cache.getTotalSize());
+
+		// Creating the variant again must keep the file
+		assertEquals(first, create(cache, 100));
+		assertTrue(new File(first).exists());
+	}
+
+	@Test
+	public void testDeletionOnLookup() throws InterruptedException {
+		options.setImageCacheMaxSize(15);
+		ImageVariantCache cache = new ImageVariantCache(options, null, 100);
+		String first = create(cache, 100);
+		create(cache, 200);
+		assertTrue(new File(first).exists());
+
+		Thread.sleep(200);
+		// The lookup of a cached variant deletes the files whose delay has passed
+		assertTrue(cache.lookup(HASH, new ImageManipulationParametersImpl().setWidth(200)).exists);
+		assertFalse("The file should have been deleted once the delay has passed.", new File(first).exists());
+	}
+
+	private String create(ImageVariantCache cache, int width) {
+		CacheFileInfo info = cache.lookup(HASH, new ImageManipulationParametersImpl().setWidth(width));
+		return cache.getOrCreate(info, basePath -> Single.fromCallable(() -> write(basePath, 10))).blockingGet();
+	}
+
+	private String write(String basePath, int size) {
+		File file = new File(basePath + ".png");
+		file.getParentFile().mkdirs();
+		try {
+			Files.write(file.toPath(), new byte[size]);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return file.getPath();
+	}
+}
@@ -0,0 +1,127 @@
+package com.gentics.mesh.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.reactivex.Flowable;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.reactivex.core.Vertx;
+
+public class LocalBinaryCacheTest {
+
+	private static Vertx vertx = Vertx.vertx();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@AfterClass
+	public static void closeVertx() {
+		vertx.close();
+	}
+
+	@Test
+	public void testLoad() throws Exception {
+		LocalBinaryCache cache = new LocalBinaryCache(folder.getRoot(), 100, vertx);
+		assertNull(cache.getPath("a"));
+
+		AtomicInteger loads = new AtomicInteger();
+		Flowable<Buffer> loader = data(10).doOnSubscribe(s -> loads.incrementAndGet());
+		String path = cache.load("a", loader).blockingGet();
+		assertEquals(10, Files.size(Paths.get(path)));
+		assertEquals(path, cache.getPath("a"));
+		assertEquals(10, cache.getSize());
+
+		// The cached file is used for further loads
+		cache.load("a", loader).blockingGet();
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void testEviction() throws Exception {
+		LocalBinaryCache cache = new LocalBinaryCache(folder.getRoot(), 100, vertx, 500);
+		String pathA = cache.load("a", data(40)).blockingGet();
+		String pathB = cache.load("b", data(40)).blockingGet();
+		// Access a, so that b is the least recently used entry
+		assertNotNull(cache.getPath("a"));
+		cache.load("c", data(40)).blockingGet();
+
+		assertNull("The least recently used entry should have been evicted", cache.getPath("b"));
+		assertTrue("The file of the evicted entry should remain readable until the delay has passed", new File(pathB).exists());
+		assertEquals(pathA, cache.getPath("a"));
+		assertNotNull(cache.getPath("c"));
+		assertEquals(80, cache.getSize());
+
+		assertDeleted(pathB);
+	}
+
+	@Test
+	public void testReloadAfterEviction() throws Exception {
+		LocalBinaryCache cache = new LocalBinaryCache(folder.getRoot(), 50, vertx, 200);
+		String oldPath = cache.load("a", data(40)).blockingGet();
+		cache.load("b", data(40)).blockingGet();
+		assertNull(cache.getPath("a"));
+
+		// The reloaded binary is written to a new file, which is not affected by the pending deletion of the old one
+		String newPath = cache.load("a", data(40)).blockingGet();
+		assertNotEquals(oldPath, newPath);
+		assertDeleted(oldPath);
+		assertTrue(new File(newPath).exists());
+		assertEquals(newPath, cache.getPath("a"));
+	}
+
+	@Test
+	public void testInvalidate() {
+		LocalBinaryCache cache = new LocalBinaryCache(folder.getRoot(), 100, vertx);
+		String path = cache.load("a", data(10)).blockingGet();
+		cache.invalidate("a").blockingAwait();
+		assertNull(cache.getPath("a"));
+		assertFalse(new File(path).exists());
+		assertEquals(0, cache.getSize());
+	}
+
+	@Test
+	public void testExistingFiles() {
+		new LocalBinaryCache(folder.getRoot(), 100, vertx).load("a", data(10)).blockingGet();
+		LocalBinaryCache cache = new LocalBinaryCache(folder.getRoot(), 100, vertx);
+		assertNotNull(cache.getPath("a"));
+		assertEquals(10, cache.getSize());
+	}
+
+	@Test
+	public void testFailedLoad() {
+		LocalBinaryCache cache = new LocalBinaryCache(folder.getRoot(), 100, vertx);
+		Flowable<Buffer> loader = data(10).concatWith(Flowable.error(new RuntimeException("Connection lost")));
+		assertEquals("failed", cache.load("a", loader).onErrorReturnItem("failed").blockingGet());
+		assertNull(cache.getPath("a"));
+		assertEquals(0, folder.getRoot().listFiles().length);
+	}
+
+	private void assertDeleted(String path) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (new File(path).exists()) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("The file {" + path + "} was not deleted.");
+			}
+			Thread.sleep(50);
+		}
+	}
+
+	private Flowable<Buffer> data(int size) {
+		return Flowable.just(Buffer.buffer(new byte[size]));
+	}
+}
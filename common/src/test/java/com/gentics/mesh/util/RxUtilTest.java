@@ -0,0 +1,39 @@
+package com.gentics.mesh.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.vertx.core.buffer.Buffer;
+
+public class RxUtilTest {
+
+	private static final Flowable<Buffer> STREAM = Flowable.just("0123", "4567", "89").map(Buffer::buffer);
+
+	@Test
+	public void testSlice() {
+		assertEquals("0123456789", slice(0, 10));
+		assertEquals("2345", slice(2, 4));
+		assertEquals("4567", slice(4, 4));
+		assertEquals("9", slice(9, 1));
+		assertEquals("89", slice(8, 100));
+		assertEquals("", slice(10, 5));
+	}
+
+	@Test
+	public void testSliceCancelsStream() {
+		Flowable<Buffer> infinite = Flowable.generate(sub -> sub.onNext(Buffer.buffer("ab")));
+		assertEquals("babab", RxUtil.slice(infinite, 1, 5)
+			.reduce(Buffer.buffer(), Buffer::appendBuffer)
+			.blockingGet()
+			.toString());
+	}
+
+	private String slice(long offset, long length) {
+		return RxUtil.slice(STREAM, offset, length)
+			.reduce(Buffer.buffer(), Buffer::appendBuffer)
+			.blockingGet()
+			.toString();
+	}
+}
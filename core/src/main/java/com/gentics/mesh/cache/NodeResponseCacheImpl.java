@@ -0,0 +1,234 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_ROLE_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_USER_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_TAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNTAGGED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_PERMISSIONS_CHANGED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.TAG_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+import static com.gentics.mesh.metric.SimpleMetric.NODE_RESPONSE_CACHE_HIT;
+import static com.gentics.mesh.metric.SimpleMetric.NODE_RESPONSE_CACHE_MISS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.NodeParameters;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for rendered node responses.
+ *
+ * <p>The etag of a node covers the content, the permissions of the user on the node, the parents and the requested parameters, thus changes of the node
+ * itself yield a new key. Responses with resolved links may depend on other nodes and are invalidated on every node event. Permission, schema,
+ * project and tag changes clear the whole cache since they may change the rendered response without changing the etag.</p>
+ */
+@Singleton
+public class NodeResponseCacheImpl extends AbstractMeshCache<String, String> implements NodeResponseCache {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeResponseCacheImpl.class);
+
+	private static final MeshEvent NODE_EVENTS[] = {
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED,
+		NODE_TAGGED,
+		NODE_UNTAGGED };
+
+	private static final MeshEvent CLEAR_EVENTS[] = {
+		CLEAR_PATH_STORE,
+		CLEAR_PERMISSION_STORE,
+		ROLE_PERMISSIONS_CHANGED,
+		ROLE_DELETED,
+		GROUP_ROLE_ASSIGNED,
+		GROUP_ROLE_UNASSIGNED,
+		GROUP_USER_ASSIGNED,
+		GROUP_USER_UNASSIGNED,
+		USER_UPDATED,
+		SCHEMA_UPDATED,
+		MICROSCHEMA_UPDATED,
+		SCHEMA_MIGRATION_FINISHED,
+		BRANCH_MIGRATION_FINISHED,
+		BRANCH_UPDATED,
+		PROJECT_UPDATED,
+		PROJECT_DELETED,
+		TAG_UPDATED,
+		TAG_DELETED };
+
+	private static final Set<String> NODE_EVENT_ADDRESSES = Arrays.stream(NODE_EVENTS).map(e -> e.address).collect(Collectors.toSet());
+
+	/**
+	 * Pseudo uuid which is used to reference responses that contain resolved links to other nodes.
+	 */
+	private static final String LINKED = "*";
+
+	/**
+	 * Amount of nodes on which a cached response depends. This is the rendered node and optionally the pseudo uuid for resolved links.
+	 */
+	private static final int REFERENCES_PER_RESPONSE = 2;
+
+	private final DependencyIndex index;
+
+	private final MeterRegistry registry;
+
+	private final Map<String, Counter> hitCounters = new ConcurrentHashMap<>();
+
+	private final Map<String, Counter> missCounters = new ConcurrentHashMap<>();
+
+	@Inject
+	public NodeResponseCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, MetricsService metrics) {
+		this(factory, registry, options.getCacheConfig().getNodeResponseCacheSize(),
+			new DependencyIndex(options.getCacheConfig().getNodeResponseCacheSize(), REFERENCES_PER_RESPONSE), metrics);
+	}
+
+	private NodeResponseCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, long maxSize, DependencyIndex index,
+		MetricsService metrics) {
+		super(createCache(factory, maxSize, index), registry, maxSize);
+		this.index = index;
+		this.registry = metrics.getMetricRegistry();
+	}
+
+	private static EventAwareCache<String, String> createCache(EventAwareCacheFactory factory, long maxSize, DependencyIndex index) {
+		MeshEvent[] events = Arrays.copyOf(NODE_EVENTS, NODE_EVENTS.length + CLEAR_EVENTS.length);
+		System.arraycopy(CLEAR_EVENTS, 0, events, NODE_EVENTS.length, CLEAR_EVENTS.length);
+		return factory.<String, String>builder()
+			.events(events)
+			.action((event, cache) -> {
+				String uuid = getNodeUuid(event.address(), event.body());
+				if (uuid != null && NODE_EVENT_ADDRESSES.contains(event.address())) {
+					invalidate(cache, index.remove(uuid));
+					invalidate(cache, index.remove(LINKED));
+				} else {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing node response cache due to received event from {" + event.address() + "}");
+					}
+					index.clear();
+					cache.invalidate();
+				}
+			})
+			.name("node_response")
+			.maxSize(maxSize)
+			.build();
+	}
+
+	/**
+	 * Return the uuid of the node which is referenced by the node event.
+	 *
+	 * @param address
+	 * @param body
+	 * @return Uuid or null if the event does not reference a node
+	 */
+	private static String getNodeUuid(String address, JsonObject body) {
+		if (body == null) {
+			return null;
+		}
+		// The tagging events reference both the node and the tag
+		if (NODE_TAGGED.address.equals(address) || NODE_UNTAGGED.address.equals(address)) {
+			JsonObject node = body.getJsonObject("node");
+			return node == null ? null : node.getString("uuid");
+		}
+		return body.getString("uuid");
+	}
+
+	private static void invalidate(EventAwareCache<String, String> cache, Set<String> keys) {
+		if (keys != null) {
+			keys.forEach(cache::invalidate);
+		}
+	}
+
+	@Override
+	public String getResponse(InternalActionContext ac, String endpoint, String nodeUuid, String etag, Supplier<String> renderer) {
+		if (isDisabled() || !isCacheable(ac)) {
+			return renderer.get();
+		}
+		String key = createCacheKey(ac, endpoint, etag);
+		String response = cache.get(key);
+		if (response != null) {
+			hitCounters.computeIfAbsent(endpoint, e -> registry.counter(NODE_RESPONSE_CACHE_HIT.key(), "endpoint", e)).increment();
+			return response;
+		}
+		missCounters.computeIfAbsent(endpoint, e -> registry.counter(NODE_RESPONSE_CACHE_MISS.key(), "endpoint", e)).increment();
+		response = renderer.get();
+
+		List<String> dependencies = new ArrayList<>(REFERENCES_PER_RESPONSE);
+		dependencies.add(nodeUuid);
+		if (ac.getNodeParameters().getResolveLinks() != LinkType.OFF) {
+			dependencies.add(LINKED);
+		}
+		index.add(key, dependencies);
+		cache.put(key, response);
+		index.stored(key, cache);
+		return response;
+	}
+
+	@Override
+	public void clear() {
+		index.clear();
+		super.clear();
+	}
+
+	/**
+	 * Expanded node fields contain the content of other nodes which is not covered by the etag. Those responses are not cached.
+	 *
+	 * @param ac
+	 * @return
+	 */
+	private boolean isCacheable(InternalActionContext ac) {
+		NodeParameters parameters = ac.getNodeParameters();
+		return !parameters.getExpandAll() && parameters.getExpandedFieldNames().length == 0;
+	}
+
+	private String createCacheKey(InternalActionContext ac, String endpoint, String etag) {
+		StringBuilder key = new StringBuilder(endpoint).append("-").append(etag).append("-").append(ac.getUser().getRolesHash());
+		String query = ac.query();
+		if (query != null) {
+			key.append("-").append(query);
+		}
+		return key.toString();
+	}
+
+}
@@ -2,93 +2,149 @@ package com.gentics.mesh.cache;
 
 import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
 
-import java.time.temporal.ChronoUnit;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.perm.InternalPermission;
+import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU permission cache which is used to quickly lookup cached permissions.
+ *
+ * <p>The cache is keyed by the numeric key of the element. Each entry stores a bitset of granted and denied permissions per user. Permission changes only
+ * invalidate the affected element or user. Invalidations within a transaction are repeated once the transaction has been committed, since concurrent
+ * permission checks may have cached results of the previous state in the meantime. Invalidating a user only records the generation of the invalidation.
+ * Cached results of the user which were checked before are outdated and dropped when they are read. The clear event which is sent to other instances in
+ * the cluster contains the keys of the affected elements or users. An event without a body will clear the whole cache.</p>
  */
 @Singleton
-public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> implements PermissionCache {
+public class PermissionCacheImpl extends AbstractMeshCache<Long, ElementPermissions> implements PermissionCache {
 
 	private static final Logger log = LoggerFactory.getLogger(PermissionCacheImpl.class);
 
+	private static final String ORIGIN_KEY = "origin";
+
+	private static final String ELEMENTS_KEY = "elements";
+
+	private static final String USERS_KEY = "users";
+
+	private static final long CACHE_SIZE = 100_000;
+
+	private static final Duration EXPIRE_AFTER = Duration.ofMinutes(30);
+
 	private final Vertx vertx;
 
 	private final MeshOptions options;
 
-	private static final long CACHE_SIZE = 100_000;
+	private final PermissionTable table;
+
+	/**
+	 * Counter which is incremented on every invalidation.
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * Key of the user -> generation of the last invalidation of the user.
+	 */
+	private final Map<Long, Long> userInvalidations = new ConcurrentHashMap<>();
 
 	@Inject
-	public PermissionCacheImpl(EventAwareCacheFactory factory, Vertx vertx, CacheRegistry registry, MeshOptions options) {
-		super(createCache(factory), registry, CACHE_SIZE);
+	public PermissionCacheImpl(Vertx vertx, CacheRegistry registry, MeshOptions options, MetricsService metricsService) {
+		this(new PermissionTable("permission", CACHE_SIZE, EXPIRE_AFTER, options, metricsService), vertx, registry, options);
+	}
+
+	private PermissionCacheImpl(PermissionTable table, Vertx vertx, CacheRegistry registry, MeshOptions options) {
+		super(table, registry, CACHE_SIZE);
+		this.table = table;
 		this.vertx = vertx;
 		this.options = options;
+		vertx.eventBus().<JsonObject>consumer(CLEAR_PERMISSION_STORE.address, this::handleClearEvent);
 	}
 
-	private static EventAwareCache<String, Boolean> createCache(EventAwareCacheFactory factory) {
-		return factory.<String, Boolean>builder()
-			.events(CLEAR_PERMISSION_STORE)
-			.action((event, cache) -> {
-				if (log.isDebugEnabled()) {
-					log.debug("Clearing permission store due to received event from {" + event.address() + "}");
-				}
-				cache.invalidate();
-			})
-			.expireAfter(30, ChronoUnit.MINUTES)
-			.maxSize(CACHE_SIZE)
-			.name("permission")
-			.build();
+	private void handleClearEvent(Message<JsonObject> event) {
+		JsonObject body = event.body();
+		if (body == null) {
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing permission store due to received event from {" + event.address() + "}");
+			}
+			generation.incrementAndGet();
+			table.invalidate();
+			userInvalidations.clear();
+			return;
+		}
+		// The local cache has already been invalidated
+		if (options.getNodeName().equals(body.getString(ORIGIN_KEY))) {
+			return;
+		}
+		long[] elementIds = toArray(body.getJsonArray(ELEMENTS_KEY));
+		long[] userIds = toArray(body.getJsonArray(USERS_KEY));
+		if (log.isDebugEnabled()) {
+			log.debug("Invalidating permissions of {" + elementIds.length + "} elements and {" + userIds.length + "} users");
+		}
+		long invalidated = generation.incrementAndGet();
+		for (long elementId : elementIds) {
+			table.invalidate(elementId);
+		}
+		markInvalidated(userIds, invalidated);
 	}
 
-	/**
-	 * Check whether the granting user permission was stored in the cache.
-	 * 
-	 * @param userId
-	 *            Vertex id of the user
-	 * @param permission
-	 *            Permission to check against
-	 * @param elementId
-	 *            Vertex id of the element to which permissions should be checked
-	 * @return true, if a granting permission was found or false if the permission could not be found in the cache
-	 */
-	public boolean hasPermission(Object userId, InternalPermission permission, Object elementId) {
-		String key = createCacheKey(userId, permission, elementId);
-		Boolean cachedPerm = cache.get(key);
-		return cachedPerm != null && cachedPerm;
+	private static long[] toArray(JsonArray array) {
+		if (array == null) {
+			return new long[0];
+		}
+		long[] ids = new long[array.size()];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = array.getLong(i);
+		}
+		return ids;
 	}
 
 	/**
-	 * Create the cache key.
-	 * 
+	 * Return the cached permission of the user on the element.
+	 *
 	 * @param userId
+	 *            Key of the user
 	 * @param permission
+	 *            Permission to check against
 	 * @param elementId
-	 * @return
+	 *            Key of the element to which permissions should be checked
+	 * @return {@link Boolean#TRUE} if a granting permission was found, {@link Boolean#FALSE} if a denial was found or null if the permission could not be
+	 *         found in the cache
 	 */
-	private String createCacheKey(Object userId, InternalPermission permission, Object elementId) {
-		return userId + "-" + permission.ordinal() + "-" + elementId;
+	@Override
+	public Boolean getPermission(long userId, InternalPermission permission, long elementId) {
+		if (isDisabled() || elementId == NO_KEY) {
+			return null;
+		}
+		ElementPermissions permissions = table.get(elementId);
+		return permissions == null ? null : permissions.get(userId, permission, validFrom(userId));
 	}
 
 	/**
 	 * Invalidate the LRU cache and optionally notify other instances in the cluster.
-	 * 
+	 *
 	 * @param notify Whether to publish an event to inform other nodes in the cluster
 	 */
 	@Override
 	public void clear(boolean notify) {
 		// Invalidate locally
-		cache.invalidate();
+		generation.incrementAndGet();
+		table.invalidate();
+		userInvalidations.clear();
 		if (notify && options.getClusterOptions().isEnabled()) {
 			// Send the event to inform other to purge the stored permissions
 			vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, null);
@@ -104,17 +160,113 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 		clear(true);
 	}
 
+	@Override
+	public void invalidateElement(long elementId) {
+		if (elementId == NO_KEY) {
+			return;
+		}
+		generation.incrementAndGet();
+		table.invalidate(elementId);
+		afterCommit(() -> {
+			generation.incrementAndGet();
+			table.invalidate(elementId);
+			publishInvalidation(ELEMENTS_KEY, elementId);
+		});
+	}
+
+	@Override
+	public void invalidateUsers(long... userIds) {
+		if (userIds.length == 0) {
+			return;
+		}
+		long[] ids = userIds.clone();
+		markInvalidated(ids, generation.incrementAndGet());
+		afterCommit(() -> {
+			markInvalidated(ids, generation.incrementAndGet());
+			publishInvalidation(USERS_KEY, ids);
+		});
+	}
+
+	/**
+	 * Record the invalidation of the users. Their results which were checked before the given generation will no longer be returned.
+	 *
+	 * @param userIds
+	 * @param invalidated
+	 *            Generation of the invalidation
+	 */
+	private void markInvalidated(long[] userIds, long invalidated) {
+		for (long userId : userIds) {
+			userInvalidations.merge(userId, invalidated, Math::max);
+		}
+	}
+
+	private long validFrom(long userId) {
+		if (userInvalidations.isEmpty()) {
+			return 0;
+		}
+		Long invalidated = userInvalidations.get(userId);
+		return invalidated == null ? 0 : invalidated;
+	}
+
 	/**
-	 * Store a granting permission in the cache.
-	 * 
+	 * Invoke the action once the current transaction has been committed or immediately if no transaction is active. Permission checks of other
+	 * transactions read the committed state, so results which they cache before the commit may already be outdated.
+	 *
+	 * @param action
+	 */
+	private void afterCommit(Runnable action) {
+		Tx tx = Tx.get();
+		if (tx != null) {
+			tx.afterCommit(action);
+		} else {
+			action.run();
+		}
+	}
+
+	private void publishInvalidation(String key, long... ids) {
+		if (options.getClusterOptions().isEnabled()) {
+			JsonArray array = new JsonArray();
+			for (long id : ids) {
+				array.add(id);
+			}
+			JsonObject event = new JsonObject()
+				.put(ORIGIN_KEY, options.getNodeName())
+				.put(key, array);
+			vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, event);
+		}
+	}
+
+	@Override
+	public long generation() {
+		return generation.get();
+	}
+
+	/**
+	 * Store the result of a permission check in the cache.
+	 *
 	 * @param userId
-	 *            User which currently has roles which grant him the permission on the element
+	 *            Key of the user which currently has roles which grant or deny him the permission on the element
 	 * @param permission
-	 *            Permission which is granted
+	 *            Permission which was checked
 	 * @param elementId
-	 *            Id of the element to which a permission is granted
+	 *            Key of the element to which the permission was checked
+	 * @param granted
+	 *            Whether the permission is granted
+	 * @param checkedGeneration
+	 *            Generation of the cache before the permission was checked
 	 */
-	public void store(Object userId, InternalPermission permission, Object elementId) {
-		cache.put(createCacheKey(userId, permission, elementId), true);
+	@Override
+	public void store(long userId, InternalPermission permission, long elementId, boolean granted, long checkedGeneration) {
+		if (isDisabled() || elementId == NO_KEY || userId == NO_KEY) {
+			return;
+		}
+		ElementPermissions permissions = table.getOrCreate(elementId);
+		if (permissions != null) {
+			permissions.put(userId, permission, granted, checkedGeneration, validFrom(userId));
+			// The check may have read the state before a concurrent change. The invalidation may have happened before the result was stored.
+			if (generation.get() != checkedGeneration) {
+				permissions.remove(userId);
+			}
+		}
 	}
 }
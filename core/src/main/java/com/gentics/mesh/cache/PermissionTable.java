@@ -0,0 +1,371 @@
+package com.gentics.mesh.cache;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.CachingMetric;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * Bounded table of the cached {@link ElementPermissions} which is keyed by primitive element keys.
+ *
+ * <p>The table is split into segments. Each segment is an open addressing hash table with linear probing which stores the keys in a plain
+ * <code>long[]</code>, so lookups neither box the key nor allocate. Once a segment is full, an entry is evicted using the CLOCK algorithm, which
+ * approximates LRU: every access marks the entry and the eviction hand skips (and unmarks) marked entries. Entries expire after the configured duration
+ * since they have been created.</p>
+ */
+public class PermissionTable implements EventAwareCache<Long, ElementPermissions> {
+
+	private static final int SEGMENTS = 32;
+
+	private final Segment[] segments = new Segment[SEGMENTS];
+
+	private final long origin = System.nanoTime();
+
+	private final int expireAfterSeconds;
+
+	private final MeshOptions options;
+
+	private final Counter invalidateKeyCounter;
+	private final Counter invalidateAllCounter;
+	private final Counter missCounter;
+	private final Counter hitCounter;
+
+	private volatile boolean disabled = false;
+
+	/**
+	 * Create a new table.
+	 *
+	 * @param name
+	 *            Name of the cache, which is used for the caching metrics
+	 * @param maxSize
+	 *            Maximum amount of elements
+	 * @param expireAfter
+	 *            Duration after which an entry expires
+	 * @param options
+	 * @param metricsService
+	 */
+	public PermissionTable(String name, long maxSize, Duration expireAfter, MeshOptions options, MetricsService metricsService) {
+		this.expireAfterSeconds = (int) Math.min(Integer.MAX_VALUE, expireAfter.getSeconds());
+		this.options = options;
+		int entriesPerSegment = (int) Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS);
+		for (int i = 0; i < SEGMENTS; i++) {
+			segments[i] = new Segment(entriesPerSegment);
+		}
+		invalidateKeyCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.CLEAR_SINGLE, name));
+		invalidateAllCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.CLEAR_ALL, name));
+		missCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.MISS, name));
+		hitCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.HIT, name));
+	}
+
+	/**
+	 * Return the cached permissions of the element.
+	 *
+	 * @param key
+	 *            Element key
+	 * @return Permissions or null if the element is not cached
+	 */
+	public ElementPermissions get(long key) {
+		if (disabled) {
+			return null;
+		}
+		ElementPermissions permissions = segment(key).get(key, now());
+		if (options.getMonitoringOptions().isEnabled()) {
+			if (permissions == null) {
+				missCounter.increment();
+			} else {
+				hitCounter.increment();
+			}
+		}
+		return permissions;
+	}
+
+	/**
+	 * Return the cached permissions of the element or add empty permissions for the element.
+	 *
+	 * @param key
+	 *            Element key
+	 * @return Permissions or null if the table is disabled
+	 */
+	public ElementPermissions getOrCreate(long key) {
+		if (disabled) {
+			return null;
+		}
+		return segment(key).getOrCreate(key, now(), null);
+	}
+
+	/**
+	 * Remove the element from the table.
+	 *
+	 * @param key
+	 *            Element key
+	 */
+	public void invalidate(long key) {
+		if (options.getMonitoringOptions().isEnabled()) {
+			invalidateKeyCounter.increment();
+		}
+		segment(key).remove(key);
+	}
+
+	@Override
+	public void invalidate() {
+		if (options.getMonitoringOptions().isEnabled()) {
+			invalidateAllCounter.increment();
+		}
+		for (Segment segment : segments) {
+			segment.clear();
+		}
+	}
+
+	@Override
+	public void invalidate(Long key) {
+		invalidate(key.longValue());
+	}
+
+	@Override
+	public void put(Long key, ElementPermissions value) {
+		if (disabled) {
+			return;
+		}
+		segment(key).put(key, value, now());
+	}
+
+	@Override
+	public ElementPermissions get(Long key) {
+		return get(key.longValue());
+	}
+
+	@Override
+	public ElementPermissions get(Long key, Function<? super Long, ? extends ElementPermissions> mappingFunction) {
+		if (disabled) {
+			return mappingFunction.apply(key);
+		}
+		return segment(key).getOrCreate(key, now(), mappingFunction);
+	}
+
+	/**
+	 * Invoke the action for all entries. The action may modify the table.
+	 */
+	@Override
+	public void forEach(BiConsumer<? super Long, ? super ElementPermissions> action) {
+		for (Segment segment : segments) {
+			segment.forEach(action);
+		}
+	}
+
+	@Override
+	public void disable() {
+		disabled = true;
+	}
+
+	@Override
+	public void enable() {
+		disabled = false;
+	}
+
+	@Override
+	public long size() {
+		long size = 0;
+		for (Segment segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	private Segment segment(long key) {
+		return segments[(int) (hash(key) >>> 59) & (SEGMENTS - 1)];
+	}
+
+	private int now() {
+		return (int) ((System.nanoTime() - origin) / 1_000_000_000L);
+	}
+
+	private static long hash(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return h ^ (h >>> 32);
+	}
+
+	private final class Segment {
+
+		private final int maxEntries;
+
+		private final int mask;
+
+		private final long[] keys;
+
+		private final ElementPermissions[] values;
+
+		private final int[] createdAt;
+
+		private final boolean[] referenced;
+
+		private int size = 0;
+
+		private int hand = 0;
+
+		Segment(int maxEntries) {
+			this.maxEntries = maxEntries;
+			// Keep the load factor below 0.75
+			int capacity = Integer.highestOneBit(Math.max(2, maxEntries * 4 / 3 + 1) - 1) << 1;
+			this.mask = capacity - 1;
+			this.keys = new long[capacity];
+			this.values = new ElementPermissions[capacity];
+			this.createdAt = new int[capacity];
+			this.referenced = new boolean[capacity];
+		}
+
+		synchronized ElementPermissions get(long key, int now) {
+			int slot = find(key);
+			if (slot < 0) {
+				return null;
+			}
+			if (isExpired(slot, now)) {
+				removeAt(slot);
+				return null;
+			}
+			referenced[slot] = true;
+			return values[slot];
+		}
+
+		synchronized ElementPermissions getOrCreate(long key, int now, Function<? super Long, ? extends ElementPermissions> mappingFunction) {
+			ElementPermissions permissions = get(key, now);
+			if (permissions != null) {
+				return permissions;
+			}
+			permissions = mappingFunction == null ? new ElementPermissions() : mappingFunction.apply(key);
+			if (permissions != null) {
+				put(key, permissions, now);
+			}
+			return permissions;
+		}
+
+		synchronized void put(long key, ElementPermissions value, int now) {
+			int slot = find(key);
+			if (slot < 0) {
+				if (size >= maxEntries) {
+					evict(now);
+				}
+				slot = slotOf(key);
+				while (values[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = key;
+				size++;
+			}
+			values[slot] = value;
+			createdAt[slot] = now;
+			referenced[slot] = false;
+		}
+
+		synchronized void remove(long key) {
+			int slot = find(key);
+			if (slot >= 0) {
+				removeAt(slot);
+			}
+		}
+
+		synchronized void clear() {
+			for (int i = 0; i < values.length; i++) {
+				values[i] = null;
+				referenced[i] = false;
+			}
+			size = 0;
+		}
+
+		synchronized int size() {
+			return size;
+		}
+
+		void forEach(BiConsumer<? super Long, ? super ElementPermissions> action) {
+			long[] entryKeys;
+			ElementPermissions[] entryValues;
+			// Copy the entries, so that the action can modify the segment
+			synchronized (this) {
+				entryKeys = new long[size];
+				entryValues = new ElementPermissions[size];
+				int n = 0;
+				for (int i = 0; i < values.length; i++) {
+					if (values[i] != null) {
+						entryKeys[n] = keys[i];
+						entryValues[n] = values[i];
+						n++;
+					}
+				}
+			}
+			for (int i = 0; i < entryKeys.length; i++) {
+				action.accept(entryKeys[i], entryValues[i]);
+			}
+		}
+
+		private int find(long key) {
+			int slot = slotOf(key);
+			while (values[slot] != null) {
+				if (keys[slot] == key) {
+					return slot;
+				}
+				slot = (slot + 1) & mask;
+			}
+			return -1;
+		}
+
+		private int slotOf(long key) {
+			return (int) hash(key) & mask;
+		}
+
+		private boolean isExpired(int slot, int now) {
+			return now - createdAt[slot] >= expireAfterSeconds;
+		}
+
+		/**
+		 * Evict a single entry. Expired entries and entries which have not been accessed since the hand passed them the last time are evicted.
+		 *
+		 * @param now
+		 */
+		private void evict(int now) {
+			while (true) {
+				hand = (hand + 1) & mask;
+				if (values[hand] == null) {
+					continue;
+				}
+				if (!referenced[hand] || isExpired(hand, now)) {
+					removeAt(hand);
+					return;
+				}
+				referenced[hand] = false;
+			}
+		}
+
+		/**
+		 * Remove the entry and shift the following entries of the probe sequence back into the gap.
+		 *
+		 * @param slot
+		 */
+		private void removeAt(int slot) {
+			size--;
+			int gap = slot;
+			int i = slot;
+			while (true) {
+				i = (i + 1) & mask;
+				if (values[i] == null) {
+					break;
+				}
+				int home = slotOf(keys[i]);
+				// The entry can be moved if the gap lies between its home slot and its current slot
+				if (((i - home) & mask) >= ((i - gap) & mask)) {
+					keys[gap] = keys[i];
+					values[gap] = values[i];
+					createdAt[gap] = createdAt[i];
+					referenced[gap] = referenced[i];
+					gap = i;
+				}
+			}
+			values[gap] = null;
+			referenced[gap] = false;
+		}
+	}
+
+}
@@ -0,0 +1,170 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_LATEST_BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.link.ResolvedLink;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for resolved mesh links.
+ *
+ * <p>Every cached link references the uuids of the linked node and of its parents. Node events only invalidate the links which reference the node of the
+ * event, thus a change of a node invalidates the links to the node and to all nodes of its subtree. All other events clear the whole cache.</p>
+ *
+ * <p>Every invalidation increments the generation of the cache. Links which were resolved while an invalidation took place are not stored, since they may
+ * have been resolved from the state before the change.</p>
+ */
+@Singleton
+public class WebRootLinkCacheImpl extends AbstractMeshCache<String, ResolvedLink> implements WebRootLinkCache {
+
+	private static final Logger log = LoggerFactory.getLogger(WebRootLinkCacheImpl.class);
+
+	private static final MeshEvent NODE_EVENTS[] = {
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED };
+
+	private static final MeshEvent CLEAR_EVENTS[] = {
+		CLEAR_PATH_STORE,
+		SCHEMA_MIGRATION_FINISHED,
+		BRANCH_MIGRATION_FINISHED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED,
+		PROJECT_UPDATED,
+		PROJECT_DELETED,
+		PROJECT_LATEST_BRANCH_UPDATED };
+
+	private static final Set<String> NODE_EVENT_ADDRESSES = Arrays.stream(NODE_EVENTS).map(e -> e.address).collect(Collectors.toSet());
+
+	/**
+	 * Expected average amount of nodes on which a cached link depends.
+	 */
+	private static final int REFERENCES_PER_LINK = 16;
+
+	private final DependencyIndex index;
+
+	private final AtomicLong generation;
+
+	@Inject
+	public WebRootLinkCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		this(factory, registry, options.getCacheConfig().getLinkCacheSize(),
+			new DependencyIndex(options.getCacheConfig().getLinkCacheSize(), REFERENCES_PER_LINK), new AtomicLong());
+	}
+
+	private WebRootLinkCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, long maxSize, DependencyIndex index, AtomicLong generation) {
+		super(createCache(factory, maxSize, index, generation), registry, maxSize);
+		this.index = index;
+		this.generation = generation;
+	}
+
+	private static EventAwareCache<String, ResolvedLink> createCache(EventAwareCacheFactory factory, long maxSize, DependencyIndex index,
+		AtomicLong generation) {
+		MeshEvent[] events = Arrays.copyOf(NODE_EVENTS, NODE_EVENTS.length + CLEAR_EVENTS.length);
+		System.arraycopy(CLEAR_EVENTS, 0, events, NODE_EVENTS.length, CLEAR_EVENTS.length);
+		return factory.<String, ResolvedLink>builder()
+			.events(events)
+			.action((event, cache) -> {
+				// Links which are currently being resolved must not be stored after the invalidation
+				generation.incrementAndGet();
+				JsonObject body = event.body();
+				String uuid = body == null ? null : body.getString("uuid");
+				if (uuid != null && NODE_EVENT_ADDRESSES.contains(event.address())) {
+					Set<String> keys = index.remove(uuid);
+					if (keys != null) {
+						if (log.isDebugEnabled()) {
+							log.debug("Invalidating {" + keys.size() + "} links which depend on node {" + uuid + "}");
+						}
+						keys.forEach(cache::invalidate);
+					}
+				} else {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing link cache due to received event from {" + event.address() + "}");
+					}
+					index.clear();
+					cache.invalidate();
+				}
+			})
+			.name("link")
+			.maxSize(maxSize)
+			.build();
+	}
+
+	@Override
+	public ResolvedLink getLink(String uuid, String branchNameOrUuid, ContainerType type, String... languageTags) {
+		if (isDisabled()) {
+			return null;
+		}
+		return cache.get(createCacheKey(uuid, branchNameOrUuid, type, languageTags));
+	}
+
+	@Override
+	public long generation() {
+		return generation.get();
+	}
+
+	@Override
+	public void store(String uuid, String branchNameOrUuid, ContainerType type, String[] languageTags, ResolvedLink link, long generation) {
+		if (isDisabled()) {
+			return;
+		}
+		if (this.generation.get() != generation) {
+			if (log.isDebugEnabled()) {
+				log.debug("Not caching link to node {" + uuid + "} since the cache was invalidated while the link was resolved");
+			}
+			return;
+		}
+		String key = createCacheKey(uuid, branchNameOrUuid, type, languageTags);
+		index.add(key, link.getNodeUuids());
+		cache.put(key, link);
+		index.stored(key, cache);
+	}
+
+	@Override
+	public void clear() {
+		generation.incrementAndGet();
+		index.clear();
+		super.clear();
+	}
+
+	private String createCacheKey(String uuid, String branchNameOrUuid, ContainerType type, String... languageTags) {
+		StringBuilder key = new StringBuilder(uuid).append("-").append(branchNameOrUuid).append("-").append(type.getCode());
+		for (String languageTag : languageTags) {
+			key.append("-").append(languageTag);
+		}
+		return key.toString();
+	}
+
+}
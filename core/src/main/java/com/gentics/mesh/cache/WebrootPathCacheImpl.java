@@ -10,6 +10,11 @@ import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
 import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -21,48 +26,90 @@ import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.etc.config.CacheConfig;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.path.Path;
+import com.gentics.mesh.path.PathSegment;
 
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU webroot path cache which is used to quickly lookup cached paths.
+ *
+ * <p>Every cached path references the uuids of the nodes which provide its segments. Node events only invalidate the paths which traverse the node of the
+ * event. Paths which could not be fully resolved are invalidated by every node event since any created, moved or renamed node may complete them.</p>
  */
 @Singleton
 public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implements WebrootPathCache {
 
 	private static final Logger log = LoggerFactory.getLogger(WebrootPathCacheImpl.class);
 
-	private static final MeshEvent EVENTS[] = {
-		CLEAR_PATH_STORE,
+	private static final MeshEvent NODE_EVENTS[] = {
 		NODE_UPDATED,
 		NODE_DELETED,
 		NODE_PUBLISHED,
 		NODE_UNPUBLISHED,
 		NODE_MOVED,
 		NODE_CONTENT_CREATED,
-		NODE_CONTENT_DELETED,
+		NODE_CONTENT_DELETED };
+
+	private static final MeshEvent CLEAR_EVENTS[] = {
+		CLEAR_PATH_STORE,
 		SCHEMA_MIGRATION_FINISHED };
 
+	private static final Set<String> NODE_EVENT_ADDRESSES = Arrays.stream(NODE_EVENTS).map(e -> e.address).collect(Collectors.toSet());
+
+	/**
+	 * Pseudo uuid which is used to reference paths that could not be fully resolved.
+	 */
+	private static final String UNRESOLVED = "*";
+
+	/**
+	 * Expected average amount of segments of a cached path.
+	 */
+	private static final int REFERENCES_PER_PATH = 8;
+
+	private final DependencyIndex index;
+
 	@Inject
 	public WebrootPathCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
-		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getPathCacheSize());
+		this(factory, registry, options.getCacheConfig(), new DependencyIndex(options.getCacheConfig().getPathCacheSize(), REFERENCES_PER_PATH));
 	}
 
-	private static EventAwareCache<String, Path> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+	private WebrootPathCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, CacheConfig config, DependencyIndex index) {
+		super(createCache(factory, config, index), registry, config.getPathCacheSize());
+		this.index = index;
+	}
+
+	private static EventAwareCache<String, Path> createCache(EventAwareCacheFactory factory, CacheConfig config, DependencyIndex index) {
+		MeshEvent[] events = Arrays.copyOf(NODE_EVENTS, NODE_EVENTS.length + CLEAR_EVENTS.length);
+		System.arraycopy(CLEAR_EVENTS, 0, events, NODE_EVENTS.length, CLEAR_EVENTS.length);
 		return factory.<String, Path>builder()
-			.events(EVENTS)
+			.events(events)
 			.action((event, cache) -> {
-				if (log.isDebugEnabled()) {
-					log.debug("Clearing path store due to received event from {" + event.address() + "}");
+				JsonObject body = event.body();
+				String uuid = body == null ? null : body.getString("uuid");
+				if (uuid != null && NODE_EVENT_ADDRESSES.contains(event.address())) {
+					invalidate(cache, index.remove(uuid));
+					invalidate(cache, index.remove(UNRESOLVED));
+				} else {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing path store due to received event from {" + event.address() + "}");
+					}
+					index.clear();
+					cache.invalidate();
 				}
-				cache.invalidate();
 			})
 			.name("webroot")
 			.maxSize(config.getPathCacheSize())
 			.build();
 	}
 
+	private static void invalidate(EventAwareCache<String, Path> cache, Set<String> keys) {
+		if (keys != null) {
+			keys.forEach(cache::invalidate);
+		}
+	}
+
 	@Override
 	public Path getPath(HibProject project, HibBranch branch, ContainerType type, String path) {
 		if (isDisabled()) {
@@ -80,7 +127,35 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 		if (isDisabled()) {
 			return;
 		}
-		cache.put(createCacheKey(project, branch, type, path), resolvedPath);
+		String key = createCacheKey(project, branch, type, path);
+		index.add(key, dependencies(resolvedPath));
+		cache.put(key, resolvedPath);
+		index.stored(key, cache);
+	}
+
+	@Override
+	public void clear() {
+		index.clear();
+		super.clear();
+	}
+
+	/**
+	 * Return the uuids of the nodes which provide the segments of the path.
+	 *
+	 * @param path
+	 * @return
+	 */
+	private Set<String> dependencies(Path path) {
+		Set<String> uuids = new HashSet<>();
+		for (PathSegment segment : path.getSegments()) {
+			if (segment.getContainer() != null) {
+				uuids.add(segment.getContainer().getNode().getUuid());
+			}
+		}
+		if (!path.isFullyResolved() || path.getSegments().isEmpty()) {
+			uuids.add(UNRESOLVED);
+		}
+		return uuids;
 	}
 
 	/**
@@ -6,6 +6,7 @@ import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.changelog.highlevel.change.BuildWebrootFullPathIndex;
 import com.gentics.mesh.changelog.highlevel.change.ExtractPlainText;
 import com.gentics.mesh.changelog.highlevel.change.FixNodeVersionOrder;
 import com.gentics.mesh.changelog.highlevel.change.RestructureWebrootIndex;
@@ -30,6 +31,9 @@ public class HighLevelChangesList {
 	@Inject
 	public SetAdminUserFlag setAdminUserFlag;
 
+	@Inject
+	public BuildWebrootFullPathIndex buildWebrootFullPathIndex;
+
 	@Inject
 	public HighLevelChangesList() {
 	}
@@ -39,7 +43,8 @@ public class HighLevelChangesList {
 			restructureWebroot,
 			plainText,
 			fixNodeVersionOrder,
-			setAdminUserFlag
+			setAdminUserFlag,
+			buildWebrootFullPathIndex
 		// ADD NEW CHANGES HERE!
 		);
 	}
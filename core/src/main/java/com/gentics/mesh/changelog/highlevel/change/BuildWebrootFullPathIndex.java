@@ -0,0 +1,49 @@
+package com.gentics.mesh.changelog.highlevel.change;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.changelog.highlevel.AbstractHighLevelChange;
+import com.gentics.mesh.core.data.service.WebRootFullPathUpdater;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Change which materializes the full webroot paths on the draft and published content edges of all branches. The paths are built in the background once
+ * the startup has been completed. Lookups fall back to resolving the path segment by segment until the path of a node has been materialized.
+ */
+@Singleton
+public class BuildWebrootFullPathIndex extends AbstractHighLevelChange {
+
+	private static final Logger log = LoggerFactory.getLogger(BuildWebrootFullPathIndex.class);
+
+	private final WebRootFullPathUpdater fullPathUpdater;
+
+	@Inject
+	public BuildWebrootFullPathIndex(WebRootFullPathUpdater fullPathUpdater) {
+		this.fullPathUpdater = fullPathUpdater;
+	}
+
+	@Override
+	public String getUuid() {
+		return "5B0C9E3A1F7D4E2A8C9E3A1F7D1E2A64";
+	}
+
+	@Override
+	public String getName() {
+		return "Build Webroot Full Path Index";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Materializes the full webroot paths of all draft and published content edges by traversing the node tree of each branch.";
+	}
+
+	@Override
+	public void applyNoTx() {
+		log.info("Applying change: " + getName() + " in the background");
+		fullPathUpdater.rebuildAfterStartup();
+	}
+
+}
@@ -79,6 +79,7 @@ import com.gentics.mesh.core.data.root.impl.MeshRootImpl;
 import com.gentics.mesh.core.data.schema.HibSchema;
 import com.gentics.mesh.core.data.search.IndexHandler;
 import com.gentics.mesh.core.data.service.ServerSchemaStorage;
+import com.gentics.mesh.core.data.service.WebRootFullPathUpdater;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.admin.LocalConfigApi;
@@ -101,6 +102,7 @@ import com.gentics.mesh.etc.config.DebugInfoOptions;
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.MonitoringConfig;
+import com.gentics.mesh.event.EventEnvelope;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.plugin.manager.MeshPluginManager;
 import com.gentics.mesh.router.RouterStorageRegistryImpl;
@@ -195,6 +197,9 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 	@Inject
 	public DaoCollection daoCollection;
 
+	@Inject
+	public WebRootFullPathUpdater webRootFullPathUpdater;
+
 	private MeshRoot meshRoot;
 
 	// TODO: Changing the role name or deleting the role would cause code that utilizes this field to break.
@@ -360,6 +365,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 
 		eventManager.registerHandlers();
 		handleLocalData(forceIndexSync, options, verticleLoader);
+		webRootFullPathUpdater.resumeAfterStartup();
 
 		// Load existing plugins
 		pluginManager.start();
@@ -513,6 +519,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 			log.info("Creating non-clustered Vert.x instance");
 			vertx = Vertx.vertx(vertxOptions);
 		}
+		EventEnvelope.register(vertx, options.getNodeName());
 		if (vertx.isNativeTransportEnabled()) {
 			log.info("Running with native transports enabled");
 		} else {
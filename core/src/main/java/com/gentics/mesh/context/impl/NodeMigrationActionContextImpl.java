@@ -1,11 +1,11 @@
 package com.gentics.mesh.context.impl;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.gentics.mesh.context.AbstractInternalActionContext;
 import com.gentics.mesh.context.NodeMigrationActionContext;
@@ -30,7 +30,7 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 
 	private Map<String, Object> data;
 
-	private Set<ConflictWarning> conflicts = new HashSet<>();
+	private Set<ConflictWarning> conflicts = ConcurrentHashMap.newKeySet();
 
 	private MultiMap parameters = MultiMap.caseInsensitiveMultiMap();
 
@@ -267,6 +267,26 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 		Objects.requireNonNull(toContainerVersion, "The target schema reference is missing in the context.");
 	}
 
+	@Override
+	public NodeMigrationActionContext copy() {
+		NodeMigrationActionContextImpl copy = new NodeMigrationActionContextImpl();
+		// Conflicts are shared so that all encountered conflicts are reported by the original context
+		copy.conflicts = conflicts;
+		copy.body = body;
+		copy.query = query;
+		copy.project = project;
+		copy.branch = branch;
+		copy.cause = cause;
+		copy.fromContainerVersion = fromContainerVersion;
+		copy.toContainerVersion = toContainerVersion;
+		copy.status = status;
+		copy.parameters.addAll(parameters);
+		if (data != null) {
+			copy.data().putAll(data);
+		}
+		return copy;
+	}
+
 	@Override
 	public boolean isPurgeAllowed() {
 		// The purge operation is not allowed during schema migrations. Instead the purge will be executed after containers have been migrated.
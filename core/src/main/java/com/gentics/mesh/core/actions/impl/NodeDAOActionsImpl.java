@@ -1,5 +1,9 @@
 package com.gentics.mesh.core.actions.impl;
 
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+import java.util.List;
 import java.util.function.Predicate;
 
 import javax.inject.Inject;
@@ -9,14 +13,21 @@ import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.action.DAOActionContext;
 import com.gentics.mesh.core.action.NodeDAOActions;
+import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.dao.NodeDaoWrapper;
 import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.perm.InternalPermission;
+import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.core.rest.schema.SchemaModel;
+import com.gentics.mesh.core.verticle.handler.WriteLockScope;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.parameter.PagingParameters;
 
@@ -94,4 +105,68 @@ public class NodeDAOActionsImpl implements NodeDAOActions {
 		return nodeDao.getETag(node, ac);
 	}
 
+	@Override
+	public WriteLockScope writeLockScope(Tx tx, InternalActionContext ac, String uuid) {
+		HibProject project = ac.getProject();
+		HibBranch branch;
+		try {
+			branch = ac.getBranch(project);
+		} catch (Exception e) {
+			// The error will be reported when handling the request
+			return WriteLockScope.project(project.getUuid());
+		}
+		WriteLockScope branchScope = WriteLockScope.branch(project.getUuid(), branch.getUuid());
+		// New nodes may conflict with any other node of the branch (e.g. due to the segment field)
+		if (uuid == null) {
+			return branchScope;
+		}
+		// Deletions don't contain a body
+		if (isEmpty(ac.getBodyAsString())) {
+			return WriteLockScope.element(project.getUuid(), branch.getUuid(), uuid);
+		}
+		HibNode node = tx.data().nodeDao().findByUuid(project, uuid);
+		if (node == null || updatesUniqueFields(tx, ac, node, branch)) {
+			return branchScope;
+		}
+		return WriteLockScope.element(project.getUuid(), branch.getUuid(), uuid);
+	}
+
+	/**
+	 * Check whether the update may conflict with other nodes of the branch. The uniqueness of the segment and url fields is checked before the update is
+	 * written, so concurrent updates of these fields need to be serialized within the branch. The same applies to updates which create a new content.
+	 *
+	 * @param tx
+	 * @param ac
+	 * @param node
+	 * @param branch
+	 * @return
+	 */
+	private boolean updatesUniqueFields(Tx tx, InternalActionContext ac, HibNode node, HibBranch branch) {
+		NodeUpdateRequest request;
+		try {
+			request = ac.fromJson(NodeUpdateRequest.class);
+		} catch (Exception e) {
+			// The error will be reported when handling the request
+			return true;
+		}
+		if (isEmpty(request.getLanguage())) {
+			return true;
+		}
+		NodeGraphFieldContainer container = tx.data().contentDao().getGraphFieldContainer(node, request.getLanguage(), branch.getUuid(), DRAFT);
+		if (container == null) {
+			return true;
+		}
+		FieldMap fields = request.getFields();
+		if (fields == null) {
+			return false;
+		}
+		SchemaModel schema = container.getSchemaContainerVersion().getSchema();
+		String segmentField = schema.getSegmentField();
+		if (segmentField != null && fields.hasField(segmentField)) {
+			return true;
+		}
+		List<String> urlFields = schema.getUrlFields();
+		return urlFields != null && urlFields.stream().anyMatch(fields::hasField);
+	}
+
 }
@@ -21,6 +21,7 @@ import com.gentics.mesh.core.data.util.HibClassConverter;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.endpoint.PathParameters;
 import com.gentics.mesh.core.rest.tag.TagResponse;
+import com.gentics.mesh.core.verticle.handler.WriteLockScope;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.parameter.PagingParameters;
 
@@ -131,4 +132,10 @@ public class TagDAOActionsImpl implements TagDAOActions {
 		return tx.data().tagFamilyDao().findByUuid(ac.getProject(), tagFamilyUuid);
 	}
 
+	@Override
+	public WriteLockScope writeLockScope(Tx tx, InternalActionContext ac, String uuid) {
+		// Names need to be unique within the project
+		return WriteLockScope.project(ac.getProject().getUuid());
+	}
+
 }
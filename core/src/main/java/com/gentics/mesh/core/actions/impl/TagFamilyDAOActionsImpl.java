@@ -17,6 +17,7 @@ import com.gentics.mesh.core.data.perm.InternalPermission;
 import com.gentics.mesh.core.data.tagfamily.HibTagFamily;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.rest.tag.TagFamilyResponse;
+import com.gentics.mesh.core.verticle.handler.WriteLockScope;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.parameter.PagingParameters;
 
@@ -94,4 +95,10 @@ public class TagFamilyDAOActionsImpl implements TagFamilyDAOActions {
 		return tagFamilyDao.getETag(tagFamily, ac);
 	}
 
+	@Override
+	public WriteLockScope writeLockScope(Tx tx, InternalActionContext ac, String uuid) {
+		// Names need to be unique within the project
+		return WriteLockScope.project(ac.getProject().getUuid());
+	}
+
 }
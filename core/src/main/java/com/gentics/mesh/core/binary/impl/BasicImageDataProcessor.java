@@ -12,6 +12,7 @@ import com.gentics.mesh.core.image.spi.ImageManipulator;
 import com.gentics.mesh.util.NodeUtil;
 
 import io.reactivex.Maybe;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.FileUpload;
@@ -37,8 +38,18 @@ public class BasicImageDataProcessor extends AbstractBinaryProcessor {
 	}
 
 	@Override
-	public Maybe<Consumer<BinaryGraphField>> process(FileUpload upload, String hash) {
-		return imageManipulator.readImageInfo(upload.uploadedFileName()).map(info -> {
+	public long getPrefixLength(FileUpload upload) {
+		// The dominant color can only be determined from the whole image
+		return upload.size();
+	}
+
+	@Override
+	public Maybe<Consumer<BinaryGraphField>> process(FileUpload upload, Buffer prefix, String hash) {
+		if (prefix.length() < upload.size()) {
+			log.warn("Skipping image information of upload {" + upload.fileName() + "} since it exceeds the analyzer prefix limit.");
+			return Maybe.empty();
+		}
+		return imageManipulator.readImageInfo(prefix).map(info -> {
 			Consumer<BinaryGraphField> consumer = field -> {
 				log.info("Setting info to binary field " + field.getUuid() + " - " + info);
 				field.setImageDominantColor(info.getDominantColor());
@@ -1,7 +1,5 @@
 package com.gentics.mesh.core.binary.impl;
 
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashSet;
@@ -15,6 +13,7 @@ import javax.inject.Singleton;
 
 import org.apache.commons.collections4.map.HashedMap;
 import org.apache.tika.exception.TikaException;
+import org.apache.tika.io.TikaInputStream;
 import org.apache.tika.metadata.Metadata;
 
 import com.gentics.mesh.core.binary.AbstractBinaryProcessor;
@@ -24,7 +23,9 @@ import com.gentics.mesh.core.rest.node.field.binary.Location;
 import com.gentics.mesh.etc.config.MeshOptions;
 
 import dagger.Lazy;
+import io.netty.buffer.ByteBufInputStream;
 import io.reactivex.Maybe;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.FileUpload;
@@ -50,6 +51,12 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 	 */
 	private static final int DEFAULT_NON_DOC_TIKA_PARSE_LIMIT = 0;
 
+	/**
+	 * Prefix length for non-document binaries. The metadata of images and media files (e.g. EXIF, ID3v2, container headers) is located at the start of the
+	 * file.
+	 */
+	private static final long NON_DOC_PREFIX_LENGTH = 1024 * 1024;
+
 	@Inject
 	public TikaBinaryProcessor(Lazy<Vertx> vertx, MeshOptions options) {
 		this.vertx = vertx;
@@ -107,11 +114,17 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 	}
 
 	@Override
-	public Maybe<Consumer<BinaryGraphField>> process(FileUpload upload, String hash) {
+	public long getPrefixLength(FileUpload upload) {
+		// Documents (e.g. PDF) can only be parsed as a whole
+		return isDocument(upload.contentType()) ? upload.size() : Math.min(upload.size(), NON_DOC_PREFIX_LENGTH);
+	}
+
+	@Override
+	public Maybe<Consumer<BinaryGraphField>> process(FileUpload upload, Buffer prefix, String hash) {
 		return vertx.get().rxExecuteBlocking(promise -> {
-			File uploadFile = new File(upload.uploadedFileName());
+			boolean truncated = prefix.length() < upload.size();
 			if (log.isDebugEnabled()) {
-				log.debug("Parsing file {" + uploadFile + "}");
+				log.debug("Parsing {" + prefix.length() + "} of {" + upload.size() + "} bytes of upload {" + upload.fileName() + "}");
 			}
 
 			int len = getParserLimit(upload.contentType());
@@ -119,7 +132,7 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 				log.debug("Using parser limit of {" + len + "}");
 			}
 
-			try (FileInputStream ins = new FileInputStream(uploadFile)) {
+			try (TikaInputStream ins = TikaInputStream.get(new ByteBufInputStream(prefix.getByteBuf()))) {
 				TikaResult pr = parseFile(ins, len);
 
 				Consumer<BinaryGraphField> consumer = field -> {
@@ -135,8 +148,14 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 				};
 				promise.complete(consumer);
 			} catch (Exception e) {
-				log.warn("Tika processing of upload failed", e);
-				promise.fail(e);
+				if (truncated) {
+					// The parsers may fail on the end of a prefix. This must not fail the upload.
+					log.warn("Tika processing of the prefix of upload {" + upload.fileName() + "} failed", e);
+					promise.complete();
+				} else {
+					log.warn("Tika processing of upload failed", e);
+					promise.fail(e);
+				}
 			}
 		}, true);
 	}
@@ -193,16 +212,19 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 	}
 
 	public int getParserLimit(String contentType) {
-		boolean isDocument = acceptedDocumentTypes.stream().anyMatch(type -> {
-			return contentType.startsWith(type);
-		});
-		if (isDocument && options.getUploadOptions() != null) {
+		if (isDocument(contentType) && options.getUploadOptions() != null) {
 			return options.getUploadOptions().getParserLimit();
 		} else {
 			return DEFAULT_NON_DOC_TIKA_PARSE_LIMIT;
 		}
 	}
 
+	private boolean isDocument(String contentType) {
+		return acceptedDocumentTypes.stream().anyMatch(type -> {
+			return contentType.startsWith(type);
+		});
+	}
+
 	/**
 	 * Replace characters from the key which can't be used in properties with underscores.
 	 * 
@@ -112,6 +112,11 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	public static final String VERSION_PROPERTY_KEY = "version";
 
+	/**
+	 * Postfix of the ordered index which is used to read the containers of a schema version in the order of their uuid.
+	 */
+	public static final String VERSION_UUID_INDEX_POSTFIX = "version_uuid";
+
 	// Cached instance of the parent node.
 	private NodeImpl parentNodeRef;
 
@@ -121,6 +126,13 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 		index.createIndex(vertexIndex(NodeGraphFieldContainerImpl.class)
 			.withField(SCHEMA_CONTAINER_VERSION_KEY_PROPERTY, STRING));
+
+		// Ordered index for reading the containers of a version in pages
+		index.createIndex(vertexIndex(NodeGraphFieldContainerImpl.class)
+			.withPostfix(VERSION_UUID_INDEX_POSTFIX)
+			.withField(SCHEMA_CONTAINER_VERSION_KEY_PROPERTY, STRING)
+			.withField("uuid", STRING)
+			.ordered());
 	}
 
 	@Override
@@ -369,7 +381,7 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 		} else {
 			updateWebrootPathInfo(node, edge, languageTag, branchUuid, segmentFieldName, conflictI18n, type);
 		}
-
+		node.updateWebrootFullPath(edge, branchUuid, type);
 	}
 
 	private boolean updateWebrootPathInfo(Node node, GraphFieldContainerEdge edge, String languageTag, String branchUuid, String segmentFieldName,
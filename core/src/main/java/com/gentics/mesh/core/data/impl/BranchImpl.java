@@ -28,7 +28,10 @@ import static com.gentics.mesh.madl.field.FieldType.STRING;
 import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 import static com.gentics.mesh.util.URIUtils.encodeSegment;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
@@ -102,6 +105,8 @@ public class BranchImpl extends AbstractMeshCoreVertex<BranchResponse, Branch> i
 
 	public static final String MIGRATED_PROPERTY_KEY = "migrated";
 
+	public static final String PENDING_WEBROOT_PATH_UPDATES_PROPERTY_KEY = "pendingWebrootPathUpdates";
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(BranchImpl.class, MeshVertexImpl.class);
 		index.createIndex(vertexIndex(BranchImpl.class)
@@ -240,6 +245,25 @@ public class BranchImpl extends AbstractMeshCoreVertex<BranchResponse, Branch> i
 		return this;
 	}
 
+	@Override
+	public Set<String> getPendingWebrootPathUpdates() {
+		Set<String> entries = property(PENDING_WEBROOT_PATH_UPDATES_PROPERTY_KEY);
+		return entries == null ? Collections.emptySet() : entries;
+	}
+
+	@Override
+	public void addPendingWebrootPathUpdate(String entry) {
+		addToStringSetProperty(PENDING_WEBROOT_PATH_UPDATES_PROPERTY_KEY, entry);
+	}
+
+	@Override
+	public void removePendingWebrootPathUpdate(String entry) {
+		Set<String> entries = new HashSet<>(getPendingWebrootPathUpdates());
+		if (entries.remove(entry)) {
+			property(PENDING_WEBROOT_PATH_UPDATES_PROPERTY_KEY, entries);
+		}
+	}
+
 	@Override
 	public Branch getNextBranch() {
 		return out(HAS_NEXT_BRANCH, BranchImpl.class).nextOrNull();
@@ -29,6 +29,7 @@ import com.gentics.mesh.dagger.MeshComponent;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.madl.field.FieldMap;
 import com.gentics.mesh.madl.traversal.TraversalResult;
+import com.gentics.mesh.util.URIUtils;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.traversals.EdgeTraversal;
@@ -74,6 +75,13 @@ public class GraphFieldContainerEdgeImpl extends MeshEdgeImpl implements GraphFi
 		fields.put(WEBROOT_URLFIELD_PROPERTY_KEY, STRING_SET);
 		index.addCustomEdgeIndex(HAS_FIELD_CONTAINER, WEBROOT_URLFIELD_INDEX_POSTFIX_NAME, fields, true);
 
+		// Webroot full path index:
+		fields = new FieldMap();
+		fields.put(BRANCH_UUID_KEY, STRING);
+		fields.put(EDGE_TYPE_KEY, STRING);
+		fields.put(WEBROOT_FULLPATH_PROPERTY_KEY, STRING);
+		index.addCustomEdgeIndex(HAS_FIELD_CONTAINER, WEBROOT_FULLPATH_INDEX_POSTFIX_NAME, fields, false);
+
 	}
 
 	public void setSegmentInfo(HibNode parentNode, String segment) {
@@ -104,6 +112,23 @@ public class GraphFieldContainerEdgeImpl extends MeshEdgeImpl implements GraphFi
 		return db.index().createComposedIndexKey(branchUuid, type.getCode(), path);
 	}
 
+	public static Object composeWebrootFullPathIndexKey(Database db, String fullPath, String branchUuid, ContainerType type) {
+		return db.index().createComposedIndexKey(branchUuid, type.getCode(), fullPath);
+	}
+
+	/**
+	 * Compose the full path of a container.
+	 *
+	 * @param parentFullPath
+	 *            Full path of the parent node or an empty string if the parent is the base node
+	 * @param segment
+	 *            Segment of the container
+	 * @return
+	 */
+	public static String composeFullPath(String parentFullPath, String segment) {
+		return parentFullPath + "/" + URIUtils.encodeSegment(segment);
+	}
+
 	/**
 	 * Extend the given traversal to filter edges that have one of the given language tags set (if languageTags is not null and not empty)
 	 * 
@@ -87,6 +87,9 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		response.setStopDate(getStopDate());
 		response.setStartDate(getStartDate());
 		response.setCompletionCount(getCompletionCount());
+		response.setTotalCount(getTotalCount());
+		response.setThroughput(getThroughput());
+		response.setEstimatedRemainingTime(getEstimatedRemainingTime());
 		response.setNodeName(getNodeName());
 
 		JobWarningList warnings = getWarnings();
@@ -190,6 +193,36 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		property(COMPLETION_COUNT_PROPERTY_KEY, count);
 	}
 
+	@Override
+	public Long getTotalCount() {
+		return property(TOTAL_COUNT_PROPERTY_KEY);
+	}
+
+	@Override
+	public void setTotalCount(Long count) {
+		property(TOTAL_COUNT_PROPERTY_KEY, count);
+	}
+
+	@Override
+	public Double getThroughput() {
+		return property(THROUGHPUT_PROPERTY_KEY);
+	}
+
+	@Override
+	public void setThroughput(Double throughput) {
+		property(THROUGHPUT_PROPERTY_KEY, throughput);
+	}
+
+	@Override
+	public Long getEstimatedRemainingTime() {
+		return property(ESTIMATED_REMAINING_TIME_PROPERTY_KEY);
+	}
+
+	@Override
+	public void setEstimatedRemainingTime(Long remainingTime) {
+		property(ESTIMATED_REMAINING_TIME_PROPERTY_KEY, remainingTime);
+	}
+
 	@Override
 	public HibBranch getBranch() {
 		return out(HAS_BRANCH, BranchImpl.class).nextOrNull();
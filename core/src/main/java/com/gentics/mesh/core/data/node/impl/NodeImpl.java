@@ -14,6 +14,7 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TAG
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.PARENTS_KEY_PROPERTY;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.PROJECT_KEY_PROPERTY;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.SCHEMA_CONTAINER_KEY_PROPERTY;
+import static com.gentics.mesh.core.data.util.HibClassConverter.toBranch;
 import static com.gentics.mesh.core.data.util.HibClassConverter.toNode;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_REFERENCE_UPDATED;
@@ -47,6 +48,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.Stack;
 import java.util.function.Predicate;
@@ -88,6 +90,7 @@ import com.gentics.mesh.core.data.node.field.nesting.NodeGraphField;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformableStreamPageImpl;
+import com.gentics.mesh.core.data.page.impl.PageCursor;
 import com.gentics.mesh.core.data.perm.InternalPermission;
 import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.data.schema.HibSchema;
@@ -168,6 +171,21 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	private static final Logger log = LoggerFactory.getLogger(NodeImpl.class);
 
+	/**
+	 * Postfix of the ordered index which is used to read the nodes of a project in the order of their uuid.
+	 */
+	public static final String PROJECT_UUID_INDEX_POSTFIX = "project_uuid";
+
+	/**
+	 * Postfix of the ordered index which is used to read the children of a node in the order of their uuid.
+	 */
+	public static final String BRANCH_PARENTS_UUID_INDEX_POSTFIX = "branch_parents_uuid";
+
+	/**
+	 * Postfix of the ordered index which is used to read the nodes of a schema in the order of their uuid.
+	 */
+	public static final String SCHEMA_UUID_INDEX_POSTFIX = "schema_uuid";
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createType(vertexType(NodeImpl.class, MeshVertexImpl.class)
 			.withField(PARENTS_KEY_PROPERTY, STRING_SET)
@@ -199,6 +217,25 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		index.createIndex(vertexIndex(NodeImpl.class)
 			.withPostfix("branch_parents")
 			.withField(BRANCH_PARENTS_KEY_PROPERTY, STRING_SET));
+
+		// Ordered indices for cursor based paging
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix(PROJECT_UUID_INDEX_POSTFIX)
+			.withField(PROJECT_KEY_PROPERTY, STRING)
+			.withField("uuid", STRING)
+			.ordered());
+
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix(BRANCH_PARENTS_UUID_INDEX_POSTFIX)
+			.withField(BRANCH_PARENTS_KEY_PROPERTY, STRING_SET)
+			.withField("uuid", STRING)
+			.ordered());
+
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix(SCHEMA_UUID_INDEX_POSTFIX)
+			.withField(SCHEMA_CONTAINER_KEY_PROPERTY, STRING)
+			.withField("uuid", STRING)
+			.ordered());
 	}
 
 	@Override
@@ -253,41 +290,22 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		// Thus utilise the action context data map to retrieve already handled paths.
 		String cacheKey = getUuid() + branchUuid + type.getCode() + Arrays.toString(languageTag);
 		return (String) ac.data().computeIfAbsent(cacheKey, key -> {
+			BranchDaoWrapper branchDao = Tx.get().data().branchDao();
+			HibBranch branch = branchDao.findByUuid(getProject(), branchUuid);
 
-			List<String> segments = new ArrayList<>();
-			String segment = getPathSegment(branchUuid, type, languageTag);
-			if (segment == null) {
-				return null;
-			}
-			segments.add(segment);
-
-			// For the path segments of the container, we add all (additional)
-			// project languages to the list of languages for the fallback.
-			HibNode current = this;
-			while (current != null) {
-				current = nodeDao.getParentNode(current, branchUuid);
-				if (current == null || nodeDao.getParentNode(current, branchUuid) == null) {
-					break;
-				}
-				// For the path segments of the container, we allow ANY language (of the project)
-				segment = toNode(current).getPathSegment(branchUuid, type, true, languageTag);
-
-				// Abort early if one of the path segments could not be resolved. We
-				// need to return a 404 in those cases.
-				if (segment == null) {
+			// Use the materialized path if the container of the first language provides one
+			String path = getWebrootFullPath(branch, type, languageTag);
+			if (path == null) {
+				path = resolveWebrootPath(nodeDao, branchUuid, type, languageTag);
+				if (path == null) {
 					return null;
 				}
-				segments.add(segment);
 			}
 
-			Collections.reverse(segments);
-
-			// Finally construct the path from all segments
+			// Finally construct the path from the prefix and the segments
 			StringBuilder builder = new StringBuilder();
 
 			// Append the prefix first
-			BranchDaoWrapper branchDao = Tx.get().data().branchDao();
-			HibBranch branch = branchDao.findByUuid(getProject(), branchUuid);
 			if (branch != null) {
 				String prefix = PathPrefixUtil.sanitize(branch.getPathPrefix());
 				if (!prefix.isEmpty()) {
@@ -300,15 +318,148 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 					}
 				}
 			}
+			return builder.append(path).toString();
+		});
+
+	}
+
+	/**
+	 * Return the materialized full path for the first of the given languages. The path is not used while updates of the full paths of descendants are
+	 * pending within the branch, since the path of the node may be outdated until then.
+	 *
+	 * @param branch
+	 * @param type
+	 * @param languageTag
+	 * @return Full path or null if the node has no container in the first language or its path can't be used
+	 */
+	private String getWebrootFullPath(HibBranch branch, ContainerType type, String... languageTag) {
+		if (branch == null || languageTag == null || languageTag.length == 0 || toBranch(branch).hasPendingWebrootPathUpdates()) {
+			return null;
+		}
+		GraphFieldContainerEdge edge = GraphFieldContainerEdgeImpl.findEdge(getId(), branch.getUuid(), type.getCode(), languageTag[0]);
+		return edge == null ? null : edge.getFullPath();
+	}
 
-			Iterator<String> it = segments.iterator();
-			while (it.hasNext()) {
-				String currentSegment = it.next();
-				builder.append("/").append(URIUtils.encodeSegment(currentSegment));
+	/**
+	 * Resolve the path of the node by walking up to the base node.
+	 *
+	 * @param nodeDao
+	 * @param branchUuid
+	 * @param type
+	 * @param languageTag
+	 * @return Encoded path without the branch prefix or null if one of the segments could not be resolved
+	 */
+	private String resolveWebrootPath(NodeDaoWrapper nodeDao, String branchUuid, ContainerType type, String... languageTag) {
+		List<String> segments = new ArrayList<>();
+		String segment = getPathSegment(branchUuid, type, languageTag);
+		if (segment == null) {
+			return null;
+		}
+		segments.add(segment);
+
+		// For the path segments of the container, we add all (additional)
+		// project languages to the list of languages for the fallback.
+		HibNode current = this;
+		while (current != null) {
+			current = nodeDao.getParentNode(current, branchUuid);
+			if (current == null || nodeDao.getParentNode(current, branchUuid) == null) {
+				break;
 			}
-			return builder.toString();
-		});
+			// For the path segments of the container, we allow ANY language (of the project)
+			segment = toNode(current).getPathSegment(branchUuid, type, true, languageTag);
+
+			// Abort early if one of the path segments could not be resolved. We
+			// need to return a 404 in those cases.
+			if (segment == null) {
+				return null;
+			}
+			segments.add(segment);
+		}
+
+		Collections.reverse(segments);
+		StringBuilder builder = new StringBuilder();
+		for (String currentSegment : segments) {
+			builder.append("/").append(URIUtils.encodeSegment(currentSegment));
+		}
+		return builder.toString();
+	}
+
+	@Override
+	public boolean updateWebrootFullPaths(String branchUuid, ContainerType type, boolean recursive) {
+		Node parent = getParentNode(branchUuid);
+		boolean changed = false;
+		for (GraphFieldContainerEdge edge : getGraphFieldContainerEdges(branchUuid, type)) {
+			changed |= updateWebrootFullPath(edge, parent, branchUuid, type);
+		}
+		if (recursive && changed) {
+			updateChildrenWebrootFullPaths(branchUuid, type);
+		}
+		return changed;
+	}
+
+	/**
+	 * Update the materialized full path of the container edge. The full paths of the children will be updated as well if the path changed.
+	 *
+	 * @param edge
+	 * @param branchUuid
+	 * @param type
+	 */
+	public void updateWebrootFullPath(GraphFieldContainerEdge edge, String branchUuid, ContainerType type) {
+		if (updateWebrootFullPath(edge, getParentNode(branchUuid), branchUuid, type)) {
+			updateChildrenWebrootFullPaths(branchUuid, type);
+		}
+	}
+
+	/**
+	 * Update the materialized full paths of the descendants once the transaction has been committed. This needs to be invoked when a full path of the node
+	 * changed or a container of the node was removed.
+	 *
+	 * @param branchUuid
+	 * @param type
+	 */
+	private void updateChildrenWebrootFullPaths(String branchUuid, ContainerType type) {
+		mesh().webRootFullPathUpdater().updateChildrenAfterCommit(this, branchUuid, type);
+	}
 
+	private boolean updateWebrootFullPath(GraphFieldContainerEdge edge, Node parent, String branchUuid, ContainerType type) {
+		String fullPath = composeWebrootFullPath(edge, parent, branchUuid, type);
+		if (Objects.equals(fullPath, edge.getFullPath())) {
+			return false;
+		}
+		edge.setFullPath(fullPath);
+		return true;
+	}
+
+	/**
+	 * Compose the full path of the container edge from the full path of the parent container in the same language. Paths which would require a fallback to
+	 * other languages are not materialized.
+	 *
+	 * @param edge
+	 * @param parent
+	 * @param branchUuid
+	 * @param type
+	 * @return Full path or null if the path can't be materialized
+	 */
+	private String composeWebrootFullPath(GraphFieldContainerEdge edge, Node parent, String branchUuid, ContainerType type) {
+		String segmentInfo = edge.getSegmentInfo();
+		if (parent == null || segmentInfo == null) {
+			return null;
+		}
+		String parentUuid = parent.getUuid();
+		if (!segmentInfo.startsWith(parentUuid)) {
+			return null;
+		}
+		String segment = segmentInfo.substring(parentUuid.length());
+
+		// The segment of the base node is not part of the path
+		if (parent.getParentNode(branchUuid) == null) {
+			return GraphFieldContainerEdgeImpl.composeFullPath("", segment);
+		}
+		GraphFieldContainerEdge parentEdge = GraphFieldContainerEdgeImpl.findEdge(parent.getId(), branchUuid, type.getCode(), edge.getLanguageTag());
+		if (parentEdge == null || parentEdge.getFullPath() == null) {
+			return null;
+		}
+		return GraphFieldContainerEdgeImpl.composeFullPath(parentEdge.getFullPath(), segment);
 	}
 
 	private void assertPublishConsistency(InternalActionContext ac, HibBranch branch) {
@@ -455,7 +606,10 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 
 		// remove existing draft edge
+		String fullPath = null;
 		if (draftEdge != null) {
+			// The new draft keeps the full path until its webroot info is updated. This avoids updating the children if the path did not change.
+			fullPath = draftEdge.getProperty(GraphFieldContainerEdge.WEBROOT_FULLPATH_PROPERTY_KEY);
 			draftEdge.remove();
 			newContainer.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_update");
 		}
@@ -469,6 +623,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			edge.setLanguageTag(languageTag);
 			edge.setBranchUuid(branchUuid);
 			edge.setType(DRAFT);
+			edge.setFullPath(fullPath);
 		}
 
 		// if there is no initial edge, create one
@@ -549,11 +704,31 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			new Object[] { branchParentEntry(branchUuid, getUuid()).encode() });
 	}
 
+	/**
+	 * Return the children in the order of their uuid, starting after the cursor.
+	 * 
+	 * @param branchUuid
+	 * @param after
+	 *            Cursor of the previous page or an empty cursor for the first page
+	 * @return
+	 */
+	private Iterator<Vertex> getUnframedChildren(String branchUuid, String after) {
+		return db().getVerticesInRange(NodeImpl.class, BRANCH_PARENTS_UUID_INDEX_POSTFIX, branchParentEntry(branchUuid, getUuid()).encode(),
+			PageCursor.decode(after));
+	}
+
 	@Override
 	public Stream<Node> getChildrenStream(InternalActionContext ac) {
+		return getChildrenStream(ac, null);
+	}
+
+	@Override
+	public Stream<Node> getChildrenStream(InternalActionContext ac, String after) {
 		MeshAuthUser user = ac.getUser();
 		UserDaoWrapper userDao = Tx.get().data().userDao();
-		return toStream(getUnframedChildren(ac.getBranch().getUuid()))
+		String branchUuid = ac.getBranch().getUuid();
+		Iterator<Vertex> children = after == null ? getUnframedChildren(branchUuid) : getUnframedChildren(branchUuid, after);
+		return toStream(children)
 			.filter(node -> {
 				Object id = node.getId();
 				return userDao.hasPermissionForId(user, id, READ_PERM) || userDao.hasPermissionForId(user, id, READ_PUBLISHED_PERM);
@@ -1030,7 +1205,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		StringBuilder builder = new StringBuilder();
 		builder.append(node.getETag(ac));
 
-		List<Node> nodes = node.getChildren(ac.getUser(), branchUuid, null, type).collect(Collectors.toList());
+		List<Node> nodes = node.getChildren(ac.getUser(), branchUuid, null, type, null).collect(Collectors.toList());
 
 		// Abort recursion when we reach the max level or when no more children
 		// can be found.
@@ -1070,7 +1245,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	 */
 	private NavigationResponse buildNavigationResponse(InternalActionContext ac, NodeImpl node, int maxDepth, int level,
 		NavigationResponse navigation, NavigationElement currentElement, String branchUuid, ContainerType type) {
-		List<? extends Node> nodes = node.getChildren(ac.getUser(), branchUuid, null, type).collect(Collectors.toList());
+		List<? extends Node> nodes = node.getChildren(ac.getUser(), branchUuid, null, type, null).collect(Collectors.toList());
 		List<NavigationResponse> responses = new ArrayList<>();
 
 		NodeResponse response = node.transformToRestSync(ac, 0);
@@ -1233,6 +1408,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				content.purge(bac);
 			}
 		});
+		updateChildrenWebrootFullPaths(branchUuid, PUBLISHED);
 
 		assertPublishConsistency(ac, branch);
 
@@ -1308,6 +1484,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Remove the "published" edge
 		getGraphFieldContainerEdge(languageTag, branchUuid, PUBLISHED).remove();
+		updateChildrenWebrootFullPaths(branchUuid, PUBLISHED);
 		assertPublishConsistency(ac, branch);
 
 		bac.process();
@@ -1320,7 +1497,9 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Remove an existing published edge
 		EdgeFrame currentPublished = getGraphFieldContainerEdgeFrame(languageTag, branchUuid, PUBLISHED);
+		String fullPath = null;
 		if (currentPublished != null) {
+			fullPath = currentPublished.getProperty(GraphFieldContainerEdge.WEBROOT_FULLPATH_PROPERTY_KEY);
 			// We need to remove the edge first since updateWebrootPathInfo will
 			// check the published edge again
 			NodeGraphFieldContainerImpl oldPublishedContainer = currentPublished.inV().nextOrDefaultExplicit(NodeGraphFieldContainerImpl.class, null);
@@ -1344,6 +1523,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		edge.setLanguageTag(languageTag);
 		edge.setBranchUuid(branchUuid);
 		edge.setType(PUBLISHED);
+		edge.setFullPath(fullPath);
 		container.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_publish");
 	}
 
@@ -1528,7 +1708,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		}
 	}
 
-	private Stream<Node> getChildren(MeshAuthUser requestUser, String branchUuid, List<String> languageTags, ContainerType type) {
+	private Stream<Node> getChildren(MeshAuthUser requestUser, String branchUuid, List<String> languageTags, ContainerType type, String after) {
 		InternalPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
 		UserDaoWrapper userRoot = Tx.get().data().userDao();
 
@@ -1536,14 +1716,23 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			? item -> true
 			: item -> languageTags.stream().anyMatch(languageTag -> item.getGraphFieldContainer(languageTag, branchUuid, type) != null);
 
-		return getChildren(branchUuid).stream()
-			.filter(languageFilter.and(item -> userRoot.hasPermission(requestUser, item, perm)));
+		Stream<Node> children;
+		if (after == null) {
+			children = getChildren(branchUuid).stream();
+		} else {
+			children = toStream(getUnframedChildren(branchUuid, after)).map(vertex -> graph.frameElementExplicit(vertex, NodeImpl.class));
+		}
+		return children.filter(languageFilter.and(item -> userRoot.hasPermission(requestUser, item, perm)));
 	}
 
 	@Override
 	public TransformablePage<Node> getChildren(InternalActionContext ac, List<String> languageTags, String branchUuid, ContainerType type,
 		PagingParameters pagingInfo) {
-		return new DynamicTransformableStreamPageImpl<>(getChildren(ac.getUser(), branchUuid, languageTags, type), pagingInfo);
+		if (pagingInfo.isCursorPaging()) {
+			Stream<Node> children = getChildren(ac.getUser(), branchUuid, languageTags, type, pagingInfo.getAfter());
+			return new DynamicTransformableStreamPageImpl<>(children, pagingInfo, null, Node::getUuid);
+		}
+		return new DynamicTransformableStreamPageImpl<>(getChildren(ac.getUser(), branchUuid, languageTags, type, null), pagingInfo);
 	}
 
 	@Override
@@ -1843,6 +2032,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			throw error(NOT_FOUND, "node_no_language_found", languageTag);
 		}
 		container.deleteFromBranch(branch, bac);
+		updateChildrenWebrootFullPaths(branch.getUuid(), DRAFT);
 		// No need to delete the published variant because if the container was published the take offline call handled it
 
 		// starting with the old draft, delete all GFC that have no next and are not draft (for other branches)
@@ -1890,7 +2080,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	}
 
-	private PathSegment getSegment(String branchUuid, ContainerType type, String segment) {
+	@Override
+	public PathSegment getSegment(String branchUuid, ContainerType type, String segment) {
 
 		// Check the different language versions
 		for (NodeGraphFieldContainer container : getGraphFieldContainers(branchUuid, type)) {
@@ -1,13 +1,21 @@
 package com.gentics.mesh.core.data.root.impl;
 
+import static com.gentics.mesh.core.data.BranchParentEntry.branchParentEntry;
+import static com.gentics.mesh.core.data.GraphFieldContainerEdge.BRANCH_UUID_KEY;
+import static com.gentics.mesh.core.data.GraphFieldContainerEdge.EDGE_TYPE_KEY;
+import static com.gentics.mesh.core.data.GraphFieldContainerEdge.LANGUAGE_TAG_KEY;
 import static com.gentics.mesh.core.data.perm.InternalPermission.CREATE_PERM;
 import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
 import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.BRANCH_PARENTS_KEY_PROPERTY;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_FIELD_CONTAINER;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_NODE;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_NODE_ROOT;
+import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TAG;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.PROJECT_KEY_PROPERTY;
 import static com.gentics.mesh.core.data.util.HibClassConverter.toNode;
 import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.common.ContainerType.INITIAL;
 import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.madl.index.EdgeIndexDefinition.edgeIndex;
@@ -17,8 +25,14 @@ import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -28,22 +42,29 @@ import com.gentics.madl.type.TypeHandler;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.BranchParentEntry;
+import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.HibLanguage;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Role;
+import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.dao.ContentDaoWrapper;
 import com.gentics.mesh.core.data.dao.NodeDaoWrapper;
 import com.gentics.mesh.core.data.dao.UserDaoWrapper;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
 import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.impl.ProjectImpl;
+import com.gentics.mesh.core.data.impl.TagEdgeImpl;
+import com.gentics.mesh.core.data.impl.TagImpl;
 import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformableStreamPageImpl;
+import com.gentics.mesh.core.data.page.impl.PageCursor;
 import com.gentics.mesh.core.data.perm.InternalPermission;
 import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.data.root.NodeRoot;
@@ -61,6 +82,8 @@ import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.syncleus.ferma.FramedTransactionalGraph;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.Edge;
 import com.tinkerpop.blueprints.Vertex;
 
 import io.vertx.core.logging.Logger;
@@ -91,7 +114,10 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 	@Override
 	public TransformablePage<? extends Node> findAll(InternalActionContext ac, PagingParameters pagingInfo) {
 		ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
-		return new DynamicTransformableStreamPageImpl<>(findAllStream(ac, type), pagingInfo);
+		if (pagingInfo.isCursorPaging()) {
+			return new DynamicTransformableStreamPageImpl<>(findAllStream(ac, type, pagingInfo.getAfter()), pagingInfo, null, Node::getUuid);
+		}
+		return new DynamicTransformableStreamPageImpl<>(findAllStream(ac, type, null), pagingInfo);
 	}
 
 	@Override
@@ -106,11 +132,16 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 
 	@Override
 	public Stream<? extends Node> findAllStream(InternalActionContext ac, InternalPermission perm) {
+		return findAllStream(ac, perm, null);
+	}
+
+	@Override
+	public Stream<? extends Node> findAllStream(InternalActionContext ac, InternalPermission perm, String after) {
 		MeshAuthUser user = ac.getUser();
 		String branchUuid = ac.getBranch().getUuid();
 		UserDaoWrapper userDao = mesh().boot().userDao();
 
-		return findAll(ac.getProject().getUuid())
+		return findAll(ac.getProject().getUuid(), after)
 			.filter(item -> {
 				boolean hasRead = userDao.hasPermissionForId(user, item.getId(), READ_PERM);
 				if (hasRead) {
@@ -131,16 +162,21 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 	 * Finds all nodes of a project.
 	 * 
 	 * @param projectUuid
+	 * @param after
+	 *            Optional cursor. If set, the nodes will be read from the ordered project index in the order of their uuid, starting after the cursor.
 	 * @return
 	 */
-	private Stream<Vertex> findAll(String projectUuid) {
+	private Stream<Vertex> findAll(String projectUuid, String after) {
+		if (after != null) {
+			return toStream(db().getVerticesInRange(NodeImpl.class, NodeImpl.PROJECT_UUID_INDEX_POSTFIX, projectUuid, PageCursor.decode(after)));
+		}
 		return toStream(db().getVertices(
 			NodeImpl.class,
 			new String[] { PROJECT_KEY_PROPERTY },
 			new Object[] { projectUuid }));
 	}
 
-	private Stream<? extends Node> findAllStream(InternalActionContext ac, ContainerType type) {
+	private Stream<? extends Node> findAllStream(InternalActionContext ac, ContainerType type, String after) {
 		MeshAuthUser user = ac.getUser();
 		FramedTransactionalGraph graph = Tx.get().getGraph();
 
@@ -148,7 +184,7 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 		String branchUuid = branch.getUuid();
 		UserDaoWrapper userDao = mesh().boot().userDao();
 
-		return findAll(ac.getProject().getUuid()).filter(item -> {
+		return findAll(ac.getProject().getUuid(), after).filter(item -> {
 			// Check whether the node has at least one content of the type in the selected branch - Otherwise the node should be skipped
 			return GraphFieldContainerEdgeImpl.matchesBranchAndType(item.getId(), branchUuid, type);
 		}).filter(item -> {
@@ -167,6 +203,155 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 			.map(vertex -> graph.frameElementExplicit(vertex, getPersistanceClass()));
 	}
 
+	@Override
+	public List<Node> findParentNodes(List<? extends HibNode> nodes, String branchUuid) {
+		List<String> parentUuids = new ArrayList<>(nodes.size());
+		for (HibNode node : nodes) {
+			parentUuids.add(getParentUuid(toNode(node).property(BRANCH_PARENTS_KEY_PROPERTY), branchUuid));
+		}
+		Map<String, Node> parents = findByUuids(parentUuids);
+		List<Node> result = new ArrayList<>(nodes.size());
+		for (String parentUuid : parentUuids) {
+			result.add(parentUuid == null ? null : parents.get(parentUuid));
+		}
+		return result;
+	}
+
+	@Override
+	public List<List<Node>> findChildNodes(List<? extends HibNode> nodes, InternalActionContext ac) {
+		MeshAuthUser user = ac.getUser();
+		UserDaoWrapper userDao = mesh().boot().userDao();
+		FramedTransactionalGraph graph = Tx.get().getGraph();
+		String branchUuid = ac.getBranch().getUuid();
+
+		Map<String, List<Node>> children = new HashMap<>();
+		List<String> entries = new ArrayList<>(nodes.size());
+		for (HibNode node : nodes) {
+			children.put(node.getUuid(), new ArrayList<>());
+			entries.add(branchParentEntry(branchUuid, node.getUuid()).encode());
+		}
+		Iterator<Vertex> it = db().getVerticesIn(NodeImpl.class, BRANCH_PARENTS_KEY_PROPERTY, entries);
+		while (it.hasNext()) {
+			Vertex child = it.next();
+			Object id = child.getId();
+			if (!userDao.hasPermissionForId(user, id, READ_PERM) && !userDao.hasPermissionForId(user, id, READ_PUBLISHED_PERM)) {
+				continue;
+			}
+			List<Node> siblings = children.get(getParentUuid(child.getProperty(BRANCH_PARENTS_KEY_PROPERTY), branchUuid));
+			if (siblings != null) {
+				siblings.add(graph.frameElementExplicit(child, NodeImpl.class));
+			}
+		}
+		List<List<Node>> result = new ArrayList<>(nodes.size());
+		for (HibNode node : nodes) {
+			result.add(children.get(node.getUuid()));
+		}
+		return result;
+	}
+
+	@Override
+	public List<NodeGraphFieldContainer> findContents(List<? extends HibNode> nodes, String branchUuid, List<String> languageTags,
+		ContainerType type) {
+		if (type == INITIAL) {
+			throw new IllegalArgumentException("The initial contents can't be loaded in a single lookup");
+		}
+		FramedTransactionalGraph graph = Tx.get().getGraph();
+		List<Object> ids = new ArrayList<>(nodes.size());
+		for (HibNode node : nodes) {
+			ids.add(node.getId());
+		}
+		// Contents of each node by their language
+		Map<Object, Map<String, Vertex>> contents = new HashMap<>();
+		Iterator<Edge> it = db().getOutEdges(ids, HAS_FIELD_CONTAINER,
+			new String[] { BRANCH_UUID_KEY, EDGE_TYPE_KEY },
+			new Object[] { branchUuid, type.getCode() });
+		while (it.hasNext()) {
+			Edge edge = it.next();
+			contents.computeIfAbsent(edge.getVertex(Direction.OUT).getId(), id -> new HashMap<>())
+				.put(edge.getProperty(LANGUAGE_TAG_KEY), edge.getVertex(Direction.IN));
+		}
+		List<NodeGraphFieldContainer> result = new ArrayList<>(nodes.size());
+		for (Object id : ids) {
+			Map<String, Vertex> languages = contents.getOrDefault(id, Collections.emptyMap());
+			NodeGraphFieldContainer container = languageTags.stream()
+				.map(languages::get)
+				.filter(vertex -> vertex != null)
+				.findFirst()
+				.map(vertex -> graph.frameElementExplicit(vertex, NodeGraphFieldContainerImpl.class))
+				.orElse(null);
+			result.add(container);
+		}
+		return result;
+	}
+
+	@Override
+	public List<List<Tag>> findTags(List<? extends HibNode> nodes, HibUser user, String branchUuid) {
+		UserDaoWrapper userDao = mesh().boot().userDao();
+		FramedTransactionalGraph graph = Tx.get().getGraph();
+		List<Object> ids = new ArrayList<>(nodes.size());
+		Map<Object, List<Tag>> tags = new HashMap<>();
+		for (HibNode node : nodes) {
+			ids.add(node.getId());
+			tags.put(node.getId(), new ArrayList<>());
+		}
+		Iterator<Edge> it = db().getOutEdges(ids, HAS_TAG, new String[] { TagEdgeImpl.BRANCH_UUID_KEY }, new Object[] { branchUuid });
+		while (it.hasNext()) {
+			Edge edge = it.next();
+			Vertex tag = edge.getVertex(Direction.IN);
+			if (!userDao.hasPermissionForId(user, tag.getId(), READ_PERM)) {
+				continue;
+			}
+			List<Tag> nodeTags = tags.get(edge.getVertex(Direction.OUT).getId());
+			if (nodeTags != null) {
+				nodeTags.add(graph.frameElementExplicit(tag, TagImpl.class));
+			}
+		}
+		List<List<Tag>> result = new ArrayList<>(nodes.size());
+		for (Object id : ids) {
+			result.add(tags.get(id));
+		}
+		return result;
+	}
+
+	/**
+	 * Load the nodes with the given uuids using a single lookup.
+	 *
+	 * @param uuids
+	 *            Uuids of the nodes. Null values are ignored
+	 * @return Found nodes by their uuid
+	 */
+	private Map<String, Node> findByUuids(List<String> uuids) {
+		Set<String> distinct = uuids.stream().filter(uuid -> uuid != null).collect(Collectors.toSet());
+		FramedTransactionalGraph graph = Tx.get().getGraph();
+		Map<String, Node> nodes = new HashMap<>();
+		Iterator<Vertex> it = db().getVerticesIn(NodeImpl.class, MeshVertex.UUID_KEY, distinct);
+		while (it.hasNext()) {
+			Node node = graph.frameElementExplicit(it.next(), NodeImpl.class);
+			nodes.put(node.getUuid(), node);
+		}
+		return nodes;
+	}
+
+	/**
+	 * Return the uuid of the parent within the given branch.
+	 *
+	 * @param branchParents
+	 *            Value of the branch parents property of the node
+	 * @param branchUuid
+	 * @return Uuid of the parent or null if the node has no parent in the branch
+	 */
+	private static String getParentUuid(Set<String> branchParents, String branchUuid) {
+		if (branchParents == null) {
+			return null;
+		}
+		return branchParents.stream()
+			.map(BranchParentEntry::fromString)
+			.filter(entry -> entry.getBranchUuid().equals(branchUuid))
+			.findAny()
+			.map(BranchParentEntry::getParentUuid)
+			.orElse(null);
+	}
+
 	@Override
 	public Node findByUuid(String uuid) {
 		return getProject().findNode(uuid);
@@ -130,6 +130,12 @@ public class SchemaContainerRootImpl extends AbstractRootVertex<Schema> implemen
 		return new TraversalResult<>(graph.frameExplicit(vertices, NodeImpl.class));
 	}
 
+	@Override
+	public Iterator<? extends Node> getNodes(Schema schema, String after) {
+		Iterator<Vertex> vertices = mesh().database().getVerticesInRange(NodeImpl.class, NodeImpl.SCHEMA_UUID_INDEX_POSTFIX, schema.getUuid(), after);
+		return graph.frameExplicit(vertices, NodeImpl.class);
+	}
+
 	@Override
 	public Iterable<? extends SchemaVersion> findAllVersions(Schema schema) {
 		return schema.out(HAS_PARENT_CONTAINER).frameExplicit(SchemaContainerVersionImpl.class);
@@ -49,6 +49,7 @@ import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.parameter.GenericParameters;
 import com.gentics.mesh.parameter.value.FieldsSet;
 import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.Vertex;
 
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -78,14 +79,29 @@ public class SchemaContainerVersionImpl extends
 
 	@Override
 	public Iterator<? extends NodeGraphFieldContainer> getDraftFieldContainers(String branchUuid) {
-		return toStream(mesh().database().getVertices(
+		return filterDrafts(mesh().database().getVertices(
 			NodeGraphFieldContainerImpl.class,
 			new String[] { SCHEMA_CONTAINER_VERSION_KEY_PROPERTY },
-			new Object[] { getUuid() })).filter(
-				v -> toStream(v.getEdges(Direction.IN, HAS_FIELD_CONTAINER))
-					.anyMatch(
-						e -> e.getProperty(BRANCH_UUID_KEY).equals(branchUuid) && ContainerType.get(e.getProperty(EDGE_TYPE_KEY)).equals(DRAFT)))
-				.map(v -> graph.frameElementExplicit(v, NodeGraphFieldContainerImpl.class)).iterator();
+			new Object[] { getUuid() }), branchUuid);
+	}
+
+	@Override
+	public Iterator<? extends NodeGraphFieldContainer> getDraftFieldContainers(String branchUuid, String after) {
+		return filterDrafts(mesh().database().getVerticesInRange(
+			NodeGraphFieldContainerImpl.class,
+			NodeGraphFieldContainerImpl.VERSION_UUID_INDEX_POSTFIX,
+			getUuid(), after), branchUuid);
+	}
+
+	/**
+	 * Lazily filter the given containers to the drafts of the branch.
+	 */
+	private Iterator<? extends NodeGraphFieldContainer> filterDrafts(Iterator<Vertex> containers, String branchUuid) {
+		return toStream(containers).filter(
+			v -> toStream(v.getEdges(Direction.IN, HAS_FIELD_CONTAINER))
+				.anyMatch(
+					e -> e.getProperty(BRANCH_UUID_KEY).equals(branchUuid) && ContainerType.get(e.getProperty(EDGE_TYPE_KEY)).equals(DRAFT)))
+			.map(v -> graph.frameElementExplicit(v, NodeGraphFieldContainerImpl.class)).iterator();
 	}
 
 	@Override
@@ -0,0 +1,279 @@
+package com.gentics.mesh.core.data.service;
+
+import static com.gentics.mesh.core.data.util.HibClassConverter.toBranch;
+import static com.gentics.mesh.core.rest.MeshEvent.STARTUP;
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.data.impl.BranchImpl;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.impl.NodeImpl;
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.util.UUIDUtil;
+
+import dagger.Lazy;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Updates the materialized full webroot paths of node subtrees in the background. Changing the path of a node only updates the paths of the node itself
+ * within the request transaction. The paths of the descendants are updated once the transaction has been committed, in chunks which are committed
+ * separately. The scheduled updates are persisted as pending updates of the branch. Lookups within a branch with pending updates fall back to resolving the
+ * path segment by segment.
+ */
+@Singleton
+public class WebRootFullPathUpdater {
+
+	private static final Logger log = LoggerFactory.getLogger(WebRootFullPathUpdater.class);
+
+	private static final int CHUNK_SIZE = 100;
+
+	private static final String ENTRY_SEPARATOR = ":";
+
+	private final Database db;
+
+	private final Lazy<Vertx> vertx;
+
+	private final AtomicInteger pending = new AtomicInteger();
+
+	@Inject
+	public WebRootFullPathUpdater(Database db, Lazy<Vertx> vertx) {
+		this.db = db;
+		this.vertx = vertx;
+	}
+
+	/**
+	 * Update the full paths of the descendants of the node once the current transaction has been committed. A pending update is added to the branch within
+	 * the current transaction. Lookups within the branch fall back to resolving the paths segment by segment until the update has been completed.
+	 *
+	 * @param node
+	 * @param branchUuid
+	 * @param type
+	 */
+	public void updateChildrenAfterCommit(Node node, String branchUuid, ContainerType type) {
+		String uuid = node.getUuid();
+		Tx tx = Tx.get();
+		if (tx == null) {
+			run("descendants of node {" + uuid + "}", () -> updateChildren(uuid, branchUuid, Collections.singletonList(type)));
+			return;
+		}
+		// The entry is unique, since the same node may be changed again before the update has been completed
+		String entry = uuid + ENTRY_SEPARATOR + UUIDUtil.randomUUID();
+		Branch branch = db.findVertex(MeshVertex.UUID_KEY, branchUuid, BranchImpl.class);
+		branch.addPendingWebrootPathUpdate(entry);
+		tx.afterCommit(() -> run("descendants of node {" + uuid + "}", () -> {
+			updateChildren(uuid, branchUuid, Collections.singletonList(type));
+			removePending(branchUuid, entry);
+		}));
+	}
+
+	/**
+	 * Process the pending updates of all branches in the background once the startup has been completed. Updates are left pending if an instance stops
+	 * before completing them.
+	 */
+	public void resumeAfterStartup() {
+		MessageConsumer<Object> consumer = vertx.get().eventBus().consumer(STARTUP.address);
+		consumer.handler(msg -> {
+			consumer.unregister();
+			resume();
+		});
+	}
+
+	/**
+	 * Process the pending updates of all branches in the background.
+	 */
+	public void resume() {
+		run("pending updates", () -> {
+			Map<String, Set<String>> pending = db.tx(tx -> {
+				Map<String, Set<String>> map = new HashMap<>();
+				for (HibProject project : tx.data().projectDao().findAll()) {
+					for (HibBranch branch : tx.data().branchDao().findAll(project)) {
+						Set<String> entries = toBranch(branch).getPendingWebrootPathUpdates();
+						if (!entries.isEmpty()) {
+							map.put(branch.getUuid(), new HashSet<>(entries));
+						}
+					}
+				}
+				return map;
+			});
+			pending.forEach((branchUuid, entries) -> {
+				for (String entry : entries) {
+					String uuid = entry.substring(0, entry.indexOf(ENTRY_SEPARATOR));
+					updateChildren(uuid, branchUuid, Arrays.asList(DRAFT, PUBLISHED));
+					removePending(branchUuid, entry);
+				}
+				log.info("Resumed {" + entries.size() + "} pending webroot full path updates of branch {" + branchUuid + "}");
+			});
+		});
+	}
+
+	private void updateChildren(String uuid, String branchUuid, List<ContainerType> types) {
+		Deque<String> queue = new ArrayDeque<>();
+		queue.add(uuid);
+		// The node itself has already been updated, only the changed children need to be handled
+		updateTree(queue, branchUuid, types, true, true);
+	}
+
+	private void removePending(String branchUuid, String entry) {
+		db.tx(tx -> {
+			Branch branch = db.findVertex(MeshVertex.UUID_KEY, branchUuid, BranchImpl.class);
+			if (branch != null) {
+				branch.removePendingWebrootPathUpdate(entry);
+			}
+		});
+	}
+
+	/**
+	 * Materialize the full paths of all nodes of all branches in the background once the startup has been completed.
+	 */
+	public void rebuildAfterStartup() {
+		MessageConsumer<Object> consumer = vertx.get().eventBus().consumer(STARTUP.address);
+		consumer.handler(msg -> {
+			consumer.unregister();
+			rebuild();
+		});
+	}
+
+	/**
+	 * Materialize the full paths of all nodes of all branches in the background.
+	 */
+	public void rebuild() {
+		run("all nodes", () -> {
+			long total = 0;
+			List<String[]> branches = db.tx(tx -> {
+				List<String[]> list = new ArrayList<>();
+				for (HibProject project : tx.data().projectDao().findAll()) {
+					for (HibBranch branch : tx.data().branchDao().findAll(project)) {
+						list.add(new String[] { project.getBaseNode().getUuid(), branch.getUuid() });
+					}
+				}
+				return list;
+			});
+			for (String[] branch : branches) {
+				Deque<String> queue = new ArrayDeque<>();
+				queue.add(branch[0]);
+				total += updateTree(queue, branch[1], Arrays.asList(DRAFT, PUBLISHED), false, false);
+			}
+			log.info("Done updating the full paths of {" + total + "} nodes.");
+		});
+	}
+
+	/**
+	 * Wait until all scheduled updates have been processed.
+	 *
+	 * @param timeout
+	 * @param unit
+	 * @throws TimeoutException
+	 * @throws InterruptedException
+	 */
+	public void awaitIdle(long timeout, TimeUnit unit) throws TimeoutException, InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		synchronized (pending) {
+			while (pending.get() > 0) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					throw new TimeoutException("The webroot full path updates did not finish within {" + timeout + "} " + unit);
+				}
+				TimeUnit.NANOSECONDS.timedWait(pending, remaining);
+			}
+		}
+	}
+
+	private void run(String description, Runnable task) {
+		pending.incrementAndGet();
+		vertx.get().executeBlocking(bc -> {
+			task.run();
+			bc.complete();
+		}, false, rh -> {
+			if (rh.failed()) {
+				log.error("Updating the webroot full paths of " + description + " failed.", rh.cause());
+			}
+			synchronized (pending) {
+				if (pending.decrementAndGet() == 0) {
+					pending.notifyAll();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Update the full paths of the nodes in the queue and their descendants. The parents are always updated before their children.
+	 *
+	 * @param queue
+	 *            Uuids of the nodes to start with
+	 * @param branchUuid
+	 * @param types
+	 * @param skipFirst
+	 *            Whether the nodes in the queue have already been updated and only their children need to be handled
+	 * @param onlyChanged
+	 *            Whether the children of a node should only be handled if a path of the node changed
+	 * @return Amount of handled nodes
+	 */
+	private long updateTree(Deque<String> queue, String branchUuid, List<ContainerType> types, boolean skipFirst, boolean onlyChanged) {
+		long total = 0;
+		boolean first = skipFirst;
+		while (!queue.isEmpty()) {
+			List<String> chunk = new ArrayList<>();
+			while (!queue.isEmpty() && chunk.size() < CHUNK_SIZE) {
+				chunk.add(queue.poll());
+			}
+			boolean updateNodes = !first;
+			// The handler may be retried, thus the children are only added to the queue once the chunk has been committed
+			List<String> children = db.tx(tx -> {
+				List<String> found = new ArrayList<>();
+				for (String uuid : chunk) {
+					Node node = db.findVertex(MeshVertex.UUID_KEY, uuid, NodeImpl.class);
+					if (node == null) {
+						// The node has been deleted in the meantime
+						continue;
+					}
+					boolean changed = !updateNodes;
+					if (updateNodes) {
+						for (ContainerType type : types) {
+							changed |= node.updateWebrootFullPaths(branchUuid, type, false);
+						}
+					}
+					if (changed || !onlyChanged) {
+						for (Node child : node.getChildren(branchUuid)) {
+							found.add(child.getUuid());
+						}
+					}
+				}
+				return found;
+			});
+			first = false;
+			queue.addAll(children);
+			total += chunk.size();
+			if (log.isDebugEnabled()) {
+				log.debug("Updated the full paths of {" + total + "} nodes.");
+			}
+		}
+		return total;
+	}
+
+}
@@ -1,9 +1,15 @@
 package com.gentics.mesh.core.data.service;
 
+import static com.gentics.mesh.core.data.GraphFieldContainerEdge.WEBROOT_FULLPATH_INDEX_NAME;
 import static com.gentics.mesh.core.data.GraphFieldContainerEdge.WEBROOT_URLFIELD_INDEX_NAME;
+import static com.gentics.mesh.core.data.util.HibClassConverter.toBranch;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Stack;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -52,29 +58,26 @@ public class WebRootServiceImpl implements WebRootService {
 		HibProject project = ac.getProject();
 		HibBranch branch = ac.getBranch();
 
-		Path cachedPath = pathStore.getPath(project, branch, type, path);
-		if (cachedPath != null) {
-			return cachedPath;
-		}
-
-		// First try to locate the content via the url path index (niceurl)
-
 		// Check whether the path contains the branch path prefix. Return an empty node path in those cases. (e.g. Node was not found)
 		if (!PathPrefixUtil.startsWithPrefix(branch, path)) {
 			Path nodePath = new Path();
 			nodePath.setTargetPath(path);
 			nodePath.setInitialStack(new Stack<>());
 			nodePath.setPrefixMismatch(true);
-			pathStore.store(project, branch, type, path, nodePath);
 			return nodePath;
 		}
 
+		// First try to locate the content via the url path index (niceurl). The lookup is a single index read and is not cached, since a changed url field of
+		// any node may take precedence over a cached segment path.
 		String strippedPath = PathPrefixUtil.strip(branch, path);
 		NodeGraphFieldContainer containerByWebUrlPath = findByUrlFieldPath(branch.getUuid(), strippedPath, type);
 		if (containerByWebUrlPath != null) {
-			Path resolvedPath = containerByWebUrlPath.getPath(ac);
-			pathStore.store(project, branch, type, path, resolvedPath);
-			return resolvedPath;
+			return containerByWebUrlPath.getPath(ac);
+		}
+
+		Path cachedPath = pathStore.getPath(project, branch, type, path);
+		if (cachedPath != null) {
+			return cachedPath;
 		}
 
 		// Locating did not yield a result. Lets try the regular segment path info.
@@ -99,6 +102,12 @@ public class WebRootServiceImpl implements WebRootService {
 		String sanitizedPath = strippedPath.replaceAll("^/+", "");
 		String[] elements = sanitizedPath.split("\\/");
 
+		// Try the materialized full path first. The result is not cached since the lookup is a single index read.
+		Path materializedPath = findByFullPath(branch, strippedPath, elements, type);
+		if (materializedPath != null) {
+			return materializedPath;
+		}
+
 		StreamUtil.reverseOf(elements)
 			.map(URIUtils::decodeSegment)
 			.forEach(stack::add);
@@ -114,6 +123,54 @@ public class WebRootServiceImpl implements WebRootService {
 		return resolvedPath;
 	}
 
+	/**
+	 * Locate the node via the materialized full path index. The index is only used while no updates of the full paths of descendants are pending within the
+	 * branch, since the full paths of the descendants of a changed node are updated after the change has been committed.
+	 *
+	 * @param branch
+	 * @param strippedPath
+	 *            Path without the branch prefix
+	 * @param elements
+	 *            Encoded path segments
+	 * @param type
+	 * @return Fully resolved path or null if the index can't be used or no full path entry matches
+	 */
+	private Path findByFullPath(HibBranch branch, String strippedPath, String[] elements, ContainerType type) {
+		if (toBranch(branch).hasPendingWebrootPathUpdates()) {
+			return null;
+		}
+		String[] segments = new String[elements.length];
+		StringBuilder fullPath = new StringBuilder();
+		for (int i = 0; i < elements.length; i++) {
+			segments[i] = URIUtils.decodeSegment(elements[i]);
+			fullPath.append("/").append(URIUtils.encodeSegment(segments[i]));
+		}
+		String branchUuid = branch.getUuid();
+		Object key = GraphFieldContainerEdgeImpl.composeWebrootFullPathIndexKey(database, fullPath.toString(), branchUuid, type);
+		GraphFieldContainerEdge edge = database.findEdge(WEBROOT_FULLPATH_INDEX_NAME, key, GraphFieldContainerEdgeImpl.class);
+		if (edge == null) {
+			return null;
+		}
+		Node node = edge.getNode();
+		PathSegment last = node.getSegment(branchUuid, type, segments[segments.length - 1]);
+		if (last == null) {
+			return null;
+		}
+		MaterializedPath nodePath = new MaterializedPath(last, () -> {
+			// Walk up to the base node and collect the segments of the parents
+			List<PathSegment> parents = new ArrayList<>();
+			Node current = node.getParentNode(branchUuid);
+			for (int i = segments.length - 2; i >= 0 && current != null; i--) {
+				parents.add(current.getSegment(branchUuid, type, segments[i]));
+				current = current.getParentNode(branchUuid);
+			}
+			Collections.reverse(parents);
+			return parents;
+		});
+		nodePath.setTargetPath(strippedPath);
+		return nodePath;
+	}
+
 	@Override
 	public NodeGraphFieldContainer findByUrlFieldPath(String branchUuid, String path, ContainerType type) {
 		Object key = GraphFieldContainerEdgeImpl.composeWebrootUrlFieldIndexKey(database, path, branchUuid, type);
@@ -125,4 +182,42 @@ public class WebRootServiceImpl implements WebRootService {
 		}
 	}
 
+	/**
+	 * Path which was located via the materialized full path index. The lookup only loads the segment of the target node. The segments of the parents are
+	 * loaded once all segments are accessed.
+	 */
+	private static class MaterializedPath extends Path {
+
+		private final PathSegment last;
+
+		private Supplier<List<PathSegment>> parentLoader;
+
+		MaterializedPath(PathSegment last, Supplier<List<PathSegment>> parentLoader) {
+			this.last = last;
+			this.parentLoader = parentLoader;
+		}
+
+		@Override
+		public List<PathSegment> getSegments() {
+			List<PathSegment> segments = super.getSegments();
+			if (parentLoader != null) {
+				segments.addAll(parentLoader.get());
+				segments.add(last);
+				parentLoader = null;
+			}
+			return segments;
+		}
+
+		@Override
+		public PathSegment getFirst() {
+			getSegments();
+			return super.getFirst();
+		}
+
+		@Override
+		public PathSegment getLast() {
+			return last;
+		}
+	}
+
 }
@@ -0,0 +1,35 @@
+package com.gentics.mesh.core.endpoint.admin.debuginfo.providers;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.endpoint.admin.debuginfo.DebugInfoBufferEntry;
+import com.gentics.mesh.core.endpoint.admin.debuginfo.DebugInfoEntry;
+import com.gentics.mesh.core.endpoint.admin.debuginfo.DebugInfoProvider;
+import com.gentics.mesh.graphdb.retry.TxConflictTracker;
+
+import io.reactivex.Flowable;
+
+/**
+ * Adds the vertices which caused the most transaction retries due to concurrent modifications.
+ */
+@Singleton
+public class TxConflictsProvider implements DebugInfoProvider {
+	private final TxConflictTracker conflictTracker;
+
+	@Inject
+	public TxConflictsProvider(TxConflictTracker conflictTracker) {
+		this.conflictTracker = conflictTracker;
+	}
+
+	@Override
+	public String name() {
+		return "txConflicts";
+	}
+
+	@Override
+	public Flowable<DebugInfoEntry> debugInfoEntries(InternalActionContext ac) {
+		return Flowable.just(DebugInfoBufferEntry.fromString("txConflicts.json", conflictTracker.toJson().encodePrettily()));
+	}
+}
@@ -3,6 +3,11 @@ package com.gentics.mesh.core.endpoint.node;
 import static com.gentics.mesh.http.HttpConstants.ETAG;
 import static com.gentics.mesh.util.MimeTypeUtils.DEFAULT_BINARY_MIME_TYPE;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_MODIFIED;
+import static io.netty.handler.codec.http.HttpResponseStatus.PARTIAL_CONTENT;
+import static io.netty.handler.codec.http.HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -22,10 +27,17 @@ import com.gentics.mesh.storage.BinaryStorage;
 import com.gentics.mesh.util.ETag;
 import com.gentics.mesh.util.EncodeUtil;
 import com.gentics.mesh.util.MimeTypeUtils;
+import com.gentics.mesh.util.RxUtil;
 
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.reactivex.core.Vertx;
 
@@ -35,6 +47,10 @@ import io.vertx.reactivex.core.Vertx;
 @Singleton
 public class BinaryFieldResponseHandler {
 
+	private static final Logger log = LoggerFactory.getLogger(BinaryFieldResponseHandler.class);
+
+	private static final Pattern RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
 	private final ImageManipulator imageManipulator;
 
 	private final BinaryStorage storage;
@@ -113,15 +129,110 @@ public class BinaryFieldResponseHandler {
 		if (localPath != null) {
 			rangeRequestHandler.handle(rc, localPath, contentType);
 		} else {
-			String contentLength = String.valueOf(binary.getSize());
-			if (contentType != null) {
-				response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+			streamAndRespond(rc, binary, binaryDao.getStream(binary), contentType);
+		}
+
+	}
+
+	/**
+	 * Stream the binary data of storages which don't provide a local file. A single byte range is read directly from the storage. The data is only read as
+	 * fast as the client consumes it.
+	 * 
+	 * @param rc
+	 * @param binary
+	 * @param stream
+	 *            Stream of the entire binary data
+	 * @param contentType
+	 */
+	private void streamAndRespond(RoutingContext rc, Binary binary, Flowable<Buffer> stream, String contentType) {
+		HttpServerResponse response = rc.response();
+		long size = binary.getSize();
+		long offset = 0;
+		long end = size - 1;
+
+		long[] range = parseRange(rc.request().getHeader("Range"), size);
+		boolean partial = range != null;
+		if (partial) {
+			if (range.length == 0) {
+				response.putHeader("Content-Range", "bytes */" + size);
+				rc.fail(REQUESTED_RANGE_NOT_SATISFIABLE.code());
+				return;
+			}
+			offset = range[0];
+			end = range[1];
+			response.setStatusCode(PARTIAL_CONTENT.code());
+			response.putHeader("Content-Range", "bytes " + offset + "-" + end + "/" + size);
+		}
+
+		long length = end + 1 - offset;
+		if (contentType != null) {
+			response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+		}
+		response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
+		response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(length));
+		if (rc.request().method() == HttpMethod.HEAD) {
+			response.end();
+			return;
+		}
+
+		Flowable<Buffer> data = partial ? storage.read(binary.getUuid(), offset, length) : stream;
+		Disposable subscription = RxUtil.writeTo(data, response).subscribe(response::end, error -> {
+			if (response.headWritten()) {
+				// The status has already been sent. Closing the connection is the only way to signal the incomplete response.
+				log.error("Error while streaming binary {" + binary.getUuid() + "}. Closing the connection.", error);
+				response.close();
+			} else {
+				rc.fail(error);
+			}
+		});
+		// Stop reading from the storage when the client disconnects
+		response.closeHandler(v -> subscription.dispose());
+	}
+
+	/**
+	 * Parse the single byte range of the Range header. Besides ranges with a start offset, suffix ranges ({@code bytes=-N}) which select the last N bytes
+	 * are supported.
+	 * 
+	 * @param header
+	 *            Value of the Range header
+	 * @param size
+	 *            Size of the binary
+	 * @return Inclusive offset and end of the range, an empty array if the range can't be satisfied or null if the header does not specify a single byte
+	 *         range
+	 */
+	static long[] parseRange(String header, long size) {
+		Matcher m = header == null ? null : RANGE.matcher(header);
+		if (m == null || !m.matches() || (m.group(1).isEmpty() && m.group(2).isEmpty())) {
+			return null;
+		}
+		long offset;
+		// ranges are inclusive
+		long end = size - 1;
+		if (m.group(1).isEmpty()) {
+			long suffixLength = parseLength(m.group(2));
+			if (suffixLength == 0) {
+				return new long[0];
+			}
+			offset = Math.max(0, size - suffixLength);
+		} else {
+			offset = parseLength(m.group(1));
+			if (!m.group(2).isEmpty()) {
+				end = Math.min(end, parseLength(m.group(2)));
 			}
-			response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
-			response.putHeader(HttpHeaders.CONTENT_LENGTH, contentLength);
-			binaryDao.getStream(binary).subscribe(response::write, rc::fail, response::end);
 		}
+		if (offset >= size || end < offset) {
+			return new long[0];
+		}
+		return new long[] { offset, end };
+	}
 
+	private static long parseLength(String value) {
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			// Positions which exceed the range of long are beyond the end of any binary
+			return Long.MAX_VALUE;
+		}
 	}
 
 	private void resizeAndRespond(RoutingContext rc, BinaryGraphField binaryField, ImageManipulationParameters imageParams) {
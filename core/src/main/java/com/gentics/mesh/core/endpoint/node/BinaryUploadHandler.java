@@ -3,14 +3,19 @@ package com.gentics.mesh.core.endpoint.node;
 import static com.gentics.mesh.core.data.perm.InternalPermission.UPDATE_PERM;
 import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.metric.SimpleMetric.BINARY_UPLOAD_BYTES;
+import static com.gentics.mesh.metric.SimpleMetric.BINARY_UPLOAD_DEDUPLICATED;
+import static com.gentics.mesh.metric.SimpleMetric.BINARY_UPLOAD_THROUGHPUT;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -43,18 +48,22 @@ import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.MeshUploadOptions;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.storage.BinaryStorage;
 import com.gentics.mesh.util.FileUtils;
 import com.gentics.mesh.util.NodeUtil;
 import com.gentics.mesh.util.RxUtil;
-import com.gentics.mesh.util.Tuple;
 import com.gentics.mesh.util.UUIDUtil;
 
 import dagger.Lazy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -87,6 +96,12 @@ public class BinaryUploadHandler extends AbstractHandler {
 
 	private final WriteLock writeLock;
 
+	private final Counter uploadBytesCounter;
+
+	private final DistributionSummary uploadThroughput;
+
+	private final Counter deduplicatedCounter;
+
 	@Inject
 	public BinaryUploadHandler(ImageManipulator imageManipulator,
 		Database db,
@@ -97,7 +112,8 @@ public class BinaryUploadHandler extends AbstractHandler {
 		HandlerUtilities utils, Vertx rxVertx,
 		MeshOptions options,
 		Binaries binaries,
-		WriteLock writeLock) {
+		WriteLock writeLock,
+		MetricsService metrics) {
 		this.db = db;
 		this.boot = boot;
 
@@ -108,6 +124,9 @@ public class BinaryUploadHandler extends AbstractHandler {
 		this.options = options;
 		this.binaries = binaries;
 		this.writeLock = writeLock;
+		this.uploadBytesCounter = metrics.counter(BINARY_UPLOAD_BYTES);
+		this.uploadThroughput = metrics.meter(BINARY_UPLOAD_THROUGHPUT);
+		this.deduplicatedCounter = metrics.counter(BINARY_UPLOAD_DEDUPLICATED);
 	}
 
 	private void validateFileUpload(FileUpload ul, String fieldName) {
@@ -171,31 +190,31 @@ public class BinaryUploadHandler extends AbstractHandler {
 
 		UploadContext ctx = new UploadContext();
 		ctx.setUpload(ul);
+		List<BinaryDataProcessor> processors = binaryProcessorRegistry.getProcessors(ul.contentType());
 
-		// First process the upload data
-		hashUpload(ul).flatMap(hash -> {
-			Single<List<Consumer<BinaryGraphField>>> modifierOp = postProcessUpload(ul, hash).toList();
-			return modifierOp.map(list -> {
-				return Tuple.tuple(hash, list);
-			});
-		}).flatMap(modifierListAndHash -> {
-			String hash = modifierListAndHash.v1();
-			List<Consumer<BinaryGraphField>> modifierList = modifierListAndHash.v2();
-			ctx.setHash(hash);
+		// Read the upload once. The data is hashed and stored while the prefix for the processors is collected.
+		readUpload(ctx, processors).flatMap(prefix -> {
+			return postProcessUpload(ul, processors, prefix, ctx.getHash()).toList();
+		}).flatMap(modifierList -> {
+			String hash = ctx.getHash();
 
 			// Check whether the binary with the given hashsum was already stored
 			Binary binary = binaries.findByHash(hash).runInNewTx();
 
+			Completable purge = Completable.complete();
 			// Create a new binary uuid if the data was not already stored
 			if (binary == null) {
 				ctx.setBinaryUuid(UUIDUtil.randomUUID());
 				ctx.setInvokeStore();
+			} else {
+				// The stored copy of the upload is not needed
+				deduplicatedCounter.increment();
+				purge = purgeTemporaryUpload(ctx);
 			}
 
-			return storeUploadInTemp(ctx, ul, hash)
-				.andThen(Single.defer(() -> storeUploadInGraph(ac, modifierList, ctx, nodeUuid, languageTag, nodeVersion, fieldName)));
+			return purge.andThen(Single.defer(() -> storeUploadInGraph(ac, modifierList, ctx, nodeUuid, languageTag, nodeVersion, fieldName)));
 		}).onErrorResumeNext(e -> {
-			if (ctx.isInvokeStore()) {
+			if (ctx.isStoredInTemp()) {
 				String tmpId = ctx.getTemporaryId();
 				if (log.isDebugEnabled()) {
 					log.debug("Error detected. Purging previously stored upload for tempId {}", tmpId, e);
@@ -221,31 +240,80 @@ public class BinaryUploadHandler extends AbstractHandler {
 
 	}
 
-	private Completable storeUploadInTemp(UploadContext ctx, FileUpload ul, String hash) {
+	/**
+	 * Read the upload in a single pass. The SHA-512 sum of the data is computed and the data is stored in the temporary location of the binary storage. The
+	 * leading bytes of the upload which are needed by the processors are collected in the same pass, limited by the configured analyzer prefix limit.
+	 * 
+	 * @param ctx
+	 * @param processors
+	 *            Processors which will process the upload
+	 * @return Prefix of the upload for the processors
+	 */
+	private Single<Buffer> readUpload(UploadContext ctx, List<BinaryDataProcessor> processors) {
+		FileUpload ul = ctx.getUpload();
 		String uploadFilePath = ul.uploadedFileName();
-		if (ctx.isInvokeStore()) {
-			return binaryStorage.storeInTemp(uploadFilePath, ctx.getTemporaryId());
-		} else {
-			// File has already been stored. Lets remove the upload from the vert.x tmpdir. We no longer need it.
-			return fs.rxDelete(uploadFilePath)
-				.doOnComplete(() -> {
-					if (log.isTraceEnabled()) {
-						log.trace("Removed temporary file {}", uploadFilePath);
+		long requestedLength = processors.stream().mapToLong(p -> p.getPrefixLength(ul)).max().orElse(0);
+		int prefixLength = (int) Math.min(Math.min(requestedLength, options.getUploadOptions().getAnalyzerPrefixLimit()), Integer.MAX_VALUE);
+		return Single.defer(() -> {
+			long start = System.nanoTime();
+			MessageDigest digest = MessageDigest.getInstance("SHA-512");
+			Buffer prefix = Buffer.buffer(prefixLength);
+			Flowable<Buffer> data = fs.rxOpen(uploadFilePath, new OpenOptions())
+				.flatMapPublisher(RxUtil::toBufferFlow)
+				.doOnNext(buffer -> {
+					digest.update(buffer.getByteBuf().nioBuffer());
+					if (prefix.length() < prefixLength) {
+						prefix.appendBuffer(buffer, 0, Math.min(buffer.length(), prefixLength - prefix.length()));
 					}
-				})
-				.doOnError(e -> {
-					log.warn("Failed to remove upload from tmpDir {}", uploadFilePath, e);
-				}).onErrorComplete();
-		}
+				});
+			ctx.setStoredInTemp(true);
+			return binaryStorage.storeInTemp(data, ctx.getTemporaryId())
+				.andThen(Single.fromCallable(() -> {
+					ctx.setHash(FileUtils.bytesToHex(digest.digest()));
+					long duration = System.nanoTime() - start;
+					uploadBytesCounter.increment(ul.size());
+					if (duration > 0) {
+						uploadThroughput.record(ul.size() * (double) TimeUnit.SECONDS.toNanos(1) / duration);
+					}
+					return prefix;
+				}))
+				.flatMap(p -> removeUploadFile(uploadFilePath).andThen(Single.just(p)));
+		}).doOnError(e -> {
+			log.error("Error while reading upload {}", uploadFilePath, e);
+		});
 	}
 
-	private Single<String> hashUpload(FileUpload ul) {
-		String uploadFilePath = ul.uploadedFileName();
-		return fs.rxOpen(uploadFilePath, new OpenOptions())
-			.flatMapPublisher(RxUtil::toBufferFlow)
-			.to(FileUtils::hash).doOnError(e -> {
-				log.error("Error while hashing upload {}", uploadFilePath, e);
-			});
+	/**
+	 * Remove the upload from the vert.x tmpdir. The data has already been stored.
+	 * 
+	 * @param uploadFilePath
+	 * @return
+	 */
+	private Completable removeUploadFile(String uploadFilePath) {
+		return fs.rxDelete(uploadFilePath)
+			.doOnComplete(() -> {
+				if (log.isTraceEnabled()) {
+					log.trace("Removed temporary file {}", uploadFilePath);
+				}
+			})
+			.doOnError(e -> {
+				log.warn("Failed to remove upload from tmpDir {}", uploadFilePath, e);
+			}).onErrorComplete();
+	}
+
+	/**
+	 * Purge the stored copy of an upload whose binary already exists.
+	 * 
+	 * @param ctx
+	 * @return
+	 */
+	private Completable purgeTemporaryUpload(UploadContext ctx) {
+		String tmpId = ctx.getTemporaryId();
+		return binaryStorage.purgeTemporaryUpload(tmpId)
+			.doOnComplete(() -> ctx.setStoredInTemp(false))
+			.doOnError(e -> {
+				log.warn("Failed to purge temporary upload for tempId {}", tmpId, e);
+			}).onErrorComplete();
 	}
 
 	private Single<NodeResponse> storeUploadInGraph(InternalActionContext ac, List<Consumer<BinaryGraphField>> fieldModifier, UploadContext context,
@@ -375,20 +443,21 @@ public class BinaryUploadHandler extends AbstractHandler {
 	}
 
 	/**
-	 * Processes the upload and set the binary information (e.g.: image dimensions) within the provided field. The binary data will be stored in the
-	 * {@link BinaryStorage} if desired.
+	 * Processes the upload and set the binary information (e.g.: image dimensions) within the provided field.
 	 * 
 	 * @param upload
 	 *            Upload to process
+	 * @param processors
+	 *            Processors which accept the upload
+	 * @param prefix
+	 *            Leading bytes of the upload which were collected while the upload was read
 	 * @param hash
 	 *            SHA512 sum of the upload
 	 * @return Consumers which modify the graph field
 	 */
-	private Observable<Consumer<BinaryGraphField>> postProcessUpload(FileUpload upload, String hash) {
-		String contentType = upload.contentType();
-		List<BinaryDataProcessor> processors = binaryProcessorRegistry.getProcessors(contentType);
-
-		return Observable.fromIterable(processors).flatMapMaybe(p -> p.process(upload, hash)
+	private Observable<Consumer<BinaryGraphField>> postProcessUpload(FileUpload upload, List<BinaryDataProcessor> processors, Buffer prefix,
+		String hash) {
+		return Observable.fromIterable(processors).flatMapMaybe(p -> p.process(upload, prefix, hash)
 			.doOnSuccess(s -> {
 				log.info(
 					"Processing of upload {" + upload.fileName() + "/" + upload.uploadedFileName() + "} in handler {" + p.getClass()
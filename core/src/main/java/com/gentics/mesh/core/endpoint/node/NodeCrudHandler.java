@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.endpoint.node;
 
+import static com.gentics.mesh.cache.NodeResponseCache.NODE_ENDPOINT;
 import static com.gentics.mesh.core.action.DAOActionContext.context;
 import static com.gentics.mesh.core.data.perm.InternalPermission.DELETE_PERM;
 import static com.gentics.mesh.core.data.perm.InternalPermission.PUBLISH_PERM;
@@ -19,6 +20,7 @@ import javax.inject.Inject;
 import org.apache.commons.lang3.math.NumberUtils;
 
 import com.gentics.madl.tx.TxAction1;
+import com.gentics.mesh.cache.NodeResponseCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.action.NodeDAOActions;
@@ -60,13 +62,17 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 
 	private final MeshOptions options;
 
+	private final NodeResponseCache responseCache;
+
 	private static final Logger log = LoggerFactory.getLogger(NodeCrudHandler.class);
 
 	@Inject
-	public NodeCrudHandler(Database db, HandlerUtilities utils, MeshOptions options, BootstrapInitializer boot, WriteLock writeLock, NodeDAOActions nodeActions) {
+	public NodeCrudHandler(Database db, HandlerUtilities utils, MeshOptions options, BootstrapInitializer boot, WriteLock writeLock, NodeDAOActions nodeActions,
+		NodeResponseCache responseCache) {
 		super(db, utils, writeLock, nodeActions);
 		this.options = options;
 		this.boot = boot;
+		this.responseCache = responseCache;
 	}
 
 	@Override
@@ -205,7 +211,24 @@ public class NodeCrudHandler extends AbstractCrudHandler<HibNode, NodeResponse>
 	public void handleRead(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
 		InternalPermission requiredPermission = "published".equals(ac.getVersioningParameters().getVersion()) ? READ_PUBLISHED_PERM : READ_PERM;
-		utils.readElement(ac, uuid, crudActions(), requiredPermission);
+		if (responseCache.isDisabled()) {
+			utils.readElement(ac, uuid, crudActions(), requiredPermission);
+			return;
+		}
+
+		utils.syncTx(ac, tx -> {
+			HibNode node = crudActions().loadByUuid(context(tx, ac), uuid, requiredPermission, true);
+
+			// The etag is also needed for the cache key
+			String etag = crudActions().getETag(tx, ac, node);
+			if (ac.getGenericParameters().getETag()) {
+				ac.setEtag(etag, true);
+				if (ac.matches(etag, true)) {
+					throw new NotModifiedException();
+				}
+			}
+			return responseCache.getResponse(ac, NODE_ENDPOINT, node.getUuid(), etag, () -> crudActions().transformToRestSync(tx, node, ac, 0).toJson());
+		}, json -> ac.send(json, OK));
 	}
 
 	/**
@@ -16,6 +16,8 @@ public class UploadContext {
 
 	private boolean invokeStore = false;
 
+	private boolean storedInTemp = false;
+
 	public UploadContext() {
 		this.temporaryId = UUIDUtil.randomUUID();
 	}
@@ -56,4 +58,17 @@ public class UploadContext {
 		return this.invokeStore;
 	}
 
+	/**
+	 * Set the flag which indicates whether the data of the upload has been stored under the temporary id and needs to be purged on failure.
+	 * 
+	 * @param storedInTemp
+	 */
+	public void setStoredInTemp(boolean storedInTemp) {
+		this.storedInTemp = storedInTemp;
+	}
+
+	public boolean isStoredInTemp() {
+		return storedInTemp;
+	}
+
 }
@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.endpoint.webroot;
 
+import static com.gentics.mesh.cache.NodeResponseCache.WEBROOT_ENDPOINT;
 import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
 import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
@@ -14,6 +15,7 @@ import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.mesh.cache.NodeResponseCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
@@ -77,9 +79,12 @@ public class WebRootHandler {
 
 	private final HandlerUtilities utils;
 
+	private final NodeResponseCache responseCache;
+
 	@Inject
 	public WebRootHandler(Database database, WebRootServiceImpl webrootService, BinaryFieldResponseHandler binaryFieldResponseHandler,
-		NodeCrudHandler nodeCrudHandler, BootstrapInitializer boot, MeshOptions options, WriteLock writeLock, HandlerUtilities utils) {
+		NodeCrudHandler nodeCrudHandler, BootstrapInitializer boot, MeshOptions options, WriteLock writeLock, HandlerUtilities utils,
+		NodeResponseCache responseCache) {
 		this.db = database;
 		this.webrootService = webrootService;
 		this.binaryFieldResponseHandler = binaryFieldResponseHandler;
@@ -88,6 +93,7 @@ public class WebRootHandler {
 		this.options = options;
 		this.writeLock = writeLock;
 		this.utils = utils;
+		this.responseCache = responseCache;
 	}
 
 	/**
@@ -160,11 +166,13 @@ public class WebRootHandler {
 					languageTags.add(lastSegment.getLanguageTag());
 					languageTags.addAll(ac.getNodeParameters().getLanguageList(options));
 					ac.setWebrootResponseType("node");
-					return nodeDao.transformToRestSync(node, ac, 0, languageTags.toArray(new String[0]));
+					// The language of the resolved path changes the response and is thus part of the key
+					return responseCache.getResponse(ac, WEBROOT_ENDPOINT, node.getUuid(), etag + "-" + lastSegment.getLanguageTag(),
+						() -> JsonUtil.toJson(nodeDao.transformToRestSync(node, ac, 0, languageTags.toArray(new String[0]))));
 				}
-			}, model -> {
-				if (model != null) {
-					ac.send(JsonUtil.toJson(model),
+			}, json -> {
+				if (json != null) {
+					ac.send(json,
 						HttpResponseStatus.valueOf(NumberUtils.toInt(rc.data().getOrDefault("statuscode", "").toString(), OK.code())));
 				}
 			});
@@ -1,10 +1,26 @@
 package com.gentics.mesh.core.migration;
 
+import static com.gentics.mesh.metric.SimpleMetric.MIGRATION_CHUNK_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.MIGRATION_MIGRATED;
+
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import javax.inject.Provider;
@@ -28,11 +44,15 @@ import com.gentics.mesh.core.rest.common.FieldContainer;
 import com.gentics.mesh.core.rest.event.EventCauseInfo;
 import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.rest.node.field.Field;
+import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.StreamUtil;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -162,6 +182,170 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 		return errorsDetected;
 	}
 
+	/**
+	 * Migrate the given elements in chunks. All elements of a chunk are migrated within a single transaction. The transaction will be retried as a whole if
+	 * a conflict is detected. If the chunk can't be migrated, each element of the chunk will be migrated in its own transaction so that a single failing element
+	 * does not prevent the migration of the other elements.
+	 *
+	 * The elements are read lazily from the iterator by the calling thread. The chunks are passed via a bounded queue to the given amount of workers, thus
+	 * only a few chunks are held in memory at any time. Each worker will use its own migrator which is created by the given factory.
+	 *
+	 * @param elements
+	 *            Elements (or ids of the elements) to be migrated
+	 * @param totalCount
+	 *            Amount of elements which will be returned by the iterator. The amount is used to estimate the remaining time.
+	 * @param chunkSize
+	 *            Amount of elements which are migrated within one transaction
+	 * @param workerCount
+	 *            Amount of workers which migrate chunks concurrently
+	 * @param cause
+	 * @param status
+	 * @param lock
+	 *            Function which returns the lock which needs to be held while the worker with the given index migrates a chunk
+	 * @param migratorFactory
+	 *            Factory which creates the migrator for a worker
+	 * @param committed
+	 *            Invoked with the amount of elements which have been migrated once the transaction of the elements has been committed
+	 * @return Detected errors
+	 */
+	@ParametersAreNonnullByDefault
+	protected <T> List<Exception> migrateChunked(Iterator<T> elements, long totalCount, int chunkSize, int workerCount, EventCauseInfo cause,
+		MigrationStatusHandler status, IntFunction<WriteLock> lock, Supplier<TriConsumer<EventQueueBatch, T, List<Exception>>> migratorFactory,
+		LongConsumer committed) {
+		int size = Math.max(chunkSize, 1);
+		long chunkCount = (totalCount + size - 1) / size;
+		int workers = (int) Math.max(1, Math.min(workerCount, chunkCount));
+		List<Exception> errorsDetected = Collections.synchronizedList(new ArrayList<>());
+		Timer chunkTimer = metrics.timer(MIGRATION_CHUNK_TIME);
+		Counter migratedCounter = metrics.counter(MIGRATION_MIGRATED);
+		status.setTotalCount(totalCount);
+
+		log.info("Migrating {" + totalCount + "} elements in {" + chunkCount + "} chunks using {" + workers + "} workers");
+		BlockingQueue<List<T>> queue = new ArrayBlockingQueue<>(workers * 2);
+		List<T> endOfQueue = Collections.emptyList();
+		AtomicInteger chunkIndex = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(workers,
+			new ThreadFactoryBuilder().setNameFormat("mesh-migration-worker-%d").setDaemon(true).build());
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < workers; i++) {
+				int workerIndex = i;
+				futures.add(executor.submit(() -> {
+					TriConsumer<EventQueueBatch, T, List<Exception>> migrator = migratorFactory.get();
+					while (true) {
+						List<T> chunk = queue.take();
+						if (chunk == endOfQueue) {
+							return null;
+						}
+						Timer.Sample sample = Timer.start();
+						long migrated = migrateChunk(chunk, cause, () -> lock.apply(workerIndex), migrator, errorsDetected);
+						sample.stop(chunkTimer);
+						committed.accept(migrated);
+						status.incCompleted(chunk.size());
+						if (metrics.isEnabled()) {
+							migratedCounter.increment(migrated);
+						}
+						int index = chunkIndex.getAndIncrement();
+						if (index % 10 == 0) {
+							long remaining = status.getEstimatedRemainingTime();
+							log.info(String.format("Migrated chunk %d of %d (%.1f elements/s, estimated remaining time: %s)", index + 1, chunkCount,
+								status.getThroughput(), remaining < 0 ? "unknown" : (remaining / 1000) + "s"));
+							// Persist the progress so that it can be inspected via the job
+							db.tx(() -> {
+								status.commit();
+							});
+						}
+					}
+				}));
+			}
+
+			List<T> chunk = new ArrayList<>(size);
+			while (elements.hasNext()) {
+				chunk.add(elements.next());
+				if (chunk.size() == size) {
+					enqueue(queue, chunk, futures);
+					chunk = new ArrayList<>(size);
+				}
+			}
+			if (!chunk.isEmpty()) {
+				enqueue(queue, chunk, futures);
+			}
+			for (int i = 0; i < workers; i++) {
+				enqueue(queue, endOfQueue, futures);
+			}
+
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					errorsDetected.add(e);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			errorsDetected.add(e);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		log.info("Migration of " + totalCount + " elements done..");
+		log.info("Encountered {" + errorsDetected.size() + "} errors during migration.");
+		return new ArrayList<>(errorsDetected);
+	}
+
+	/**
+	 * Add the chunk to the queue. Fails if all workers have been terminated since the chunk would never be taken from the queue.
+	 */
+	private <T> void enqueue(BlockingQueue<List<T>> queue, List<T> chunk, List<Future<?>> workers) throws InterruptedException {
+		while (!queue.offer(chunk, 1, TimeUnit.SECONDS)) {
+			if (workers.stream().allMatch(Future::isDone)) {
+				throw new IllegalStateException("All migration workers have been terminated.");
+			}
+		}
+	}
+
+	/**
+	 * Migrate the chunk and dispatch the events of the migrated elements.
+	 *
+	 * @return Amount of elements which have been migrated and committed
+	 */
+	private <T> long migrateChunk(List<T> chunk, EventCauseInfo cause, Supplier<WriteLock> lock, TriConsumer<EventQueueBatch, T, List<Exception>> migrator,
+		List<Exception> errorsDetected) {
+		List<Exception> chunkErrors = new ArrayList<>();
+		EventQueueBatch batch;
+		try (WriteLock writeLock = lock.get()) {
+			batch = db.tx(() -> {
+				// The transaction may be retried. Events and errors of previous attempts must be discarded.
+				chunkErrors.clear();
+				EventQueueBatch chunkBatch = batchProvider.get();
+				chunkBatch.setCause(cause);
+				for (T element : chunk) {
+					migrator.accept(chunkBatch, element, chunkErrors);
+				}
+				return chunkBatch;
+			});
+		} catch (Exception e) {
+			if (chunk.size() == 1) {
+				errorsDetected.add(e);
+				return 0;
+			}
+			log.warn("Migration of chunk failed. Migrating the elements of the chunk one by one.", e);
+			long migrated = 0;
+			for (T element : chunk) {
+				migrated += migrateChunk(Collections.singletonList(element), cause, lock, migrator, errorsDetected);
+			}
+			return migrated;
+		}
+		errorsDetected.addAll(chunkErrors);
+		EventQueueBatch migratedBatch = batch;
+		if (migratedBatch.size() > 0) {
+			db.tx(() -> {
+				migratedBatch.dispatch();
+			});
+		}
+		return chunk.size() - chunkErrors.size();
+	}
+
 	/**
 	 * Invoke the post migration purge for the containers.
 	 *
@@ -167,6 +167,10 @@ public class BranchMigrationImpl extends AbstractMigrationHandler implements Bra
 					batch.add(container.onUpdated(newBranch.getUuid(), PUBLISHED));
 				});
 
+				// Materialize the full paths. Children which were migrated before their parent are updated along the way.
+				toNode(node).updateWebrootFullPaths(newBranch.getUuid(), DRAFT, true);
+				toNode(node).updateWebrootFullPaths(newBranch.getUuid(), PUBLISHED, true);
+
 				// Migrate tags
 				tagDao.getTags(node, oldBranch).forEach(tag -> tagDao.addTag(node, tag, newBranch));
 			});
@@ -37,6 +37,12 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	private long completionCount = 0;
 
+	private long totalCount = 0;
+
+	private long startCompletionCount = 0;
+
+	private long startTime = 0;
+
 	private JobStatus status;
 
 	public MigrationStatusHandlerImpl(Job job, Vertx vertx, JobType type) {
@@ -45,7 +51,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 	}
 
 	@Override
-	public MigrationStatusHandler commit() {
+	public synchronized MigrationStatusHandler commit() {
 		// Load the status if it has not yet been set or loaded.
 		if (status == null) {
 			status = job.getStatus();
@@ -54,6 +60,12 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 			versionEdge.setMigrationStatus(status);
 		}
 		job.setCompletionCount(completionCount);
+		if (totalCount > 0) {
+			job.setTotalCount(totalCount);
+			job.setThroughput(getThroughput());
+			long remaining = getEstimatedRemainingTime();
+			job.setEstimatedRemainingTime(remaining < 0 ? null : remaining);
+		}
 		job.setStatus(status);
 
 		Tx.get().getGraph().commit();
@@ -122,7 +134,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 	}
 
 	@Override
-	public void setCompletionCount(long completionCount) {
+	public synchronized void setCompletionCount(long completionCount) {
 		this.completionCount = completionCount;
 	}
 
@@ -132,8 +144,39 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 	}
 
 	@Override
-	public void incCompleted() {
+	public synchronized void incCompleted() {
 		completionCount++;
 	}
 
+	@Override
+	public synchronized void incCompleted(long amount) {
+		completionCount += amount;
+	}
+
+	@Override
+	public synchronized void setTotalCount(long totalCount) {
+		this.totalCount = totalCount;
+		this.startCompletionCount = completionCount;
+		this.startTime = System.currentTimeMillis();
+	}
+
+	@Override
+	public synchronized double getThroughput() {
+		long duration = System.currentTimeMillis() - startTime;
+		if (startTime == 0 || duration <= 0) {
+			return 0;
+		}
+		return (completionCount - startCompletionCount) * 1000d / duration;
+	}
+
+	@Override
+	public synchronized long getEstimatedRemainingTime() {
+		double throughput = getThroughput();
+		if (totalCount == 0 || throughput <= 0) {
+			return -1;
+		}
+		long remaining = Math.max(totalCount - (completionCount - startCompletionCount), 0);
+		return (long) (remaining * 1000 / throughput);
+	}
+
 }
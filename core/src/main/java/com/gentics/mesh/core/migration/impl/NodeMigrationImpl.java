@@ -6,6 +6,8 @@ import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
 import static com.gentics.mesh.metric.SimpleMetric.NODE_MIGRATION_PENDING;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -19,6 +21,7 @@ import javax.inject.Singleton;
 import com.gentics.mesh.context.NodeMigrationActionContext;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.dao.ContentDaoWrapper;
 import com.gentics.mesh.core.data.dao.NodeDaoWrapper;
 import com.gentics.mesh.core.data.node.HibNode;
@@ -34,11 +37,16 @@ import com.gentics.mesh.core.rest.event.node.SchemaMigrationCause;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.schema.SchemaVersionModel;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
+import com.gentics.mesh.core.verticle.handler.WriteLockScope;
+import com.gentics.mesh.etc.config.ContentConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.util.Tuple;
 import com.gentics.mesh.util.VersionNumber;
-import com.google.common.collect.Lists;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
 
 import io.reactivex.Completable;
 import io.reactivex.exceptions.CompositeException;
@@ -53,15 +61,22 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 
 	private static final Logger log = LoggerFactory.getLogger(NodeMigrationImpl.class);
 
+	/**
+	 * Amount of container ids which are read within one transaction.
+	 */
+	private static final int ID_PAGE_SIZE = 1000;
+
 	private final AtomicLong migrationGauge;
 	private final WriteLock writeLock;
+	private final MeshOptions options;
 
 	@Inject
 	public NodeMigrationImpl(Database db, BinaryUploadHandler nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
-		WriteLock writeLock) {
+		WriteLock writeLock, MeshOptions options) {
 		super(db, nodeFieldAPIHandler, metrics, batchProvider);
 		migrationGauge = metrics.longGauge(NODE_MIGRATION_PENDING);
 		this.writeLock = writeLock;
+		this.options = options;
 	}
 
 	@Override
@@ -91,19 +106,17 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 				return Completable.error(e);
 			}
 
-			// Get the draft containers that need to be transformed. Containers which need to be transformed are those which are still linked to older schema
-			// versions. We'll work on drafts. The migration code will later on also handle publish versions.
-			List<? extends NodeGraphFieldContainer> containers = db.tx(() -> {
-				Iterator<? extends NodeGraphFieldContainer> it = fromVersion.getDraftFieldContainers(branch.getUuid());
-				return Lists.newArrayList(it);
-			});
+			// Count the draft containers that need to be transformed. Containers which need to be transformed are those which are still linked to older
+			// schema versions. We'll work on drafts. The migration code will later on also handle publish versions.
+			String branchUuid = db.tx(() -> branch.getUuid());
+			long containerCount = Iterators.size(draftContainerIds(fromVersion, branchUuid));
 
 			if (metrics.isEnabled()) {
-				migrationGauge.set(containers.size());
+				migrationGauge.set(containerCount);
 			}
 
 			// No field containers, migration is done
-			if (containers.isEmpty()) {
+			if (containerCount == 0) {
 				if (status != null) {
 					db.tx(() -> {
 						status.setStatus(COMPLETED);
@@ -113,14 +126,27 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 				return Completable.complete();
 			}
 
-			List<Exception> errorsDetected = migrateLoop(containers, cause, status, (batch, container, errors) -> {
-				try (WriteLock lock = writeLock.lock(context)) {
-					migrateContainer(context, batch, container, fromVersion, newSchema, errors, touchedFields);
-				}
-				if (metrics.isEnabled()) {
-					migrationGauge.decrementAndGet();
-				}
-			});
+			String projectUuid = db.tx(() -> branch.getProject().getUuid());
+
+			// Each worker needs its own context since the parameters of the context are modified during the migration
+			ContentConfig contentOptions = options.getContentOptions();
+			// The ids are read in pages, each within its own short transaction, while the workers migrate and commit the chunks in their own transactions.
+			List<Exception> errorsDetected = migrateChunked(draftContainerIds(fromVersion, branchUuid), containerCount,
+				contentOptions.getMigrationChunkSize(), contentOptions.getMigrationWorkers(), cause, status,
+				// The migration only modifies contents of the branch. The workers share the branch lock so that they don't serialize each other but
+				// wait for exclusive locks of the branch. Concurrent writes to the same contents are handled by retrying the chunk transaction.
+				worker -> writeLock.lock(context, WriteLockScope.sharedBranch(projectUuid, branchUuid)),
+				() -> {
+					NodeMigrationActionContext workerContext = context.copy();
+					return (batch, containerId, errors) -> {
+						NodeGraphFieldContainer container = Tx.get().getGraph().getFramedVertexExplicit(NodeGraphFieldContainerImpl.class, containerId);
+						migrateContainer(workerContext, batch, container, fromVersion, newSchema, errors, touchedFields);
+					};
+				}, migrated -> {
+					if (metrics.isEnabled()) {
+						migrationGauge.addAndGet(-migrated);
+					}
+				});
 
 			// TODO prepare errors. They should be easy to understand and to grasp
 			Completable result = Completable.complete();
@@ -137,6 +163,46 @@ public class NodeMigrationImpl extends AbstractMigrationHandler implements NodeM
 
 	}
 
+	/**
+	 * Return an iterator over the ids of the draft containers of the version in the branch. The ids are read in pages in the order of the container uuids.
+	 * Each page is read in its own transaction, thus no transaction is held open while the ids are consumed.
+	 *
+	 * @param fromVersion
+	 * @param branchUuid
+	 * @return
+	 */
+	private Iterator<Object> draftContainerIds(SchemaVersion fromVersion, String branchUuid) {
+		return new AbstractIterator<Object>() {
+
+			private Iterator<Object> page = Collections.emptyIterator();
+
+			private String after;
+
+			private boolean lastPage = false;
+
+			@Override
+			protected Object computeNext() {
+				if (!page.hasNext() && !lastPage) {
+					List<Tuple<String, Object>> entries = db.tx(() -> {
+						List<Tuple<String, Object>> result = new ArrayList<>(ID_PAGE_SIZE);
+						Iterator<? extends NodeGraphFieldContainer> it = fromVersion.getDraftFieldContainers(branchUuid, after);
+						while (result.size() < ID_PAGE_SIZE && it.hasNext()) {
+							NodeGraphFieldContainer container = it.next();
+							result.add(Tuple.tuple(container.getUuid(), container.id()));
+						}
+						return result;
+					});
+					lastPage = entries.size() < ID_PAGE_SIZE;
+					if (!entries.isEmpty()) {
+						after = entries.get(entries.size() - 1).v1();
+					}
+					page = entries.stream().map(Tuple::v2).iterator();
+				}
+				return page.hasNext() ? page.next() : endOfData();
+			}
+		};
+	}
+
 	/**
 	 * Migrates the given container.
 	 * 
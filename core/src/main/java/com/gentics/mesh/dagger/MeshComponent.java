@@ -8,9 +8,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import com.gentics.mesh.Mesh;
 import com.gentics.mesh.auth.handler.MeshJWTAuthHandler;
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
+import com.gentics.mesh.cache.NodeResponseCache;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectNameCache;
+import com.gentics.mesh.cache.WebRootLinkCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.binary.Binaries;
@@ -18,6 +20,8 @@ import com.gentics.mesh.core.data.generic.PermissionProperties;
 import com.gentics.mesh.core.data.generic.UserProperties;
 import com.gentics.mesh.core.data.schema.handler.SchemaComparatorImpl;
 import com.gentics.mesh.core.data.service.ServerSchemaStorage;
+import com.gentics.mesh.core.data.service.WebRootFullPathUpdater;
+import com.gentics.mesh.core.data.service.WebRootService;
 import com.gentics.mesh.core.endpoint.node.BinaryUploadHandler;
 import com.gentics.mesh.core.endpoint.role.RoleCrudHandler;
 import com.gentics.mesh.core.image.spi.ImageManipulator;
@@ -137,6 +141,14 @@ public interface MeshComponent {
 
 	PermissionCache permissionCache();
 
+	WebRootLinkCache webRootLinkCache();
+
+	NodeResponseCache nodeResponseCache();
+
+	WebRootService webRootService();
+
+	WebRootFullPathUpdater webRootFullPathUpdater();
+
 	Vertx vertx();
 
 	Provider<EventQueueBatch> batchProvider();
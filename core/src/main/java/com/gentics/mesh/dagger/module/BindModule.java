@@ -7,12 +7,16 @@ import com.gentics.mesh.auth.MeshOAuthService;
 import com.gentics.mesh.auth.oauth2.MeshOAuth2ServiceImpl;
 import com.gentics.mesh.cache.CacheRegistry;
 import com.gentics.mesh.cache.CacheRegistryImpl;
+import com.gentics.mesh.cache.NodeResponseCache;
+import com.gentics.mesh.cache.NodeResponseCacheImpl;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.PermissionCacheImpl;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectBranchNameCacheImpl;
 import com.gentics.mesh.cache.ProjectNameCache;
 import com.gentics.mesh.cache.ProjectNameCacheImpl;
+import com.gentics.mesh.cache.WebRootLinkCache;
+import com.gentics.mesh.cache.WebRootLinkCacheImpl;
 import com.gentics.mesh.cache.WebrootPathCache;
 import com.gentics.mesh.cache.WebrootPathCacheImpl;
 import com.gentics.mesh.cli.BootstrapInitializer;
@@ -90,6 +94,8 @@ import com.gentics.mesh.distributed.coordinator.proxy.RequestDelegatorImpl;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.event.impl.EventQueueBatchImpl;
 import com.gentics.mesh.graphdb.OrientDBDatabase;
+import com.gentics.mesh.graphdb.retry.ExponentialBackoffRetryPolicy;
+import com.gentics.mesh.graphdb.retry.TxRetryPolicy;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.handler.RangeRequestHandler;
 import com.gentics.mesh.handler.impl.RangeRequestHandlerImpl;
@@ -137,6 +143,9 @@ public abstract class BindModule {
 	@Binds
 	abstract Database bindDatabase(OrientDBDatabase e);
 
+	@Binds
+	abstract TxRetryPolicy bindTxRetryPolicy(ExponentialBackoffRetryPolicy e);
+
 	@Binds
 	abstract RangeRequestHandler bindRangeRequestHandler(RangeRequestHandlerImpl e);
 
@@ -146,6 +155,12 @@ public abstract class BindModule {
 	@Binds
 	abstract WebrootPathCache bindWebrootPathCache(WebrootPathCacheImpl e);
 
+	@Binds
+	abstract WebRootLinkCache bindWebRootLinkCache(WebRootLinkCacheImpl e);
+
+	@Binds
+	abstract NodeResponseCache bindNodeResponseCache(NodeResponseCacheImpl e);
+
 	@Binds
 	abstract PermissionCache bindPermissionCache(PermissionCacheImpl e);
 
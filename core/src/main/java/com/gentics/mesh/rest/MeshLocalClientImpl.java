@@ -91,6 +91,7 @@ import com.gentics.mesh.core.rest.schema.change.impl.SchemaChangesListModel;
 import com.gentics.mesh.core.rest.schema.impl.SchemaCreateRequest;
 import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
+import com.gentics.mesh.core.rest.search.SearchSourceListResponse;
 import com.gentics.mesh.core.rest.search.SearchStatusResponse;
 import com.gentics.mesh.core.rest.tag.TagCreateRequest;
 import com.gentics.mesh.core.rest.tag.TagFamilyCreateRequest;
@@ -1476,6 +1477,18 @@ public class MeshLocalClientImpl implements MeshRestClient {
 		return new MeshLocalRequestImpl<>(ac.getFuture());
 	}
 
+	@Override
+	public MeshRequest<SearchSourceListResponse> searchNodesSource(String json, ParameterProvider... parameters) {
+		LocalActionContextImpl<SearchSourceListResponse> ac = createContext(SearchSourceListResponse.class, parameters);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
+	@Override
+	public MeshRequest<SearchSourceListResponse> searchNodesSource(String projectName, String json, ParameterProvider... parameters) {
+		LocalActionContextImpl<SearchSourceListResponse> ac = createContext(SearchSourceListResponse.class, parameters);
+		return new MeshLocalRequestImpl<>(ac.getFuture());
+	}
+
 	@Override
 	public MeshRequest<TagListResponse> searchTags(String projectName, String json, ParameterProvider... parameters) {
 		// TODO Auto-generated method stub
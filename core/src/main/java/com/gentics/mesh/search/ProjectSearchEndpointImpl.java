@@ -4,8 +4,6 @@ import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.vertx.core.http.HttpMethod.POST;
 
-import java.util.function.Function;
-
 import javax.inject.Inject;
 
 import com.gentics.mesh.auth.MeshAuthChain;
@@ -13,6 +11,7 @@ import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.HibCoreElement;
 import com.gentics.mesh.core.data.dao.TagFamilyDaoWrapper;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.tag.HibTag;
 import com.gentics.mesh.core.db.Tx;
@@ -24,6 +23,7 @@ import com.gentics.mesh.core.rest.tag.TagListResponse;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 import com.gentics.mesh.router.route.AbstractProjectEndpoint;
+import com.gentics.mesh.search.BulkElementLoader;
 import com.gentics.mesh.search.index.node.NodeSearchHandler;
 import com.gentics.mesh.search.index.tag.TagSearchHandler;
 import com.gentics.mesh.search.index.tagfamily.TagFamilySearchHandler;
@@ -75,19 +75,22 @@ public class ProjectSearchEndpointImpl extends AbstractProjectEndpoint implement
 	 * Add various search endpoints using the aggregation nodes.
 	 */
 	private void addSearchEndpoints() {
-		registerSearchHandler("nodes", (uuid) -> {
-			return db.index().findByUuid(NodeImpl.class, uuid);
+		// Nodes are loaded via a single index lookup for all hits
+		registerSearchHandler("nodes", uuids -> {
+			return db.index().<Node>findByUuids(NodeImpl.class, uuids);
 		}, NodeListResponse.class, nodeSearchHandler, nodeExamples.getNodeListResponse(), true);
+		registerSourceSearchHandler("nodes", nodeSearchHandler, true);
+		registerExportSearchHandler("nodes", nodeSearchHandler, true);
 
-		registerSearchHandler("tags", uuid -> {
+		registerSearchHandler("tags", BulkElementLoader.of(uuid -> {
 			HibTag tag = Tx.get().data().tagDao().findByUuidGlobal(uuid);
 			return tag;
-		}, TagListResponse.class, tagSearchHandler, tagExamples.createTagListResponse(), false);
+		}), TagListResponse.class, tagSearchHandler, tagExamples.createTagListResponse(), false);
 
-		registerSearchHandler("tagFamilies", uuid -> {
+		registerSearchHandler("tagFamilies", BulkElementLoader.of(uuid -> {
 			TagFamilyDaoWrapper tagFamilyDao = Tx.get().data().tagFamilyDao();
 			return tagFamilyDao.findByUuid(uuid);
-		}, TagFamilyListResponse.class, tagFamilySearchHandler, tagFamilyExamples.getTagFamilyListResponse(), false);
+		}), TagFamilyListResponse.class, tagFamilySearchHandler, tagFamilyExamples.getTagFamilyListResponse(), false);
 	}
 
 	/**
@@ -96,7 +99,7 @@ public class ProjectSearchEndpointImpl extends AbstractProjectEndpoint implement
 	 * @param typeName
 	 *            Name of the search endpoint
 	 * @param elementLoader
-	 *            Loader function which will load the element with the given uuid from the graph.
+	 *            Loader which will load the elements with the given uuids from the graph.
 	 * @param classOfRL
 	 *            Class of matching list response
 	 * @param indexHandlerKey
@@ -107,7 +110,7 @@ public class ProjectSearchEndpointImpl extends AbstractProjectEndpoint implement
 	 *            Whether to append the language filter
 	 */
 	private <T extends HibCoreElement, TR extends RestModel, RL extends ListResponse<TR>> void registerSearchHandler(String typeName,
-		Function<String, T> elementLoader, Class<RL> classOfRL, SearchHandler<T, TR> searchHandler, RL exampleResponse, boolean filterByLanguage) {
+		BulkElementLoader<T> elementLoader, Class<RL> classOfRL, SearchHandler<T, TR> searchHandler, RL exampleResponse, boolean filterByLanguage) {
 		InternalEndpointRoute endpoint = createRoute();
 		endpoint.path("/" + typeName);
 		endpoint.method(POST);
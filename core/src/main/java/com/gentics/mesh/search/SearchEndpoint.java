@@ -1,10 +1,12 @@
 package com.gentics.mesh.search;
 
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.vertx.core.http.HttpMethod.POST;
 
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.SearchParametersImpl;
 import com.gentics.mesh.rest.InternalEndpoint;
 import com.gentics.mesh.rest.InternalEndpointRoute;
@@ -37,4 +39,65 @@ public interface SearchEndpoint extends InternalEndpoint {
 			}
 		});
 	}
+
+	/**
+	 * Register the search handler which will return the documents of the search index without loading the elements from the graph.
+	 * 
+	 * @param typeName
+	 * @param searchHandler
+	 * @param filterByLanguage
+	 *            Whether to append the language filter
+	 */
+	default void registerSourceSearchHandler(String typeName, SearchHandler<?, ?> searchHandler, boolean filterByLanguage) {
+		InternalEndpointRoute endpoint = createRoute();
+		endpoint.path("/" + typeName + "/source");
+		endpoint.method(POST);
+		endpoint.setMutating(false);
+		endpoint.description("Invoke a search query for " + typeName
+			+ " and return a paged list of the found search index documents. The elements will not be loaded. Source filtering and highlighting can be specified in the query.");
+		endpoint.consumes(APPLICATION_JSON);
+		endpoint.produces(APPLICATION_JSON);
+		endpoint.addQueryParameters(PagingParametersImpl.class);
+		endpoint.addQueryParameters(SearchParametersImpl.class);
+		endpoint.exampleResponse(OK, miscExamples.createSearchSourceListResponse(), "Paged list of search index documents.");
+		endpoint.exampleRequest(miscExamples.getSearchQueryExample());
+		endpoint.handler(rc -> {
+			try {
+				InternalActionContext ac = wrap(rc);
+				searchHandler.sourceQuery(ac, filterByLanguage);
+			} catch (Exception e) {
+				rc.fail(e);
+			}
+		});
+	}
+
+	/**
+	 * Register the search handler which will stream the documents of all hits of the search index.
+	 * 
+	 * @param typeName
+	 * @param searchHandler
+	 * @param filterByLanguage
+	 *            Whether to append the language filter
+	 */
+	default void registerExportSearchHandler(String typeName, SearchHandler<?, ?> searchHandler, boolean filterByLanguage) {
+		InternalEndpointRoute endpoint = createRoute();
+		endpoint.path("/" + typeName + "/export");
+		endpoint.method(POST);
+		endpoint.setMutating(false);
+		endpoint.description("Invoke a search query for " + typeName
+			+ " and stream the search index documents of all hits. Each document is returned as a single line of JSON. The elements will not be loaded.");
+		endpoint.consumes(APPLICATION_JSON);
+		endpoint.produces(APPLICATION_NDJSON);
+		endpoint.addQueryParameters(SearchParametersImpl.class);
+		endpoint.exampleResponse(OK, "Newline delimited search index documents.");
+		endpoint.exampleRequest(miscExamples.getSearchQueryExample());
+		endpoint.handler(rc -> {
+			try {
+				InternalActionContext ac = wrap(rc);
+				searchHandler.exportQuery(ac, rc.response(), filterByLanguage);
+			} catch (Exception e) {
+				rc.fail(e);
+			}
+		});
+	}
 }
@@ -5,8 +5,6 @@ import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.vertx.core.http.HttpMethod.GET;
 import static io.vertx.core.http.HttpMethod.POST;
 
-import java.util.function.Function;
-
 import javax.inject.Inject;
 
 import com.gentics.mesh.auth.MeshAuthChain;
@@ -31,6 +29,7 @@ import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.SearchParametersImpl;
 import com.gentics.mesh.rest.InternalEndpointRoute;
 import com.gentics.mesh.router.route.AbstractInternalEndpoint;
+import com.gentics.mesh.search.BulkElementLoader;
 import com.gentics.mesh.search.index.AdminIndexHandler;
 import com.gentics.mesh.search.index.group.GroupSearchHandler;
 import com.gentics.mesh.search.index.microschema.MicroschemaSearchHandler;
@@ -107,33 +106,35 @@ public class SearchEndpointImpl extends AbstractInternalEndpoint implements Sear
 	 * Add various search endpoints using the aggregation nodes.
 	 */
 	private void addSearchEndpoints() {
-		registerHandler("users", (uuid) -> boot.get().meshRoot().getUserRoot().findByUuid(uuid), UserListResponse.class, userSearchHandler,
-			userExamples.getUserListResponse(), false);
-		registerHandler("groups", (uuid) -> boot.get().meshRoot().getGroupRoot().findByUuid(uuid), GroupListResponse.class, groupSearchHandler,
-			groupExamples.getGroupListResponse(), false);
-		registerHandler("roles", (uuid) -> boot.get().meshRoot().getRoleRoot().findByUuid(uuid), RoleListResponse.class, roleSearchHandler,
-			roleExamples.getRoleListResponse(), false);
-
-		registerHandler("nodes", (uuid) -> {
-			Node node = db.index().findByUuid(NodeImpl.class, uuid);
-			return node;
+		registerHandler("users", BulkElementLoader.of(uuid -> boot.get().meshRoot().getUserRoot().findByUuid(uuid)), UserListResponse.class,
+			userSearchHandler, userExamples.getUserListResponse(), false);
+		registerHandler("groups", BulkElementLoader.of(uuid -> boot.get().meshRoot().getGroupRoot().findByUuid(uuid)), GroupListResponse.class,
+			groupSearchHandler, groupExamples.getGroupListResponse(), false);
+		registerHandler("roles", BulkElementLoader.of(uuid -> boot.get().meshRoot().getRoleRoot().findByUuid(uuid)), RoleListResponse.class,
+			roleSearchHandler, roleExamples.getRoleListResponse(), false);
+
+		// Nodes are loaded via a single index lookup for all hits
+		registerHandler("nodes", uuids -> {
+			return db.index().<Node>findByUuids(NodeImpl.class, uuids);
 		}, NodeListResponse.class, nodeSearchHandler, nodeExamples.getNodeListResponse(), true);
+		registerSourceSearchHandler("nodes", nodeSearchHandler, true);
+		registerExportSearchHandler("nodes", nodeSearchHandler, true);
 
-		registerHandler("tags", (uuid) -> boot.get().meshRoot().getTagRoot().findByUuid(uuid), TagListResponse.class, tagSearchHandler, tagExamples
-			.createTagListResponse(), false);
-		registerHandler("tagFamilies", (uuid) -> boot.get().meshRoot().getTagFamilyRoot().findByUuid(uuid), TagFamilyListResponse.class,
-			tagFamilySearchHandler,
+		registerHandler("tags", BulkElementLoader.of(uuid -> boot.get().meshRoot().getTagRoot().findByUuid(uuid)), TagListResponse.class,
+			tagSearchHandler, tagExamples.createTagListResponse(), false);
+		registerHandler("tagFamilies", BulkElementLoader.of(uuid -> boot.get().meshRoot().getTagFamilyRoot().findByUuid(uuid)),
+			TagFamilyListResponse.class, tagFamilySearchHandler,
 			tagFamilyExamples.getTagFamilyListResponse(), false);
 
-		registerHandler("projects", (uuid) -> boot.get().meshRoot().getProjectRoot().findByUuid(uuid), ProjectListResponse.class,
+		registerHandler("projects", BulkElementLoader.of(uuid -> boot.get().meshRoot().getProjectRoot().findByUuid(uuid)), ProjectListResponse.class,
 			projectSearchHandler, projectExamples
 				.getProjectListResponse(),
 			false);
-		registerHandler("schemas", (uuid) -> boot.get().meshRoot().getSchemaContainerRoot().findByUuid(uuid), SchemaListResponse.class,
-			schemaContainerSearchHandler,
+		registerHandler("schemas", BulkElementLoader.of(uuid -> boot.get().meshRoot().getSchemaContainerRoot().findByUuid(uuid)),
+			SchemaListResponse.class, schemaContainerSearchHandler,
 			schemaExamples.getSchemaListResponse(), false);
-		registerHandler("microschemas", (uuid) -> boot.get().meshRoot().getMicroschemaContainerRoot().findByUuid(uuid), MicroschemaListResponse.class,
-			microschemaContainerSearchHandler, microschemaExamples.getMicroschemaListResponse(), false);
+		registerHandler("microschemas", BulkElementLoader.of(uuid -> boot.get().meshRoot().getMicroschemaContainerRoot().findByUuid(uuid)),
+			MicroschemaListResponse.class, microschemaContainerSearchHandler, microschemaExamples.getMicroschemaListResponse(), false);
 		addAdminHandlers();
 	}
 
@@ -195,7 +196,7 @@ public class SearchEndpointImpl extends AbstractInternalEndpoint implements Sear
 	 *            Class of matching list response
 	 */
 	private <T extends HibCoreElement, TR extends RestModel, RL extends ListResponse<TR>> void registerHandler(String typeName,
-		Function<String, T> elementLoader, Class<RL> classOfRL, SearchHandler<T, TR> searchHandler, RL exampleListResponse,
+		BulkElementLoader<T> elementLoader, Class<RL> classOfRL, SearchHandler<T, TR> searchHandler, RL exampleListResponse,
 		boolean filterByLanguage) {
 		InternalEndpointRoute endpoint = createRoute();
 		endpoint.path("/" + typeName);
@@ -0,0 +1,167 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.cache.NodeResponseCache.NODE_ENDPOINT;
+import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
+import static com.gentics.mesh.metric.SimpleMetric.NODE_RESPONSE_CACHE_HIT;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.MeshOptionChanger.NODE_RESPONSE_CACHE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.core.rest.node.field.impl.StringFieldImpl;
+import com.gentics.mesh.core.rest.role.RolePermissionRequest;
+import com.gentics.mesh.demo.UserInfo;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = NODE_RESPONSE_CACHE)
+public class NodeResponseCacheTest extends AbstractMeshTest {
+
+	private NodeResponseCache cache() {
+		return meshDagger().nodeResponseCache();
+	}
+
+	private double hits() {
+		return meshDagger().metrics().getMetricRegistry().counter(NODE_RESPONSE_CACHE_HIT.key(), "endpoint", NODE_ENDPOINT).count();
+	}
+
+	private NodeResponse read(String uuid) {
+		return call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+	}
+
+	/**
+	 * Read the node, which stores the response in the cache, and assert that the next read is served from the cache.
+	 *
+	 * @param uuid
+	 * @return
+	 */
+	private NodeResponse readCached(String uuid) {
+		NodeResponse first = read(uuid);
+		assertEquals("The response should have been stored in the cache.", 1, cache().size());
+		double hits = hits();
+		NodeResponse second = read(uuid);
+		assertEquals("The second read should be served from the cache.", hits + 1, hits(), 0);
+		assertEquals(first.toJson(), second.toJson());
+		return second;
+	}
+
+	/**
+	 * Wait until the cache has handled the event of the change and dropped the response.
+	 */
+	private void assertInvalidated() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (cache().size() > 0) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("The cached response was not invalidated.");
+			}
+			Thread.sleep(50);
+		}
+	}
+
+	@Test
+	public void testHit() {
+		String uuid = contentUuid();
+		readCached(uuid);
+		readCached(uuid);
+	}
+
+	@Test
+	public void testInvalidateOnUpdate() throws InterruptedException {
+		String uuid = contentUuid();
+		NodeResponse cached = readCached(uuid);
+
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion(cached.getVersion());
+		request.getFields().put("teaser", new StringFieldImpl().setString("updated teaser"));
+		call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+		assertInvalidated();
+
+		assertEquals("updated teaser", read(uuid).getFields().getStringField("teaser").getString());
+	}
+
+	@Test
+	public void testInvalidateOnPublish() throws InterruptedException {
+		String uuid = contentUuid();
+		call(() -> client().takeNodeOffline(PROJECT_NAME, uuid));
+		assertFalse(readCached(uuid).getAvailableLanguages().get("en").isPublished());
+
+		call(() -> client().publishNode(PROJECT_NAME, uuid));
+		assertInvalidated();
+
+		assertTrue(read(uuid).getAvailableLanguages().get("en").isPublished());
+	}
+
+	@Test
+	public void testInvalidateOnMove() throws InterruptedException {
+		String uuid = contentUuid();
+		String targetUuid = tx(() -> folder("2015").getUuid());
+		assertNotEquals(targetUuid, readCached(uuid).getParentNode().getUuid());
+
+		call(() -> client().moveNode(PROJECT_NAME, uuid, targetUuid));
+		assertInvalidated();
+
+		assertEquals(targetUuid, read(uuid).getParentNode().getUuid());
+	}
+
+	@Test
+	public void testInvalidateOnTagging() throws InterruptedException {
+		String uuid = contentUuid();
+		String tagUuid = tx(() -> tag("bike").getUuid());
+		assertFalse(readCached(uuid).getTags().stream().anyMatch(tag -> tag.getUuid().equals(tagUuid)));
+
+		call(() -> client().addTagToNode(PROJECT_NAME, uuid, tagUuid));
+		assertInvalidated();
+
+		assertTrue(read(uuid).getTags().stream().anyMatch(tag -> tag.getUuid().equals(tagUuid)));
+	}
+
+	@Test
+	public void testInvalidateOnPermissionChange() throws InterruptedException {
+		String uuid = contentUuid();
+		assertTrue(readCached(uuid).getPermissions().getUpdate());
+
+		RolePermissionRequest request = new RolePermissionRequest();
+		request.getPermissions().setOthers(true);
+		request.getPermissions().setUpdate(false);
+		call(() -> client().updateRolePermissions(roleUuid(), "projects/" + projectUuid() + "/nodes/" + uuid, request));
+		assertInvalidated();
+
+		assertFalse(read(uuid).getPermissions().getUpdate());
+	}
+
+	@Test
+	public void testNoLeakBetweenUsers() {
+		String uuid = contentUuid();
+		// The other user may only read the node. The user is created without events, which would clear the cache.
+		try (Tx tx = tx()) {
+			UserInfo other = data().createUserInfo("other", "Other", "User");
+			tx.data().roleDao().grantPermissions(other.getRole(), project(), READ_PERM);
+			tx.data().roleDao().grantPermissions(other.getRole(), content(), READ_PERM);
+			tx.success();
+		}
+
+		NodeResponse cached = readCached(uuid);
+		assertTrue(cached.getPermissions().getUpdate());
+
+		client().logout().blockingGet();
+		client().setLogin("other", "test123");
+		client().login().blockingGet();
+
+		double hits = hits();
+		NodeResponse response = read(uuid);
+		assertEquals("The response of the other user must not be served from the cache.", hits, hits(), 0);
+		assertFalse(response.getPermissions().getUpdate());
+		assertEquals(2, cache().size());
+	}
+}
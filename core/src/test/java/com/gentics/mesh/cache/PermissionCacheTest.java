@@ -0,0 +1,123 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
+import static com.gentics.mesh.core.data.perm.InternalPermission.UPDATE_PERM;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.user.HibUser;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class PermissionCacheTest extends AbstractMeshTest {
+
+	private boolean check(HibUser user, HibNode node) {
+		return db().tx(tx -> {
+			return tx.data().userDao().hasPermission(user, node, UPDATE_PERM);
+		});
+	}
+
+	private boolean checkConcurrently(HibUser user, HibNode node) throws Exception {
+		return CompletableFuture.supplyAsync(() -> check(user, node)).get(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void testGrantIsVisibleAfterConcurrentCheck() throws Exception {
+		HibUser user = user();
+		HibNode node = content();
+		tx(tx -> {
+			tx.data().roleDao().revokePermissions(role(), node, UPDATE_PERM);
+		});
+		assertFalse(check(user, node));
+
+		try (Tx tx = tx()) {
+			tx.data().roleDao().grantPermissions(role(), node, UPDATE_PERM);
+			// The check does not see the uncommitted grant and caches the denial
+			assertFalse("The grant should not yet be visible to other transactions.", checkConcurrently(user, node));
+			tx.success();
+		}
+
+		assertTrue("The grant should be visible after the commit.", check(user, node));
+		assertTrue(checkConcurrently(user, node));
+	}
+
+	@Test
+	public void testGrantWhileCheckingInParallel() throws Exception {
+		HibUser user = user();
+		HibNode node = content();
+		tx(tx -> {
+			tx.data().roleDao().revokePermissions(role(), node, UPDATE_PERM);
+		});
+
+		AtomicBoolean running = new AtomicBoolean(true);
+		CompletableFuture<Void> checker = CompletableFuture.runAsync(() -> {
+			while (running.get()) {
+				check(user, node);
+			}
+		});
+		try {
+			for (int i = 0; i < 20; i++) {
+				tx(tx -> {
+					tx.data().roleDao().grantPermissions(role(), node, UPDATE_PERM);
+				});
+				assertTrue("The grant should be visible after the commit in round {" + i + "}", check(user, node));
+				tx(tx -> {
+					tx.data().roleDao().revokePermissions(role(), node, UPDATE_PERM);
+				});
+				assertFalse("The revoke should be visible after the commit in round {" + i + "}", check(user, node));
+			}
+		} finally {
+			running.set(false);
+			checker.get(10, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	public void testStoreAfterInvalidationIsDiscarded() {
+		PermissionCache cache = mesh().permissionCache();
+		long generation = cache.generation();
+		cache.invalidateElement(42L);
+		cache.store(1L, READ_PERM, 42L, false, generation);
+		assertNull("A result which was checked before the invalidation should not be cached.", cache.getPermission(1L, READ_PERM, 42L));
+
+		cache.store(1L, READ_PERM, 42L, false, cache.generation());
+		assertFalse(cache.getPermission(1L, READ_PERM, 42L));
+
+		cache.invalidateUsers(1L);
+		assertNull(cache.getPermission(1L, READ_PERM, 42L));
+	}
+
+	@Test
+	public void testInvalidateUsers() {
+		PermissionCache cache = mesh().permissionCache();
+		long generation = cache.generation();
+		for (long elementId = 100; elementId < 110; elementId++) {
+			cache.store(1L, READ_PERM, elementId, true, generation);
+			cache.store(2L, READ_PERM, elementId, false, generation);
+		}
+
+		cache.invalidateUsers(1L);
+		for (long elementId = 100; elementId < 110; elementId++) {
+			assertNull("The results of the invalidated user should be outdated.", cache.getPermission(1L, READ_PERM, elementId));
+			assertFalse("The results of other users should be kept.", cache.getPermission(2L, READ_PERM, elementId));
+		}
+
+		// Results which were checked before the invalidation are discarded, results of later checks are cached again
+		cache.store(1L, READ_PERM, 100L, true, generation);
+		assertNull(cache.getPermission(1L, READ_PERM, 100L));
+		cache.store(1L, READ_PERM, 100L, true, cache.generation());
+		assertTrue(cache.getPermission(1L, READ_PERM, 100L));
+		assertFalse(cache.getPermission(2L, READ_PERM, 100L));
+	}
+}
@@ -0,0 +1,155 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
+import static com.gentics.mesh.core.data.perm.InternalPermission.UPDATE_PERM;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+
+public class PermissionTableTest {
+
+	private MeshOptions options;
+
+	@Before
+	public void setup() {
+		options = new MeshOptions();
+		options.getMonitoringOptions().setEnabled(false);
+	}
+
+	private PermissionTable table(long maxSize, Duration expireAfter) {
+		return new PermissionTable("test", maxSize, expireAfter, options, mock(MetricsService.class));
+	}
+
+	@Test
+	public void testGetOrCreate() {
+		PermissionTable table = table(100, Duration.ofMinutes(1));
+		assertNull(table.get(42L));
+		ElementPermissions permissions = table.getOrCreate(42L);
+		assertNotNull(permissions);
+		assertSame("The existing entry should be returned.", permissions, table.getOrCreate(42L));
+		assertSame(permissions, table.get(42L));
+		assertEquals(1, table.size());
+
+		table.invalidate(42L);
+		assertNull(table.get(42L));
+		assertEquals(0, table.size());
+	}
+
+	@Test
+	public void testBoundedSize() {
+		PermissionTable table = table(320, Duration.ofMinutes(1));
+		for (long key = 0; key < 10_000; key++) {
+			table.getOrCreate(key);
+			// Keep the first key referenced
+			table.get(0L);
+		}
+		assertTrue("The table should not exceed the limit, but has {" + table.size() + "} entries.", table.size() <= 320);
+		assertNotNull("The frequently accessed entry should not have been evicted.", table.get(0L));
+		assertNotNull("The most recent entry should be cached.", table.get(9_999L));
+	}
+
+	@Test
+	public void testRemoveWithCollisions() {
+		PermissionTable table = table(64_000, Duration.ofMinutes(1));
+		Set<Long> removed = new HashSet<>();
+		for (long key = 0; key < 5_000; key++) {
+			table.getOrCreate(key << 20);
+		}
+		for (long key = 0; key < 5_000; key += 3) {
+			table.invalidate(key << 20);
+			removed.add(key << 20);
+		}
+		for (long key = 0; key < 5_000; key++) {
+			long id = key << 20;
+			if (removed.contains(id)) {
+				assertNull("The entry {" + id + "} should have been removed.", table.get(id));
+			} else {
+				assertNotNull("The entry {" + id + "} should still be cached.", table.get(id));
+			}
+		}
+		assertEquals(5_000 - removed.size(), table.size());
+	}
+
+	@Test
+	public void testExpiry() {
+		PermissionTable table = table(100, Duration.ZERO);
+		table.getOrCreate(1L);
+		assertNull("The entry should have expired.", table.get(1L));
+	}
+
+	@Test
+	public void testForEachAllowsModification() {
+		PermissionTable table = table(100, Duration.ofMinutes(1));
+		for (long key = 0; key < 50; key++) {
+			table.getOrCreate(key).put(1L, READ_PERM, true);
+		}
+		table.forEach((key, permissions) -> table.invalidate(key));
+		assertEquals(0, table.size());
+	}
+
+	@Test
+	public void testDisable() {
+		PermissionTable table = table(100, Duration.ofMinutes(1));
+		table.getOrCreate(1L);
+		table.disable();
+		assertNull(table.get(1L));
+		assertNull(table.getOrCreate(2L));
+		table.enable();
+		assertNotNull(table.get(1L));
+	}
+
+	@Test
+	public void testElementPermissions() {
+		ElementPermissions permissions = new ElementPermissions();
+		for (long userId = 0; userId < 10; userId++) {
+			permissions.put(userId, READ_PERM, userId % 2 == 0);
+		}
+		assertTrue(permissions.get(4L, READ_PERM));
+		assertFalse(permissions.get(5L, READ_PERM));
+		assertNull("The permission was not yet checked.", permissions.get(4L, UPDATE_PERM));
+
+		permissions.put(4L, READ_PERM, false);
+		assertFalse(permissions.get(4L, READ_PERM));
+
+		assertTrue(permissions.remove(4L));
+		assertFalse(permissions.remove(4L));
+		assertNull(permissions.get(4L, READ_PERM));
+
+		permissions.removeIf(userId -> userId < 5);
+		assertNull(permissions.get(2L, READ_PERM));
+		assertTrue(permissions.get(6L, READ_PERM));
+	}
+
+	@Test
+	public void testOutdatedElementPermissions() {
+		ElementPermissions permissions = new ElementPermissions();
+		permissions.put(1L, READ_PERM, true, 3, 0);
+		permissions.put(1L, UPDATE_PERM, false, 5, 0);
+		permissions.put(2L, READ_PERM, true, 3, 0);
+		assertTrue(permissions.get(1L, READ_PERM, 3));
+		assertFalse("The entry is as old as its oldest result.", permissions.get(1L, UPDATE_PERM, 3));
+
+		assertNull("Results checked before the invalidation are outdated.", permissions.get(1L, READ_PERM, 4));
+		assertNull("The outdated entry should have been dropped.", permissions.get(1L, READ_PERM, 0));
+		assertTrue(permissions.get(2L, READ_PERM, 0));
+
+		// Storing a new result discards the outdated results of the user
+		permissions.put(2L, UPDATE_PERM, true, 6, 4);
+		assertNull(permissions.get(2L, READ_PERM, 4));
+		assertTrue(permissions.get(2L, UPDATE_PERM, 4));
+	}
+}
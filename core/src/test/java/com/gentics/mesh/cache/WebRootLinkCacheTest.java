@@ -0,0 +1,96 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.link.ResolvedLink;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.core.rest.node.field.impl.StringFieldImpl;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class WebRootLinkCacheTest extends AbstractMeshTest {
+
+	private WebRootLinkCache cache() {
+		return meshDagger().webRootLinkCache();
+	}
+
+	private String resolve(String uuid) {
+		return call(() -> client().resolveLinks("{{mesh.link('" + uuid + "')}}", new NodeParametersImpl().setResolveLinks(LinkType.SHORT)));
+	}
+
+	/**
+	 * Wait until the cache has handled the event of the change and the link resolves to the expected path.
+	 *
+	 * @param uuid
+	 * @param expected
+	 */
+	private void assertLink(String uuid, String expected) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		String link = resolve(uuid);
+		while (!expected.equals(link)) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("The link was not updated. Expected {" + expected + "} but got {" + link + "}");
+			}
+			Thread.sleep(50);
+			link = resolve(uuid);
+		}
+	}
+
+	@Test
+	public void testRenameParent() throws InterruptedException {
+		String uuid = contentUuid();
+		String parentUuid = tx(() -> folder("news").getUuid());
+		assertEquals("/News/News%20Overview.en.html", resolve(uuid));
+		assertTrue("The link should have been cached.", cache().size() > 0);
+
+		NodeResponse parent = call(() -> client().findNodeByUuid(PROJECT_NAME, parentUuid));
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion(parent.getVersion());
+		request.getFields().put("slug", new StringFieldImpl().setString("Renamed"));
+		call(() -> client().updateNode(PROJECT_NAME, parentUuid, request));
+
+		assertLink(uuid, "/Renamed/News%20Overview.en.html");
+	}
+
+	@Test
+	public void testMoveParent() throws InterruptedException {
+		String uuid = contentUuid();
+		String parentUuid = tx(() -> folder("news").getUuid());
+		String targetUuid = tx(() -> folder("products").getUuid());
+		assertEquals("/News/News%20Overview.en.html", resolve(uuid));
+
+		call(() -> client().moveNode(PROJECT_NAME, parentUuid, targetUuid));
+
+		assertLink(uuid, "/Products/News/News%20Overview.en.html");
+	}
+
+	@Test
+	public void testSkipStoreAfterInvalidation() {
+		String uuid = contentUuid();
+		ResolvedLink link = new ResolvedLink("/stale", PROJECT_NAME, null, null, true, null, Collections.singleton(uuid));
+
+		long generation = cache().generation();
+		cache().clear();
+		cache().store(uuid, PROJECT_NAME, ContainerType.DRAFT, new String[] { "en" }, link, generation);
+		assertNull("A link resolved across an invalidation must not be stored.", cache().getLink(uuid, PROJECT_NAME, ContainerType.DRAFT, "en"));
+
+		cache().store(uuid, PROJECT_NAME, ContainerType.DRAFT, new String[] { "en" }, link, cache().generation());
+		assertEquals(link, cache().getLink(uuid, PROJECT_NAME, ContainerType.DRAFT, "en"));
+	}
+}
@@ -0,0 +1,196 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Stack;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.branch.HibBranch;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.CachingMetric;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.path.Path;
+import com.gentics.mesh.path.PathSegment;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+
+public class WebrootPathCacheTest {
+
+	private Vertx vertx;
+
+	private MeterRegistry registry;
+
+	private WebrootPathCache cache;
+
+	private HibProject project;
+
+	private HibBranch branch;
+
+	@Before
+	public void setup() {
+		vertx = Vertx.vertx();
+		registry = new SimpleMeterRegistry();
+		MeshOptions options = new MeshOptions();
+		options.getMonitoringOptions().setEnabled(true);
+		options.getCacheConfig().setPathCacheSize(100);
+		MetricsService metrics = new MetricsService() {
+			@Override
+			public boolean isEnabled() {
+				return true;
+			}
+
+			@Override
+			public MeterRegistry getMetricRegistry() {
+				return registry;
+			}
+		};
+		cache = new WebrootPathCacheImpl(new EventAwareCacheFactory(vertx, options, metrics), mock(CacheRegistry.class), options);
+		project = mock(HibProject.class);
+		when(project.getId()).thenReturn("project");
+		branch = mock(HibBranch.class);
+		when(branch.getId()).thenReturn("branch");
+	}
+
+	@After
+	public void tearDown() {
+		vertx.close();
+	}
+
+	/**
+	 * Create a path whose segments are provided by the nodes with the given uuids.
+	 *
+	 * @param nodeUuids
+	 * @return
+	 */
+	private Path path(String... nodeUuids) {
+		Path path = new Path();
+		for (String uuid : nodeUuids) {
+			Node node = mock(Node.class);
+			when(node.getUuid()).thenReturn(uuid);
+			NodeGraphFieldContainer container = mock(NodeGraphFieldContainer.class);
+			when(container.getNode()).thenReturn(node);
+			path.addSegment(new PathSegment(container, null, "en", uuid));
+		}
+		return path;
+	}
+
+	/**
+	 * Create a path which could only be resolved up to the nodes with the given uuids.
+	 *
+	 * @param nodeUuids
+	 * @return
+	 */
+	private Path unresolvedPath(String... nodeUuids) {
+		Path path = path(nodeUuids);
+		Stack<String> stack = new Stack<>();
+		for (int i = 0; i <= nodeUuids.length; i++) {
+			stack.push("segment" + i);
+		}
+		path.setInitialStack(stack);
+		return path;
+	}
+
+	private void store(String path, Path resolvedPath) {
+		cache.store(project, branch, DRAFT, path, resolvedPath);
+		assertNotNull("The path {" + path + "} should have been cached.", get(path));
+	}
+
+	private Path get(String path) {
+		return cache.getPath(project, branch, DRAFT, path);
+	}
+
+	private void publish(MeshEvent event, String uuid) {
+		vertx.eventBus().publish(event.address, new JsonObject().put("uuid", uuid));
+	}
+
+	private double count(CachingMetric.Event event) {
+		return registry.counter(new CachingMetric(event, "webroot").key()).count();
+	}
+
+	/**
+	 * Wait until the event of the change has been handled and the path has been dropped.
+	 */
+	private void assertEvicted(String path) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (get(path) != null) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("The cached path {" + path + "} was not evicted.");
+			}
+			Thread.sleep(50);
+		}
+	}
+
+	@Test
+	public void testUnrelatedEventKeepsPath() throws InterruptedException {
+		store("/news/a", path("news", "a"));
+		store("/other/b", path("other", "b"));
+
+		publish(NODE_UPDATED, "unrelated");
+		// Events of the same address are handled in order. Once the second event has been handled, the first one has been handled as well.
+		publish(NODE_UPDATED, "other");
+		assertEvicted("/other/b");
+
+		assertNotNull("The path should not be affected by events of unrelated nodes.", get("/news/a"));
+	}
+
+	@Test
+	public void testAncestorEventEvictsPath() throws InterruptedException {
+		store("/news/a", path("news", "a"));
+		store("/other/b", path("other", "b"));
+
+		publish(NODE_MOVED, "news");
+		assertEvicted("/news/a");
+
+		assertNotNull("Only paths which traverse the node should be evicted.", get("/other/b"));
+	}
+
+	@Test
+	public void testUnresolvedPathEvictedByAnyNodeEvent() throws InterruptedException {
+		store("/news/missing", unresolvedPath("news"));
+		store("/other/b", path("other", "b"));
+
+		// Any created node may complete the unresolved path
+		publish(NODE_CONTENT_CREATED, "unrelated");
+		assertEvicted("/news/missing");
+
+		assertNotNull(get("/other/b"));
+	}
+
+	@Test
+	public void testNodeEventsDontClearAll() throws InterruptedException {
+		store("/news/a", path("news", "a"));
+		store("/other/b", path("other", "b"));
+
+		publish(NODE_UPDATED, "unrelated");
+		publish(NODE_UPDATED, "news");
+		assertEvicted("/news/a");
+
+		assertEquals("Node events should not clear the whole cache.", 0, count(CachingMetric.Event.CLEAR_ALL), 0);
+		assertTrue("The path of the node should have been invalidated.", count(CachingMetric.Event.CLEAR_SINGLE) > 0);
+
+		vertx.eventBus().publish(CLEAR_PATH_STORE.address, null);
+		assertEvicted("/other/b");
+		assertEquals(1, count(CachingMetric.Event.CLEAR_ALL), 0);
+	}
+}
@@ -1,12 +1,11 @@
 package com.gentics.mesh.core.binary.impl;
 
 import static com.gentics.mesh.test.context.ElasticsearchTestMode.NONE;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.function.Consumer;
 
@@ -22,6 +21,7 @@ import com.gentics.mesh.test.context.MeshTestSetting;
 
 import dagger.Lazy;
 import io.reactivex.Maybe;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.FileUpload;
 import io.vertx.reactivex.core.Vertx;
 
@@ -33,21 +33,35 @@ public class TikaBinaryProcessorTest extends AbstractMeshTest {
 		Lazy<Vertx> lazy = Mockito.mock(Lazy.class);
 		when(lazy.get()).thenReturn(Vertx.vertx());
 		TikaBinaryProcessor processor = new TikaBinaryProcessor(lazy, new MeshOptions());
-		FileUpload ul = mockUpload("test.pdf", "application/pdf");
+		Buffer data = Buffer.buffer(IOUtils.toByteArray(getClass().getResourceAsStream("/testfiles/test.pdf")));
+		FileUpload ul = mockUpload("test.pdf", "application/pdf", data.length());
+		assertEquals("Documents are parsed as a whole.", data.length(), processor.getPrefixLength(ul));
 
-		Maybe<Consumer<BinaryGraphField>> result = processor.process(ul, "HASHSUM");
+		Maybe<Consumer<BinaryGraphField>> result = processor.process(ul, data, "HASHSUM");
 
 		Consumer<BinaryGraphField> consumer = result.blockingGet();
 		BinaryGraphField field = Mockito.mock(BinaryGraphField.class);
 		consumer.accept(field);
 	}
 
-	private FileUpload mockUpload(String name, String contentType) throws FileNotFoundException, IOException {
+	@Test
+	public void testTruncatedPrefix() throws IOException {
+		Lazy<Vertx> lazy = Mockito.mock(Lazy.class);
+		when(lazy.get()).thenReturn(Vertx.vertx());
+		TikaBinaryProcessor processor = new TikaBinaryProcessor(lazy, new MeshOptions());
+		Buffer data = Buffer.buffer(IOUtils.toByteArray(getClass().getResourceAsStream("/testfiles/test.pdf")));
+		FileUpload ul = mockUpload("test.pdf", "application/pdf", data.length());
+
+		// A prefix which can't be parsed must not fail the upload
+		Maybe<Consumer<BinaryGraphField>> result = processor.process(ul, data.getBuffer(0, 100), "HASHSUM");
+		result.blockingGet();
+	}
+
+	private FileUpload mockUpload(String name, String contentType, long size) {
 		FileUpload ul = mock(FileUpload.class);
-		File target = new File("target", "testupload.pdf");
-		IOUtils.copy(getClass().getResourceAsStream("/testfiles/" + name), new FileOutputStream(target));
-		when(ul.uploadedFileName()).thenReturn(target.getAbsolutePath());
+		when(ul.fileName()).thenReturn(name);
 		when(ul.contentType()).thenReturn(contentType);
+		when(ul.size()).thenReturn(size);
 		return ul;
 	}
 }
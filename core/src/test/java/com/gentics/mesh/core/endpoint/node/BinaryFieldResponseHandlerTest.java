@@ -0,0 +1,41 @@
+package com.gentics.mesh.core.endpoint.node;
+
+import static com.gentics.mesh.core.endpoint.node.BinaryFieldResponseHandler.parseRange;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class BinaryFieldResponseHandlerTest {
+
+	@Test
+	public void testRange() {
+		assertArrayEquals(new long[] { 0, 9 }, parseRange("bytes=0-9", 100));
+		assertArrayEquals(new long[] { 90, 99 }, parseRange("bytes=90-", 100));
+		assertArrayEquals("The end should be limited to the size", new long[] { 90, 99 }, parseRange("bytes=90-200", 100));
+		assertArrayEquals(new long[] { 90, 99 }, parseRange("bytes=90-99999999999999999999", 100));
+	}
+
+	@Test
+	public void testSuffixRange() {
+		assertArrayEquals(new long[] { 90, 99 }, parseRange("bytes=-10", 100));
+		assertArrayEquals("A suffix which exceeds the size should select the whole binary", new long[] { 0, 99 }, parseRange("bytes=-200", 100));
+		assertArrayEquals(new long[] { 0, 99 }, parseRange("bytes=-99999999999999999999", 100));
+	}
+
+	@Test
+	public void testUnsatisfiableRange() {
+		assertArrayEquals(new long[0], parseRange("bytes=100-", 100));
+		assertArrayEquals(new long[0], parseRange("bytes=20-10", 100));
+		assertArrayEquals(new long[0], parseRange("bytes=-0", 100));
+		assertArrayEquals(new long[0], parseRange("bytes=-10", 0));
+	}
+
+	@Test
+	public void testIgnoredRange() {
+		assertNull(parseRange(null, 100));
+		assertNull(parseRange("bytes=-", 100));
+		assertNull("Multiple ranges are not supported", parseRange("bytes=0-9,20-29", 100));
+		assertNull(parseRange("items=0-9", 100));
+	}
+}
@@ -1,6 +1,9 @@
 package com.gentics.mesh.core.field.binary;
 
 import static com.gentics.mesh.core.data.perm.InternalPermission.UPDATE_PERM;
+import static com.gentics.mesh.metric.SimpleMetric.BINARY_UPLOAD_BYTES;
+import static com.gentics.mesh.metric.SimpleMetric.BINARY_UPLOAD_DEDUPLICATED;
+import static com.gentics.mesh.metric.SimpleMetric.BINARY_UPLOAD_THROUGHPUT;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
@@ -55,6 +58,7 @@ import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.util.VersionNumber;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.reactivex.Observable;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.test.core.TestUtils;
@@ -182,6 +186,64 @@ public class BinaryFieldUploadEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	/**
+	 * Assert that a failed upload does not leave the temporary upload behind.
+	 */
+	@Test
+	public void testUploadErrorPurgesTemporaryUpload() throws IOException {
+		HibNode node = folder("news");
+		try (Tx tx = tx()) {
+			SchemaVersionModel schema = node.getSchemaContainer().getLatestVersion().getSchema();
+			schema.addField(new StringFieldSchemaImpl().setName("nonBinary").setLabel("No Binary content"));
+			node.getSchemaContainer().getLatestVersion().setSchema(schema);
+			tx.success();
+		}
+
+		// The upload is stored in the temporary location before the field is checked
+		call(() -> uploadRandomData(node, "en", "nonBinary", 10000, "application/octet-stream", "somefile.dat"), BAD_REQUEST,
+			"error_found_field_is_not_binary", "nonBinary");
+		MeshCoreAssertion.assertThat(testContext).hasUploads(0, 0).hasTempFiles(0).hasTempUploads(0);
+	}
+
+	/**
+	 * Assert that an upload of existing binary data is not stored again and that the upload metrics are updated.
+	 */
+	@Test
+	public void testDeduplicatedUploadMetrics() throws IOException {
+		int binaryLen = 8000;
+		Buffer buffer = TestUtils.randomBuffer(binaryLen);
+		HibNode nodeA = folder("news");
+		HibNode nodeB = folder("products");
+		try (Tx tx = tx()) {
+			prepareSchema(nodeA, "", "binary");
+			prepareSchema(nodeB, "", "binary");
+			tx.success();
+		}
+		MeterRegistry registry = mesh().metrics().getMetricRegistry();
+		double bytesBefore = registry.counter(BINARY_UPLOAD_BYTES.key()).count();
+		double deduplicatedBefore = registry.counter(BINARY_UPLOAD_DEDUPLICATED.key()).count();
+		long throughputBefore = registry.summary(BINARY_UPLOAD_THROUGHPUT.key()).count();
+
+		upload(nodeA, buffer, "en", "binary", "somefile.dat", "application/octet-stream");
+		MeshCoreAssertion.assertThat(testContext).hasUploads(1, 1).hasTempFiles(0).hasTempUploads(0);
+		assertEquals(deduplicatedBefore, registry.counter(BINARY_UPLOAD_DEDUPLICATED.key()).count(), 0);
+
+		upload(nodeB, buffer, "en", "binary", "otherfile.dat", "application/octet-stream");
+		MeshCoreAssertion.assertThat(testContext).hasUploads(1, 1).hasTempFiles(0).hasTempUploads(0);
+		assertEquals("The second upload should have been deduplicated.", deduplicatedBefore + 1,
+			registry.counter(BINARY_UPLOAD_DEDUPLICATED.key()).count(), 0);
+
+		assertEquals(bytesBefore + 2 * binaryLen, registry.counter(BINARY_UPLOAD_BYTES.key()).count(), 0);
+		assertEquals(throughputBefore + 2, registry.summary(BINARY_UPLOAD_THROUGHPUT.key()).count());
+
+		try (Tx tx = tx()) {
+			ContentDaoWrapper contentDao = tx.data().contentDao();
+			String binaryUuidA = contentDao.getLatestDraftFieldContainer(nodeA, english()).getBinary("binary").getBinary().getUuid();
+			String binaryUuidB = contentDao.getLatestDraftFieldContainer(nodeB, english()).getBinary("binary").getBinary().getUuid();
+			assertEquals("Both fields should reference the same binary.", binaryUuidA, binaryUuidB);
+		}
+	}
+
 	@Test
 	public void testParallelImageUpload() throws IOException {
 		String fileName = "blume.jpg";
@@ -756,6 +818,36 @@ public class BinaryFieldUploadEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	/**
+	 * Assert that an image which exceeds the analyzer prefix limit is stored completely but not processed.
+	 */
+	@Test
+	public void testUploadImageExceedingAnalyzerPrefixLimit() throws IOException {
+		options().getUploadOptions().setAnalyzerPrefixLimit(1000);
+		String contentType = "image/png";
+		String fieldName = "image";
+		String fileName = "somefile.png";
+		HibNode node = folder("news");
+
+		try (Tx tx = tx()) {
+			prepareSchema(node, "", fieldName);
+			tx.success();
+		}
+
+		String nodeUuid = tx(() -> node.getUuid());
+		int size = uploadImage(node, "en", fieldName, fileName, contentType);
+		MeshCoreAssertion.assertThat(testContext).hasUploads(1, 1).hasTempFiles(0).hasTempUploads(0);
+		NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, nodeUuid, new VersioningParametersImpl().draft()));
+		BinaryField binaryField = response.getFields().getBinaryField(fieldName);
+		assertEquals("The binary length was not correctly set in the response.", size, binaryField.getFileSize());
+		assertNull("The image should not have been processed.", binaryField.getWidth());
+
+		MeshBinaryResponse downloadResponse = call(() -> client().downloadBinaryField(PROJECT_NAME, nodeUuid, "en", fieldName));
+		byte[] bytes = IOUtils.toByteArray(downloadResponse.getStream());
+		downloadResponse.close();
+		assertEquals("The whole upload must have been stored.", size, bytes.length);
+	}
+
 	@Test
 	public void testFlowableDownload() throws IOException {
 		String contentType = "image/png";
@@ -0,0 +1,137 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.node.NodeListResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(testSize = TestSize.FULL, startServer = true)
+public class GraphQLDataLoaderTest extends AbstractMeshTest {
+
+	private static final String TAGS_QUERY = "query($uuid: String, $page: Long, $perPage: Long) { node(uuid: $uuid) { "
+		+ "tags(page: $page, perPage: $perPage) { totalCount currentPage pageCount size elements { name } } } }";
+
+	private static final String TREE_QUERY = "{ rootNode { uuid "
+		+ "children(lang: [\"en\", \"de\"], perPage: 1000) { elements { uuid parent { uuid } breadcrumb { uuid } "
+		+ "children(lang: [\"en\", \"de\"], perPage: 1000) { elements { uuid parent { uuid } breadcrumb { uuid } } } } } } }";
+
+	@Test
+	public void testTagPaging() {
+		String uuid = tx(() -> folder("2015").getUuid());
+
+		JsonObject first = loadTags(uuid, 1, 3);
+		assertEquals(4, first.getLong("totalCount").longValue());
+		assertEquals(1, first.getLong("currentPage").longValue());
+		assertEquals(2, first.getLong("pageCount").longValue());
+		assertEquals(3, first.getJsonArray("elements").size());
+
+		JsonObject second = loadTags(uuid, 2, 3);
+		assertEquals(4, second.getLong("totalCount").longValue());
+		assertEquals(1, second.getJsonArray("elements").size());
+
+		Set<String> names = new HashSet<>(tagNames(first));
+		names.addAll(tagNames(second));
+		assertEquals(new HashSet<>(Arrays.asList("Car", "Bike", "Plane", "Jeep")), names);
+	}
+
+	@Test
+	public void testTagPagingWithoutPermission() {
+		String uuid = tx(() -> folder("2015").getUuid());
+		try (Tx tx = tx()) {
+			tx.data().roleDao().revokePermissions(role(), tag("car"), READ_PERM);
+			tx.success();
+		}
+
+		JsonObject page = loadTags(uuid, 1, 2);
+		assertEquals("Tags without read permission must not be counted.", 3, page.getLong("totalCount").longValue());
+		assertEquals(2, page.getJsonArray("elements").size());
+		List<String> names = tagNames(page);
+		names.addAll(tagNames(loadTags(uuid, 2, 2)));
+		assertEquals(new HashSet<>(Arrays.asList("Bike", "Plane", "Jeep")), new HashSet<>(names));
+	}
+
+	@Test
+	public void testTreeOfLevels() {
+		JsonObject root = call(() -> client().graphqlQuery(PROJECT_NAME, TREE_QUERY)).getData().getJsonObject("rootNode");
+		String rootUuid = root.getString("uuid");
+
+		JsonArray children = root.getJsonObject("children").getJsonArray("elements");
+		assertEquals(restChildren(rootUuid), uuids(children));
+		assertFalse(children.isEmpty());
+
+		for (int i = 0; i < children.size(); i++) {
+			JsonObject child = children.getJsonObject(i);
+			String childUuid = child.getString("uuid");
+			assertEquals(rootUuid, child.getJsonObject("parent").getString("uuid"));
+			assertEquals(Arrays.asList(rootUuid, childUuid), breadcrumb(child));
+
+			JsonArray grandChildren = child.getJsonObject("children").getJsonArray("elements");
+			assertEquals("The children of node {" + childUuid + "} do not match.", restChildren(childUuid), uuids(grandChildren));
+			for (int n = 0; n < grandChildren.size(); n++) {
+				JsonObject grandChild = grandChildren.getJsonObject(n);
+				assertEquals(childUuid, grandChild.getJsonObject("parent").getString("uuid"));
+				assertEquals(Arrays.asList(rootUuid, childUuid, grandChild.getString("uuid")), breadcrumb(grandChild));
+			}
+		}
+	}
+
+	private JsonObject loadTags(String uuid, long page, long perPage) {
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, new GraphQLRequest()
+			.setQuery(TAGS_QUERY)
+			.setVariables(new JsonObject().put("uuid", uuid).put("page", page).put("perPage", perPage))));
+		return response.getData().getJsonObject("node").getJsonObject("tags");
+	}
+
+	private List<String> tagNames(JsonObject page) {
+		JsonArray elements = page.getJsonArray("elements");
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < elements.size(); i++) {
+			names.add(elements.getJsonObject(i).getString("name"));
+		}
+		return names;
+	}
+
+	private Set<String> uuids(JsonArray elements) {
+		return elements.stream().map(element -> ((JsonObject) element).getString("uuid")).collect(Collectors.toSet());
+	}
+
+	private List<String> breadcrumb(JsonObject node) {
+		JsonArray breadcrumb = node.getJsonArray("breadcrumb");
+		List<String> uuids = new ArrayList<>();
+		for (int i = 0; i < breadcrumb.size(); i++) {
+			uuids.add(breadcrumb.getJsonObject(i).getString("uuid"));
+		}
+		return uuids;
+	}
+
+	private Set<String> restChildren(String uuid) {
+		NodeListResponse response = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl().setPerPage(1000L),
+			new NodeParametersImpl().setLanguages("en", "de"), new VersioningParametersImpl().draft()));
+		return response.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toSet());
+	}
+}
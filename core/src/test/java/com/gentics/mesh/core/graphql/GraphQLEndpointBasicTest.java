@@ -3,6 +3,7 @@ package com.gentics.mesh.core.graphql;
 import static com.gentics.mesh.assertj.MeshAssertions.assertThat;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.junit.Assert.assertEquals;
 
 import java.io.IOException;
@@ -14,6 +15,7 @@ import com.gentics.mesh.core.data.schema.Microschema;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
 import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.graphql.cache.GraphQLPersistedQueryCache;
 import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
@@ -79,4 +81,31 @@ public class GraphQLEndpointBasicTest extends AbstractMeshTest {
 
 		Completable.merge(calls).blockingAwait();
 	}
+
+	@Test
+	public void testPersistedQuery() throws Throwable {
+		String query = "{me{firstname}}";
+		JsonObject extensions = new JsonObject().put("persistedQuery",
+			new JsonObject().put("version", 1).put("sha256Hash", GraphQLPersistedQueryCache.hash(query)));
+
+		// The query has not yet been persisted
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, new GraphQLRequest().setExtensions(extensions)));
+		assertEquals(1, response.getErrors().stream().filter(error -> error.getType().equals("PersistedQueryNotFound")).count());
+
+		// Persist the query
+		response = call(() -> client().graphql(PROJECT_NAME, new GraphQLRequest().setQuery(query).setExtensions(extensions)));
+		MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
+
+		// Now only send the hash
+		response = call(() -> client().graphql(PROJECT_NAME, new GraphQLRequest().setExtensions(extensions)));
+		MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
+	}
+
+	@Test
+	public void testPersistedQueryHashMismatch() {
+		String hash = GraphQLPersistedQueryCache.hash("{bogus}");
+		JsonObject extensions = new JsonObject().put("persistedQuery", new JsonObject().put("version", 1).put("sha256Hash", hash));
+		call(() -> client().graphql(PROJECT_NAME, new GraphQLRequest().setQuery("{me{firstname}}").setExtensions(extensions)), BAD_REQUEST,
+			"graphql_error_persisted_query_hash_mismatch", hash);
+	}
 }
@@ -0,0 +1,174 @@
+package com.gentics.mesh.core.graphql;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.graphql.GraphQLResponseWriter;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class GraphQLResponseWriterTest {
+
+	private Vertx vertx;
+
+	private HttpServer server;
+
+	private JsonArray errors;
+
+	private Map<String, Object> data;
+
+	private Map<Object, Object> extensions;
+
+	private boolean pretty;
+
+	@Before
+	public void setup() throws Exception {
+		vertx = Vertx.vertx();
+		CompletableFuture<HttpServer> started = new CompletableFuture<>();
+		vertx.createHttpServer().requestHandler(request -> {
+			HttpServerResponse response = request.response();
+			// Use a small write queue so that the writer needs to wait for the client
+			response.setWriteQueueMaxSize(1024);
+			vertx.executeBlocking(promise -> {
+				try {
+					new GraphQLResponseWriter(response, pretty).write(OK, errors, data, extensions);
+					promise.complete();
+				} catch (Exception e) {
+					promise.fail(e);
+				}
+			}, false, rh -> {
+				if (rh.failed()) {
+					response.close();
+				}
+			});
+		}).listen(0, rh -> {
+			if (rh.succeeded()) {
+				started.complete(rh.result());
+			} else {
+				started.completeExceptionally(rh.cause());
+			}
+		});
+		server = started.get(10, TimeUnit.SECONDS);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		CompletableFuture<Void> closed = new CompletableFuture<>();
+		vertx.close(rh -> closed.complete(null));
+		closed.get(10, TimeUnit.SECONDS);
+	}
+
+	private String request() throws Exception {
+		CompletableFuture<String> body = new CompletableFuture<>();
+		vertx.createHttpClient().getNow(server.actualPort(), "localhost", "/graphql", response -> {
+			response.exceptionHandler(body::completeExceptionally);
+			response.bodyHandler(buffer -> body.complete(buffer.toString()));
+		});
+		return body.get(30, TimeUnit.SECONDS);
+	}
+
+	private JsonObject expected() {
+		JsonObject expected = new JsonObject();
+		if (errors != null) {
+			expected.put("errors", errors);
+		}
+		if (data != null) {
+			expected.put("data", new JsonObject(data));
+		}
+		if (extensions != null) {
+			Map<String, Object> map = new LinkedHashMap<>();
+			extensions.forEach((key, value) -> map.put(key.toString(), value));
+			expected.put("extensions", new JsonObject(map));
+		}
+		return expected;
+	}
+
+	private Map<String, Object> createNode(int index) {
+		Map<String, Object> node = new LinkedHashMap<>();
+		node.put("uuid", "uuid-" + index);
+		node.put("path", "/folder/content-" + index + ".html");
+		node.put("version", 1.0 + index);
+		node.put("published", index % 2 == 0);
+		node.put("teaser", null);
+		Map<String, Object> fields = new LinkedHashMap<>();
+		fields.put("title", "Title \"" + index + "\" with unicode äöü€");
+		fields.put("tags", Arrays.asList("red", "green", "blue"));
+		node.put("fields", fields);
+		return node;
+	}
+
+	@Test
+	public void testPrettyMatchesEncodePrettily() throws Exception {
+		pretty = true;
+		data = new LinkedHashMap<>();
+		data.put("node", createNode(1));
+		errors = new JsonArray().add(new JsonObject()
+			.put("message", "Some error")
+			.put("type", "DataFetchingException")
+			.put("locations", new JsonArray().add(new JsonObject().put("line", 1).put("column", 5)))
+			.put("extensions", new JsonObject().put("code", "SOME_ERROR")));
+		extensions = new LinkedHashMap<>();
+		extensions.put("tracing", new HashMap<>(Map.of("duration", 42)));
+
+		assertEquals(expected().encodePrettily(), request());
+	}
+
+	@Test
+	public void testCompactMatchesEncode() throws Exception {
+		pretty = false;
+		data = new LinkedHashMap<>();
+		data.put("node", createNode(1));
+		errors = new JsonArray().add(new JsonObject().put("message", "Some error").put("type", "InvalidSyntax"));
+
+		assertEquals(expected().encode(), request());
+	}
+
+	@Test
+	public void testOnlyErrors() throws Exception {
+		pretty = true;
+		errors = new JsonArray().add(new JsonObject()
+			.put("message", "PersistedQueryNotFound")
+			.put("extensions", new JsonObject().put("code", "PERSISTED_QUERY_NOT_FOUND")));
+
+		assertEquals(expected().encodePrettily(), request());
+	}
+
+	@Test
+	public void testLargeResponse() throws Exception {
+		pretty = true;
+		List<Object> nodes = new ArrayList<>();
+		for (int i = 0; i < 20_000; i++) {
+			nodes.add(createNode(i));
+		}
+		data = new LinkedHashMap<>();
+		data.put("nodes", new LinkedHashMap<>(Map.of("elements", nodes)));
+
+		String body = request();
+		assertTrue("The response should span multiple chunks.", body.length() > 10 * GraphQLResponseWriter.CHUNK_SIZE);
+		assertEquals(expected().encodePrettily(), body);
+	}
+
+	@Test
+	public void testEmptyResponse() throws Exception {
+		pretty = true;
+		assertEquals(expected().encodePrettily(), request());
+	}
+}
@@ -0,0 +1,87 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.microschema.impl.MicroschemaUpdateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
+import com.gentics.mesh.metric.CachingMetric;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class GraphQLSchemaCacheTest extends AbstractMeshTest {
+
+	private static final String QUERY = "{ node(path: \"/News\") { uuid fields { ... on folder { name } } } }";
+
+	private double count(CachingMetric.Event event) {
+		return meshDagger().metrics().getMetricRegistry().counter(new CachingMetric(event, "graphqlschema").key()).count();
+	}
+
+	private void query() {
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, QUERY));
+		assertTrue("The query should not fail: " + response.getErrors(), response.getErrors() == null || response.getErrors().isEmpty());
+	}
+
+	/**
+	 * Run the query and assert that the schema was taken from the cache.
+	 */
+	private void assertReused() {
+		double hits = count(CachingMetric.Event.HIT);
+		double misses = count(CachingMetric.Event.MISS);
+		query();
+		assertEquals("The schema should have been taken from the cache.", hits + 1, count(CachingMetric.Event.HIT), 0);
+		assertEquals(misses, count(CachingMetric.Event.MISS), 0);
+	}
+
+	/**
+	 * Run the query and assert that the schema was built again.
+	 */
+	private void assertRebuilt() {
+		double hits = count(CachingMetric.Event.HIT);
+		double misses = count(CachingMetric.Event.MISS);
+		query();
+		assertEquals("The schema should have been built again.", misses + 1, count(CachingMetric.Event.MISS), 0);
+		assertEquals(hits, count(CachingMetric.Event.HIT), 0);
+	}
+
+	@Test
+	public void testReuse() {
+		query();
+		assertReused();
+		assertReused();
+	}
+
+	@Test
+	public void testRebuildAfterSchemaUpdate() {
+		query();
+		assertReused();
+
+		String uuid = tx(() -> schemaContainer("folder").getUuid());
+		SchemaUpdateRequest request = call(() -> client().findSchemaByUuid(uuid)).toUpdateRequest();
+		request.getFields().add(FieldUtil.createStringFieldSchema("cacheTest"));
+		call(() -> client().updateSchema(uuid, request));
+
+		assertRebuilt();
+	}
+
+	@Test
+	public void testRebuildAfterMicroschemaUpdate() {
+		query();
+		assertReused();
+
+		String uuid = tx(() -> microschemaContainer("vcard").getUuid());
+		MicroschemaUpdateRequest request = call(() -> client().findMicroschemaByUuid(uuid)).toRequest();
+		request.getFields().add(FieldUtil.createStringFieldSchema("cacheTest"));
+		call(() -> client().updateMicroschema(uuid, request));
+
+		assertRebuilt();
+	}
+}
@@ -0,0 +1,103 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PERM;
+import static com.gentics.mesh.core.data.perm.InternalPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.dao.ContentDaoWrapper;
+import com.gentics.mesh.core.data.dao.NodeDaoWrapper;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class NodeBatchLoadTest extends AbstractMeshTest {
+
+	@Test
+	public void testParentNodes() {
+		try (Tx tx = tx()) {
+			NodeDaoWrapper nodeDao = tx.data().nodeDao();
+			String branchUuid = latestBranch().getUuid();
+			List<? extends Node> nodes = project().getNodeRoot().findAll().list();
+
+			List<? extends HibNode> parents = nodeDao.getParentNodes(project(), nodes, branchUuid);
+			assertEquals(nodes.size(), parents.size());
+			for (int i = 0; i < nodes.size(); i++) {
+				assertEquals("The parent of node {" + nodes.get(i).getUuid() + "} does not match.", nodeDao.getParentNode(nodes.get(i), branchUuid),
+					parents.get(i));
+			}
+			assertNull("The base node has no parent.", nodeDao.getParentNodes(project(), Arrays.asList(project().getBaseNode()), branchUuid).get(0));
+		}
+	}
+
+	@Test
+	public void testChildNodes() {
+		try (Tx tx = tx()) {
+			NodeDaoWrapper nodeDao = tx.data().nodeDao();
+			InternalActionContext ac = mockActionContext();
+			List<? extends Node> nodes = project().getNodeRoot().findAll().list();
+
+			List<? extends List<? extends HibNode>> children = nodeDao.getChildNodes(project(), nodes, ac);
+			assertEquals(nodes.size(), children.size());
+			for (int i = 0; i < nodes.size(); i++) {
+				List<String> expected = nodeDao.getChildrenStream(nodes.get(i), ac).map(HibNode::getUuid).sorted().collect(Collectors.toList());
+				List<String> actual = children.get(i).stream().map(HibNode::getUuid).sorted().collect(Collectors.toList());
+				assertEquals("The children of node {" + nodes.get(i).getUuid() + "} do not match.", expected, actual);
+			}
+			assertFalse(children.get(nodes.indexOf(project().getBaseNode())).isEmpty());
+		}
+	}
+
+	@Test
+	public void testChildNodesWithoutPermission() {
+		try (Tx tx = tx()) {
+			tx.data().roleDao().revokePermissions(role(), folder("2015"), READ_PERM);
+			tx.data().roleDao().revokePermissions(role(), folder("2015"), READ_PUBLISHED_PERM);
+			tx.success();
+		}
+		try (Tx tx = tx()) {
+			List<? extends List<? extends HibNode>> children = tx.data().nodeDao().getChildNodes(project(), Arrays.asList(folder("news")),
+				mockActionContext());
+			assertFalse("The folder must not be returned without permission.", children.get(0).contains(folder("2015")));
+		}
+	}
+
+	@Test
+	public void testContents() {
+		assertContents(Arrays.asList("en", "de"), DRAFT);
+		assertContents(Arrays.asList("de", "en"), DRAFT);
+		assertContents(Arrays.asList("de"), DRAFT);
+		assertContents(Arrays.asList("en", "de"), PUBLISHED);
+	}
+
+	private void assertContents(List<String> languageTags, ContainerType type) {
+		try (Tx tx = tx()) {
+			ContentDaoWrapper contentDao = tx.data().contentDao();
+			String branchUuid = latestBranch().getUuid();
+			List<? extends Node> nodes = project().getNodeRoot().findAll().list();
+
+			List<NodeGraphFieldContainer> contents = contentDao.findVersions(project(), nodes, branchUuid, languageTags, type);
+			assertEquals(nodes.size(), contents.size());
+			for (int i = 0; i < nodes.size(); i++) {
+				assertEquals("The " + type + " content of node {" + nodes.get(i).getUuid() + "} for " + languageTags + " does not match.",
+					contentDao.findVersion(nodes.get(i), languageTags, branchUuid, type.getHumanCode()), contents.get(i));
+			}
+		}
+	}
+}
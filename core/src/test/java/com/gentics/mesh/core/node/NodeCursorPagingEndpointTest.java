@@ -0,0 +1,136 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.page.impl.PageCursor;
+import com.gentics.mesh.core.rest.node.NodeListResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.parameter.PagingParameters;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class NodeCursorPagingEndpointTest extends AbstractMeshTest {
+
+	private NodeListResponse loadPage(String cursor, long perPage) {
+		PagingParameters paging = new PagingParametersImpl().setPerPage(perPage).setAfter(cursor);
+		return call(() -> client().findNodes(PROJECT_NAME, paging, new VersioningParametersImpl().draft()));
+	}
+
+	private NodeListResponse loadChildrenPage(String parentUuid, String cursor, long perPage) {
+		PagingParameters paging = new PagingParametersImpl().setPerPage(perPage).setAfter(cursor);
+		return call(() -> client().findNodeChildren(PROJECT_NAME, parentUuid, paging, new VersioningParametersImpl().draft()));
+	}
+
+	private List<String> loadAllPages(long perPage) {
+		return loadAllPages(cursor -> loadPage(cursor, perPage), perPage);
+	}
+
+	private List<String> loadAllPages(Function<String, NodeListResponse> pageLoader, long perPage) {
+		List<String> uuids = new ArrayList<>();
+		String cursor = "";
+		int pages = 0;
+		while (cursor != null) {
+			NodeListResponse page = pageLoader.apply(cursor);
+			assertTrue("The page must not exceed the page size.", page.getData().size() <= perPage);
+			assertEquals("The total count is not determined for cursor based pages.", -1, page.getMetainfo().getTotalCount());
+			uuids.addAll(page.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList()));
+			cursor = page.getMetainfo().getNextCursor();
+			assertTrue("Paging did not terminate.", ++pages < 1000);
+		}
+		return uuids;
+	}
+
+	@Test
+	public void testPageThroughAllNodes() {
+		NodeListResponse all = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl().setPerPage(10_000L),
+			new VersioningParametersImpl().draft()));
+		Set<String> expected = all.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toSet());
+
+		List<String> uuids = loadAllPages(3);
+		assertEquals("The pages must not contain duplicates.", uuids.size(), new HashSet<>(uuids).size());
+		assertEquals("All nodes should have been loaded.", expected, new HashSet<>(uuids));
+		assertEquals("The nodes must be read in the order of their uuid.", uuids.stream().sorted().collect(Collectors.toList()), uuids);
+	}
+
+	@Test
+	public void testPageThroughAllChildren() {
+		String parentUuid = tx(() -> folder("2015").getUuid());
+		NodeListResponse all = call(() -> client().findNodeChildren(PROJECT_NAME, parentUuid, new PagingParametersImpl().setPerPage(10_000L),
+			new VersioningParametersImpl().draft()));
+		Set<String> expected = all.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toSet());
+		assertTrue("The folder needs multiple children for this test.", expected.size() > 1);
+
+		List<String> uuids = loadAllPages(cursor -> loadChildrenPage(parentUuid, cursor, 1), 1);
+		assertEquals("The pages must not contain duplicates.", uuids.size(), new HashSet<>(uuids).size());
+		assertEquals("All children should have been loaded.", expected, new HashSet<>(uuids));
+		assertEquals("The children must be read in the order of their uuid.", uuids.stream().sorted().collect(Collectors.toList()), uuids);
+	}
+
+	@Test
+	public void testChildrenCursorDoesNotLeaveParent() {
+		// The ordered index also contains the children of other parents, which must not be part of the last page
+		String parentUuid = tx(() -> folder("2015").getUuid());
+		List<String> uuids = loadAllPages(cursor -> loadChildrenPage(parentUuid, cursor, 1), 1);
+		String lastCursor = PageCursor.encode(uuids.get(uuids.size() - 1));
+		NodeListResponse page = loadChildrenPage(parentUuid, lastCursor, 10);
+		assertTrue("No children should be returned after the last child.", page.getData().isEmpty());
+		assertNull(page.getMetainfo().getNextCursor());
+	}
+
+	@Test
+	public void testStableOrder() {
+		List<String> first = loadAllPages(4);
+		List<String> second = loadAllPages(7);
+		assertEquals("The order must not depend on the page size or the request.", first, second);
+
+		NodeListResponse firstPage = loadPage("", 4);
+		String cursor = firstPage.getMetainfo().getNextCursor();
+		assertNotNull(cursor);
+		List<String> secondPage = loadPage(cursor, 4).getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList());
+		assertEquals("Loading the same cursor again should return the same page.", secondPage,
+			loadPage(cursor, 4).getData().stream().map(NodeResponse::getUuid).collect(Collectors.toList()));
+		assertEquals(first.subList(4, 4 + secondPage.size()), secondPage);
+	}
+
+	@Test
+	public void testLastPage() {
+		List<String> uuids = loadAllPages(10_000);
+		NodeListResponse page = loadPage("", uuids.size());
+		assertEquals(uuids.size(), page.getData().size());
+		assertNull("There is no next page.", page.getMetainfo().getNextCursor());
+	}
+
+	@Test
+	public void testInvalidCursor() {
+		call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl().setAfter("!!!")),
+			BAD_REQUEST, "error_paging_cursor_invalid", "!!!");
+		// Base64 encoded string which is no uuid
+		call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl().setAfter("Zm9v")),
+			BAD_REQUEST, "error_paging_cursor_invalid", "Zm9v");
+	}
+
+	@Test
+	public void testCursorNotSupported() {
+		call(() -> client().findUsers(new PagingParametersImpl().setAfter("")),
+			BAD_REQUEST, "error_paging_cursor_not_supported");
+	}
+}
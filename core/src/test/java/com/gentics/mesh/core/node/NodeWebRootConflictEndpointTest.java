@@ -5,6 +5,11 @@ import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static io.netty.handler.codec.http.HttpResponseStatus.CONFLICT;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -20,9 +25,12 @@ import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.rest.client.MeshRestClientMessageException;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 
+import io.reactivex.Observable;
+
 @MeshTestSetting(testSize = FULL, startServer = true)
 public class NodeWebRootConflictEndpointTest extends AbstractMeshTest {
 
@@ -148,6 +156,43 @@ public class NodeWebRootConflictEndpointTest extends AbstractMeshTest {
 		});
 	}
 
+	/**
+	 * Update two nodes of the same folder concurrently so that they would get the same segment. Only one update may succeed, the other one must be
+	 * rejected with a conflict.
+	 */
+	@Test
+	public void testConcurrentUpdateDuplicateWebrootPath() {
+		String conflictingName = "concurrent.html";
+		String parentUuid = tx(() -> folder("2015").getUuid());
+
+		List<NodeResponse> nodes = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			NodeCreateRequest create = new NodeCreateRequest();
+			create.setParentNodeUuid(parentUuid);
+			create.setLanguage("en");
+			create.setSchemaName("content");
+			create.getFields().put("title", createStringField("some title"));
+			create.getFields().put("teaser", createStringField("some teaser " + i));
+			create.getFields().put("slug", createStringField("slug" + i + ".html"));
+			nodes.add(call(() -> client().createNode(PROJECT_NAME, create)));
+		}
+
+		List<Integer> statusCodes = Observable.fromIterable(nodes)
+			.flatMapSingle(node -> {
+				NodeUpdateRequest update = new NodeUpdateRequest();
+				update.setLanguage("en");
+				update.setVersion(node.getVersion());
+				update.getFields().put("slug", createStringField(conflictingName));
+				return client().updateNode(PROJECT_NAME, node.getUuid(), update).toSingle()
+					.map(response -> OK.code())
+					.onErrorReturn(err -> ((MeshRestClientMessageException) err).getStatusCode());
+			})
+			.toList()
+			.blockingGet();
+
+		assertThat(statusCodes).containsExactlyInAnyOrder(OK.code(), CONFLICT.code());
+	}
+
 	@Test
 	public void testTranslateDuplicateWebrootPath() {
 		String conflictingName = "filename.html";
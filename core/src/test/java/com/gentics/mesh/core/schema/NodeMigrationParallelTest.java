@@ -0,0 +1,143 @@
+package com.gentics.mesh.core.schema;
+
+import static com.gentics.mesh.core.data.util.HibClassConverter.toSchemaVersion;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.MeshOptionChanger.PARALLEL_MIGRATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.schema.SchemaVersion;
+import com.gentics.mesh.core.rest.job.JobListResponse;
+import com.gentics.mesh.core.rest.job.JobResponse;
+import com.gentics.mesh.core.rest.job.JobStatus;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaCreateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = PARALLEL_MIGRATION)
+public class NodeMigrationParallelTest extends AbstractMeshTest {
+
+	private static final String SCHEMA_NAME = "parallelSchema";
+
+	private static final int NODE_COUNT = 25;
+
+	/**
+	 * Create the test schema and {@link #NODE_COUNT} nodes of the schema.
+	 *
+	 * @param nodeUuids
+	 *            List which will be filled with the uuids of the created nodes
+	 * @return Created schema
+	 */
+	private SchemaResponse createSchemaWithNodes(List<String> nodeUuids) {
+		grantAdmin();
+		String parentNodeUuid = tx(() -> project().getBaseNode().getUuid());
+
+		SchemaCreateRequest schemaCreate = new SchemaCreateRequest();
+		schemaCreate.setName(SCHEMA_NAME);
+		schemaCreate.addField(FieldUtil.createStringFieldSchema("name"));
+		schemaCreate.setDisplayField("name");
+		SchemaResponse schema = call(() -> client().createSchema(schemaCreate));
+		call(() -> client().assignSchemaToProject(PROJECT_NAME, schema.getUuid()));
+
+		for (int i = 0; i < NODE_COUNT; i++) {
+			NodeCreateRequest request = new NodeCreateRequest();
+			request.setSchemaName(SCHEMA_NAME);
+			request.setLanguage("en");
+			request.setParentNodeUuid(parentNodeUuid);
+			request.getFields().put("name", FieldUtil.createStringField("node" + i));
+			nodeUuids.add(call(() -> client().createNode(PROJECT_NAME, request)).getUuid());
+		}
+		return schema;
+	}
+
+	@Test
+	public void testReadDraftContainersInPages() {
+		List<String> nodeUuids = new ArrayList<>();
+		SchemaResponse schema = createSchemaWithNodes(nodeUuids);
+		String branchUuid = initialBranchUuid();
+
+		// Read the containers in pages, each page in its own transaction
+		List<String> pagedUuids = new ArrayList<>();
+		String after = null;
+		while (true) {
+			String cursor = after;
+			List<String> page = tx(tx -> {
+				SchemaVersion version = toSchemaVersion(tx.data().schemaDao().findByUuid(schema.getUuid()).getLatestVersion());
+				List<String> uuids = new ArrayList<>();
+				Iterator<? extends NodeGraphFieldContainer> it = version.getDraftFieldContainers(branchUuid, cursor);
+				while (uuids.size() < 10 && it.hasNext()) {
+					uuids.add(it.next().getUuid());
+				}
+				return uuids;
+			});
+			if (page.isEmpty()) {
+				break;
+			}
+			pagedUuids.addAll(page);
+			after = page.get(page.size() - 1);
+		}
+
+		Set<String> allUuids = tx(tx -> {
+			SchemaVersion version = toSchemaVersion(tx.data().schemaDao().findByUuid(schema.getUuid()).getLatestVersion());
+			Set<String> uuids = new HashSet<>();
+			version.getDraftFieldContainers(branchUuid).forEachRemaining(container -> uuids.add(container.getUuid()));
+			return uuids;
+		});
+		assertEquals(NODE_COUNT, allUuids.size());
+		assertEquals("The pages should contain each container once.", allUuids, new HashSet<>(pagedUuids));
+		assertEquals(NODE_COUNT, pagedUuids.size());
+		List<String> sorted = new ArrayList<>(pagedUuids);
+		Collections.sort(sorted);
+		assertEquals("The containers should be returned in the order of their uuid.", sorted, pagedUuids);
+	}
+
+	@Test
+	public void testMigrateWithMultipleWorkers() {
+		List<String> nodeUuids = new ArrayList<>();
+		SchemaResponse schema = createSchemaWithNodes(nodeUuids);
+
+		SchemaUpdateRequest schemaUpdate = new SchemaUpdateRequest();
+		schemaUpdate.setName(SCHEMA_NAME);
+		schemaUpdate.addField(FieldUtil.createStringFieldSchema("name"));
+		schemaUpdate.addField(FieldUtil.createStringFieldSchema("extra"));
+		schemaUpdate.setDisplayField("name");
+		JobListResponse jobs = waitForJobs(() -> {
+			call(() -> client().updateSchema(schema.getUuid(), schemaUpdate));
+		}, JobStatus.COMPLETED, 1);
+
+		JobResponse job = jobs.getData().stream()
+			.filter(j -> schema.getUuid().equals(j.getProperties().get("schemaUuid")))
+			.findFirst().get();
+		assertEquals("All contents should have been migrated.", NODE_COUNT, job.getCompletionCount());
+		assertEquals(Long.valueOf(NODE_COUNT), job.getTotalCount());
+		assertNotNull("The throughput should have been recorded.", job.getThroughput());
+		assertTrue(job.getThroughput() > 0);
+
+		for (int i = 0; i < NODE_COUNT; i++) {
+			String uuid = nodeUuids.get(i);
+			NodeResponse node = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid, new VersioningParametersImpl().draft()));
+			assertEquals("The node {" + uuid + "} should have been migrated.", "2.0", node.getSchema().getVersion());
+			assertEquals("node" + i, node.getFields().getStringField("name").getString());
+		}
+	}
+
+}
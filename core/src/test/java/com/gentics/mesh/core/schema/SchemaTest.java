@@ -8,6 +8,10 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -54,6 +58,35 @@ public class SchemaTest extends AbstractMeshTest implements BasicObjectTestcases
 		}
 	}
 
+	@Test
+	public void testGetNodesInPages() {
+		try (Tx tx = tx()) {
+			SchemaDaoWrapper schemaDao = tx.data().schemaDao();
+			HibSchema schema = schemaContainer("folder");
+			List<String> expected = new ArrayList<>();
+			schemaDao.getNodes(schema).forEach(node -> expected.add(node.getUuid()));
+			Collections.sort(expected);
+			assertTrue("The schema should be used by multiple nodes.", expected.size() > 2);
+
+			// Read the nodes in pages of two nodes
+			List<String> paged = new ArrayList<>();
+			String after = null;
+			while (true) {
+				Iterator<? extends Node> it = schemaDao.getNodes(schema, after);
+				List<String> page = new ArrayList<>();
+				while (page.size() < 2 && it.hasNext()) {
+					page.add(it.next().getUuid());
+				}
+				if (page.isEmpty()) {
+					break;
+				}
+				paged.addAll(page);
+				after = page.get(page.size() - 1);
+			}
+			assertEquals("The nodes should be returned once in the order of their uuid.", expected, paged);
+		}
+	}
+
 	@Test
 	public void testGetRoot() {
 		try (Tx tx = tx()) {
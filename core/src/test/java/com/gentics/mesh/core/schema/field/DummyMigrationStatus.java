@@ -49,4 +49,24 @@ public class DummyMigrationStatus implements MigrationStatusHandler {
 	public void incCompleted() {
 
 	}
+
+	@Override
+	public void incCompleted(long amount) {
+
+	}
+
+	@Override
+	public void setTotalCount(long totalCount) {
+
+	}
+
+	@Override
+	public double getThroughput() {
+		return 0;
+	}
+
+	@Override
+	public long getEstimatedRemainingTime() {
+		return -1;
+	}
 }
@@ -227,6 +227,40 @@ public class TagTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testGetTagsOfNodes() throws Exception {
+		try (Tx tx = tx()) {
+			NodeDaoWrapper nodeDao = tx.data().nodeDao();
+			TagDaoWrapper tagDao = tx.data().tagDao();
+			HibProject project = project();
+			HibBranch branch = project.getLatestBranch();
+			HibTag tag = tagDao.create(tagFamily("basic"), ENGLISH_NAME, project, user());
+
+			// More nodes than fit into a single query
+			List<HibNode> nodes = new ArrayList<>();
+			for (int i = 0; i < 250; i++) {
+				HibNode node = nodeDao.create(folder("2015"), user(), getSchemaContainer().getLatestVersion(), project);
+				if (i % 2 == 0) {
+					tagDao.addTag(node, tag, branch);
+				}
+				nodes.add(node);
+			}
+			nodes.add(content("concorde"));
+
+			List<? extends List<? extends HibTag>> tags = tagDao.getTags(project, nodes, user(), branch);
+			assertEquals("The tags of each node should have been returned.", nodes.size(), tags.size());
+			for (int i = 0; i < nodes.size(); i++) {
+				List<HibTag> expected = new ArrayList<>(tagDao.getTags(nodes.get(i), branch).list());
+				assertThat(new ArrayList<HibTag>(tags.get(i))).as("Tags of node " + i)
+					.usingElementComparatorOnFields("uuid", "name")
+					.hasSameSizeAs(expected)
+					.containsOnlyElementsOf(expected);
+			}
+			assertThat(new ArrayList<HibTag>(tags.get(0))).usingElementComparatorOnFields("uuid").containsOnly(tag);
+			assertThat(tags.get(1)).isEmpty();
+		}
+	}
+
 	@Test
 	public void testMigrateTagsForBranch() throws Exception {
 		try (Tx tx = tx()) {
@@ -0,0 +1,115 @@
+package com.gentics.mesh.core.verticle.handler;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class WriteLockTest {
+
+	private static final String PROJECT = "project";
+
+	private static final String BRANCH_A = "branchA";
+
+	private static final String BRANCH_B = "branchB";
+
+	private WriteLockImpl writeLock;
+
+	@Before
+	public void setup() {
+		MeshOptions options = new MeshOptions();
+		options.getStorageOptions().setSynchronizeWrites(true);
+		options.getStorageOptions().setSynchronizeWritesTimeout(10_000L);
+		MetricsService metricsService = mock(MetricsService.class);
+		when(metricsService.getMetricRegistry()).thenReturn(new SimpleMeterRegistry());
+		writeLock = new WriteLockImpl(options, () -> null, metricsService);
+	}
+
+	/**
+	 * Try to acquire the lock in another thread while the current thread holds the given lock.
+	 *
+	 * @param held
+	 * @param other
+	 * @return Whether the other lock could be acquired while the first lock was held
+	 */
+	private boolean acquiredConcurrently(WriteLockScope held, WriteLockScope other) throws Exception {
+		CountDownLatch acquired = new CountDownLatch(1);
+		CompletableFuture<Void> future;
+		boolean concurrent;
+		try (WriteLock lock = writeLock.lock(null, held)) {
+			future = CompletableFuture.runAsync(() -> {
+				try (WriteLock otherLock = writeLock.lock(null, other)) {
+					acquired.countDown();
+				}
+			});
+			concurrent = acquired.await(500, TimeUnit.MILLISECONDS);
+		}
+		// The other lock must be acquired once the first lock has been released
+		future.get(10, TimeUnit.SECONDS);
+		return concurrent;
+	}
+
+	@Test
+	public void testElementScopes() throws Exception {
+		WriteLockScope element1 = WriteLockScope.element(PROJECT, BRANCH_A, "element1");
+		WriteLockScope element2 = WriteLockScope.element(PROJECT, BRANCH_A, "element2");
+		assertTrue("Different elements should not exclude each other.", acquiredConcurrently(element1, element2));
+		assertFalse("The same element should be locked exclusively.", acquiredConcurrently(element1, element1));
+	}
+
+	@Test
+	public void testBranchScopes() throws Exception {
+		WriteLockScope branchA = WriteLockScope.branch(PROJECT, BRANCH_A);
+		WriteLockScope branchB = WriteLockScope.branch(PROJECT, BRANCH_B);
+		WriteLockScope elementInA = WriteLockScope.element(PROJECT, BRANCH_A, "element1");
+		WriteLockScope elementInB = WriteLockScope.element(PROJECT, BRANCH_B, "element1");
+		assertTrue("Different branches should not exclude each other.", acquiredConcurrently(branchA, branchB));
+		assertFalse("The branch lock should exclude locks of elements in the branch.", acquiredConcurrently(branchA, elementInA));
+		assertFalse("The element lock should exclude the lock of its branch.", acquiredConcurrently(elementInA, branchA));
+		assertTrue("The branch lock should not exclude elements of other branches.", acquiredConcurrently(branchA, elementInB));
+	}
+
+	@Test
+	public void testSharedBranchScopes() throws Exception {
+		WriteLockScope sharedA = WriteLockScope.sharedBranch(PROJECT, BRANCH_A);
+		WriteLockScope branchA = WriteLockScope.branch(PROJECT, BRANCH_A);
+		WriteLockScope elementInA = WriteLockScope.element(PROJECT, BRANCH_A, "element1");
+		assertTrue("Shared branch locks should not exclude each other.", acquiredConcurrently(sharedA, sharedA));
+		assertTrue("The shared branch lock should not exclude elements of the branch.", acquiredConcurrently(sharedA, elementInA));
+		assertFalse("The shared branch lock should exclude the exclusive branch lock.", acquiredConcurrently(sharedA, branchA));
+		assertFalse("The exclusive branch lock should exclude the shared branch lock.", acquiredConcurrently(branchA, sharedA));
+		assertFalse("The project lock should exclude the shared branch lock.", acquiredConcurrently(WriteLockScope.project(PROJECT), sharedA));
+	}
+
+	@Test
+	public void testGlobalScope() throws Exception {
+		WriteLockScope global = WriteLockScope.global();
+		assertFalse(acquiredConcurrently(global, WriteLockScope.project(PROJECT)));
+		assertFalse(acquiredConcurrently(WriteLockScope.element(PROJECT, BRANCH_A, "element1"), global));
+		assertFalse(acquiredConcurrently(global, global));
+	}
+
+	@Test
+	public void testCloseReleasesLockOfThread() throws Exception {
+		WriteLockScope branch = WriteLockScope.branch(PROJECT, BRANCH_A);
+		writeLock.lock(null, branch);
+		writeLock.close();
+		CompletableFuture.runAsync(() -> {
+			try (WriteLock lock = writeLock.lock(null, branch)) {
+				// The lock should have been released
+			}
+		}).get(5, TimeUnit.SECONDS);
+	}
+}
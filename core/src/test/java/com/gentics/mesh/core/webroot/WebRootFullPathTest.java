@@ -0,0 +1,285 @@
+package com.gentics.mesh.core.webroot;
+
+import static com.gentics.mesh.core.data.util.HibClassConverter.toBranch;
+import static com.gentics.mesh.core.data.util.HibClassConverter.toNode;
+import static com.gentics.mesh.core.rest.MeshEvent.STARTUP;
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.changelog.highlevel.change.BuildWebrootFullPathIndex;
+import com.gentics.mesh.core.data.GraphFieldContainerEdge;
+import com.gentics.mesh.core.data.impl.GraphFieldContainerEdgeImpl;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.branch.BranchCreateRequest;
+import com.gentics.mesh.core.rest.branch.BranchResponse;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.job.JobStatus;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.VersioningParameters;
+import com.gentics.mesh.parameter.impl.NodeParametersImpl;
+import com.gentics.mesh.parameter.impl.PublishParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.path.Path;
+import com.gentics.mesh.path.PathSegment;
+import com.gentics.mesh.rest.client.MeshWebrootResponse;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class WebRootFullPathTest extends AbstractMeshTest {
+
+	private static final String CONTENT_PATH = "/News/2015/News_2015.en.html";
+
+	private String folderUuid;
+
+	private String contentUuid;
+
+	@Before
+	public void setupPaths() throws Exception {
+		folderUuid = tx(() -> folder("2015").getUuid());
+		contentUuid = tx(() -> content("news_2015").getUuid());
+		mesh().webRootFullPathUpdater().rebuild();
+		awaitFullPaths();
+	}
+
+	private void awaitFullPaths() throws Exception {
+		mesh().webRootFullPathUpdater().awaitIdle(30, TimeUnit.SECONDS);
+	}
+
+	private String fullPath(String nodeUuid, String branchUuid, ContainerType type, String languageTag) {
+		return tx(tx -> {
+			Object id = toNode(tx.data().nodeDao().findByUuid(project(), nodeUuid)).getId();
+			GraphFieldContainerEdge edge = GraphFieldContainerEdgeImpl.findEdge(id, branchUuid, type.getCode(), languageTag);
+			return edge == null ? null : edge.getFullPath();
+		});
+	}
+
+	private void assertNoPendingUpdates() {
+		assertTrue("All pending updates should have been completed.", tx(() -> toBranch(initialBranch()).getPendingWebrootPathUpdates().isEmpty()));
+	}
+
+	private String fullPath(String nodeUuid, ContainerType type, String languageTag) {
+		return fullPath(nodeUuid, initialBranchUuid(), type, languageTag);
+	}
+
+	private void updateSlug(String uuid, String languageTag, String slug) {
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage(languageTag);
+		request.setVersion("draft");
+		request.getFields().put("slug", FieldUtil.createStringField(slug));
+		call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+	}
+
+	private String webrootUuid(String path, ContainerType type) {
+		VersioningParameters versioning = new VersioningParametersImpl().setVersion(type == DRAFT ? "draft" : "published");
+		MeshWebrootResponse response = call(() -> client().webroot(PROJECT_NAME, path, versioning));
+		return response.getNodeUuid();
+	}
+
+	@Test
+	public void testBackfill() throws Exception {
+		tx(tx -> {
+			for (String uuid : new String[] { folderUuid, contentUuid }) {
+				Object id = toNode(tx.data().nodeDao().findByUuid(project(), uuid)).getId();
+				for (ContainerType type : new ContainerType[] { DRAFT, PUBLISHED }) {
+					GraphFieldContainerEdgeImpl.findEdge(id, initialBranchUuid(), type.getCode(), "en").setFullPath(null);
+				}
+			}
+		});
+		assertNull(fullPath(contentUuid, DRAFT, "en"));
+		// The path can still be resolved segment by segment
+		assertEquals(contentUuid, webrootUuid(CONTENT_PATH, DRAFT));
+
+		mesh().webRootFullPathUpdater().rebuild();
+		awaitFullPaths();
+		assertEquals("/News/2015", fullPath(folderUuid, DRAFT, "en"));
+		assertEquals(CONTENT_PATH, fullPath(contentUuid, DRAFT, "en"));
+		assertEquals(CONTENT_PATH, fullPath(contentUuid, PUBLISHED, "en"));
+	}
+
+	@Test
+	public void testChangelogBuildsPathsAfterStartup() throws Exception {
+		tx(tx -> {
+			Object id = toNode(tx.data().nodeDao().findByUuid(project(), contentUuid)).getId();
+			GraphFieldContainerEdgeImpl.findEdge(id, initialBranchUuid(), DRAFT.getCode(), "en").setFullPath(null);
+		});
+		new BuildWebrootFullPathIndex(mesh().webRootFullPathUpdater()).applyNoTx();
+		awaitFullPaths();
+		assertNull("The paths should only be built once the startup has been completed.", fullPath(contentUuid, DRAFT, "en"));
+
+		vertx().eventBus().publish(STARTUP.address, null);
+		for (int i = 0; i < 100 && fullPath(contentUuid, DRAFT, "en") == null; i++) {
+			Thread.sleep(100);
+		}
+		awaitFullPaths();
+		assertEquals(CONTENT_PATH, fullPath(contentUuid, DRAFT, "en"));
+	}
+
+	@Test
+	public void testLookupContainsAllSegments() {
+		try (Tx tx = tx()) {
+			Path path = mesh().webRootService().findByProjectPath(mockActionContext(), CONTENT_PATH, DRAFT);
+			assertTrue(path.isFullyResolved());
+			List<String> segments = path.getSegments().stream().map(PathSegment::getSegment).collect(Collectors.toList());
+			assertEquals("All segments of the path should be resolved.", Arrays.asList("News", "2015", "News_2015.en.html"), segments);
+			assertEquals(contentUuid, path.getLast().getContainer().getNode().getUuid());
+			assertEquals(folderUuid, path.getSegments().get(1).getContainer().getNode().getUuid());
+		}
+	}
+
+	@Test
+	public void testOutdatedPathIsIgnoredWhileUpdatesArePending() {
+		// Simulate a descendant whose path has not yet been updated
+		tx(tx -> {
+			Object id = toNode(tx.data().nodeDao().findByUuid(project(), contentUuid)).getId();
+			GraphFieldContainerEdgeImpl.findEdge(id, initialBranchUuid(), DRAFT.getCode(), "en").setFullPath("/News/2014/News_2015.en.html");
+			toBranch(initialBranch()).addPendingWebrootPathUpdate(folderUuid + ":pending");
+		});
+		call(() -> client().webroot(PROJECT_NAME, "/News/2014/News_2015.en.html", new VersioningParametersImpl().draft()), NOT_FOUND,
+			"node_not_found_for_path", "/News/2014/News_2015.en.html");
+		NodeResponse response = call(() -> client().findNodeByUuid(PROJECT_NAME, contentUuid, new VersioningParametersImpl().draft(),
+			new NodeParametersImpl().setResolveLinks(LinkType.SHORT)));
+		assertEquals(CONTENT_PATH, response.getPath());
+	}
+
+	@Test
+	public void testResumePendingUpdates() throws Exception {
+		// Simulate an update which was not completed before the instance stopped
+		tx(tx -> {
+			Object id = toNode(tx.data().nodeDao().findByUuid(project(), contentUuid)).getId();
+			GraphFieldContainerEdgeImpl.findEdge(id, initialBranchUuid(), DRAFT.getCode(), "en").setFullPath("/News/2014/News_2015.en.html");
+			toBranch(initialBranch()).addPendingWebrootPathUpdate(folderUuid + ":pending");
+		});
+
+		mesh().webRootFullPathUpdater().resume();
+		awaitFullPaths();
+		assertEquals(CONTENT_PATH, fullPath(contentUuid, DRAFT, "en"));
+		assertNoPendingUpdates();
+		assertEquals(contentUuid, webrootUuid(CONTENT_PATH, DRAFT));
+	}
+
+	@Test
+	public void testUpdateSegment() throws Exception {
+		updateSlug(folderUuid, "en", "2015_renamed");
+		// The path of the updated node itself is updated within the request
+		assertEquals("/News/2015_renamed", fullPath(folderUuid, DRAFT, "en"));
+		assertEquals(contentUuid, webrootUuid("/News/2015_renamed/News_2015.en.html", DRAFT));
+
+		awaitFullPaths();
+		assertNoPendingUpdates();
+		assertEquals("/News/2015_renamed/News_2015.en.html", fullPath(contentUuid, DRAFT, "en"));
+		assertEquals("The published path should not change.", CONTENT_PATH, fullPath(contentUuid, PUBLISHED, "en"));
+		assertEquals(contentUuid, webrootUuid("/News/2015_renamed/News_2015.en.html", DRAFT));
+		assertEquals(contentUuid, webrootUuid(CONTENT_PATH, PUBLISHED));
+		call(() -> client().webroot(PROJECT_NAME, CONTENT_PATH, new VersioningParametersImpl().draft()), NOT_FOUND, "node_not_found_for_path",
+			CONTENT_PATH);
+	}
+
+	@Test
+	public void testMove() throws Exception {
+		String targetUuid = tx(() -> folder("2014").getUuid());
+		call(() -> client().moveNode(PROJECT_NAME, contentUuid, targetUuid));
+		assertEquals("/News/2014/News_2015.en.html", fullPath(contentUuid, DRAFT, "en"));
+
+		// Move a folder with children
+		String productsUuid = tx(() -> folder("products").getUuid());
+		call(() -> client().moveNode(PROJECT_NAME, targetUuid, productsUuid));
+		awaitFullPaths();
+		assertEquals("/Products/2014", fullPath(targetUuid, DRAFT, "en"));
+		assertEquals("/Products/2014/News_2015.en.html", fullPath(contentUuid, DRAFT, "en"));
+		assertEquals(contentUuid, webrootUuid("/Products/2014/News_2015.en.html", DRAFT));
+	}
+
+	@Test
+	public void testPublish() throws Exception {
+		updateSlug(folderUuid, "en", "2015_published");
+		awaitFullPaths();
+		assertEquals("/News/2015", fullPath(folderUuid, PUBLISHED, "en"));
+		assertEquals(CONTENT_PATH, fullPath(contentUuid, PUBLISHED, "en"));
+
+		call(() -> client().publishNode(PROJECT_NAME, folderUuid));
+		awaitFullPaths();
+		assertEquals("/News/2015_published", fullPath(folderUuid, PUBLISHED, "en"));
+		assertEquals("/News/2015_published/News_2015.en.html", fullPath(contentUuid, PUBLISHED, "en"));
+		assertEquals(contentUuid, webrootUuid("/News/2015_published/News_2015.en.html", PUBLISHED));
+	}
+
+	@Test
+	public void testTakeOffline() throws Exception {
+		call(() -> client().takeNodeOffline(PROJECT_NAME, folderUuid, new PublishParametersImpl().setRecursive(true)));
+		awaitFullPaths();
+		assertNull(fullPath(folderUuid, PUBLISHED, "en"));
+		assertNull(fullPath(contentUuid, PUBLISHED, "en"));
+		assertEquals("The draft path should not change.", CONTENT_PATH, fullPath(contentUuid, DRAFT, "en"));
+		call(() -> client().webroot(PROJECT_NAME, CONTENT_PATH, new VersioningParametersImpl().published()), NOT_FOUND,
+			"node_not_found_for_path", CONTENT_PATH);
+	}
+
+	@Test
+	public void testDeleteLanguage() throws Exception {
+		String baseNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		NodeCreateRequest parentRequest = new NodeCreateRequest();
+		parentRequest.setSchema(new SchemaReferenceImpl().setName("folder"));
+		parentRequest.setParentNodeUuid(baseNodeUuid);
+		parentRequest.setLanguage("en");
+		parentRequest.getFields().put("name", FieldUtil.createStringField("parent"));
+		parentRequest.getFields().put("slug", FieldUtil.createStringField("parent-en"));
+		String parentUuid = call(() -> client().createNode(PROJECT_NAME, parentRequest)).getUuid();
+		updateSlug(parentUuid, "de", "parent-de");
+
+		NodeCreateRequest childRequest = new NodeCreateRequest();
+		childRequest.setSchema(new SchemaReferenceImpl().setName("content"));
+		childRequest.setParentNodeUuid(parentUuid);
+		childRequest.setLanguage("en");
+		childRequest.getFields().put("teaser", FieldUtil.createStringField("child"));
+		childRequest.getFields().put("slug", FieldUtil.createStringField("child-en"));
+		String childUuid = call(() -> client().createNode(PROJECT_NAME, childRequest)).getUuid();
+		updateSlug(childUuid, "de", "child-de");
+		awaitFullPaths();
+		assertEquals("/parent-de/child-de", fullPath(childUuid, DRAFT, "de"));
+
+		call(() -> client().deleteNode(PROJECT_NAME, parentUuid, "de"));
+		awaitFullPaths();
+		assertNull("The parent has no german path anymore.", fullPath(childUuid, DRAFT, "de"));
+		assertEquals("/parent-en/child-en", fullPath(childUuid, DRAFT, "en"));
+		// The german content is still reachable via the english segment of the parent
+		assertEquals(childUuid, webrootUuid("/parent-en/child-de", DRAFT));
+	}
+
+	@Test
+	public void testBranchMigration() throws Exception {
+		grantAdmin();
+		AtomicReference<BranchResponse> branch = new AtomicReference<>();
+		waitForJobs(() -> {
+			BranchCreateRequest request = new BranchCreateRequest();
+			request.setName("newbranch");
+			branch.set(call(() -> client().createBranch(PROJECT_NAME, request)));
+		}, JobStatus.COMPLETED, 1);
+		awaitFullPaths();
+		assertEquals(CONTENT_PATH, fullPath(contentUuid, branch.get().getUuid(), DRAFT, "en"));
+		assertEquals(CONTENT_PATH, fullPath(contentUuid, branch.get().getUuid(), PUBLISHED, "en"));
+		assertEquals(contentUuid, call(() -> client().webroot(PROJECT_NAME, CONTENT_PATH,
+			new VersioningParametersImpl().draft().setBranch("newbranch"))).getNodeUuid());
+	}
+}
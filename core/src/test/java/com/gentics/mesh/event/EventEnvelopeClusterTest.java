@@ -0,0 +1,147 @@
+package com.gentics.mesh.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.spi.cluster.hazelcast.HazelcastClusterManager;
+
+/**
+ * Test the delivery of event envelopes between two clustered Vert.x instances.
+ */
+public class EventEnvelopeClusterTest {
+
+	private static final String ADDRESS = "mesh.test.event";
+
+	private Vertx nodeA;
+
+	private Vertx nodeB;
+
+	@Before
+	public void setup() throws Exception {
+		String clusterName = "envelope-" + UUID.randomUUID();
+		nodeA = startNode(clusterName, "nodeA");
+		nodeB = startNode(clusterName, "nodeB");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		close(nodeB);
+		close(nodeA);
+	}
+
+	@Test
+	public void testRemoteDelivery() throws Exception {
+		List<String> receivedA = receive(nodeA.eventBus().consumer(ADDRESS));
+		List<String> receivedB = receive(nodeB.eventBus().consumer(ADDRESS));
+
+		new EventEnvelope("nodeA")
+			.add(ADDRESS, new JsonObject().put("uuid", "first"))
+			.add(ADDRESS, new JsonObject().put("uuid", "second"))
+			.publish(nodeA.eventBus());
+
+		await(receivedA, 2);
+		await(receivedB, 2);
+		assertEquals(Arrays.asList("first:local", "second:local"), receivedA);
+		assertEquals("The other instance must receive the events in order.", Arrays.asList("first:nodeA", "second:nodeA"), receivedB);
+	}
+
+	@Test
+	public void testOriginOnlyConsumer() throws Exception {
+		// Consumers like the Elasticsearch verticle only handle the events which are not marked as remote
+		List<String> receivedA = receive(nodeA.eventBus().localConsumer(ADDRESS));
+		List<String> receivedB = receive(nodeB.eventBus().localConsumer(ADDRESS));
+
+		new EventEnvelope("nodeB")
+			.add(ADDRESS, new JsonObject().put("uuid", "fromB"))
+			.publish(nodeB.eventBus());
+
+		await(receivedA, 1);
+		await(receivedB, 1);
+		assertEquals("The event must be marked as remote on other instances.", Arrays.asList("fromB:nodeB"), receivedA);
+		assertEquals("The event must not be marked as remote on the origin.", Arrays.asList("fromB:local"), receivedB);
+	}
+
+	/**
+	 * Record the received events as <code>uuid:origin</code>. The origin is <code>local</code> for events which are not marked as remote.
+	 *
+	 * @param consumer
+	 * @return
+	 */
+	private List<String> receive(MessageConsumer<JsonObject> consumer) {
+		List<String> received = new CopyOnWriteArrayList<>();
+		consumer.handler(message -> {
+			String origin = EventEnvelope.isRemote(message) ? message.headers().get(EventEnvelope.REMOTE_HEADER) : "local";
+			received.add(message.body().getString("uuid") + ":" + origin);
+		});
+		return received;
+	}
+
+	private void await(List<String> received, int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (received.size() < count) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("Expected {" + count + "} events but got " + received);
+			}
+			Thread.sleep(50);
+		}
+	}
+
+	private Vertx startNode(String clusterName, String nodeName) throws Exception {
+		Config config = new Config();
+		config.getGroupConfig().setName(clusterName);
+		JoinConfig join = config.getNetworkConfig().getJoin();
+		join.getMulticastConfig().setEnabled(false);
+		join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+
+		VertxOptions options = new VertxOptions().setClusterManager(new HazelcastClusterManager(config));
+		options.getEventBusOptions().setClustered(true).setHost("127.0.0.1");
+		CompletableFuture<Vertx> started = new CompletableFuture<>();
+		Vertx.clusteredVertx(options, ar -> {
+			if (ar.succeeded()) {
+				started.complete(ar.result());
+			} else {
+				started.completeExceptionally(ar.cause());
+			}
+		});
+		Vertx vertx = started.get(60, TimeUnit.SECONDS);
+
+		// Wait until the subscription of the envelope consumer has been propagated to the cluster
+		CompletableFuture<Void> registered = new CompletableFuture<>();
+		EventEnvelope.register(vertx, nodeName).completionHandler(ar -> {
+			if (ar.succeeded()) {
+				registered.complete(null);
+			} else {
+				registered.completeExceptionally(ar.cause());
+			}
+		});
+		registered.get(10, TimeUnit.SECONDS);
+		return vertx;
+	}
+
+	private void close(Vertx vertx) throws Exception {
+		if (vertx == null) {
+			return;
+		}
+		CompletableFuture<Void> closed = new CompletableFuture<>();
+		vertx.close(ar -> closed.complete(null));
+		closed.get(30, TimeUnit.SECONDS);
+	}
+}
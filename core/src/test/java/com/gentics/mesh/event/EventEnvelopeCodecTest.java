@@ -0,0 +1,97 @@
+package com.gentics.mesh.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class EventEnvelopeCodecTest {
+
+	/**
+	 * Bytes which precede the envelope in the wire buffer. The codec must respect the given position.
+	 */
+	private static final String PREFIX = "prefix";
+
+	private static final String ORIGIN = "nodeA";
+
+	private final EventEnvelopeCodec codec = new EventEnvelopeCodec();
+
+	private Buffer encode(EventEnvelope envelope) {
+		Buffer buffer = Buffer.buffer(PREFIX);
+		codec.encodeToWire(buffer, envelope);
+		return buffer;
+	}
+
+	private EventEnvelope roundTrip(EventEnvelope envelope) {
+		return codec.decodeFromWire(PREFIX.length(), encode(envelope));
+	}
+
+	private void assertEnvelope(EventEnvelope expected, EventEnvelope actual) {
+		assertEquals(expected.getOrigin(), actual.getOrigin());
+		assertEquals(expected.size(), actual.size());
+		List<String> expectedEvents = new ArrayList<>();
+		expected.forEach((address, body) -> expectedEvents.add(address + ":" + body.encode()));
+		List<String> actualEvents = new ArrayList<>();
+		actual.forEach((address, body) -> actualEvents.add(address + ":" + body.encode()));
+		assertEquals("The events or their order do not match.", expectedEvents, actualEvents);
+	}
+
+	private EventEnvelope envelope(int size) {
+		EventEnvelope envelope = new EventEnvelope(ORIGIN);
+		for (int i = 0; i < size; i++) {
+			envelope.add("mesh.node.updated", new JsonObject()
+				.put("uuid", "uuid-" + i)
+				.put("displayName", "Überschrift " + i)
+				.put("languageTag", "de")
+				.put("tags", new JsonArray().add("car").add("bike")));
+		}
+		return envelope;
+	}
+
+	@Test
+	public void testEmpty() {
+		EventEnvelope envelope = new EventEnvelope(ORIGIN);
+		Buffer buffer = encode(envelope);
+		assertEquals(EventEnvelopeCodec.PLAIN, buffer.getByte(PREFIX.length() + 1));
+		assertEnvelope(envelope, roundTrip(envelope));
+	}
+
+	@Test
+	public void testPlain() {
+		EventEnvelope envelope = envelope(3);
+		Buffer buffer = encode(envelope);
+		assertEquals(EventEnvelopeCodec.VERSION, buffer.getByte(PREFIX.length()));
+		assertEquals("Small envelopes must not be compressed.", EventEnvelopeCodec.PLAIN, buffer.getByte(PREFIX.length() + 1));
+		assertEnvelope(envelope, roundTrip(envelope));
+	}
+
+	@Test
+	public void testCompressed() {
+		EventEnvelope envelope = envelope(1000);
+		Buffer buffer = encode(envelope);
+		assertEquals("Large envelopes must be compressed.", EventEnvelopeCodec.GZIP, buffer.getByte(PREFIX.length() + 1));
+		int length = buffer.getInt(PREFIX.length() + 2);
+		assertEquals(buffer.length(), PREFIX.length() + 6 + length);
+		assertEnvelope(envelope, roundTrip(envelope));
+	}
+
+	@Test
+	public void testUnknownVersion() {
+		Buffer buffer = encode(envelope(3));
+		buffer.setByte(PREFIX.length(), (byte) (EventEnvelopeCodec.VERSION + 1));
+		assertEquals("Envelopes of an unknown version must be dropped.", 0, codec.decodeFromWire(PREFIX.length(), buffer).size());
+	}
+
+	@Test
+	public void testLocalDelivery() {
+		EventEnvelope envelope = envelope(3);
+		assertSame(envelope, codec.transform(envelope));
+	}
+}
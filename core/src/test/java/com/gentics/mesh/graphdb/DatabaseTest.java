@@ -5,11 +5,14 @@ import static com.gentics.mesh.madl.index.EdgeIndexDefinition.edgeIndex;
 import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
 import org.junit.After;
@@ -20,6 +23,8 @@ import org.junit.Test;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.gentics.mesh.core.data.impl.LanguageImpl;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.error.MeshSchemaException;
 import com.gentics.mesh.madl.field.FieldType;
@@ -56,6 +61,19 @@ public class DatabaseTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testFindByUuids() {
+		try (Tx tx = tx()) {
+			String contentUuid = content().getUuid();
+			String folderUuid = folder("2015").getUuid();
+			Map<String, Node> nodes = db().index().findByUuids(NodeImpl.class, Arrays.asList(contentUuid, folderUuid, "bogus"));
+			assertEquals(2, nodes.size());
+			assertEquals(contentUuid, nodes.get(contentUuid).getUuid());
+			assertEquals(folderUuid, nodes.get(folderUuid).getUuid());
+			assertTrue(db().index().findByUuids(NodeImpl.class, Collections.emptyList()).isEmpty());
+		}
+	}
+
 	@Test
 	public void testExport() throws IOException {
 		db().exportGraph(outputDirectory.getAbsolutePath());
@@ -241,6 +241,21 @@ public class LinkRendererTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testEscapedDoubleQuote() {
+		try (Tx tx = tx()) {
+			HibNode newsNode = content("news overview");
+			String uuid = newsNode.getUuid();
+			final String content = "{{mesh.link(\\\"" + uuid + "\\\", \\\"de\\\")}}";
+
+			InternalActionContext ac = mockActionContext();
+			String replacedContent = replacer.replace(ac, project().getLatestBranch().getUuid(), ContainerType.DRAFT, content, LinkType.FULL, null,
+					null);
+
+			assertEquals("Check rendered content", CURRENT_API_BASE_PATH + "/dummy/webroot/Neuigkeiten/News%20Overview.de.html", replacedContent);
+		}
+	}
+
 	@Test
 	public void testGerman() {
 		try (Tx tx = tx()) {
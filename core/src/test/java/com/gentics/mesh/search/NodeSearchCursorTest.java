@@ -0,0 +1,127 @@
+package com.gentics.mesh.search;
+
+import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_VERSION;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.ElasticsearchTestMode.CONTAINER_ES6;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.node.NodeListResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.search.SearchSourceHit;
+import com.gentics.mesh.core.rest.search.SearchSourceListResponse;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonObject;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+@MeshTestSetting(elasticsearch = CONTAINER_ES6, startServer = true, testSize = FULL)
+public class NodeSearchCursorTest extends AbstractMeshTest {
+
+	private static final String MATCH_ALL = new JsonObject().put("query", new JsonObject().put("match_all", new JsonObject())).encode();
+
+	@Test
+	public void testSourceSearchCursor() throws Exception {
+		recreateIndices();
+		SearchSourceListResponse all = call(() -> client().searchNodesSource(MATCH_ALL, new VersioningParametersImpl().draft(),
+			new PagingParametersImpl().setPerPage(1000L)));
+		Set<String> expected = all.getData().stream().map(SearchSourceHit::getId).collect(Collectors.toSet());
+
+		List<String> ids = new ArrayList<>();
+		String cursor = "";
+		while (cursor != null) {
+			String after = cursor;
+			SearchSourceListResponse page = call(() -> client().searchNodesSource(MATCH_ALL, new VersioningParametersImpl().draft(),
+				new PagingParametersImpl().setAfter(after).setPerPage(4L)));
+			assertEquals("The total count is not determined for cursor based pages", -1, page.getMetainfo().getTotalCount());
+			assertTrue(page.getData().size() <= 4);
+			page.getData().forEach(hit -> ids.add(hit.getId()));
+			cursor = page.getMetainfo().getNextCursor();
+		}
+		assertEquals("No hit must be returned twice", ids.size(), new HashSet<>(ids).size());
+		assertEquals(expected, new HashSet<>(ids));
+	}
+
+	@Test
+	public void testNodeSearchCursor() throws Exception {
+		recreateIndices();
+		NodeListResponse all = call(() -> client().searchNodes(PROJECT_NAME, MATCH_ALL, new VersioningParametersImpl().draft(),
+			new PagingParametersImpl().setPerPage(1000L)));
+		Set<String> expected = all.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toSet());
+
+		Set<String> uuids = new HashSet<>();
+		String cursor = "";
+		while (cursor != null) {
+			String after = cursor;
+			NodeListResponse page = call(() -> client().searchNodes(PROJECT_NAME, MATCH_ALL, new VersioningParametersImpl().draft(),
+				new PagingParametersImpl().setAfter(after).setPerPage(5L)));
+			page.getData().forEach(node -> uuids.add(node.getUuid()));
+			cursor = page.getMetainfo().getNextCursor();
+		}
+		assertEquals(expected, uuids);
+	}
+
+	@Test
+	public void testCursorOfLastPage() throws Exception {
+		recreateIndices();
+		SearchSourceListResponse page = call(() -> client().searchNodesSource(MATCH_ALL, new VersioningParametersImpl().draft(),
+			new PagingParametersImpl().setAfter("").setPerPage(1000L)));
+		assertNull("The last page must not return a cursor", page.getMetainfo().getNextCursor());
+	}
+
+	@Test
+	public void testInvalidCursor() throws Exception {
+		recreateIndices();
+		call(() -> client().searchNodesSource(MATCH_ALL, new PagingParametersImpl().setAfter("%%%")), BAD_REQUEST,
+			"error_paging_cursor_invalid", "%%%");
+	}
+
+	@Test
+	public void testExport() throws Exception {
+		recreateIndices();
+		SearchSourceListResponse all = call(() -> client().searchNodesSource(PROJECT_NAME, MATCH_ALL, new VersioningParametersImpl().draft(),
+			new PagingParametersImpl().setPerPage(1000L)));
+		Set<String> expected = all.getData().stream().map(SearchSourceHit::getId).collect(Collectors.toSet());
+
+		// Use small batches to export the hits via multiple requests
+		getTestContext().getOptions().getSearchOptions().setExportBatchSize(3);
+
+		Response response = httpClient().newCall(new Request.Builder()
+			.addHeader("Authorization", "Bearer " + client().getAuthentication().getToken())
+			.url(String.format("http://localhost:%d/api/v%d/%s/search/nodes/export?version=draft", port(), CURRENT_API_VERSION, PROJECT_NAME))
+			.post(RequestBody.create(MediaType.parse("application/json"), MATCH_ALL))
+			.build()).execute();
+		assertEquals(200, response.code());
+		assertEquals("application/x-ndjson", response.header("Content-Type"));
+
+		List<String> ids = new ArrayList<>();
+		for (String line : response.body().string().split("\n")) {
+			if (!line.isEmpty()) {
+				JsonObject hit = new JsonObject(line);
+				ids.add(hit.getString("id"));
+				assertEquals(hit.getJsonObject("source").getString("uuid") + "-" + hit.getJsonObject("source").getString("language"), hit.getString("id"));
+			}
+		}
+		assertEquals("No hit must be exported twice", ids.size(), new HashSet<>(ids).size());
+		assertEquals(expected, new HashSet<>(ids));
+	}
+
+}
@@ -0,0 +1,67 @@
+package com.gentics.mesh.search;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.ElasticsearchTestMode.CONTAINER_ES6;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.search.SearchSourceHit;
+import com.gentics.mesh.core.rest.search.SearchSourceListResponse;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(elasticsearch = CONTAINER_ES6, startServer = true, testSize = FULL)
+public class NodeSourceSearchEndpointTest extends AbstractMeshTest {
+
+	@Test
+	public void testSourceSearch() throws Exception {
+		recreateIndices();
+		String uuid = tx(() -> content("concorde").getUuid());
+
+		JsonObject query = new JsonObject()
+			.put("query", new JsonObject().put("match", new JsonObject().put("fields.content", "supersonic")))
+			.put("_source", new JsonArray().add("uuid").add("language"))
+			.put("highlight", new JsonObject().put("fields", new JsonObject().put("fields.content", new JsonObject())));
+
+		SearchSourceListResponse response = call(() -> client().searchNodesSource(PROJECT_NAME, query.encode(),
+			new VersioningParametersImpl().draft()));
+		assertEquals(1, response.getData().size());
+		assertEquals(1, response.getMetainfo().getTotalCount());
+
+		SearchSourceHit hit = response.getData().get(0);
+		assertEquals(uuid + "-en", hit.getId());
+		assertNotNull(hit.getScore());
+		assertEquals(uuid, hit.getSource().getString("uuid"));
+		assertEquals("en", hit.getSource().getString("language"));
+		assertEquals("Only the selected fields should be returned", 2, hit.getSource().size());
+		assertTrue(hit.getHighlight().getJsonArray("fields.content").getString(0).contains("<em>supersonic</em>"));
+	}
+
+	@Test
+	public void testSourceSearchPaging() throws Exception {
+		recreateIndices();
+		String query = new JsonObject().put("query", new JsonObject().put("match_all", new JsonObject())).encode();
+
+		SearchSourceListResponse all = call(() -> client().searchNodesSource(query, new VersioningParametersImpl().draft(),
+			new PagingParametersImpl().setPerPage(1000L)));
+		long total = all.getMetainfo().getTotalCount();
+		assertEquals(total, all.getData().size());
+
+		SearchSourceListResponse page = call(() -> client().searchNodesSource(query, new VersioningParametersImpl().draft(),
+			new PagingParametersImpl().setPage(2).setPerPage(2L)));
+		assertEquals(2, page.getData().size());
+		assertEquals(total, page.getMetainfo().getTotalCount());
+		assertEquals(2, page.getMetainfo().getCurrentPage());
+	}
+
+}
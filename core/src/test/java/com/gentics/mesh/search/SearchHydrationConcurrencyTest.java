@@ -0,0 +1,91 @@
+package com.gentics.mesh.search;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.MeshOptionChanger.HYDRATION_CONCURRENCY;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import com.gentics.mesh.core.rest.user.UserCreateRequest;
+import com.gentics.mesh.core.rest.user.UserListResponse;
+import com.gentics.mesh.core.rest.user.UserResponse;
+import com.gentics.mesh.test.context.ElasticsearchTestMode;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@RunWith(Parameterized.class)
+@MeshTestSetting(testSize = FULL, startServer = true, optionChanger = HYDRATION_CONCURRENCY)
+public class SearchHydrationConcurrencyTest extends AbstractMultiESTest {
+
+	/**
+	 * Amount of users which are hydrated in three chunks.
+	 */
+	private static final int USER_COUNT = 9;
+
+	/**
+	 * Query for the created users, sorted in the reverse order of their creation.
+	 */
+	private static final String QUERY = new JsonObject()
+		.put("query", new JsonObject().put("prefix", new JsonObject().put("emailaddress", "hydration")))
+		.put("sort", new JsonArray().add(new JsonObject().put("emailaddress", new JsonObject().put("order", "desc"))))
+		.encode();
+
+	public SearchHydrationConcurrencyTest(ElasticsearchTestMode elasticsearch) throws Exception {
+		super(elasticsearch);
+	}
+
+	/**
+	 * Create the users and return their usernames in the order of the query.
+	 *
+	 * @return
+	 */
+	private List<String> createUsers() {
+		List<String> usernames = new ArrayList<>();
+		for (int i = 0; i < USER_COUNT; i++) {
+			UserCreateRequest request = new UserCreateRequest();
+			request.setUsername("hydration" + i);
+			request.setEmailAddress("hydration" + i + "@example.com");
+			request.setPassword("test1234");
+			usernames.add(0, call(() -> client().createUser(request)).getUsername());
+		}
+		waitForSearchIdleEvent();
+		return usernames;
+	}
+
+	private List<String> usernames(UserListResponse response) {
+		return response.getData().stream().map(UserResponse::getUsername).collect(Collectors.toList());
+	}
+
+	@Test
+	public void testHitOrder() {
+		List<String> usernames = createUsers();
+
+		UserListResponse response = call(() -> client().searchUsers(QUERY));
+		assertEquals("The hydrated chunks must keep the order of the hits.", usernames, usernames(response));
+		assertEquals(USER_COUNT, response.getMetainfo().getTotalCount());
+	}
+
+	@Test
+	public void testOmittedTotalCount() {
+		List<String> usernames = createUsers();
+		String removed = usernames.remove(4);
+		// Remove the user without events so that the document remains in the index
+		tx(() -> {
+			boot().userDao().findByName(removed).remove();
+		});
+
+		UserListResponse response = call(() -> client().searchUsers(QUERY));
+		assertEquals("The missing user must be omitted without changing the order.", usernames, usernames(response));
+		assertEquals("The total count must be reduced by the omitted hit.", USER_COUNT - 1, response.getMetainfo().getTotalCount());
+		assertEquals(1, response.getMetainfo().getPageCount());
+	}
+}
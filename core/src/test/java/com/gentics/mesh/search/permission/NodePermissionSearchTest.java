@@ -13,6 +13,7 @@ import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.role.RoleCreateRequest;
 import com.gentics.mesh.core.rest.role.RolePermissionRequest;
 import com.gentics.mesh.core.rest.role.RoleResponse;
+import com.gentics.mesh.core.rest.search.SearchSourceListResponse;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
 import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.AbstractMeshTest;
@@ -41,6 +42,26 @@ public class NodePermissionSearchTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testSourceSearchPermUpdate() throws Exception {
+		NodeResponse response = createNode("slug", FieldUtil.createStringField("slugblub"));
+
+		String json = getESText("nodeWildcard.es");
+
+		waitForSearchIdleEvent();
+		SearchSourceListResponse list = call(() -> client().searchNodesSource(PROJECT_NAME, json));
+		assertEquals("The node should be found since the requestor has permission to see it", 1, list.getData().size());
+
+		// Revoke read permission
+		RolePermissionRequest request = new RolePermissionRequest();
+		request.getPermissions().setRead(false);
+		call(() -> client().updateRolePermissions(roleUuid(), "/projects/" + PROJECT_NAME + "/nodes/" + response.getUuid(), request));
+
+		waitForSearchIdleEvent();
+		list = call(() -> client().searchNodesSource(PROJECT_NAME, json));
+		assertEquals("The node should not be found since the requestor has no permission to see it", 0, list.getData().size());
+	}
+
 	@Test
 	public void testIndexPermRoleDeletion() throws Exception {
 		recreateIndices();
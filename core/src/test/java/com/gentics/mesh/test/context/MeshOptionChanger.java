@@ -20,6 +20,12 @@ public enum MeshOptionChanger {
 		options.setInitialAdminPassword("debug99");
 	}), ES_STRICT_MODE(options -> {
 		options.getSearchOptions().setMappingMode(MappingMode.STRICT);
+	}), NODE_RESPONSE_CACHE(options -> {
+		options.getCacheConfig().setNodeResponseCacheSize(1000);
+	}), PARALLEL_MIGRATION(options -> {
+		options.getContentOptions().setMigrationWorkers(3).setMigrationChunkSize(2);
+	}), HYDRATION_CONCURRENCY(options -> {
+		options.getSearchOptions().setHydrationConcurrency(3);
 	}), RANDOM_ES_PORT(options -> {
 		try {
 			try (ServerSocket s = new ServerSocket(0)) {
@@ -450,6 +450,8 @@ public class MeshTestContext extends TestWatcher {
 			FileUtils.deleteDirectory(folder);
 		}
 		meshDagger.permissionCache().clear(false);
+		meshDagger.webRootLinkCache().clear();
+		meshDagger.nodeResponseCache().clear();
 	}
 
 	public TestDataProvider getData() {
@@ -4,16 +4,20 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.metric.SimpleMetric.COMMIT_TIME;
 import static com.gentics.mesh.metric.SimpleMetric.TOPOLOGY_LOCK_TIMEOUT_COUNT;
 import static com.gentics.mesh.metric.SimpleMetric.TOPOLOGY_LOCK_WAITING_TIME;
-import static com.gentics.mesh.metric.SimpleMetric.TX_RETRY;
 import static com.gentics.mesh.metric.SimpleMetric.TX_TIME;
 import static com.gentics.mesh.util.StreamUtil.toStream;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -42,6 +46,8 @@ import com.gentics.mesh.graphdb.cluster.TxCleanupTask;
 import com.gentics.mesh.graphdb.index.OrientDBIndexHandler;
 import com.gentics.mesh.graphdb.index.OrientDBTypeHandler;
 import com.gentics.mesh.graphdb.model.MeshElement;
+import com.gentics.mesh.graphdb.retry.TxConflictTracker;
+import com.gentics.mesh.graphdb.retry.TxRetryPolicy;
 import com.gentics.mesh.graphdb.spi.AbstractDatabase;
 import com.gentics.mesh.graphdb.spi.GraphStorage;
 import com.gentics.mesh.graphdb.tx.OrientStorage;
@@ -57,7 +63,14 @@ import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OSchemaException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexCursor;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import com.orientechnologies.orient.server.distributed.ODistributedConfiguration;
 import com.orientechnologies.orient.server.distributed.ODistributedConfiguration.ROLES;
@@ -96,6 +109,11 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private static final String RIDBAG_PARAM_KEY = "ridBag.embeddedToSbtreeBonsaiThreshold";
 
+	/**
+	 * Maximum amount of values which are passed to a single query.
+	 */
+	private static final int MAX_QUERY_VALUES = 100;
+
 	private TypeResolver resolver;
 
 	private OrientStorage txProvider;
@@ -104,8 +122,6 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private Timer txTimer;
 
-	private Counter txRetryCounter;
-
 	private OrientDBIndexHandler indexHandler;
 
 	private OrientDBTypeHandler typeHandler;
@@ -130,13 +146,16 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private WriteLock writeLock;
 
+	private final TxRetryPolicy retryPolicy;
+
+	private final TxConflictTracker conflictTracker;
 
 	@Inject
 	public OrientDBDatabase(MeshOptions options, Lazy<Vertx> vertx, Lazy<BootstrapInitializer> boot, Lazy<DaoCollection> daos, MetricsService metrics, OrientDBTypeHandler typeHandler,
 		OrientDBIndexHandler indexHandler,
 		OrientDBClusterManager clusterManager,
 		TxCleanupTask txCleanupTask,
-		Mesh mesh, WriteLock writeLock) {
+		Mesh mesh, WriteLock writeLock, TxRetryPolicy retryPolicy, TxConflictTracker conflictTracker) {
 		super(vertx);
 		this.options = options;
 		this.boot = boot;
@@ -144,7 +163,6 @@ public class OrientDBDatabase extends AbstractDatabase {
 		this.metrics = metrics;
 		if (metrics != null) {
 			txTimer = metrics.timer(TX_TIME);
-			txRetryCounter = metrics.counter(TX_RETRY);
 			topologyLockTimer = metrics.timer(TOPOLOGY_LOCK_WAITING_TIME);
 			topologyLockTimeoutCounter = metrics.counter(TOPOLOGY_LOCK_TIMEOUT_COUNT);
 			commitTimer = metrics.timer(COMMIT_TIME);
@@ -155,6 +173,8 @@ public class OrientDBDatabase extends AbstractDatabase {
 		this.txCleanUpTask = txCleanupTask;
 		this.mesh = mesh;
 		this.writeLock = writeLock;
+		this.retryPolicy = retryPolicy;
+		this.conflictTracker = conflictTracker;
 	}
 
 	@Override
@@ -293,6 +313,91 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return orientBaseGraph.getVertices(classOfVertex.getSimpleName(), fieldNames, fieldValues).iterator();
 	}
 
+	@Override
+	public Iterator<Vertex> getVerticesInRange(Class<?> classOfVertex, String indexPostfix, Object key, Object after) {
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		String className = classOfVertex.getSimpleName();
+		OClass clazz = orientBaseGraph.getRawGraph().getMetadata().getSchema().getClass(className);
+		OIndex<?> index = clazz == null ? null : clazz.getClassIndex(className + "_" + indexPostfix);
+		if (index == null) {
+			throw new RuntimeException("Ordered index {" + className + "_" + indexPostfix + "} could not be found.");
+		}
+		// The partial key selects the first entry of the key. The full key is excluded to start behind the last element of the previous page.
+		OIndexCursor cursor = after == null
+			? index.iterateEntriesMajor(new OCompositeKey(key), true, true)
+			: index.iterateEntriesMajor(new OCompositeKey(key, after), false, true);
+		// The cursor continues with the entries of the following keys, thus the iteration has to stop at the first entry of another key
+		return Stream.generate(cursor::nextEntry)
+			.takeWhile(entry -> entry != null && key.equals(((OCompositeKey) entry.getKey()).getKeys().get(0)))
+			.map(entry -> (Vertex) orientBaseGraph.getVertex(entry.getValue().getIdentity()))
+			.iterator();
+	}
+
+	@Override
+	public Iterator<Vertex> getVerticesIn(Class<?> classOfVertex, String fieldName, Collection<?> fieldValues) {
+		if (fieldValues.isEmpty()) {
+			return Collections.emptyIterator();
+		}
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		String className = classOfVertex.getSimpleName();
+		OClass clazz = orientBaseGraph.getRawGraph().getMetadata().getSchema().getClass(className);
+		OProperty property = clazz == null ? null : clazz.getProperty(fieldName);
+		boolean multiValue = property != null && property.getType().isMultiValue();
+		return queryInChunks(fieldValues, chunk -> {
+			String query;
+			Object[] params;
+			if (multiValue) {
+				// Each contained value is a key of the collection index, which is used for each of the conditions
+				query = "SELECT @rid FROM " + className + " WHERE "
+					+ chunk.stream().map(value -> "`" + fieldName + "` CONTAINS ?").collect(Collectors.joining(" OR "));
+				params = chunk.toArray();
+			} else {
+				query = "SELECT @rid FROM " + className + " WHERE `" + fieldName + "` IN ?";
+				params = new Object[] { chunk };
+			}
+			OResultSet result = orientBaseGraph.getRawGraph().query(query, params);
+			return result.stream()
+				.map(row -> (Vertex) orientBaseGraph.getVertex(row.<ORID>getProperty("@rid")));
+		});
+	}
+
+	@Override
+	public Iterator<Edge> getOutEdges(Collection<?> vertexIds, String label, String[] fieldNames, Object[] fieldValues) {
+		if (vertexIds.isEmpty()) {
+			return Collections.emptyIterator();
+		}
+		OrientBaseGraph orientBaseGraph = unwrapCurrentGraph();
+		StringBuilder query = new StringBuilder("SELECT @rid FROM `" + label + "` WHERE out IN ?");
+		for (int i = 0; i < fieldNames.length; i++) {
+			query.append(" AND `").append(fieldNames[i]).append("` = ?");
+		}
+		return queryInChunks(vertexIds, chunk -> {
+			Object[] params = new Object[fieldNames.length + 1];
+			params[0] = chunk;
+			System.arraycopy(fieldValues, 0, params, 1, fieldNames.length);
+			OResultSet result = orientBaseGraph.getRawGraph().query(query.toString(), params);
+			return result.stream()
+				.map(row -> (Edge) orientBaseGraph.getEdge(row.<ORID>getProperty("@rid")));
+		});
+	}
+
+	/**
+	 * Run the query for chunks of the given values so that the size of a single query is bounded. The chunks are queried lazily one after another.
+	 *
+	 * @param values
+	 * @param query
+	 *            Query which returns the results for a chunk of the values
+	 * @return Results of all chunks
+	 */
+	private <T> Iterator<T> queryInChunks(Collection<?> values, Function<List<Object>, Stream<T>> query) {
+		List<Object> all = new ArrayList<>(values);
+		int chunkCount = (all.size() + MAX_QUERY_VALUES - 1) / MAX_QUERY_VALUES;
+		return IntStream.range(0, chunkCount)
+			.mapToObj(i -> all.subList(i * MAX_QUERY_VALUES, Math.min(all.size(), (i + 1) * MAX_QUERY_VALUES)))
+			.flatMap(chunk -> query.apply(new ArrayList<>(chunk)))
+			.iterator();
+	}
+
 	@Override
 	public <T extends VertexFrame> TraversalResult<T> getVerticesTraversal(Class<T> classOfVertex, String[] fieldNames, Object[] fieldValues) {
 		Stream<Vertex> stream = toStream(getVertices(classOfVertex, fieldNames, fieldValues));
@@ -410,39 +515,30 @@ public class OrientDBDatabase extends AbstractDatabase {
 	public <T> T tx(TxAction<T> txHandler) {
 		/**
 		 * OrientDB uses the MVCC pattern which requires a retry of the code that manipulates the graph in cases where for example an
-		 * {@link OConcurrentModificationException} is thrown.
+		 * {@link OConcurrentModificationException} is thrown. The retry policy delays the retries with a randomized backoff so that conflicting
+		 * transactions don't collide again.
 		 */
-		T handlerResult = null;
-		boolean handlerFinished = false;
-		int maxRetry = options.getStorageOptions().getTxRetryLimit();
-		for (int retry = 0; retry < maxRetry; retry++) {
+		long start = System.currentTimeMillis();
+		for (int retry = 0;; retry++) {
 			Timer.Sample sample = Timer.start();
 			// Check the status to prevent transactions during shutdown
 			checkStatus();
+			Throwable retryError = null;
 			try (Tx tx = tx()) {
-				handlerResult = txHandler.handle(tx);
-				handlerFinished = true;
+				T handlerResult = txHandler.handle(tx);
 				tx.success();
+				return handlerResult;
 			} catch (OSchemaException e) {
 				log.error("OrientDB schema exception detected.");
 				// TODO maybe we should invoke a metadata getschema reload?
 				// factory.getTx().getRawGraph().getMetadata().getSchema().reload();
 				// Database.getThreadLocalGraph().getMetadata().getSchema().reload();
+				retryError = e;
 			} catch (InterruptedException | ONeedRetryException | FastNoSuchElementException e) {
 				if (log.isTraceEnabled()) {
 					log.trace("Error while handling transaction. Retrying " + retry, e);
 				}
-				int delay = options.getStorageOptions().getTxRetryDelay();
-				if (retry > 0 && delay > 0) {
-					try {
-						Thread.sleep(delay);
-					} catch (InterruptedException e1) {
-						e1.printStackTrace();
-					}
-				}
-				// Reset previous result
-				handlerFinished = false;
-				handlerResult = null;
+				retryError = e;
 			} catch (ORecordDuplicatedException e) {
 				log.error(e);
 				throw error(INTERNAL_SERVER_ERROR, "error_internal");
@@ -462,17 +558,40 @@ public class OrientDBDatabase extends AbstractDatabase {
 			} finally {
 				sample.stop(txTimer);
 			}
-			if (!handlerFinished && log.isDebugEnabled()) {
-				log.debug("Retrying .. {" + retry + "}");
-				if (metrics.isEnabled()) {
-					txRetryCounter.increment();
+
+			String site = TxConflictTracker.site();
+			String cause = retryPolicy.classify(retryError);
+			if (cause == null) {
+				if (log.isDebugEnabled()) {
+					log.debug("Not retrying {" + site + "} since the error must not be retried", retryError);
 				}
+				if (retryError instanceof RuntimeException) {
+					throw (RuntimeException) retryError;
+				}
+				throw new RuntimeException("Transaction error", retryError);
 			}
-			if (handlerFinished) {
-				return handlerResult;
+			long delay = retryPolicy.delay(retry, System.currentTimeMillis() - start);
+			if (delay < 0) {
+				conflictTracker.exhausted(site);
+				throw new RuntimeException("Retry limit {" + (retry + 1) + "} for trx in {" + site + "} exceeded", retryError);
+			}
+			conflictTracker.retry(cause, site, retryError);
+			if (log.isDebugEnabled()) {
+				log.debug("Retrying {" + site + "} due to {" + cause + "} in {" + delay + "} ms .. {" + retry + "}");
+			}
+			if (delay > 0) {
+				try {
+					Thread.sleep(delay);
+				} catch (InterruptedException e) {
+					// Restore the flag so that the caller can handle the interruption
+					Thread.currentThread().interrupt();
+					conflictTracker.exhausted(site);
+					RuntimeException abort = new RuntimeException("Interrupted while waiting for the retry of trx in {" + site + "}", retryError);
+					abort.addSuppressed(e);
+					throw abort;
+				}
 			}
 		}
-		throw new RuntimeException("Retry limit {" + maxRetry + "} for trx exceeded");
 	}
 
 	private void checkStatus() {
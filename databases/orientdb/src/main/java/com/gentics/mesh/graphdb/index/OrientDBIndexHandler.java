@@ -4,7 +4,11 @@ import static com.gentics.mesh.graphdb.FieldTypeMapper.toSubType;
 import static com.gentics.mesh.graphdb.FieldTypeMapper.toType;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 
 import javax.inject.Inject;
@@ -259,6 +263,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 		FieldMap fields = def.getFields();
 		String indexPostfix = def.getPostfix();
 		boolean unique = def.isUnique();
+		boolean ordered = def.isOrdered();
 		boolean includeIn = def.isIncludeIn();
 		boolean includeOut = def.isIncludeOut();
 		boolean includeInOut = def.isIncludeInOut();
@@ -327,7 +332,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 			name = name.toLowerCase();
 			if (fields != null && fields.size() != 0 && e.getClassIndex(name) == null) {
 				String[] fieldArray = fields.keySet().stream().toArray(String[]::new);
-				String indexType = unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.toString() : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.toString();
+				String indexType = indexType(unique, ordered);
 				OIndex<?> idx = e.createIndex(name, indexType, null, new ODocument().fields("ignoreNullValues", true), fieldArray);
 				if (idx == null) {
 					new RuntimeException("Index for {" + label + "/" + indexPostfix + "} was not created.");
@@ -345,6 +350,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 		String indexName = def.getName();
 		FieldMap fields = def.getFields();
 		boolean unique = def.isUnique();
+		boolean ordered = def.isOrdered();
 
 		if (!StringUtils.isEmpty(def.getPostfix())) {
 			indexName = indexName + "_" + def.getPostfix();
@@ -377,7 +383,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 
 			if (fields != null && fields.size() != 0 && v.getClassIndex(indexName) == null) {
 				String[] fieldArray = fields.keySet().stream().toArray(String[]::new);
-				v.createIndex(indexName, unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.toString() : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.toString(),
+				v.createIndex(indexName, indexType(unique, ordered),
 					null, new ODocument().fields("ignoreNullValues", true), fieldArray);
 			}
 		} finally {
@@ -386,28 +392,68 @@ public class OrientDBIndexHandler implements IndexHandler {
 
 	}
 
+	/**
+	 * Return the OrientDB index type. Ordered indices are backed by a sb-tree which supports range lookups.
+	 * 
+	 * @param unique
+	 * @param ordered
+	 * @return
+	 */
+	private String indexType(boolean unique, boolean ordered) {
+		if (ordered) {
+			return unique ? OClass.INDEX_TYPE.UNIQUE.toString() : OClass.INDEX_TYPE.NOTUNIQUE.toString();
+		}
+		return unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.toString() : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.toString();
+	}
+
 	@Override
 	public <T extends VertexFrame> T findByUuid(Class<? extends T> classOfT, String uuid) {
+		classOfT = resolveImpl(classOfT);
+		FramedGraph graph = Tx.get().getGraph();
+		OIndex<?> index = getUuidIndex(graph);
+		if (index != null) {
+			Object recordId = index.get(uuid);
+			if (recordId != null) {
+				return (T) graph.getFramedVertexExplicit(classOfT, recordId);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public <T extends VertexFrame> Map<String, T> findByUuids(Class<? extends T> classOfT, Collection<String> uuids) {
+		classOfT = resolveImpl(classOfT);
+		FramedGraph graph = Tx.get().getGraph();
+		Map<String, T> elements = new HashMap<>(uuids.size());
+		OIndex<?> index = getUuidIndex(graph);
+		if (index != null && !uuids.isEmpty()) {
+			// Only a single lookup is needed. The cursor returns the record ids of all found keys.
+			OIndexCursor cursor = index.iterateEntries(new HashSet<>(uuids), true);
+			Entry<Object, OIdentifiable> entry;
+			while ((entry = cursor.nextEntry()) != null) {
+				elements.put((String) entry.getKey(), (T) graph.getFramedVertexExplicit(classOfT, entry.getValue().getIdentity()));
+			}
+		}
+		return elements;
+	}
+
+	private <T extends VertexFrame> Class<? extends T> resolveImpl(Class<? extends T> classOfT) {
 		Class<?> foundImpl = persistenceClassMap.get(classOfT);
 		// Use the found impl when one was found.
 		if (foundImpl != null) {
-			classOfT = (Class<? extends T>) foundImpl;
+			return (Class<? extends T>) foundImpl;
 		}
+		return classOfT;
+	}
 
-		FramedGraph graph = Tx.get().getGraph();
+	private OIndex<?> getUuidIndex(FramedGraph graph) {
 		Graph baseGraph = ((DelegatingFramedOrientGraph) graph).getBaseGraph();
 		OrientBaseGraph orientBaseGraph = ((OrientBaseGraph) baseGraph);
 		String type = "MeshVertexImpl";
 
 		OrientVertexType vertexType = orientBaseGraph.getVertexType(type);
 		if (vertexType != null) {
-			OIndex<?> index = vertexType.getClassIndex(type);
-			if (index != null) {
-				Object recordId = index.get(uuid);
-				if (recordId != null) {
-					return (T) graph.getFramedVertexExplicit(classOfT, recordId);
-				}
-			}
+			return vertexType.getClassIndex(type);
 		}
 		return null;
 	}
@@ -0,0 +1,83 @@
+package com.gentics.mesh.graphdb.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.etc.config.GraphStorageOptions;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.orientechnologies.common.concur.ONeedRetryException;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
+import com.orientechnologies.orient.core.exception.OSchemaException;
+import com.tinkerpop.pipes.util.FastNoSuchElementException;
+
+/**
+ * Retry policy which doubles the delay with every retry up to the configured maximum delay. The delay is randomized between half and the full computed
+ * delay so that transactions which failed due to the same conflict don't collide again when they get retried.
+ */
+@Singleton
+public class ExponentialBackoffRetryPolicy implements TxRetryPolicy {
+
+	public static final String CONCURRENT_MODIFICATION = "concurrent_modification";
+
+	public static final String NEED_RETRY = "need_retry";
+
+	public static final String NO_SUCH_ELEMENT = "no_such_element";
+
+	public static final String INTERRUPTED = "interrupted";
+
+	public static final String SCHEMA = "schema";
+
+	/**
+	 * Upper bound for the exponent to prevent overflows of the computed delay.
+	 */
+	private static final int MAX_EXPONENT = 20;
+
+	private final GraphStorageOptions options;
+
+	@Inject
+	public ExponentialBackoffRetryPolicy(MeshOptions options) {
+		this.options = options.getStorageOptions();
+	}
+
+	@Override
+	public String classify(Throwable error) {
+		if (error instanceof OConcurrentModificationException) {
+			return CONCURRENT_MODIFICATION;
+		} else if (error instanceof ONeedRetryException) {
+			return NEED_RETRY;
+		} else if (error instanceof FastNoSuchElementException) {
+			return NO_SUCH_ELEMENT;
+		} else if (error instanceof InterruptedException) {
+			return INTERRUPTED;
+		} else if (error instanceof OSchemaException) {
+			return SCHEMA;
+		}
+		return null;
+	}
+
+	@Override
+	public long delay(int retry, long elapsed) {
+		if (retry + 1 >= options.getTxRetryLimit()) {
+			return -1;
+		}
+		long maxTime = options.getTxRetryMaxTime();
+		if (maxTime > 0 && elapsed >= maxTime) {
+			return -1;
+		}
+		long baseDelay = options.getTxRetryDelay();
+		if (baseDelay <= 0) {
+			return 0;
+		}
+		long maxDelay = Math.max(baseDelay, options.getTxRetryMaxDelay());
+		long delay = Math.min(maxDelay, baseDelay << Math.min(retry, MAX_EXPONENT));
+		long half = delay / 2;
+		delay = half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+		if (maxTime > 0) {
+			delay = Math.min(delay, maxTime - elapsed);
+		}
+		return delay;
+	}
+
+}
@@ -0,0 +1,162 @@
+package com.gentics.mesh.graphdb.retry;
+
+import static com.gentics.mesh.metric.SimpleMetric.TX_RETRY;
+import static com.gentics.mesh.metric.SimpleMetric.TX_RETRY_EXHAUSTED;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.db.TxFactory;
+import com.gentics.mesh.metric.MetricsService;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
+
+import io.micrometer.core.instrument.Counter;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Tracks the retries of transactions. Retries are counted per cause and call site. The vertices which caused concurrent modifications are tracked so that
+ * hot spots of write contention can be inspected via the debug info.
+ */
+@Singleton
+public class TxConflictTracker {
+
+	/**
+	 * Maximum amount of tracked vertices. Vertices which only conflicted once are dropped once the limit has been reached.
+	 */
+	private static final int MAX_TRACKED_VERTICES = 1000;
+
+	private static final int MAX_REPORTED_VERTICES = 100;
+
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+	private final MetricsService metrics;
+
+	private final Map<String, Counter> retryCounters = new ConcurrentHashMap<>();
+
+	private final Map<String, Counter> exhaustedCounters = new ConcurrentHashMap<>();
+
+	private final Map<String, Conflict> conflicts = new ConcurrentHashMap<>();
+
+	@Inject
+	public TxConflictTracker(MetricsService metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Record the retry of a transaction.
+	 *
+	 * @param cause
+	 *            Classified cause of the retry
+	 * @param site
+	 *            Call site of the transaction
+	 * @param error
+	 *            Error which caused the retry
+	 */
+	public void retry(String cause, String site, Throwable error) {
+		if (metrics != null && metrics.isEnabled()) {
+			retryCounters.computeIfAbsent(cause + "|" + site, k -> metrics.getMetricRegistry().counter(TX_RETRY.key(), "cause", cause, "site", site))
+				.increment();
+		}
+		if (error instanceof OConcurrentModificationException) {
+			Object rid = ((OConcurrentModificationException) error).getRid();
+			if (rid != null) {
+				conflict(rid.toString(), site);
+			}
+		}
+	}
+
+	/**
+	 * Record a transaction which failed since it could no longer be retried.
+	 *
+	 * @param site
+	 *            Call site of the transaction
+	 */
+	public void exhausted(String site) {
+		if (metrics != null && metrics.isEnabled()) {
+			exhaustedCounters.computeIfAbsent(site, k -> metrics.getMetricRegistry().counter(TX_RETRY_EXHAUSTED.key(), "site", site)).increment();
+		}
+	}
+
+	private void conflict(String rid, String site) {
+		if (conflicts.size() >= MAX_TRACKED_VERTICES && !conflicts.containsKey(rid)) {
+			conflicts.values().removeIf(conflict -> conflict.count.sum() <= 1);
+		}
+		Conflict conflict = conflicts.computeIfAbsent(rid, k -> new Conflict());
+		conflict.count.increment();
+		conflict.lastSite = site;
+		conflict.lastConflict = System.currentTimeMillis();
+	}
+
+	/**
+	 * Return the vertices with the most concurrent modifications.
+	 *
+	 * @return
+	 */
+	public JsonObject toJson() {
+		JsonArray vertices = new JsonArray();
+		conflicts.entrySet().stream()
+			.sorted(Comparator.comparingLong((Map.Entry<String, Conflict> e) -> e.getValue().count.sum()).reversed())
+			.limit(MAX_REPORTED_VERTICES)
+			.forEach(e -> vertices.add(new JsonObject()
+				.put("rid", e.getKey())
+				.put("conflicts", e.getValue().count.sum())
+				.put("lastSite", e.getValue().lastSite)
+				.put("lastConflict", e.getValue().lastConflict)));
+		return new JsonObject()
+			.put("trackedVertices", conflicts.size())
+			.put("hotVertices", vertices);
+	}
+
+	/**
+	 * Clear the tracked conflicts.
+	 */
+	public void clear() {
+		conflicts.clear();
+	}
+
+	/**
+	 * Determine the call site of the transaction. The first frame of the current stack which does not belong to the transaction handling (the
+	 * {@link TxFactory} implementations and their default methods) is used. The method thus has to be invoked while the transaction call is still on the
+	 * stack.
+	 *
+	 * @return Simple name of the class and the name of the method which invoked the transaction
+	 */
+	public static String site() {
+		return STACK_WALKER.walk(frames -> frames
+			.filter(frame -> !isTxFrame(frame.getDeclaringClass()))
+			.findFirst()
+			.map(frame -> {
+				String className = frame.getClassName();
+				return className.substring(className.lastIndexOf('.') + 1) + "." + methodName(frame.getMethodName());
+			})
+			.orElse("unknown"));
+	}
+
+	private static boolean isTxFrame(Class<?> clazz) {
+		return clazz == TxConflictTracker.class || TxFactory.class.isAssignableFrom(clazz);
+	}
+
+	/**
+	 * Return the name of the method which declares the lambda (lambda$migrate$3 becomes migrate) or the name of the method itself.
+	 */
+	private static String methodName(String name) {
+		if (name.startsWith("lambda$")) {
+			int end = name.indexOf('$', 7);
+			return end > 7 ? name.substring(7, end) : name;
+		}
+		return name;
+	}
+
+	private static class Conflict {
+		private final LongAdder count = new LongAdder();
+		private volatile String lastSite;
+		private volatile long lastConflict;
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.gentics.mesh.graphdb.retry;
+
+/**
+ * Policy which decides whether and when a failed transaction should be retried.
+ */
+public interface TxRetryPolicy {
+
+	/**
+	 * Classify the error which caused the transaction to fail.
+	 *
+	 * @param error
+	 * @return Name of the retry cause which is used for the metrics or null if the transaction must not be retried
+	 */
+	String classify(Throwable error);
+
+	/**
+	 * Return the delay before the next attempt of a failed transaction.
+	 *
+	 * @param retry
+	 *            Number of the failed attempt, starting with 0
+	 * @param elapsed
+	 *            Time in milliseconds which has elapsed since the first attempt
+	 * @return Delay in milliseconds or a negative value if the transaction should no longer be retried
+	 */
+	long delay(int retry, long elapsed);
+
+}
@@ -35,6 +35,11 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 
 	boolean isWrapped = false;
 
+	/**
+	 * Transaction which wraps this transaction.
+	 */
+	private Tx outerTx;
+
 	private final TypeResolver typeResolver;
 
 	private final Timer commitTimer;
@@ -51,6 +56,7 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 		Tx activeTx = Tx.get();
 		if (activeTx != null) {
 			isWrapped = true;
+			outerTx = activeTx;
 			init(activeTx.getGraph());
 		} else {
 			DelegatingFramedOrientGraph transaction = new DelegatingFramedOrientGraph((OrientGraph) provider.rawTx(), typeResolver);
@@ -78,6 +84,9 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 					rollback();
 					throw e;
 				}
+				if (!isWrapped) {
+					runCommitActions();
+				}
 			} else {
 				rollback();
 			}
@@ -133,6 +142,16 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 		super.init(transactionalGraph);
 	}
 
+	@Override
+	public void afterCommit(Runnable action) {
+		if (isWrapped) {
+			// The changes are only visible to other transactions once the outer transaction has been committed
+			outerTx.afterCommit(action);
+		} else {
+			super.afterCommit(action);
+		}
+	}
+
 	@Override
 	public TxData data() {
 		return txData;
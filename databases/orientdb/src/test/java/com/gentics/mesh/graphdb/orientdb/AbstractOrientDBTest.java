@@ -11,6 +11,8 @@ import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.OrientDBDatabase;
 import com.gentics.mesh.graphdb.cluster.OrientDBClusterManager;
 import com.gentics.mesh.graphdb.orientdb.graph.Person;
+import com.gentics.mesh.graphdb.retry.ExponentialBackoffRetryPolicy;
+import com.gentics.mesh.graphdb.retry.TxConflictTracker;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
 import com.syncleus.ferma.FramedGraph;
@@ -22,18 +24,27 @@ import io.micrometer.core.instrument.Timer;
 public class AbstractOrientDBTest {
 
 	protected Database mockDatabase(MeshOptions options) {
-		MetricsService metrics = Mockito.mock(MetricsService.class);
-		when(metrics.timer(Mockito.any())).thenReturn(Mockito.mock(Timer.class));
-		when(metrics.counter(Mockito.any())).thenReturn(Mockito.mock(Counter.class));
+		return mockDatabase(options, new TxConflictTracker(mockMetrics()));
+	}
+
+	protected Database mockDatabase(MeshOptions options, TxConflictTracker conflictTracker) {
+		MetricsService metrics = mockMetrics();
 		Lazy<BootstrapInitializer> lazyBoot = mock(Lazy.class);
 		Lazy<DaoCollection> lazyDaos = mock(Lazy.class);
 		BootstrapInitializer bootMock = mock(BootstrapInitializer.class);
 		when(lazyBoot.get()).thenReturn(bootMock);
 		Database db = new OrientDBDatabase(options, null, lazyBoot, lazyDaos, metrics, null, null, new OrientDBClusterManager(null, null, null, options, null),
-			null, null, null);
+			null, null, null, new ExponentialBackoffRetryPolicy(options), conflictTracker);
 		return db;
 	}
 
+	protected MetricsService mockMetrics() {
+		MetricsService metrics = Mockito.mock(MetricsService.class);
+		when(metrics.timer(Mockito.any())).thenReturn(Mockito.mock(Timer.class));
+		when(metrics.counter(Mockito.any())).thenReturn(Mockito.mock(Counter.class));
+		return metrics;
+	}
+
 	protected void manipulatePerson(FramedGraph graph, Person p) {
 		p.setName("Changed " + System.currentTimeMillis());
 		for (int i = 0; i < 10; i++) {
@@ -0,0 +1,57 @@
+package com.gentics.mesh.graphdb.orientdb;
+
+import static com.gentics.mesh.graphdb.retry.ExponentialBackoffRetryPolicy.CONCURRENT_MODIFICATION;
+import static com.gentics.mesh.graphdb.retry.ExponentialBackoffRetryPolicy.NO_SUCH_ELEMENT;
+import static com.gentics.mesh.graphdb.retry.ExponentialBackoffRetryPolicy.SCHEMA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.retry.ExponentialBackoffRetryPolicy;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
+import com.orientechnologies.orient.core.exception.OSchemaException;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.tinkerpop.pipes.util.FastNoSuchElementException;
+
+public class ExponentialBackoffRetryPolicyTest {
+
+	@Test
+	public void testDelay() {
+		MeshOptions options = new MeshOptions();
+		options.getStorageOptions().setTxRetryDelay(10).setTxRetryMaxDelay(100).setTxRetryLimit(10).setTxRetryMaxTime(0);
+		ExponentialBackoffRetryPolicy policy = new ExponentialBackoffRetryPolicy(options);
+
+		for (int i = 0; i < 100; i++) {
+			long first = policy.delay(0, 0);
+			assertTrue("The first delay should be between 5 and 10 but was " + first, first >= 5 && first <= 10);
+			long third = policy.delay(2, 0);
+			assertTrue("The third delay should be between 20 and 40 but was " + third, third >= 20 && third <= 40);
+			long capped = policy.delay(8, 0);
+			assertTrue("The delay should be capped but was " + capped, capped >= 50 && capped <= 100);
+		}
+		assertEquals("The retry limit has been reached", -1, policy.delay(9, 0));
+	}
+
+	@Test
+	public void testMaxTime() {
+		MeshOptions options = new MeshOptions();
+		options.getStorageOptions().setTxRetryDelay(100).setTxRetryMaxDelay(1000).setTxRetryMaxTime(500);
+		ExponentialBackoffRetryPolicy policy = new ExponentialBackoffRetryPolicy(options);
+
+		assertTrue("The delay must not exceed the remaining retry time", policy.delay(4, 480) <= 20);
+		assertEquals("The retry time has elapsed", -1, policy.delay(1, 500));
+	}
+
+	@Test
+	public void testClassify() {
+		ExponentialBackoffRetryPolicy policy = new ExponentialBackoffRetryPolicy(new MeshOptions());
+		assertEquals(CONCURRENT_MODIFICATION, policy.classify(new OConcurrentModificationException(new ORecordId(1, 1), 2, 1, 0)));
+		assertEquals(NO_SUCH_ELEMENT, policy.classify(FastNoSuchElementException.instance()));
+		assertEquals(SCHEMA, policy.classify(new OSchemaException("test")));
+		assertNull(policy.classify(new IllegalStateException()));
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.gentics.mesh.graphdb.orientdb;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphdb.retry.TxConflictTracker;
+import com.gentics.mesh.graphdb.spi.Database;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
+import com.orientechnologies.orient.core.id.ORecordId;
+
+import io.vertx.core.json.JsonObject;
+
+public class TxConflictTrackerTest extends AbstractOrientDBTest {
+
+	private TxConflictTracker tracker;
+
+	private Database db;
+
+	@Before
+	public void setup() throws Exception {
+		tracker = new TxConflictTracker(mockMetrics());
+		db = mockDatabase(new MeshOptions(), tracker);
+		db.init(null);
+	}
+
+	@Test
+	public void testSiteOfTxCaller() {
+		AtomicInteger attempts = new AtomicInteger();
+		db.tx(() -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new OConcurrentModificationException(new ORecordId(1, 1), 2, 1, 0);
+			}
+		});
+		assertEquals(2, attempts.get());
+
+		JsonObject conflict = tracker.toJson().getJsonArray("hotVertices").getJsonObject(0);
+		assertEquals("#1:1", conflict.getString("rid"));
+		assertEquals("The caller of the transaction should be recorded as the site.", "TxConflictTrackerTest.testSiteOfTxCaller",
+			conflict.getString("lastSite"));
+	}
+
+	@Test
+	public void testSiteOfTxResultCaller() {
+		AtomicInteger attempts = new AtomicInteger();
+		String result = db.tx(tx -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new OConcurrentModificationException(new ORecordId(1, 2), 2, 1, 0);
+			}
+			return "done";
+		});
+		assertEquals("done", result);
+
+		JsonObject conflict = tracker.toJson().getJsonArray("hotVertices").getJsonObject(0);
+		assertEquals("TxConflictTrackerTest.testSiteOfTxResultCaller", conflict.getString("lastSite"));
+	}
+}
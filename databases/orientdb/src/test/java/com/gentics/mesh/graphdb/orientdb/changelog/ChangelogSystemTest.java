@@ -29,6 +29,8 @@ import com.gentics.mesh.changelog.ChangelogSystem;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.OrientDBDatabase;
 import com.gentics.mesh.graphdb.cluster.OrientDBClusterManager;
+import com.gentics.mesh.graphdb.retry.ExponentialBackoffRetryPolicy;
+import com.gentics.mesh.graphdb.retry.TxConflictTracker;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.maven.MavenMetadata;
 import com.gentics.mesh.maven.MavenUtilities;
@@ -129,7 +131,8 @@ public class ChangelogSystemTest {
 		MetricsService metrics = Mockito.mock(MetricsService.class);
 		Mockito.when(metrics.timer(Mockito.any())).thenReturn(Mockito.mock(Timer.class));
 		Mockito.when(metrics.counter(Mockito.any())).thenReturn(Mockito.mock(Counter.class));
-		Database database = new OrientDBDatabase(options, null, null, null, metrics, null, null, new OrientDBClusterManager(null, null, null, options, null), null, null, null);
+		Database database = new OrientDBDatabase(options, null, null, null, metrics, null, null, new OrientDBClusterManager(null, null, null, options, null), null, null, null,
+			new ExponentialBackoffRetryPolicy(options), new TxConflictTracker(metrics));
 		try {
 			database.init(null);
 			return database;
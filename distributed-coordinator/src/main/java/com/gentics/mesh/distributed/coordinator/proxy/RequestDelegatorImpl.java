@@ -1,7 +1,18 @@
 package com.gentics.mesh.distributed.coordinator.proxy;
 
+import static com.gentics.mesh.metric.SimpleMetric.COORDINATOR_PROXY_ERROR;
+import static com.gentics.mesh.metric.SimpleMetric.COORDINATOR_PROXY_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.COORDINATOR_READ_YOUR_WRITES;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_GATEWAY;
+import static io.netty.handler.codec.http.HttpResponseStatus.GATEWAY_TIMEOUT;
+
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -10,17 +21,24 @@ import javax.inject.Inject;
 import com.gentics.mesh.distributed.RequestDelegator;
 import com.gentics.mesh.distributed.coordinator.Coordinator;
 import com.gentics.mesh.distributed.coordinator.MasterServer;
+import com.gentics.mesh.etc.config.ClusterOptions;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.cluster.CoordinatorMode;
+import com.gentics.mesh.metric.MetricsService;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.streams.Pump;
@@ -32,15 +50,53 @@ public class RequestDelegatorImpl implements RequestDelegator {
 
 	public static final String MESH_DIRECT_HEADER = "X-Mesh-Direct";
 
+	/**
+	 * Connection specific headers which must not be forwarded.
+	 */
+	private static final Set<String> HOP_BY_HOP_HEADERS = new HashSet<>(Arrays.asList("connection", "keep-alive", "proxy-connection",
+		"transfer-encoding", "te", "trailer", "upgrade"));
+
 	private final Coordinator coordinator;
 	private final HttpClient httpClient;
+	private final MetricsService metrics;
+	private final boolean http2;
+	private final long requestTimeout;
+	private final long readYourWritesWindow;
+	private final Map<String, Timer> proxyTimers = new ConcurrentHashMap<>();
+	private final Map<String, Counter> proxyErrorCounters = new ConcurrentHashMap<>();
 	private static final Set<Pattern> readOnlyPathPatternSet = createReadOnlyPatternSet();
 	private static final Set<Pattern> whiteListPathPatternSet = createWhitelistPatternSet();
 
 	@Inject
-	public RequestDelegatorImpl(Coordinator coordinator, Vertx vertx) {
+	public RequestDelegatorImpl(Coordinator coordinator, Vertx vertx, MeshOptions options, MetricsService metrics) {
+		ClusterOptions clusterOptions = options.getClusterOptions();
 		this.coordinator = coordinator;
-		this.httpClient = vertx.createHttpClient();
+		this.metrics = metrics;
+		this.http2 = clusterOptions.isCoordinatorProxyHttp2();
+		this.requestTimeout = clusterOptions.getCoordinatorProxyRequestTimeout();
+		this.readYourWritesWindow = clusterOptions.getCoordinatorReadYourWritesWindow();
+		this.httpClient = vertx.createHttpClient(createClientOptions(clusterOptions));
+	}
+
+	/**
+	 * Create the options for the client which keeps a pool of connections to the master. The pool size limits the connections per master.
+	 *
+	 * @param clusterOptions
+	 * @return
+	 */
+	private static HttpClientOptions createClientOptions(ClusterOptions clusterOptions) {
+		int poolSize = clusterOptions.getCoordinatorProxyPoolSize();
+		HttpClientOptions clientOptions = new HttpClientOptions()
+			.setKeepAlive(true)
+			.setMaxPoolSize(poolSize)
+			.setConnectTimeout(clusterOptions.getCoordinatorProxyConnectTimeout());
+		if (clusterOptions.isCoordinatorProxyHttp2()) {
+			// Mesh accepts clear text HTTP/2 connections, thus no upgrade request is needed
+			clientOptions.setProtocolVersion(HttpVersion.HTTP_2)
+				.setHttp2ClearTextUpgrade(false)
+				.setHttp2MaxPoolSize(poolSize);
+		}
+		return clientOptions;
 	}
 
 	@Override
@@ -76,8 +132,9 @@ public class RequestDelegatorImpl implements RequestDelegator {
 		}
 
 		// In CUD mode we only delegate mutating requests to the master
-		if (mode == CoordinatorMode.CUD) {
-			if (isReadRequest(method, path)) {
+		boolean isRead = isReadRequest(method, path);
+		if (mode == CoordinatorMode.CUD && isRead) {
+			if (!readsRecentWrite(request)) {
 				rc.next();
 				return;
 			}
@@ -96,10 +153,21 @@ public class RequestDelegatorImpl implements RequestDelegator {
 			if (log.isDebugEnabled()) {
 				log.debug("Skipping delegator since we are the master");
 			}
+			if (!isRead && isReadYourWritesEnabled()) {
+				rc.addHeadersEndHandler(v -> putConsistencyToken(rc.response()));
+			}
 			rc.next();
 			return;
 		}
 
+		if (mode == CoordinatorMode.CUD && isRead) {
+			if (log.isDebugEnabled()) {
+				log.debug("Delegating read request {" + requestURI + "} since it follows a recent write.");
+			}
+			if (metrics.isEnabled()) {
+				metrics.counter(COORDINATOR_READ_YOUR_WRITES).increment();
+			}
+		}
 		redirectToMaster(rc);
 	}
 
@@ -127,18 +195,47 @@ public class RequestDelegatorImpl implements RequestDelegator {
 			log.debug("Forwarding request to master {" + master.toString() + "}");
 		}
 
+		long start = System.nanoTime();
+		boolean issueToken = isReadYourWritesEnabled() && !isReadRequest(method, request.path());
 		@SuppressWarnings("deprecation")
 		HttpClientRequest forwardRequest = httpClient.request(method, port, host, requestURI, forwardResponse -> {
 			response.setChunked(true);
 			response.setStatusCode(forwardResponse.statusCode());
 			response.putHeader(MESH_FORWARDED_FROM_HEADER, master.getName());
 			forwardHeaders(response, forwardResponse);
+			if (issueToken) {
+				putConsistencyToken(response);
+			}
 			printHeaders("Forward response headers", response.headers());
 			Pump.pump(forwardResponse, response)
 				.setWriteQueueMaxSize(8192)
 				.start();
-			forwardResponse.endHandler(v -> response.end());
+			forwardResponse.endHandler(v -> {
+				response.end();
+				if (metrics.isEnabled()) {
+					proxyTimers.computeIfAbsent(master.getName(),
+						name -> metrics.getMetricRegistry().timer(COORDINATOR_PROXY_TIME.key(), "master", name))
+						.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				}
+			});
+		});
+
+		forwardRequest.exceptionHandler(e -> {
+			log.error("Could not forward request {" + requestURI + "} to master {" + master.getName() + "}", e);
+			if (metrics.isEnabled()) {
+				proxyErrorCounters.computeIfAbsent(master.getName(),
+					name -> metrics.getMetricRegistry().counter(COORDINATOR_PROXY_ERROR.key(), "master", name))
+					.increment();
+			}
+			if (!response.headWritten()) {
+				response.setStatusCode(e instanceof TimeoutException ? GATEWAY_TIMEOUT.code() : BAD_GATEWAY.code()).end();
+			} else if (!response.closed()) {
+				response.close();
+			}
 		});
+		if (requestTimeout > 0) {
+			forwardRequest.setTimeout(requestTimeout);
+		}
 
 		forwardHeaders(request, forwardRequest);
 		forwardRequest.putHeader(MESH_DIRECT_HEADER, "true");
@@ -191,6 +288,9 @@ public class RequestDelegatorImpl implements RequestDelegator {
 		MultiMap headers = forwardResponse.headers();
 
 		for (String headerName : headers.names()) {
+			if (isHopByHopHeader(headerName)) {
+				continue;
+			}
 			response.putHeader(headerName, headers.getAll(headerName));
 		}
 	}
@@ -199,11 +299,67 @@ public class RequestDelegatorImpl implements RequestDelegator {
 		MultiMap headers = request.headers();
 
 		for (String headerName : headers.names()) {
+			// The host is part of the pseudo headers of HTTP/2 requests
+			if (isHopByHopHeader(headerName) || (http2 && "host".equalsIgnoreCase(headerName))) {
+				continue;
+			}
 			forwardRequest.putHeader(headerName, headers.getAll(headerName));
 		}
 
 	}
 
+	private boolean isHopByHopHeader(String headerName) {
+		return HOP_BY_HOP_HEADERS.contains(headerName.toLowerCase());
+	}
+
+	private boolean isReadYourWritesEnabled() {
+		return readYourWritesWindow > 0;
+	}
+
+	/**
+	 * Add the consistency token to the response of a write. The token contains the time of the write.
+	 *
+	 * @param response
+	 */
+	private void putConsistencyToken(HttpServerResponse response) {
+		response.putHeader(MESH_CONSISTENCY_TOKEN_HEADER, String.valueOf(System.currentTimeMillis()));
+	}
+
+	/**
+	 * Check whether the request provides the consistency token of a write which may not yet have been replicated to this instance.
+	 *
+	 * <p>The token is provided by the client. The clock of the master may be ahead of the local clock, thus tokens up to the window ahead are accepted. Tokens
+	 * further in the future are rejected, since they would route all reads of the client to the master. A client can therefore route its reads to the master
+	 * for at most twice the window after it obtained a token.</p>
+	 *
+	 * @param request
+	 * @return
+	 */
+	private boolean readsRecentWrite(HttpServerRequest request) {
+		if (!isReadYourWritesEnabled()) {
+			return false;
+		}
+		String token = request.getHeader(MESH_CONSISTENCY_TOKEN_HEADER);
+		if (token == null) {
+			return false;
+		}
+		try {
+			long age = System.currentTimeMillis() - Long.parseLong(token);
+			if (age <= -readYourWritesWindow) {
+				if (log.isDebugEnabled()) {
+					log.debug("Ignoring consistency token {" + token + "} which lies in the future");
+				}
+				return false;
+			}
+			return age < readYourWritesWindow;
+		} catch (NumberFormatException e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Ignoring invalid consistency token {" + token + "}");
+			}
+			return false;
+		}
+	}
+
 	/**
 	 * Check whether the request is a read request.
 	 * 
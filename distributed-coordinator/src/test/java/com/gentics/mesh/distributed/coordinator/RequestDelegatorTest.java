@@ -0,0 +1,272 @@
+package com.gentics.mesh.distributed.coordinator;
+
+import static com.gentics.mesh.distributed.RequestDelegator.MESH_CONSISTENCY_TOKEN_HEADER;
+import static com.gentics.mesh.distributed.RequestDelegator.MESH_FORWARDED_FROM_HEADER;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.distributed.coordinator.proxy.RequestDelegatorImpl;
+import com.gentics.mesh.etc.config.ClusterOptions;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.cluster.CoordinatorMode;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+
+public class RequestDelegatorTest {
+
+	private static final String NODES_PATH = "/api/v2/demo/nodes";
+
+	private static final String SLOW_PATH = "/api/v2/demo/slow";
+
+	private static final long WINDOW = 60_000;
+
+	private Vertx vertx;
+
+	private HttpClient client;
+
+	private MasterServer master;
+
+	private final AtomicInteger masterConnections = new AtomicInteger();
+
+	@Before
+	public void setup() throws Exception {
+		vertx = Vertx.vertx();
+		client = vertx.createHttpClient();
+		HttpServer server = listen(vertx.createHttpServer()
+			.connectionHandler(connection -> masterConnections.incrementAndGet())
+			.requestHandler(request -> {
+				if (request.path().equals(SLOW_PATH)) {
+					// The master never answers the request
+					return;
+				}
+				request.response()
+					.putHeader("Keep-Alive", "timeout=5")
+					.putHeader("Proxy-Connection", "keep-alive")
+					.putHeader("X-Custom", "custom")
+					.putHeader("X-Received-Proxy-Connection", String.valueOf(request.getHeader("Proxy-Connection")))
+					.putHeader("X-Received-Custom", String.valueOf(request.getHeader("X-Custom")))
+					.end("master");
+			}));
+		master = new MasterServer("master", "localhost", server.actualPort(), false);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		CompletableFuture<Void> closed = new CompletableFuture<>();
+		vertx.close(ar -> closed.complete(null));
+		closed.get(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void testStripHopByHopHeaders() throws Exception {
+		int port = startInstance(CoordinatorMode.ALL, options -> {
+		});
+		Response response = send(port, HttpMethod.GET, NODES_PATH, headers -> headers
+			.add("Proxy-Connection", "keep-alive")
+			.add("X-Custom", "custom"));
+
+		assertEquals(200, response.status);
+		assertEquals("master", response.body);
+		assertEquals("master", response.headers.get(MESH_FORWARDED_FROM_HEADER));
+		assertEquals("The hop-by-hop request header must not be forwarded.", "null", response.headers.get("X-Received-Proxy-Connection"));
+		assertEquals("custom", response.headers.get("X-Received-Custom"));
+		assertNull("The hop-by-hop response header must not be forwarded.", response.headers.get("Keep-Alive"));
+		assertNull("The hop-by-hop response header must not be forwarded.", response.headers.get("Proxy-Connection"));
+		assertEquals("custom", response.headers.get("X-Custom"));
+	}
+
+	@Test
+	public void testConnectionPool() throws Exception {
+		int port = startInstance(CoordinatorMode.ALL, options -> options.setCoordinatorProxyPoolSize(1));
+		List<CompletableFuture<Response>> responses = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			responses.add(sendAsync(port, HttpMethod.GET, NODES_PATH, headers -> {
+			}));
+		}
+		for (CompletableFuture<Response> response : responses) {
+			assertEquals("master", response.get(10, TimeUnit.SECONDS).body);
+		}
+		assertEquals("All requests should have been forwarded over the single pooled connection.", 1, masterConnections.get());
+	}
+
+	@Test
+	public void testMasterTimeout() throws Exception {
+		int port = startInstance(CoordinatorMode.ALL, options -> options.setCoordinatorProxyRequestTimeout(200));
+		assertEquals(504, send(port, HttpMethod.GET, SLOW_PATH, headers -> {
+		}).status);
+	}
+
+	@Test
+	public void testMasterUnreachable() throws Exception {
+		HttpServer closed = listen(vertx.createHttpServer().requestHandler(request -> request.response().end()));
+		int closedPort = closed.actualPort();
+		CompletableFuture<Void> done = new CompletableFuture<>();
+		closed.close(ar -> done.complete(null));
+		done.get(10, TimeUnit.SECONDS);
+		master = new MasterServer("master", "localhost", closedPort, false);
+
+		int port = startInstance(CoordinatorMode.ALL, options -> {
+		});
+		assertEquals(502, send(port, HttpMethod.GET, NODES_PATH, headers -> {
+		}).status);
+	}
+
+	@Test
+	public void testIssueTokenOnForwardedWrite() throws Exception {
+		int port = startInstance(CoordinatorMode.CUD, options -> {
+		});
+		long before = System.currentTimeMillis();
+		Response response = send(port, HttpMethod.POST, NODES_PATH, headers -> {
+		});
+		assertEquals("master", response.body);
+		assertToken(response, before);
+	}
+
+	@Test
+	public void testIssueTokenOnMasterWrite() throws Exception {
+		master = new MasterServer("master", "localhost", master.getPort(), true);
+		int port = startInstance(CoordinatorMode.CUD, options -> {
+		});
+		long before = System.currentTimeMillis();
+		Response response = send(port, HttpMethod.POST, NODES_PATH, headers -> {
+		});
+		assertEquals("local", response.body);
+		assertToken(response, before);
+	}
+
+	@Test
+	public void testNoTokenWithoutWindow() throws Exception {
+		int port = startInstance(CoordinatorMode.CUD, options -> options.setCoordinatorReadYourWritesWindow(0));
+		assertNull(send(port, HttpMethod.POST, NODES_PATH, headers -> {
+		}).headers.get(MESH_CONSISTENCY_TOKEN_HEADER));
+	}
+
+	@Test
+	public void testRouteReads() throws Exception {
+		int port = startInstance(CoordinatorMode.CUD, options -> {
+		});
+		long now = System.currentTimeMillis();
+		assertEquals("Reads without token are handled locally.", "local", read(port, null));
+		assertEquals("Reads after a recent write are delegated.", "master", read(port, String.valueOf(now)));
+		assertEquals("Tokens of a slightly faster master clock are accepted.", "master", read(port, String.valueOf(now + WINDOW / 2)));
+		assertEquals("Expired tokens are ignored.", "local", read(port, String.valueOf(now - 2 * WINDOW)));
+		assertEquals("Tokens in the future are rejected.", "local", read(port, String.valueOf(now + 2 * WINDOW)));
+		assertEquals("Invalid tokens are ignored.", "local", read(port, "invalid"));
+	}
+
+	private void assertToken(Response response, long before) {
+		String token = response.headers.get(MESH_CONSISTENCY_TOKEN_HEADER);
+		assertNotNull("The write should have issued a consistency token.", token);
+		long time = Long.parseLong(token);
+		assertTrue(time >= before && time <= System.currentTimeMillis());
+	}
+
+	private String read(int port, String token) throws Exception {
+		return send(port, HttpMethod.GET, NODES_PATH, headers -> {
+			if (token != null) {
+				headers.add(MESH_CONSISTENCY_TOKEN_HEADER, token);
+			}
+		}).body;
+	}
+
+	/**
+	 * Start an instance which delegates the requests to the master. Requests which are not delegated are answered with <code>local</code>.
+	 *
+	 * @param mode
+	 * @param changer
+	 * @return Port of the instance
+	 */
+	private int startInstance(CoordinatorMode mode, Consumer<ClusterOptions> changer) throws Exception {
+		MeshOptions options = new MeshOptions();
+		options.getClusterOptions()
+			.setCoordinatorMode(mode)
+			.setCoordinatorReadYourWritesWindow(WINDOW);
+		changer.accept(options.getClusterOptions());
+		Coordinator coordinator = new Coordinator(null, options) {
+			@Override
+			public MasterServer getMasterMember() {
+				return master;
+			}
+		};
+		RequestDelegatorImpl delegator = new RequestDelegatorImpl(coordinator, vertx, options, new MetricsService() {
+			@Override
+			public boolean isEnabled() {
+				return false;
+			}
+
+			@Override
+			public MeterRegistry getMetricRegistry() {
+				return null;
+			}
+		});
+		Router router = Router.router(vertx);
+		router.route().handler(delegator);
+		router.route().handler(rc -> rc.response().end("local"));
+		return listen(vertx.createHttpServer().requestHandler(router)).actualPort();
+	}
+
+	private HttpServer listen(HttpServer server) throws Exception {
+		CompletableFuture<HttpServer> started = new CompletableFuture<>();
+		server.listen(0, ar -> {
+			if (ar.succeeded()) {
+				started.complete(ar.result());
+			} else {
+				started.completeExceptionally(ar.cause());
+			}
+		});
+		return started.get(10, TimeUnit.SECONDS);
+	}
+
+	private Response send(int port, HttpMethod method, String uri, Consumer<MultiMap> headers) throws Exception {
+		return sendAsync(port, method, uri, headers).get(10, TimeUnit.SECONDS);
+	}
+
+	@SuppressWarnings("deprecation")
+	private CompletableFuture<Response> sendAsync(int port, HttpMethod method, String uri, Consumer<MultiMap> headers) {
+		CompletableFuture<Response> result = new CompletableFuture<>();
+		HttpClientRequest request = client.request(method, port, "localhost", uri, response -> {
+			response.bodyHandler(body -> result.complete(new Response(response.statusCode(), response.headers(), body.toString())));
+			response.exceptionHandler(result::completeExceptionally);
+		});
+		request.exceptionHandler(result::completeExceptionally);
+		headers.accept(request.headers());
+		request.end();
+		return result;
+	}
+
+	private static class Response {
+
+		private final int status;
+
+		private final MultiMap headers;
+
+		private final String body;
+
+		Response(int status, MultiMap headers, String body) {
+			this.status = status;
+			this.headers = headers;
+			this.body = body;
+		}
+	}
+}
@@ -71,9 +71,12 @@ public class DistributedEventManager {
 		});
 
 		// Register for events which are send whenever the permission store must be invalidated.
+		// Events with a body only affect single elements or users and are handled by the permission cache itself.
 		eb.consumer(CLEAR_PERMISSION_STORE.address, handler -> {
-			log.debug("Received permissionstore clear event");
-			permCache.get().clear(false);
+			if (handler.body() == null) {
+				log.debug("Received permissionstore clear event");
+				permCache.get().clear(false);
+			}
 		});
 
 		// React on project creates
@@ -0,0 +1,46 @@
+package com.gentics.mesh.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.gentics.mesh.core.data.HibCoreElement;
+
+/**
+ * Loader which returns the graph elements for the uuids of search hits. The loader will be invoked within a transaction.
+ *
+ * @param <T>
+ *            Type of the loaded elements
+ */
+@FunctionalInterface
+public interface BulkElementLoader<T extends HibCoreElement> {
+
+	/**
+	 * Load the elements with the given uuids.
+	 *
+	 * @param uuids
+	 * @return Found elements keyed by uuid. Elements which could not be found are omitted.
+	 */
+	Map<String, ? extends T> load(Collection<String> uuids);
+
+	/**
+	 * Create a loader which loads the elements one by one via the given loader function.
+	 *
+	 * @param elementLoader
+	 * @return
+	 */
+	static <T extends HibCoreElement> BulkElementLoader<T> of(Function<String, T> elementLoader) {
+		return uuids -> {
+			Map<String, T> elements = new HashMap<>(uuids.size());
+			for (String uuid : uuids) {
+				T element = elementLoader.apply(uuid);
+				if (element != null) {
+					elements.put(uuid, element);
+				}
+			}
+			return elements;
+		};
+	}
+
+}
@@ -0,0 +1,123 @@
+package com.gentics.mesh.search;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.search.index.MappingHelper.UUID_KEY;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Base64;
+
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Utility for cursor based paging of search requests. The cursor is the encoded list of the sort values of the last hit of a page which is passed to
+ * Elasticsearch via <code>search_after</code>. Thus loading a page has a constant cost regardless of how deep the page is located and is not limited by
+ * the <code>max_result_window</code> setting of the index.
+ */
+public final class SearchCursor {
+
+	private static final String LANGUAGE_KEY = "language";
+
+	private SearchCursor() {
+	}
+
+	/**
+	 * Encode the sort values of a hit into a cursor.
+	 *
+	 * @param sortValues
+	 * @return Opaque cursor
+	 */
+	public static String encode(JsonArray sortValues) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(sortValues.encode().getBytes(UTF_8));
+	}
+
+	/**
+	 * Decode the cursor.
+	 *
+	 * @param cursor
+	 * @return Sort values or null if the cursor is empty and thus selects the first page
+	 */
+	public static JsonArray decode(String cursor) {
+		if (cursor == null || cursor.isEmpty()) {
+			return null;
+		}
+		try {
+			return new JsonArray(new String(Base64.getUrlDecoder().decode(cursor), UTF_8));
+		} catch (IllegalArgumentException | DecodeException e) {
+			throw error(BAD_REQUEST, "error_paging_cursor_invalid", cursor);
+		}
+	}
+
+	/**
+	 * Prepare the request for cursor based paging. The sort of the request is extended by the uuid and language of the documents to get a total order of
+	 * the hits and the page is positioned after the hit of the cursor.
+	 *
+	 * @param request
+	 *            Search request
+	 * @param cursor
+	 *            Cursor of the previous page or an empty cursor for the first page
+	 * @param size
+	 *            Amount of hits which should be loaded
+	 */
+	public static void apply(JsonObject request, String cursor, long size) {
+		request.put("sort", totalOrder(request.getValue("sort")));
+		JsonArray searchAfter = decode(cursor);
+		if (searchAfter != null) {
+			request.put("search_after", searchAfter);
+		} else {
+			request.remove("search_after");
+		}
+		request.put("from", 0);
+		request.put("size", size);
+	}
+
+	/**
+	 * Return the cursor for the page which follows the given hits.
+	 *
+	 * @param hitsInfo
+	 *            Hits info of the search response
+	 * @param size
+	 *            Requested amount of hits
+	 * @return Cursor or null if there is no further page
+	 */
+	public static String nextCursor(JsonObject hitsInfo, long size) {
+		JsonArray hits = hitsInfo.getJsonArray("hits");
+		if (size <= 0 || hits == null || hits.size() < size) {
+			return null;
+		}
+		JsonArray sortValues = hits.getJsonObject(hits.size() - 1).getJsonArray("sort");
+		return sortValues == null ? null : encode(sortValues);
+	}
+
+	private static JsonArray totalOrder(Object sort) {
+		JsonArray order = new JsonArray();
+		if (sort == null) {
+			// Keep the default order by relevance
+			order.add("_score");
+		} else if (sort instanceof JsonArray) {
+			order.addAll((JsonArray) sort);
+		} else {
+			order.add(sort);
+		}
+		if (!contains(order, UUID_KEY)) {
+			order.add(new JsonObject().put(UUID_KEY, "asc"));
+		}
+		// Only node documents contain a language. The uuid is unique in all other indices.
+		if (!contains(order, LANGUAGE_KEY)) {
+			order.add(new JsonObject().put(LANGUAGE_KEY, new JsonObject().put("order", "asc").put("unmapped_type", "keyword")));
+		}
+		return order;
+	}
+
+	private static boolean contains(JsonArray order, String field) {
+		for (Object entry : order) {
+			if (field.equals(entry) || (entry instanceof JsonObject && ((JsonObject) entry).containsKey(field))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
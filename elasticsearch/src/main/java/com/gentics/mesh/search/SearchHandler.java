@@ -2,7 +2,6 @@ package com.gentics.mesh.search;
 
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
-import java.util.function.Function;
 
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.HibCoreElement;
@@ -16,6 +15,8 @@ import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.json.MeshJsonException;
 import com.gentics.mesh.parameter.PagingParameters;
 
+import io.vertx.core.http.HttpServerResponse;
+
 /**
  * 
  * @param <T>
@@ -47,7 +48,7 @@ public interface SearchHandler<T extends HibCoreElement, RM extends RestModel> {
 	 *
 	 * @param ac
 	 * @param elementLoader
-	 *            Loader function which can return graph elements for uuids
+	 *            Loader which returns the graph elements for the uuids of all hits
 	 * @param classOfRL
 	 *            Class of the rest model list that should be used when creating the response
 	 * @param indices
@@ -60,10 +61,33 @@ public interface SearchHandler<T extends HibCoreElement, RM extends RestModel> {
 	 * @throws MeshJsonException
 	 * @throws MeshConfigurationException
 	 */
-	<RL extends ListResponse<RM>> void query(InternalActionContext ac, Function<String, T> elementLoader, Class<RL> classOfRL,
+	<RL extends ListResponse<RM>> void query(InternalActionContext ac, BulkElementLoader<T> elementLoader, Class<RL> classOfRL,
 		boolean filterByLanguage)
 		throws InstantiationException, IllegalAccessException, InvalidArgumentException, MeshJsonException, MeshConfigurationException;
 
+	/**
+	 * Invoke the query and respond with the documents of the hits. The elements will not be loaded from the graph. Permissions are checked via the
+	 * role filter which is added to the query.
+	 * 
+	 * @param ac
+	 * @param filterByLanguage
+	 *            Whether to add the language term filter (Usually only needed for node queries)
+	 * @throws InvalidArgumentException
+	 */
+	void sourceQuery(InternalActionContext ac, boolean filterByLanguage) throws InvalidArgumentException;
+
+	/**
+	 * Invoke the query and stream the documents of all hits to the response. Each document is written as a single line of JSON. The hits are loaded in
+	 * batches via <code>search_after</code>, thus the cost of each batch does not depend on the amount of hits which were already exported.
+	 * 
+	 * @param ac
+	 * @param response
+	 *            Response to which the hits are written
+	 * @param filterByLanguage
+	 *            Whether to add the language term filter (Usually only needed for node queries)
+	 */
+	void exportQuery(InternalActionContext ac, HttpServerResponse response, boolean filterByLanguage);
+
 	/**
 	 * Invoke a raw query which will not post process the search result. Instead the result of the search provider will directly be returned.
 	 * 
@@ -1,21 +1,25 @@
 package com.gentics.mesh.search.index;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_NDJSON;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapError;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapToMeshError;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -36,6 +40,8 @@ import com.gentics.mesh.core.rest.common.ListResponse;
 import com.gentics.mesh.core.rest.common.PagingMetaInfo;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.core.rest.search.SearchSourceHit;
+import com.gentics.mesh.core.rest.search.SearchSourceListResponse;
 import com.gentics.mesh.error.InvalidArgumentException;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -43,20 +49,28 @@ import com.gentics.mesh.etc.config.search.ComplianceMode;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.json.MeshJsonException;
 import com.gentics.mesh.parameter.PagingParameters;
+import com.gentics.mesh.search.BulkElementLoader;
 import com.gentics.mesh.search.DevNullSearchProvider;
+import com.gentics.mesh.search.SearchCursor;
 import com.gentics.mesh.search.SearchHandler;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.TrackingSearchProvider;
 import com.gentics.mesh.util.SearchWaitUtil;
 import com.gentics.mesh.util.Tuple;
+import com.google.common.collect.Lists;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.reactivex.Completable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.core.WorkerExecutor;
 
 /**
  * Abstract implementation for a mesh search handler.
@@ -77,8 +91,15 @@ public abstract class AbstractSearchHandler<T extends HibCoreElement, RM extends
 	@Inject
 	public SearchWaitUtil waitUtil;
 
+	@Inject
+	public Vertx vertx;
+
+	private WorkerExecutor hydrationExecutor;
+
 	public static final long DEFAULT_SEARCH_PER_PAGE = 10;
 
+	private static final String HYDRATION_WORKER_POOL_NAME = "searchHydrationWorker";
+
 	/**
 	 * Create a new search handler.
 	 * 
@@ -167,7 +188,7 @@ public abstract class AbstractSearchHandler<T extends HibCoreElement, RM extends
 			JsonObject queryOption = new JsonObject();
 			queryOption.put("index",
 				StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-			queryOption.put("search_type", "dfs_query_then_fetch");
+			queryOption.put("search_type", options.getSearchOptions().getSearchType());
 			log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
 			RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, request);
@@ -198,7 +219,7 @@ public abstract class AbstractSearchHandler<T extends HibCoreElement, RM extends
 	}
 
 	@Override
-	public <RL extends ListResponse<RM>> void query(InternalActionContext ac, Function<String, T> elementLoader, Class<RL> classOfRL,
+	public <RL extends ListResponse<RM>> void query(InternalActionContext ac, BulkElementLoader<T> elementLoader, Class<RL> classOfRL,
 		boolean filterLanguage)
 		throws InstantiationException, IllegalAccessException, InvalidArgumentException, MeshJsonException, MeshConfigurationException {
 		if (searchProvider instanceof DevNullSearchProvider || searchProvider instanceof TrackingSearchProvider) {
@@ -206,6 +227,183 @@ public abstract class AbstractSearchHandler<T extends HibCoreElement, RM extends
 			return;
 		}
 
+		PagingParameters pagingInfo = getValidPagingParameters(ac);
+		RL listResponse = classOfRL.newInstance();
+
+		waitUtil.awaitSync(ac).andThen(Single.defer(() -> {
+			return searchHits(ac, pagingInfo, filterLanguage, classOfRL.getName());
+		})).flatMap(hitsInfo -> {
+			JsonArray hits = hitsInfo.getJsonArray("hits");
+			List<Tuple<String, String>> hitList = new ArrayList<>(hits.size());
+			for (int i = 0; i < hits.size(); i++) {
+				JsonObject hit = hits.getJsonObject(i);
+				String id = hit.getString("_id");
+				int pos = id.indexOf("-");
+
+				String language = pos > 0 ? id.substring(pos + 1) : null;
+				String uuid = pos > 0 ? id.substring(0, pos) : id;
+				hitList.add(Tuple.tuple(uuid, language));
+			}
+
+			// TODO add resume next to omit the item if it can't be transformed for some reason.
+			// This would be better than to just fail the whole request
+			return hydrate(ac, elementLoader, hitList).map(models -> {
+				// Reduce the total count by the amount of omitted elements
+				int omitted = hitList.size() - models.size();
+				if (omitted > 0) {
+					reduceTotalCount(hitsInfo, omitted);
+				}
+
+				// Set meta information to the rest response
+				listResponse.setMetainfo(extractMetaInfo(hitsInfo, pagingInfo));
+				listResponse.getData().addAll(models);
+				return listResponse;
+			});
+		}).subscribe(list -> {
+			ac.send(listResponse.toJson(), OK);
+		}, error -> {
+			log.error("Error while processing search response items", error);
+			ac.fail(error);
+		});
+	}
+
+	@Override
+	public void sourceQuery(InternalActionContext ac, boolean filterLanguage) throws InvalidArgumentException {
+		if (searchProvider instanceof DevNullSearchProvider || searchProvider instanceof TrackingSearchProvider) {
+			ac.fail(error(SERVICE_UNAVAILABLE, "search_error_no_elasticsearch_configured"));
+			return;
+		}
+
+		PagingParameters pagingInfo = getValidPagingParameters(ac);
+		SearchSourceListResponse listResponse = new SearchSourceListResponse();
+
+		// The hits are directly taken from the search response. The permissions are checked via the role filter of the query.
+		waitUtil.awaitSync(ac).andThen(Single.defer(() -> {
+			return searchHits(ac, pagingInfo, filterLanguage, SearchSourceListResponse.class.getName());
+		})).subscribe(hitsInfo -> {
+			JsonArray hits = hitsInfo.getJsonArray("hits");
+			for (int i = 0; i < hits.size(); i++) {
+				JsonObject hit = hits.getJsonObject(i);
+				listResponse.add(new SearchSourceHit()
+					.setId(hit.getString("_id"))
+					.setScore(hit.getDouble("_score"))
+					.setSource(hit.getJsonObject("_source"))
+					.setHighlight(hit.getJsonObject("highlight")));
+			}
+			listResponse.setMetainfo(extractMetaInfo(hitsInfo, pagingInfo));
+			ac.send(listResponse.toJson(), OK);
+		}, error -> {
+			log.error("Error while processing search response", error);
+			ac.fail(error);
+		});
+	}
+
+	@Override
+	public void exportQuery(InternalActionContext ac, HttpServerResponse response, boolean filterLanguage) {
+		if (searchProvider instanceof DevNullSearchProvider || searchProvider instanceof TrackingSearchProvider) {
+			ac.fail(error(SERVICE_UNAVAILABLE, "search_error_no_elasticsearch_configured"));
+			return;
+		}
+
+		int batchSize = options.getSearchOptions().getExportBatchSize();
+		waitUtil.awaitSync(ac).andThen(Single.fromCallable(() -> {
+			return prepareRequest(ac, filterLanguage, "export");
+		})).flatMapCompletable(request -> {
+			return exportHits(ac, response, request, batchSize);
+		}).subscribe(() -> {
+			if (!response.headWritten()) {
+				writeExportHeaders(response);
+			}
+			response.end();
+		}, error -> {
+			if (response.headWritten()) {
+				// The status has already been sent. Closing the connection is the only way to signal the incomplete export.
+				log.error("Error while exporting search hits. Closing the connection.", error);
+				response.close();
+			} else {
+				log.error("Error while exporting search hits", error);
+				ac.fail(error);
+			}
+		});
+	}
+
+	/**
+	 * Load the hits in batches and write them to the response. The next batch is loaded after the previous one and once the response can accept more data.
+	 * 
+	 * @param ac
+	 * @param response
+	 * @param request
+	 * @param batchSize
+	 * @return
+	 */
+	private Completable exportHits(InternalActionContext ac, HttpServerResponse response, JsonObject request, int batchSize) {
+		AtomicReference<String> cursor = new AtomicReference<>("");
+		return Single.defer(() -> {
+			SearchCursor.apply(request, cursor.get(), batchSize);
+			if (complianceMode == ComplianceMode.ES_7) {
+				request.put("track_total_hits", false);
+			}
+			return searchHits(ac, request);
+		}).flatMapCompletable(hitsInfo -> {
+			JsonArray hits = hitsInfo.getJsonArray("hits");
+			if (!response.headWritten()) {
+				writeExportHeaders(response);
+			}
+			if (!hits.isEmpty()) {
+				Buffer buffer = Buffer.buffer();
+				for (int i = 0; i < hits.size(); i++) {
+					buffer.appendString(toExportLine(hits.getJsonObject(i)).encode()).appendString("\n");
+				}
+				response.write(buffer);
+			}
+			String nextCursor = SearchCursor.nextCursor(hitsInfo, batchSize);
+			cursor.set(nextCursor);
+			if (nextCursor == null) {
+				return Completable.complete();
+			}
+			return awaitDrain(response);
+		}).repeatUntil(() -> cursor.get() == null);
+	}
+
+	private Completable awaitDrain(HttpServerResponse response) {
+		return Completable.create(sub -> {
+			if (!response.writeQueueFull()) {
+				sub.onComplete();
+				return;
+			}
+			response.drainHandler(v -> sub.onComplete());
+			response.closeHandler(v -> sub.onError(new IllegalStateException("The connection was closed by the client")));
+		});
+	}
+
+	private void writeExportHeaders(HttpServerResponse response) {
+		response.setStatusCode(OK.code());
+		response.putHeader(CONTENT_TYPE, APPLICATION_NDJSON);
+		response.setChunked(true);
+	}
+
+	private JsonObject toExportLine(JsonObject hit) {
+		JsonObject line = new JsonObject().put("id", hit.getString("_id"));
+		Double score = hit.getDouble("_score");
+		if (score != null) {
+			line.put("score", score);
+		}
+		line.put("source", hit.getJsonObject("_source"));
+		JsonObject highlight = hit.getJsonObject("highlight");
+		if (highlight != null) {
+			line.put("highlight", highlight);
+		}
+		return line;
+	}
+
+	/**
+	 * Validate and return the paging parameters of the request.
+	 * 
+	 * @param ac
+	 * @return
+	 * @throws InvalidArgumentException
+	 */
+	private PagingParameters getValidPagingParameters(InternalActionContext ac) throws InvalidArgumentException {
 		PagingParameters pagingInfo = ac.getPagingParameters();
 		if (pagingInfo.getPage() < 1) {
 			throw new InvalidArgumentException("The page must always be positive");
@@ -214,116 +412,171 @@ public abstract class AbstractSearchHandler<T extends HibCoreElement, RM extends
 		if (perPage != null && perPage < 0) {
 			throw new InvalidArgumentException("The pageSize must always be zero or greater than zero");
 		}
+		return pagingInfo;
+	}
 
-		RL listResponse = classOfRL.newInstance();
-
-		waitUtil.awaitSync(ac).andThen(Single.defer(() -> {
-			ElasticsearchClient<JsonObject> client = searchProvider.getClient();
-			String searchQuery = ac.getBodyAsString();
-			if (log.isDebugEnabled()) {
-				log.debug("Invoking search with query {" + searchQuery + "} for {" + classOfRL.getName() + "}");
-			}
+	/**
+	 * Invoke the search query of the request with permission checks and paging and return the hits info of the response.
+	 * 
+	 * @param ac
+	 * @param pagingInfo
+	 * @param filterLanguage
+	 * @param resultName
+	 *            Name of the result which is used for logging
+	 * @return
+	 */
+	private Single<JsonObject> searchHits(InternalActionContext ac, PagingParameters pagingInfo, boolean filterLanguage, String resultName) {
+		JsonObject request = prepareRequest(ac, filterLanguage, resultName);
 
-			Set<String> indices = indexHandler.getIndicesForSearch(ac);
+		// Add paging to query. Internally we start with page 0
+		applyPagingParams(request, pagingInfo);
+		return searchHits(ac, request);
+	}
 
-			// Add permission checks to the query
-			JsonObject request = prepareSearchQuery(ac, searchQuery, filterLanguage);
+	/**
+	 * Parse the search query of the request and add the permission checks.
+	 * 
+	 * @param ac
+	 * @param filterLanguage
+	 * @param resultName
+	 *            Name of the result which is used for logging
+	 * @return
+	 */
+	private JsonObject prepareRequest(InternalActionContext ac, boolean filterLanguage, String resultName) {
+		String searchQuery = ac.getBodyAsString();
+		if (log.isDebugEnabled()) {
+			log.debug("Invoking search with query {" + searchQuery + "} for {" + resultName + "}");
+		}
+		return prepareSearchQuery(ac, searchQuery, filterLanguage);
+	}
 
-			// Add paging to query. Internally we start with page 0
-			applyPagingParams(request, pagingInfo);
+	/**
+	 * Invoke the prepared search request and return the hits info of the response.
+	 * 
+	 * @param ac
+	 * @param request
+	 * @return
+	 */
+	private Single<JsonObject> searchHits(InternalActionContext ac, JsonObject request) {
+		ElasticsearchClient<JsonObject> client = searchProvider.getClient();
+		Set<String> indices = indexHandler.getIndicesForSearch(ac);
 
-			if (log.isDebugEnabled()) {
-				log.debug("Using parsed query {" + request.encodePrettily() + "}");
-			}
+		if (log.isDebugEnabled()) {
+			log.debug("Using parsed query {" + request.encodePrettily() + "}");
+		}
 
-			JsonObject queryOption = new JsonObject();
-			queryOption.put("index",
-				StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-			queryOption.put("search_type", "dfs_query_then_fetch");
-			log.debug("Using options {" + queryOption.encodePrettily() + "}");
+		JsonObject queryOption = new JsonObject();
+		queryOption.put("index",
+			StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
+		queryOption.put("search_type", options.getSearchOptions().getSearchType());
+		log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
-			RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, request);
-			return requestBuilder.async();
-		})).flatMapObservable(response -> {
+		RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, request);
+		return requestBuilder.async().map(response -> {
 			JsonArray responses = response.getJsonArray("responses");
 			JsonObject firstResponse = responses.getJsonObject(0);
 
 			// Process the nested error
 			JsonObject errorInfo = firstResponse.getJsonObject("error");
 			if (errorInfo != null) {
-				return Observable.error(mapError(errorInfo));
+				throw mapError(errorInfo);
 			}
+			return firstResponse.getJsonObject("hits");
+		}).onErrorResumeNext(error -> {
+			return Single.error(mapToMeshError(error));
+		});
+	}
 
-			JsonObject hitsInfo = firstResponse.getJsonObject("hits");
-			JsonArray hits = hitsInfo.getJsonArray("hits");
+	/**
+	 * Load the elements of the hits and transform them into rest models. By default all hits are loaded via a single lookup and transformed within a
+	 * single transaction. Thus the branches, schema versions and permissions which are shared by the elements only need to be loaded once. When the
+	 * hydration concurrency is configured, the hits are split into chunks which are transformed concurrently by the shared worker pool.
+	 * 
+	 * @param ac
+	 * @param elementLoader
+	 * @param hits
+	 *            Uuids and languages of the hits
+	 * @return Rest models in the order of the hits. Elements which could not be found are omitted.
+	 */
+	protected Single<List<RM>> hydrate(InternalActionContext ac, BulkElementLoader<T> elementLoader, List<Tuple<String, String>> hits) {
+		int concurrency = options.getSearchOptions().getHydrationConcurrency();
+		if (concurrency <= 1 || hits.size() <= 1) {
+			return Single.fromCallable(() -> hydrateChunk(ac, elementLoader, hits));
+		}
+		int chunkSize = (int) Math.ceil(hits.size() / (double) concurrency);
+		WorkerExecutor executor = getHydrationExecutor(concurrency);
+		return Observable.fromIterable(Lists.partition(hits, chunkSize))
+			.concatMapEager(chunk -> executor.<List<RM>>rxExecuteBlocking(promise -> {
+				promise.complete(hydrateChunk(ac, elementLoader, chunk));
+			}, false).toObservable())
+			.<List<RM>>collect(() -> new ArrayList<>(hits.size()), List::addAll);
+	}
 
-			List<Tuple<T, String>> list = new ArrayList<>();
-			db.tx(() -> {
-				for (int i = 0; i < hits.size(); i++) {
-					JsonObject hit = hits.getJsonObject(i);
-					String id = hit.getString("_id");
-					int pos = id.indexOf("-");
-
-					String language = pos > 0 ? id.substring(pos + 1) : null;
-					String uuid = pos > 0 ? id.substring(0, pos) : id;
-
-					// Locate the node
-					T element = elementLoader.apply(uuid);
-					if (element == null) {
-						log.warn("Object could not be found for uuid {" + uuid + "}. The element will be omitted.");
-						// Reduce the total count
-						long total = extractTotalCount(hitsInfo);
-						switch (complianceMode) {
-						case ES_6:
-							hitsInfo.put("total", total - 1);
-							break;
-						case ES_7:
-							hitsInfo.put("total", new JsonObject().put("value", total - 1));
-							break;
-						default:
-							throw new RuntimeException("Unknown compliance mode {" + complianceMode + "}");
-						}
-					} else {
-						// TODO maybe it would be better to directly transform the element here.
-						list.add(Tuple.tuple(element, language));
-					}
+	private List<RM> hydrateChunk(InternalActionContext ac, BulkElementLoader<T> elementLoader, List<Tuple<String, String>> hits) {
+		return db.tx(tx -> {
+			Set<String> uuids = hits.stream().map(Tuple::v1).collect(Collectors.toSet());
+			Map<String, ? extends T> elements = elementLoader.load(uuids);
+			List<RM> models = new ArrayList<>(hits.size());
+			for (Tuple<String, String> hit : hits) {
+				T element = elements.get(hit.v1());
+				if (element == null) {
+					log.warn("Object could not be found for uuid {" + hit.v1() + "}. The element will be omitted.");
+				} else {
+					models.add(actions.transformToRestSync(tx, element, ac, 0, hit.v2()));
 				}
-			});
+			}
+			return models;
+		});
+	}
 
-			// Set meta information to the rest response
-			listResponse.setMetainfo(extractMetaInfo(hitsInfo, pagingInfo));
+	private synchronized WorkerExecutor getHydrationExecutor(int concurrency) {
+		// The pool is shared by name between all search handlers
+		if (hydrationExecutor == null) {
+			hydrationExecutor = vertx.createSharedWorkerExecutor(HYDRATION_WORKER_POOL_NAME, concurrency);
+		}
+		return hydrationExecutor;
+	}
 
-			return Observable.fromIterable(list);
-		}).onErrorResumeNext(error -> {
-			return Observable.error(mapToMeshError(error));
-		}).flatMapSingle(element -> {
-			// TODO add resume next to omit the item if it can't be transformed for some reason.
-			// This would be better than to just fail the whole request
-			// TODO maybe add extra permission filtering? This would not be very costly for smaller pages and ensure perm consistency?
-			// TODO it would be good to batch the transformation of the elements to save the overhead of creating transactions and use the L1 cache.
-			return db.tx(tx ->  {
-				RM model = actions.transformToRestSync(tx, element.v1(), ac, 0, element.v2());
-				return Single.just(model);
-			});
-		}).collect(() -> listResponse.getData(), (x, y) -> {
-			x.add(y);
-		}).subscribe(list -> {
-			ac.send(listResponse.toJson(), OK);
-		}, error -> {
-			log.error("Error while processing search response items", error);
-			ac.fail(error);
-		});
+	/**
+	 * Reduce the total count of the hits info by the amount of hits which were omitted. The total count is not changed if it was not tracked.
+	 * 
+	 * @param hitsInfo
+	 * @param amount
+	 */
+	protected void reduceTotalCount(JsonObject hitsInfo, int amount) {
+		long total = extractTotalCount(hitsInfo);
+		if (total < 0) {
+			return;
+		}
+		switch (complianceMode) {
+		case ES_6:
+			hitsInfo.put("total", total - amount);
+			break;
+		case ES_7:
+			hitsInfo.put("total", new JsonObject().put("value", total - amount));
+			break;
+		default:
+			throw new RuntimeException("Unknown compliance mode {" + complianceMode + "}");
+		}
 	}
 
 	/**
-	 * Add the paging parameters to the request.
+	 * Add the paging parameters to the request. The hits are positioned via <code>search_after</code> if a cursor was specified.
 	 * 
 	 * @param request
 	 * @param pagingInfo
 	 */
 	protected void applyPagingParams(JsonObject request, PagingParameters pagingInfo) {
-		long page = pagingInfo.getPage() - 1;
 		Long perPage = Optional.ofNullable(pagingInfo.getPerPage()).orElse(DEFAULT_SEARCH_PER_PAGE);
+		if (pagingInfo.isCursorPaging()) {
+			SearchCursor.apply(request, pagingInfo.getAfter(), perPage);
+			// The counts are not determined for cursor based pages
+			if (complianceMode == ComplianceMode.ES_7) {
+				request.put("track_total_hits", false);
+			}
+			return;
+		}
+		long page = pagingInfo.getPage() - 1;
 		long low = page * perPage;
 		request.put("from", low);
 		request.put("size", perPage);
@@ -338,11 +591,19 @@ public abstract class AbstractSearchHandler<T extends HibCoreElement, RM extends
 	 */
 	protected PagingMetaInfo extractMetaInfo(JsonObject info, PagingParameters pagingInfo) {
 		PagingMetaInfo metaInfo = new PagingMetaInfo();
+		Long perPage = Optional.ofNullable(pagingInfo.getPerPage()).orElse(DEFAULT_SEARCH_PER_PAGE);
+		if (pagingInfo.isCursorPaging()) {
+			metaInfo.setTotalCount(-1);
+			metaInfo.setPageCount(-1);
+			metaInfo.setCurrentPage(pagingInfo.getPage());
+			metaInfo.setPerPage(perPage);
+			metaInfo.setNextCursor(SearchCursor.nextCursor(info, perPage));
+			return metaInfo;
+		}
 
 		long total = extractTotalCount(info);
 		metaInfo.setTotalCount(total);
 		int totalPages = 0;
-		Long perPage = Optional.ofNullable(pagingInfo.getPerPage()).orElse(DEFAULT_SEARCH_PER_PAGE);
 		if (perPage != 0) {
 			totalPages = (int) Math.ceil(total / (double) perPage);
 		}
@@ -355,7 +616,16 @@ public abstract class AbstractSearchHandler<T extends HibCoreElement, RM extends
 		return metaInfo;
 	}
 
+	/**
+	 * Extract the total count from the info object.
+	 * 
+	 * @param info
+	 * @return Total count or -1 if the total count was not tracked
+	 */
 	protected long extractTotalCount(JsonObject info) {
+		if (info.getValue("total") == null) {
+			return -1;
+		}
 		switch (complianceMode) {
 		case ES_7:
 			return info.getJsonObject("total").getLong("value");
@@ -388,7 +658,7 @@ public abstract class AbstractSearchHandler<T extends HibCoreElement, RM extends
 
 		JsonObject queryOption = new JsonObject();
 		queryOption.put("index", StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-		queryOption.put("search_type", "dfs_query_then_fetch");
+		queryOption.put("search_type", options.getSearchOptions().getSearchType());
 		log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
 		// Prepare the request
@@ -422,7 +692,8 @@ public abstract class AbstractSearchHandler<T extends HibCoreElement, RM extends
 					}
 
 					PagingMetaInfo info = extractMetaInfo(hitsInfo, pagingInfo);
-					return new PageImpl<>(elementList, info.getTotalCount(), pagingInfo.getPage(), info.getPageCount(), pagingInfo.getPerPage());
+					return new PageImpl<>(elementList, info.getTotalCount(), pagingInfo.getPage(), info.getPageCount(), pagingInfo.getPerPage())
+						.setNextCursor(info.getNextCursor());
 				});
 			});
 
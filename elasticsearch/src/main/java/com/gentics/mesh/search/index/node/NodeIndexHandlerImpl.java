@@ -7,11 +7,14 @@ import static com.gentics.mesh.search.index.node.NodeIndexUtil.getDefaultSetting
 import static com.gentics.mesh.search.index.node.NodeIndexUtil.getLanguageOverride;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -22,6 +25,8 @@ import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.elasticsearch.client.ElasticsearchClient;
+import com.gentics.elasticsearch.client.HttpErrorException;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
@@ -30,6 +35,7 @@ import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.dao.BranchDaoWrapper;
 import com.gentics.mesh.core.data.dao.ContentDaoWrapper;
+import com.gentics.mesh.core.data.dao.SchemaDaoWrapper;
 import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.perm.InternalPermission;
@@ -45,7 +51,6 @@ import com.gentics.mesh.core.data.search.context.GenericEntryContext;
 import com.gentics.mesh.core.data.search.context.MoveEntryContext;
 import com.gentics.mesh.core.data.search.context.impl.GenericEntryContextImpl;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
-import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.rest.common.ContainerType;
@@ -57,9 +62,8 @@ import com.gentics.mesh.graphdb.spi.Transactional;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.entry.AbstractIndexHandler;
 import com.gentics.mesh.search.index.metric.SyncMetersFactory;
+import com.gentics.mesh.search.index.sync.IndexSyncCheckpoints;
 import com.gentics.mesh.search.verticle.eventhandler.MeshHelper;
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.Maps;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
@@ -92,6 +96,9 @@ public class NodeIndexHandlerImpl extends AbstractIndexHandler<HibNode> implemen
 	@Inject
 	public NodeContainerMappingProvider mappingProvider;
 
+	@Inject
+	public IndexSyncCheckpoints checkpoints;
+
 	@Inject
 	public NodeIndexHandlerImpl(SearchProvider searchProvider, Database db, BootstrapInitializer boot, MeshHelper helper, MeshOptions options,
 		SyncMetersFactory syncMetersFactory) {
@@ -231,46 +238,19 @@ public class NodeIndexHandlerImpl extends AbstractIndexHandler<HibNode> implemen
 
 	@Override
 	public Flowable<SearchRequest> syncIndices() {
-		return Flowable.defer(() -> db.tx(() -> {
-			return boot.meshRoot().getProjectRoot().findAll().stream()
-				.flatMap(project -> project.getBranchRoot().findAll().stream()
-					.flatMap(branch -> branch.findActiveSchemaVersions().stream()
-						.flatMap(version -> Stream.of(DRAFT, PUBLISHED)
-							.map(type -> diffAndSync(project, branch, version, type)))))
-				.collect(Collectors.collectingAndThen(Collectors.toList(), Flowable::merge));
-		}));
-	}
-
-	/**
-	 *
-	 * @param branch
-	 * @param version
-	 * @param type
-	 * @return indexName -> documentName -> NodeGraphFieldContainer
-	 */
-	private Map<String, Map<String, NodeGraphFieldContainer>> loadVersionsFromGraph(Branch branch, SchemaVersion version, ContainerType type) {
-		return db.tx(tx -> {
-			ContentDaoWrapper contentDao = tx.data().contentDao();
-			String branchUuid = branch.getUuid();
-			List<String> indexLanguages = version.getSchema().findOverriddenSearchLanguages().collect(Collectors.toList());
-
-			return version.getFieldContainers(branchUuid)
-				.filter(c -> c.isType(type, branchUuid))
-				.map(NodeGraphFieldContainer.class::cast)
-				.collect(Collectors.groupingBy(content -> {
-						String languageTag = content.getLanguageTag();
-						return ContentDaoWrapper.composeIndexName(
-							branch.getProject().getUuid(),
-							branchUuid,
-							version.getUuid(),
-							type,
-							indexLanguages.contains(languageTag)
-								? languageTag
-								: null
-						);
-					},
-					Collectors.toMap(c -> contentDao.getNode(c).getUuid() + "-" + c.getLanguageTag(), Function.identity())
-				));
+		return Flowable.defer(() -> {
+			checkpoints.start();
+			List<Flowable<SearchRequest>> syncs = db.tx(() -> {
+				return boot.meshRoot().getProjectRoot().findAll().stream()
+					.flatMap(project -> project.getBranchRoot().findAll().stream()
+						.flatMap(branch -> branch.findActiveSchemaVersions().stream()
+							.flatMap(version -> Stream.of(DRAFT, PUBLISHED)
+								.map(type -> diffAndSync(project, branch, version, type)))))
+					.collect(Collectors.toList());
+			});
+			int concurrency = Math.max(options.getSearchOptions().getSyncConcurrency(), 1);
+			return Flowable.merge(syncs, concurrency)
+				.doOnComplete(checkpoints::finish);
 		});
 	}
 
@@ -290,50 +270,32 @@ public class NodeIndexHandlerImpl extends AbstractIndexHandler<HibNode> implemen
 	}
 
 	private Flowable<SearchRequest> diffAndSync(Project project, Branch branch, SchemaVersion version, ContainerType type) {
+		String branchUuid = branch.getUuid();
+		String versionUuid = version.getUuid();
 		return Flowable.defer(() -> {
-			Map<String, Map<String, NodeGraphFieldContainer>> sourceNodesPerIndex = loadVersionsFromGraph(branch, version, type);
-			return Flowable.fromIterable(getIndexNames(project, branch, version, type))
-				.flatMap(indexName -> loadVersionsFromIndex(indexName).flatMapPublisher(sinkVersions -> {
-				log.info("Handling index sync on handler {" + getClass().getName() + "}");
-				Map<String, NodeGraphFieldContainer> sourceNodes = sourceNodesPerIndex.getOrDefault(indexName, Collections.emptyMap());
-				String branchUuid = branch.getUuid();
-
-				Map<String, String> sourceVersions = db.tx(() -> sourceNodes.entrySet().stream()
-					.collect(Collectors.toMap(Map.Entry::getKey, x -> generateVersion(x.getValue(), branchUuid, type))));
-
-				// 3. Diff the maps
-				MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-				if (diff.areEqual()) {
-					return Flowable.empty();
-				}
-				Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-				Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
-				Set<String> needUpdateInEs = diff.entriesDiffering().keySet();
-
-				log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-				log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
-				log.info("Pending updates on {" + indexName + "}:" + needUpdateInEs.size());
-
-				meters.getInsertMeter().addPending(needInsertionInES.size());
-				meters.getDeleteMeter().addPending(needRemovalInES.size());
-				meters.getUpdateMeter().addPending(needUpdateInEs.size());
-
-				io.reactivex.functions.Function<Action, io.reactivex.functions.Function<String, CreateDocumentRequest>> toCreateRequest = action -> uuid -> {
-					JsonObject doc = db.tx(() -> getTransformer().toDocument(sourceNodes.get(uuid), branchUuid, type));
-					return helper.createDocumentRequest(indexName, uuid, doc, complianceMode, action);
-				};
-
-				Flowable<SearchRequest> toInsert = Flowable.fromIterable(needInsertionInES)
-					.map(toCreateRequest.apply(meters.getInsertMeter()::synced));
-
-				Flowable<SearchRequest> toUpdate = Flowable.fromIterable(needUpdateInEs)
-					.map(toCreateRequest.apply(meters.getUpdateMeter()::synced));
-
-				Flowable<SearchRequest> toDelete = Flowable.fromIterable(needRemovalInES)
-					.map(uuid -> helper.deleteDocumentRequest(indexName, uuid, complianceMode, meters.getDeleteMeter()::synced));
-
-				return Flowable.merge(toInsert, toUpdate, toDelete);
-			}));
+			List<String> indexNames = getIndexNames(project, branch, version, type).stream()
+				.filter(indexName -> !checkpoints.isCompleted(indexName))
+				.collect(Collectors.toList());
+			if (indexNames.isEmpty()) {
+				return Flowable.empty();
+			}
+			String projectUuid = db.tx(() -> project.getUuid());
+			String schemaUuid = db.tx(() -> version.getSchemaContainer().getUuid());
+			List<String> indexLanguages = db.tx(() -> version.getSchema().findOverriddenSearchLanguages().collect(Collectors.toList()));
+			return Flowable.fromIterable(indexNames)
+				.concatMap(indexName -> {
+					log.info("Handling index sync on handler {" + getClass().getName() + "} for index {" + indexName + "}");
+					GraphKeys graphKeys = new GraphKeys(indexName, projectUuid, branchUuid, schemaUuid, versionUuid, type, indexLanguages);
+					IndexSync sync = new IndexSync(indexName, branchUuid, versionUuid, type, graphKeys);
+					return Flowable.<List<SearchRequest>>generate(emitter -> {
+						List<SearchRequest> page = sync.nextPage();
+						if (page == null) {
+							emitter.onComplete();
+						} else {
+							emitter.onNext(page);
+						}
+					}).concatMapIterable(page -> page);
+				});
 		});
 	}
 
@@ -743,4 +705,370 @@ public class NodeIndexHandlerImpl extends AbstractIndexHandler<HibNode> implemen
 		return db.type().findAll(Node.class);
 	}
 
+
+	/**
+	 * Key of a node document. The keys are ordered by node uuid and language, which is the same order in which the documents are fetched from the index during
+	 * the sync.
+	 */
+	private static class SyncKey implements Comparable<SyncKey> {
+		private final String uuid;
+		private final String language;
+
+		SyncKey(String uuid, String language) {
+			this.uuid = uuid;
+			this.language = language;
+		}
+
+		String getDocumentId() {
+			return ContentDaoWrapper.composeDocumentId(uuid, language);
+		}
+
+		JsonArray toSortValues() {
+			return new JsonArray().add(uuid).add(language);
+		}
+
+		static SyncKey fromSortValues(JsonArray sortValues) {
+			return new SyncKey(sortValues.getString(0), sortValues.getString(1));
+		}
+
+		@Override
+		public int compareTo(SyncKey other) {
+			int result = compare(uuid, other.uuid);
+			return result != 0 ? result : compare(language, other.language);
+		}
+
+		/**
+		 * Compare the values the same way Elasticsearch does. Missing values are sorted last.
+		 */
+		private static int compare(String a, String b) {
+			if (a == null) {
+				return b == null ? 0 : 1;
+			}
+			return b == null ? -1 : a.compareTo(b);
+		}
+	}
+
+	/**
+	 * Keys of the documents which should be stored in an index. The keys are read from the graph in the same order in which the documents are fetched from
+	 * the index. The nodes of the schema are read page by page in the order of their uuid, each page within its own transaction. Only the keys of a single page
+	 * are kept in memory at a time.
+	 */
+	private class GraphKeys {
+		private final String indexName;
+		private final String projectUuid;
+		private final String branchUuid;
+		private final String schemaUuid;
+		private final String versionUuid;
+		private final ContainerType type;
+		private final List<String> indexLanguages;
+
+		private final Deque<SyncKey> keys = new ArrayDeque<>();
+		private String after;
+		private boolean exhausted = false;
+
+		GraphKeys(String indexName, String projectUuid, String branchUuid, String schemaUuid, String versionUuid, ContainerType type,
+			List<String> indexLanguages) {
+			this.indexName = indexName;
+			this.projectUuid = projectUuid;
+			this.branchUuid = branchUuid;
+			this.schemaUuid = schemaUuid;
+			this.versionUuid = versionUuid;
+			this.type = type;
+			this.indexLanguages = indexLanguages;
+		}
+
+		/**
+		 * Skip the keys up to the given key. The remaining keys of the node of the given key are loaded immediately, the following nodes with the next page.
+		 *
+		 * @param resumeKey
+		 */
+		void resumeAfter(SyncKey resumeKey) {
+			List<SyncKey> remaining = db.tx(tx -> {
+				HibNode node = elementLoader().apply(resumeKey.uuid);
+				if (node == null) {
+					return Collections.<SyncKey>emptyList();
+				}
+				return keysOf(tx.data().contentDao(), node).stream()
+					.filter(key -> key.compareTo(resumeKey) > 0)
+					.collect(Collectors.toList());
+			});
+			keys.clear();
+			keys.addAll(remaining);
+			after = resumeKey.uuid;
+		}
+
+		/**
+		 * Return the next key without removing it.
+		 *
+		 * @return Next key or null if all keys have been read
+		 */
+		SyncKey peek() {
+			while (keys.isEmpty() && !exhausted) {
+				fetchPage();
+			}
+			return keys.peek();
+		}
+
+		/**
+		 * Remove and return the next key.
+		 *
+		 * @return Next key or null if all keys have been read
+		 */
+		SyncKey poll() {
+			peek();
+			return keys.poll();
+		}
+
+		private void fetchPage() {
+			List<SyncKey> page = new ArrayList<>();
+			String last = db.tx(tx -> {
+				page.clear();
+				ContentDaoWrapper contentDao = tx.data().contentDao();
+				SchemaDaoWrapper schemaDao = tx.data().schemaDao();
+				Iterator<? extends Node> nodes = schemaDao.getNodes(schemaDao.findByUuid(schemaUuid), after);
+				String lastUuid = null;
+				int scanned = 0;
+				// The amount of scanned nodes is limited, since only few nodes of the schema may belong to the index
+				while (scanned < ES_SYNC_FETCH_BATCH_SIZE && nodes.hasNext()) {
+					Node node = nodes.next();
+					scanned++;
+					lastUuid = node.getUuid();
+					if (projectUuid.equals(node.getProject().getUuid())) {
+						page.addAll(keysOf(contentDao, node));
+					}
+				}
+				return nodes.hasNext() ? lastUuid : null;
+			});
+			keys.addAll(page);
+			if (last == null) {
+				exhausted = true;
+			} else {
+				after = last;
+			}
+		}
+
+		/**
+		 * Return the sorted keys of the containers of the node which belong to the index.
+		 */
+		private List<SyncKey> keysOf(ContentDaoWrapper contentDao, HibNode node) {
+			String nodeUuid = node.getUuid();
+			List<SyncKey> nodeKeys = new ArrayList<>();
+			for (NodeGraphFieldContainer container : contentDao.getGraphFieldContainers(node, branchUuid, type)) {
+				String languageTag = container.getLanguageTag();
+				if (versionUuid.equals(container.getSchemaContainerVersion().getUuid()) && indexName.equals(indexNameOf(languageTag))) {
+					nodeKeys.add(new SyncKey(nodeUuid, languageTag));
+				}
+			}
+			Collections.sort(nodeKeys);
+			return nodeKeys;
+		}
+
+		private String indexNameOf(String languageTag) {
+			return ContentDaoWrapper.composeIndexName(projectUuid, branchUuid, versionUuid, type,
+				indexLanguages.contains(languageTag) ? languageTag : null);
+		}
+	}
+
+	/**
+	 * Sync of a single index. The documents of the index are fetched page by page in the order of their keys and compared with the keys from the graph, which
+	 * are read page by page in the same order (merge-diff). Only a single page of documents and keys is kept in memory at a time.
+	 */
+	private class IndexSync {
+		private final String indexName;
+		private final String branchUuid;
+		private final String versionUuid;
+		private final ContainerType type;
+		private final GraphKeys graphKeys;
+		private final IndexSyncCheckpoints.Tracker tracker;
+
+		private final Deque<JsonObject> indexHits = new ArrayDeque<>();
+		private JsonArray searchAfter;
+		private boolean indexExhausted = false;
+		private boolean done = false;
+
+		IndexSync(String indexName, String branchUuid, String versionUuid, ContainerType type, GraphKeys graphKeys) {
+			this.indexName = indexName;
+			this.branchUuid = branchUuid;
+			this.versionUuid = versionUuid;
+			this.type = type;
+			this.graphKeys = graphKeys;
+			this.tracker = checkpoints.track(indexName);
+
+			JsonArray resumePoint = checkpoints.getResumePoint(indexName);
+			if (resumePoint != null) {
+				log.info("Resuming sync of index {" + indexName + "} after {" + resumePoint.encode() + "}");
+				searchAfter = resumePoint;
+				graphKeys.resumeAfter(SyncKey.fromSortValues(resumePoint));
+			}
+		}
+
+		/**
+		 * Compare the next page of documents.
+		 *
+		 * @return Requests which are needed to sync the page or null if the whole index has been compared
+		 */
+		List<SearchRequest> nextPage() throws HttpErrorException {
+			if (done) {
+				return null;
+			}
+			List<SyncKey> toLoad = new ArrayList<>();
+			Map<SyncKey, JsonObject> hitsByKey = new HashMap<>();
+			List<JsonObject> toDelete = new ArrayList<>();
+			SyncKey last = null;
+
+			while (toLoad.size() + toDelete.size() < ES_SYNC_FETCH_BATCH_SIZE) {
+				if (indexHits.isEmpty() && !indexExhausted) {
+					fetchIndexPage();
+				}
+				SyncKey graphKey = graphKeys.peek();
+				JsonObject hit = indexHits.peek();
+				if (graphKey == null && hit == null) {
+					break;
+				}
+				SyncKey hitKey = hit == null ? null : keyOf(hit);
+				int cmp = graphKey == null ? 1 : hitKey == null ? -1 : graphKey.compareTo(hitKey);
+				if (cmp < 0) {
+					// Only in the graph
+					toLoad.add(graphKeys.poll());
+					last = graphKey;
+				} else if (cmp > 0) {
+					// Only in the index
+					toDelete.add(indexHits.poll());
+					last = hitKey;
+				} else {
+					// In both. The versions will be compared once the container has been loaded.
+					toLoad.add(graphKeys.poll());
+					hitsByKey.put(graphKey, indexHits.poll());
+					last = graphKey;
+				}
+			}
+
+			if (last == null) {
+				done = true;
+				tracker.finish();
+				return null;
+			}
+			return createRequests(toLoad, hitsByKey, toDelete, last);
+		}
+
+		private List<SearchRequest> createRequests(List<SyncKey> toLoad, Map<SyncKey, JsonObject> hitsByKey, List<JsonObject> toDelete, SyncKey last) {
+			List<SyncKey> inserts = new ArrayList<>();
+			List<SyncKey> updates = new ArrayList<>();
+			List<String> deletes = new ArrayList<>();
+			Map<SyncKey, JsonObject> documents = db.tx(tx -> {
+				inserts.clear();
+				updates.clear();
+				deletes.clear();
+				ContentDaoWrapper contentDao = tx.data().contentDao();
+				Map<SyncKey, JsonObject> docs = new HashMap<>();
+				for (SyncKey key : toLoad) {
+					JsonObject hit = hitsByKey.get(key);
+					NodeGraphFieldContainer container = loadContainer(contentDao, key);
+					if (container == null) {
+						// The content was changed after the keys have been loaded
+						if (hit != null) {
+							deletes.add(hit.getString("_id"));
+						}
+						continue;
+					}
+					if (hit == null) {
+						inserts.add(key);
+					} else {
+						String sinkVersion = hit.getJsonObject("_source", new JsonObject()).getString("version");
+						if (generateVersion(container, branchUuid, type).equals(sinkVersion)) {
+							continue;
+						}
+						updates.add(key);
+					}
+					docs.put(key, getTransformer().toDocument(container, branchUuid, type));
+				}
+				return docs;
+			});
+			for (JsonObject hit : toDelete) {
+				deletes.add(hit.getString("_id"));
+			}
+
+			if (log.isDebugEnabled()) {
+				log.debug("Page of index {" + indexName + "} up to {" + last.getDocumentId() + "}: " + inserts.size() + " insertions, " + updates.size()
+					+ " updates, " + deletes.size() + " removals");
+			}
+			meters.getInsertMeter().addPending(inserts.size());
+			meters.getUpdateMeter().addPending(updates.size());
+			meters.getDeleteMeter().addPending(deletes.size());
+
+			Action pageAction = tracker.addPage(last.toSortValues(), inserts.size() + updates.size() + deletes.size());
+			List<SearchRequest> requests = new ArrayList<>();
+			for (SyncKey key : inserts) {
+				requests.add(helper.createDocumentRequest(indexName, key.getDocumentId(), documents.get(key), complianceMode,
+					both(meters.getInsertMeter()::synced, pageAction)));
+			}
+			for (SyncKey key : updates) {
+				requests.add(helper.createDocumentRequest(indexName, key.getDocumentId(), documents.get(key), complianceMode,
+					both(meters.getUpdateMeter()::synced, pageAction)));
+			}
+			for (String documentId : deletes) {
+				requests.add(helper.deleteDocumentRequest(indexName, documentId, complianceMode, both(meters.getDeleteMeter()::synced, pageAction)));
+			}
+			return requests;
+		}
+
+		private NodeGraphFieldContainer loadContainer(ContentDaoWrapper contentDao, SyncKey key) {
+			HibNode node = elementLoader().apply(key.uuid);
+			if (node == null) {
+				return null;
+			}
+			NodeGraphFieldContainer container = contentDao.getGraphFieldContainer(node, key.language, branchUuid, type);
+			if (container == null || !versionUuid.equals(container.getSchemaContainerVersion().getUuid())) {
+				return null;
+			}
+			return container;
+		}
+
+		private void fetchIndexPage() throws HttpErrorException {
+			String fullIndexName = searchProvider.installationPrefix() + indexName;
+			ElasticsearchClient<JsonObject> client = searchProvider.getClient();
+			JsonObject query = new JsonObject();
+			query.put("size", ES_SYNC_FETCH_BATCH_SIZE);
+			query.put("_source", new JsonArray().add("uuid").add("language").add("version"));
+			query.put("query", new JsonObject().put("match_all", new JsonObject()));
+			query.put("sort", new JsonArray()
+				.add(new JsonObject().put("uuid", "asc"))
+				.add(new JsonObject().put("language", "asc")));
+			if (searchAfter != null) {
+				query.put("search_after", searchAfter);
+			}
+			try {
+				JsonObject result = client.search(query, fullIndexName).sync();
+				JsonArray hits = result.getJsonObject("hits").getJsonArray("hits");
+				for (int i = 0; i < hits.size(); i++) {
+					indexHits.add(hits.getJsonObject(i));
+				}
+				if (hits.size() > 0) {
+					searchAfter = hits.getJsonObject(hits.size() - 1).getJsonArray("sort");
+				}
+				indexExhausted = hits.size() < ES_SYNC_FETCH_BATCH_SIZE;
+			} catch (HttpErrorException e) {
+				log.error("Error while loading version information from index {" + indexName + "}", e.toString());
+				log.error(e);
+				throw e;
+			}
+		}
+
+		private SyncKey keyOf(JsonObject hit) {
+			JsonArray sort = hit.getJsonArray("sort");
+			if (sort != null && sort.size() == 2) {
+				return SyncKey.fromSortValues(sort);
+			}
+			JsonObject source = hit.getJsonObject("_source", new JsonObject());
+			return new SyncKey(source.getString("uuid"), source.getString("language"));
+		}
+
+		private Action both(Action first, Action second) {
+			return () -> {
+				first.run();
+				second.run();
+			};
+		}
+	}
+
 }
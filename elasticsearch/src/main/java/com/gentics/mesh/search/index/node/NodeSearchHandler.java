@@ -99,7 +99,7 @@ public class NodeSearchHandler extends AbstractSearchHandler<HibNode, NodeRespon
 
 		JsonObject queryOption = new JsonObject();
 		queryOption.put("index", StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-		queryOption.put("search_type", "dfs_query_then_fetch");
+		queryOption.put("search_type", options.getSearchOptions().getSearchType());
 		log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
 		try {
@@ -119,7 +119,7 @@ public class NodeSearchHandler extends AbstractSearchHandler<HibNode, NodeRespon
 			// The scrolling iterator will wrap the current response and query ES for more data if needed.
 			Page<? extends NodeContent> page = db.tx(tx -> {
 				ContentDaoWrapper contentDao = tx.data().contentDao();
-				long totalCount = extractTotalCount(hitsInfo);
+				int omitted = 0;
 				List<NodeContent> elementList = new ArrayList<>();
 				JsonArray hits = hitsInfo.getJsonArray("hits");
 				for (int i = 0; i < hits.size(); i++) {
@@ -134,14 +134,14 @@ public class NodeSearchHandler extends AbstractSearchHandler<HibNode, NodeRespon
 					HibNode element = getIndexHandler().elementLoader().apply(uuid);
 					if (element == null) {
 						log.warn("Object could not be found for uuid {" + uuid + "}");
-						totalCount--;
+						omitted++;
 						continue;
 					}
 
 					HibLanguage language = tx.data().languageDao().findByLanguageTag(languageTag);
 					if (language == null) {
 						log.warn("Could not find language {" + languageTag + "}");
-						totalCount--;
+						omitted++;
 						continue;
 					}
 
@@ -150,26 +150,19 @@ public class NodeSearchHandler extends AbstractSearchHandler<HibNode, NodeRespon
 					if (container != null) {
 						elementList.add(new NodeContent(element, container, Arrays.asList(languageTag), type));
 					} else {
-						totalCount--;
+						omitted++;
 						continue;
 					}
 
 				}
 				// Update the total count
-				switch (complianceMode) {
-				case ES_6:
-					hitsInfo.put("total", totalCount);
-					break;
-				case ES_7:
-					hitsInfo.put("total", new JsonObject().put("value", totalCount));
-					break;
-				default:
-					throw new RuntimeException("Unknown compliance mode {" + complianceMode + "}");
-
+				if (omitted > 0) {
+					reduceTotalCount(hitsInfo, omitted);
 				}
 
 				PagingMetaInfo info = extractMetaInfo(hitsInfo, pagingInfo);
-				return new PageImpl<>(elementList, info.getTotalCount(), pagingInfo.getPage(), info.getPageCount(), pagingInfo.getPerPage());
+				return new PageImpl<>(elementList, info.getTotalCount(), pagingInfo.getPage(), info.getPageCount(), pagingInfo.getPerPage())
+					.setNextCursor(info.getNextCursor());
 			});
 			return page;
 		} catch (HttpErrorException e) {
@@ -0,0 +1,240 @@
+package com.gentics.mesh.search.index.sync;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import io.reactivex.functions.Action;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Keeps track of the progress of the index sync. The progress is stored in a file so that a sync which was interrupted by a shutdown can be resumed by the
+ * first sync after the next startup.
+ *
+ * For every index the sort values of the last document which has been successfully synced are stored. Indices which have been completely synced are
+ * marked as completed. The file is removed once the whole sync has finished.
+ */
+@Singleton
+public class IndexSyncCheckpoints {
+
+	private static final Logger log = LoggerFactory.getLogger(IndexSyncCheckpoints.class);
+
+	private static final String FILENAME = "index-sync-checkpoints.json";
+
+	private static final String AFTER_KEY = "after";
+
+	private static final String COMPLETED_KEY = "completed";
+
+	private final File file;
+
+	private JsonObject resumable;
+
+	private JsonObject checkpoints = new JsonObject();
+
+	private int syncId = 0;
+
+	private boolean generating = false;
+
+	private int activeTrackers = 0;
+
+	@Inject
+	public IndexSyncCheckpoints(MeshOptions options) {
+		this.file = new File(options.getTempDirectory(), FILENAME);
+		this.resumable = load();
+	}
+
+	/**
+	 * Start a new sync. The checkpoints of an interrupted sync will only be used by the first sync after the startup. Every other sync starts from scratch.
+	 */
+	public synchronized void start() {
+		syncId++;
+		generating = true;
+		activeTrackers = 0;
+		checkpoints = resumable;
+		resumable = new JsonObject();
+		if (!checkpoints.isEmpty()) {
+			log.info("Resuming interrupted index sync for {" + checkpoints.size() + "} indices");
+		}
+		store();
+	}
+
+	/**
+	 * Mark that all requests of the sync have been generated. The stored progress will be removed once all requests have been completed.
+	 */
+	public synchronized void finish() {
+		generating = false;
+		removeIfDone();
+	}
+
+	private void removeIfDone() {
+		if (generating || activeTrackers > 0) {
+			return;
+		}
+		checkpoints = new JsonObject();
+		if (file.exists() && !file.delete()) {
+			log.warn("Could not delete index sync checkpoint file {" + file.getAbsolutePath() + "}");
+		}
+	}
+
+	/**
+	 * Check whether the index has already been completely synced by the current (resumed) sync.
+	 *
+	 * @param indexName
+	 * @return
+	 */
+	public synchronized boolean isCompleted(String indexName) {
+		JsonObject checkpoint = checkpoints.getJsonObject(indexName);
+		return checkpoint != null && checkpoint.getBoolean(COMPLETED_KEY, false);
+	}
+
+	/**
+	 * Return the sort values of the last document of the index which has been synced or null if the sync of the index needs to start from the beginning.
+	 *
+	 * @param indexName
+	 * @return
+	 */
+	public synchronized JsonArray getResumePoint(String indexName) {
+		JsonObject checkpoint = checkpoints.getJsonObject(indexName);
+		return checkpoint == null ? null : checkpoint.getJsonArray(AFTER_KEY);
+	}
+
+	/**
+	 * Create a tracker which records the progress for the index.
+	 *
+	 * @param indexName
+	 * @return
+	 */
+	public synchronized Tracker track(String indexName) {
+		activeTrackers++;
+		return new Tracker(indexName, syncId);
+	}
+
+	private synchronized void update(int id, String indexName, JsonObject checkpoint) {
+		// Ignore late updates of a previous sync
+		if (id != syncId) {
+			return;
+		}
+		checkpoints.put(indexName, checkpoint);
+		store();
+	}
+
+	private synchronized void completed(int id, String indexName) {
+		if (id != syncId) {
+			return;
+		}
+		update(id, indexName, new JsonObject().put(COMPLETED_KEY, true));
+		activeTrackers--;
+		removeIfDone();
+	}
+
+	private JsonObject load() {
+		if (!file.exists()) {
+			return new JsonObject();
+		}
+		try {
+			return new JsonObject(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+		} catch (Exception e) {
+			log.warn("Could not read index sync checkpoint file {" + file.getAbsolutePath() + "}. The sync will not be resumed.", e);
+			return new JsonObject();
+		}
+	}
+
+	private void store() {
+		try {
+			File parent = file.getParentFile();
+			if (parent != null && !parent.exists()) {
+				parent.mkdirs();
+			}
+			Files.write(file.toPath(), checkpoints.encode().getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			log.warn("Could not write index sync checkpoint file {" + file.getAbsolutePath() + "}", e);
+		}
+	}
+
+	/**
+	 * Records the progress of the sync of a single index. The sync is split into pages. A page is done once all its requests have been completed. The
+	 * checkpoint will only be moved past a page when all previous pages are done as well.
+	 */
+	public class Tracker {
+
+		private final String indexName;
+
+		private final int id;
+
+		private final Deque<Page> pages = new ArrayDeque<>();
+
+		private boolean finished = false;
+
+		private boolean completed = false;
+
+		private Tracker(String indexName, int id) {
+			this.indexName = indexName;
+			this.id = id;
+		}
+
+		/**
+		 * Add the next page.
+		 *
+		 * @param lastSortValues
+		 *            Sort values of the last document of the page
+		 * @param requestCount
+		 *            Amount of requests of the page
+		 * @return Action which needs to be invoked when one of the requests of the page has been completed
+		 */
+		public synchronized Action addPage(JsonArray lastSortValues, int requestCount) {
+			Page page = new Page(lastSortValues, requestCount);
+			pages.add(page);
+			advance();
+			return () -> {
+				page.pending.decrementAndGet();
+				advance();
+			};
+		}
+
+		/**
+		 * Mark that no more pages will be added.
+		 */
+		public synchronized void finish() {
+			finished = true;
+			advance();
+		}
+
+		private synchronized void advance() {
+			if (completed) {
+				return;
+			}
+			JsonArray last = null;
+			while (!pages.isEmpty() && pages.peek().pending.get() <= 0) {
+				last = pages.poll().lastSortValues;
+			}
+			if (finished && pages.isEmpty()) {
+				completed = true;
+				completed(id, indexName);
+			} else if (last != null) {
+				update(id, indexName, new JsonObject().put(AFTER_KEY, last));
+			}
+		}
+	}
+
+	private static class Page {
+		private final JsonArray lastSortValues;
+		private final AtomicInteger pending;
+
+		Page(JsonArray lastSortValues, int requestCount) {
+			this.lastSortValues = lastSortValues;
+			this.pending = new AtomicInteger(requestCount);
+		}
+	}
+}
@@ -11,7 +11,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -22,15 +22,20 @@ import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.event.EventEnvelope;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.metric.SimpleMetric;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.impl.ElasticsearchResponseErrorStreamable;
 import com.gentics.mesh.search.verticle.bulk.BulkOperator;
 import com.gentics.mesh.search.verticle.eventhandler.MainEventHandler;
 import com.gentics.mesh.search.verticle.eventhandler.SyncEventHandler;
 
+import io.micrometer.core.instrument.Counter;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
 import io.reactivex.Single;
 import io.reactivex.exceptions.MissingBackpressureException;
 import io.reactivex.processors.FlowableProcessor;
@@ -42,6 +47,7 @@ import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.RxHelper;
 import io.vertx.reactivex.core.Vertx;
 import io.vertx.reactivex.core.eventbus.MessageConsumer;
 
@@ -54,6 +60,9 @@ import io.vertx.reactivex.core.eventbus.MessageConsumer;
  *     <li>Bulk bulkable requests together</li>
  *     <li>Send request to elasticsearch</li>
  * </ol>
+ * <p>Events can be transformed concurrently (see {@link ElasticSearchOptions#getTransformationConcurrency()}). The generated requests are still emitted in
+ * the order of the events. Multiple requests can be sent to Elasticsearch at the same time (see {@link ElasticSearchOptions#getBulkConcurrency()}).
+ * The {@link InFlightRequestLimiter} makes sure that requests which affect the same document are sent in order.</p>
  */
 public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	private static final Logger log = LoggerFactory.getLogger(ElasticsearchProcessVerticle.class);
@@ -63,6 +72,9 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	private final IdleChecker idleChecker;
 	private final SyncEventHandler syncEventHandler;
 	private final ElasticSearchOptions options;
+	private final AtomicLong queuedEvents;
+	private final AtomicLong inFlightRequests;
+	private final Counter coalescedRequests;
 
 	private FlowableProcessor<MessageEvent> requests = PublishProcessor.create();
 
@@ -76,12 +88,16 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 										SearchProvider searchProvider,
 										IdleChecker idleChecker,
 										SyncEventHandler syncEventHandler,
-										MeshOptions options) {
+										MeshOptions options,
+										MetricsService metrics) {
 		this.mainEventhandler = mainEventhandler;
 		this.searchProvider = searchProvider;
 		this.idleChecker = idleChecker;
 		this.syncEventHandler = syncEventHandler;
 		this.options = options.getSearchOptions();
+		this.queuedEvents = metrics.longGauge(SimpleMetric.SEARCH_EVENT_QUEUE_SIZE);
+		this.inFlightRequests = metrics.longGauge(SimpleMetric.SEARCH_BULK_IN_FLIGHT);
+		this.coalescedRequests = metrics.counter(SimpleMetric.SEARCH_BULK_COALESCED);
 	}
 
 	@Override
@@ -97,6 +113,10 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 		vertxHandlers = mainEventhandler.handledEvents()
 			.stream()
 			.map(event -> vertx.eventBus().<JsonObject>localConsumer(event.address, message -> {
+				// Only the instance which produced the event updates the index
+				if (EventEnvelope.isRemote(message)) {
+					return;
+				}
 				if (!stopped.get() && !isDroppedEvent(message)) {
 					idleChecker.incrementAndGetTransformations();
 					// Only continue processing the event if elasticsearch is available.
@@ -174,17 +194,23 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 		BulkOperator bulker = new BulkOperator(vertx,
 			Duration.ofMillis(options.getBulkDebounceTime()),
 			options.getBulkLimit(),
-			options.getBulkLengthLimit()
+			options.getBulkLengthLimit(),
+			coalescedRequests::increment
 		);
+		int bulkConcurrency = Math.max(options.getBulkConcurrency(), 1);
+		InFlightRequestLimiter limiter = new InFlightRequestLimiter(bulkConcurrency, inFlightRequests);
 		requests
 			.compose(this::bufferEvents)
-			.concatMap(this::generateRequests, 1)
+			.compose(this::transformEvents)
 			.lift(bulker)
-			.concatMap(request ->
+			// Requests are admitted one after another to keep the order of requests for the same document
+			.concatMapSingle(request -> limiter.acquire(request).toSingleDefault(request), 2)
+			.flatMap(request ->
 				this.sendRequest(request)
+				.doFinally(() -> limiter.release(request))
 				// To make sure the subscription stays alive
 				.onErrorResumeNext(Flowable.empty())
-			, 1)
+			, bulkConcurrency)
 			// To make sure the subscription stays alive
 			.doOnError(err -> log.info("Error at end of ES process chain", err))
 			.retry()
@@ -200,21 +226,38 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	 * @return
 	 */
 	private <T> Flowable<T> bufferEvents(Flowable<T> upstream) {
-		AtomicInteger bufferedEvents = new AtomicInteger(0);
 		return upstream
 			.doOnNext(request -> {
-				bufferedEvents.incrementAndGet();
+				queuedEvents.incrementAndGet();
 			})
 			.onBackpressureBuffer(
 				options.getEventBufferSize(),
 				() -> {
 					log.info("Event buffer size of {} was reached. Dropping all pending events and scheduling index sync.", options.getEventBufferSize());
-					bufferedEvents.set(0);
+					queuedEvents.set(0);
 					idleChecker.resetTransformations();
 					startSync();
 				}
 		).retry(err -> err instanceof MissingBackpressureException)
-		.doOnNext(request -> bufferedEvents.decrementAndGet());
+		.doOnNext(request -> queuedEvents.decrementAndGet());
+	}
+
+	/**
+	 * Transforms the events into requests. Multiple events will be transformed concurrently on worker threads if a transformation concurrency greater
+	 * than one has been configured. The requests are emitted in the order of the events.
+	 *
+	 * @see ElasticSearchOptions#getTransformationConcurrency()
+	 * @param upstream
+	 * @return
+	 */
+	private Flowable<SearchRequest> transformEvents(Flowable<MessageEvent> upstream) {
+		int concurrency = options.getTransformationConcurrency();
+		if (concurrency <= 1) {
+			return upstream.concatMap(this::generateRequests, 1);
+		}
+		Scheduler scheduler = RxHelper.blockingScheduler(vertx, false);
+		return upstream.concatMapEager(event -> this.generateRequests(event)
+			.subscribeOn(scheduler), concurrency, 1);
 	}
 
 	/**
@@ -0,0 +1,167 @@
+package com.gentics.mesh.search.verticle;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+
+import io.reactivex.Completable;
+import io.reactivex.CompletableEmitter;
+
+/**
+ * <p>Limits the requests which are sent to Elasticsearch at the same time.</p>
+ * <p>A request will only be dispatched if all of the following conditions are met:</p>
+ * <ul>
+ *     <li>The amount of requests in flight is below the concurrency limit</li>
+ *     <li>No other request which affects one of the same documents is in flight</li>
+ *     <li>No non-bulkable request is in flight</li>
+ *     <li>If the request itself is not bulkable: No other request is in flight</li>
+ * </ul>
+ * <p>Requests must be acquired one after another in the order in which they should be applied. This guarantees that changes to the same document
+ * are applied in order and that non-bulkable requests (like index creation) act as a barrier for all other requests.</p>
+ */
+public class InFlightRequestLimiter {
+
+	private final int concurrency;
+
+	private final AtomicLong inFlightGauge;
+
+	private final Set<String> lockedDocuments = new HashSet<>();
+
+	private int inFlight = 0;
+
+	private boolean barrier = false;
+
+	private Waiting waiting;
+
+	/**
+	 * Create a new limiter.
+	 *
+	 * @param concurrency
+	 *            Maximum amount of requests which may be in flight at the same time
+	 * @param inFlightGauge
+	 *            Gauge which will be updated with the amount of requests in flight
+	 */
+	public InFlightRequestLimiter(int concurrency, AtomicLong inFlightGauge) {
+		this.concurrency = Math.max(concurrency, 1);
+		this.inFlightGauge = inFlightGauge;
+	}
+
+	/**
+	 * Returns a completable which completes once the request may be sent. The request must be released via {@link #release(SearchRequest)} after it has
+	 * been completed.
+	 *
+	 * @param request
+	 * @return
+	 */
+	public Completable acquire(SearchRequest request) {
+		return Completable.create(emitter -> {
+			synchronized (this) {
+				if (canDispatch(request)) {
+					dispatched(request);
+				} else {
+					Waiting current = new Waiting(request, emitter);
+					waiting = current;
+					emitter.setCancellable(() -> cancel(current));
+					return;
+				}
+			}
+			emitter.onComplete();
+		});
+	}
+
+	/**
+	 * Marks the request as completed. This may dispatch the next waiting request.
+	 *
+	 * @param request
+	 */
+	public void release(SearchRequest request) {
+		CompletableEmitter next = null;
+		synchronized (this) {
+			inFlight--;
+			Collection<String> keys = documentKeys(request);
+			if (keys == null) {
+				barrier = false;
+			} else {
+				lockedDocuments.removeAll(keys);
+			}
+			if (waiting != null && canDispatch(waiting.request)) {
+				dispatched(waiting.request);
+				next = waiting.emitter;
+				waiting = null;
+			}
+			inFlightGauge.set(inFlight);
+		}
+		if (next != null) {
+			next.onComplete();
+		}
+	}
+
+	/**
+	 * Returns the amount of requests which are currently in flight.
+	 *
+	 * @return
+	 */
+	public synchronized int getInFlight() {
+		return inFlight;
+	}
+
+	private boolean canDispatch(SearchRequest request) {
+		if (barrier || inFlight >= concurrency) {
+			return false;
+		}
+		Collection<String> keys = documentKeys(request);
+		if (keys == null) {
+			return inFlight == 0;
+		}
+		for (String key : keys) {
+			if (lockedDocuments.contains(key)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void dispatched(SearchRequest request) {
+		inFlight++;
+		Collection<String> keys = documentKeys(request);
+		if (keys == null) {
+			barrier = true;
+		} else {
+			lockedDocuments.addAll(keys);
+		}
+		inFlightGauge.set(inFlight);
+	}
+
+	private synchronized void cancel(Waiting current) {
+		if (waiting == current) {
+			waiting = null;
+		}
+	}
+
+	/**
+	 * Returns the keys of the documents which are affected by the request or null if the request has to be handled as a barrier.
+	 *
+	 * @param request
+	 * @return
+	 */
+	private Collection<String> documentKeys(SearchRequest request) {
+		if (request instanceof Bulkable) {
+			return ((Bulkable) request).documentKeys();
+		}
+		return null;
+	}
+
+	private static class Waiting {
+		private final SearchRequest request;
+		private final CompletableEmitter emitter;
+
+		Waiting(SearchRequest request, CompletableEmitter emitter) {
+			this.request = request;
+			this.emitter = emitter;
+		}
+	}
+}
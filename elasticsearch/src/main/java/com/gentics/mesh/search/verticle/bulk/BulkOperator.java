@@ -8,6 +8,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
 
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -35,6 +36,7 @@ import io.vertx.core.logging.LoggerFactory;
  *     <li>The flush method is called</li>
  *     <li>The upstream has emitted a complete notification</li>
  * </ul>
+ * Redundant bulkable requests for the same document are coalesced while they are held back (see {@link BulkQueue}).
  */
 public class BulkOperator implements FlowableOperator<SearchRequest, SearchRequest> {
 	private static final Logger log = LoggerFactory.getLogger(BulkOperator.class);
@@ -43,13 +45,30 @@ public class BulkOperator implements FlowableOperator<SearchRequest, SearchReque
 	private final long bulkTime;
 	private final int requestLimit;
 	private final long lengthLimit;
+	private final IntConsumer coalescedListener;
 	private ActualBulkOperator<SearchRequest> operator;
 
 	public BulkOperator(Vertx vertx, Duration bulkTime, int requestLimit, long lengthLimit) {
+		this(vertx, bulkTime, requestLimit, lengthLimit, coalesced -> {
+		});
+	}
+
+	/**
+	 * Create a new operator.
+	 *
+	 * @param vertx
+	 * @param bulkTime
+	 * @param requestLimit
+	 * @param lengthLimit
+	 * @param coalescedListener
+	 *            Will be invoked with the amount of requests which have been superseded by newer requests for the same document
+	 */
+	public BulkOperator(Vertx vertx, Duration bulkTime, int requestLimit, long lengthLimit, IntConsumer coalescedListener) {
 		this.vertx = vertx;
 		this.bulkTime = bulkTime.toMillis();
 		this.requestLimit = requestLimit;
 		this.lengthLimit = lengthLimit;
+		this.coalescedListener = coalescedListener;
 	}
 
 	@Override
@@ -85,7 +104,7 @@ public class BulkOperator implements FlowableOperator<SearchRequest, SearchReque
 					if (!canceled.get() && requested.get() > 0 && !bulkableRequests.isEmpty() && flushing.compareAndSet(true, false)) {
 						timer.stop();
 						log.trace("Emitting bulk of size {} to subscriber", bulkableRequests.size());
-						BulkRequest request = new BulkRequest(bulkableRequests.asList());
+						BulkRequest request = new BulkRequest(bulkableRequests.asList(), bulkableRequests.coalescedList());
 						bulkableRequests.clear();
 						if (log.isDebugEnabled()) {
 							log.debug("Sending bulk to elasticsearch:\n{}", request);
@@ -140,7 +159,11 @@ public class BulkOperator implements FlowableOperator<SearchRequest, SearchReque
 					if (bulkableRequests.isEmpty()) {
 						timer.restart();
 					}
-					bulkableRequests.add((Bulkable) searchRequest);
+					int coalesced = bulkableRequests.add((Bulkable) searchRequest);
+					if (coalesced > 0) {
+						log.trace("Coalesced {} requests which have been superseded by request {}.", coalesced, searchRequest);
+						coalescedListener.accept(coalesced);
+					}
 					log.trace("Added request of class [{}] to the current bulk with the size of now {}.",
 						searchRequest.getClass(), bulkableRequests.size());
 					if (bulkableRequests.size() >= requestLimit || bulkableRequests.getBulkLength() >= lengthLimit) {
@@ -1,43 +1,122 @@
 package com.gentics.mesh.search.verticle.bulk;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
+import com.gentics.mesh.core.data.search.request.DeleteDocumentRequest;
 
 /**
  * A queue that holds bulkable search requests and counts the total length of the items.
+ *
+ * <p>Redundant requests are coalesced. Requests which replace the whole document (index and delete requests) supersede all previously queued requests for
+ * the same document. Partial updates are kept since they depend on the previous state of the document. Superseded requests are not sent to Elasticsearch
+ * but are still part of the created {@link com.gentics.mesh.core.data.search.request.BulkRequest} so that their completion actions are invoked.</p>
  */
 class BulkQueue {
-	// TODO Use SpscArrayQueue https://github.com/ReactiveX/RxJava/wiki/Writing-operators-for-2.0#queues
-	private final Queue<Bulkable> bulkableRequests = new ConcurrentLinkedQueue<>();
+	private final List<Bulkable> bulkableRequests = new ArrayList<>();
+	private final List<Bulkable> coalescedRequests = new ArrayList<>();
+	private final Map<String, List<Integer>> positions = new HashMap<>();
 	private long bulkLength = 0;
+	private int size = 0;
 
-	public boolean add(Bulkable bulkable) {
+	/**
+	 * Adds the request to the queue.
+	 *
+	 * @param bulkable
+	 * @return Amount of queued requests which have been superseded by the added request
+	 */
+	public synchronized int add(Bulkable bulkable) {
+		int coalesced = 0;
+		String key = replacedDocumentKey(bulkable);
+		if (key != null) {
+			List<Integer> previous = positions.remove(key);
+			if (previous != null) {
+				for (int position : previous) {
+					Bulkable superseded = bulkableRequests.set(position, null);
+					if (superseded == null) {
+						continue;
+					}
+					bulkLength -= superseded.bulkLength();
+					coalescedRequests.add(superseded);
+					size--;
+					coalesced++;
+				}
+			}
+		}
+		int position = bulkableRequests.size();
+		bulkableRequests.add(bulkable);
 		bulkLength += bulkable.bulkLength();
-		return bulkableRequests.add(bulkable);
+		size++;
+		Collection<String> keys = bulkable.documentKeys();
+		if (keys != null) {
+			for (String documentKey : keys) {
+				positions.computeIfAbsent(documentKey, k -> new ArrayList<>()).add(position);
+			}
+		}
+		return coalesced;
 	}
 
-	public int size() {
-		return bulkableRequests.size();
+	public synchronized int size() {
+		return size;
 	}
 
-	public boolean isEmpty() {
-		return bulkableRequests.isEmpty();
+	public synchronized boolean isEmpty() {
+		return size == 0;
 	}
 
-	public long getBulkLength() {
+	public synchronized long getBulkLength() {
 		return bulkLength;
 	}
 
-	public void clear() {
+	public synchronized void clear() {
 		bulkableRequests.clear();
+		coalescedRequests.clear();
+		positions.clear();
 		bulkLength = 0;
+		size = 0;
 	}
 
-	public List<Bulkable> asList() {
-		return new ArrayList<>(bulkableRequests);
+	/**
+	 * Returns the requests which need to be sent to Elasticsearch in the order in which they were added.
+	 *
+	 * @return
+	 */
+	public synchronized List<Bulkable> asList() {
+		return bulkableRequests.stream()
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns the requests which have been superseded by other requests.
+	 *
+	 * @return
+	 */
+	public synchronized List<Bulkable> coalescedList() {
+		return new ArrayList<>(coalescedRequests);
+	}
+
+	/**
+	 * Returns the key of the document which will be completely replaced or removed by the request. Null will be returned if the request depends on the
+	 * previous state of the document or affects multiple documents.
+	 *
+	 * @param bulkable
+	 * @return
+	 */
+	private String replacedDocumentKey(Bulkable bulkable) {
+		if (bulkable instanceof CreateDocumentRequest || bulkable instanceof DeleteDocumentRequest) {
+			Collection<String> keys = bulkable.documentKeys();
+			if (keys != null && keys.size() == 1) {
+				return keys.iterator().next();
+			}
+		}
+		return null;
 	}
 }
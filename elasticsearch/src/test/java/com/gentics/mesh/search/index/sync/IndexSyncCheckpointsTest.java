@@ -0,0 +1,90 @@
+package com.gentics.mesh.search.index.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.search.index.sync.IndexSyncCheckpoints.Tracker;
+
+import io.reactivex.functions.Action;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class IndexSyncCheckpointsTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private MeshOptions options;
+
+	@Before
+	public void setUp() {
+		options = new MeshOptions();
+		options.setTempDirectory(folder.getRoot().getAbsolutePath());
+	}
+
+	@Test
+	public void testResumeInterruptedSync() throws Exception {
+		IndexSyncCheckpoints checkpoints = new IndexSyncCheckpoints(options);
+		checkpoints.start();
+		Tracker first = checkpoints.track("index1");
+		Action page1 = first.addPage(new JsonArray().add("a").add("en"), 1);
+		Action page2 = first.addPage(new JsonArray().add("b").add("en"), 1);
+		// The second page may not move the checkpoint as long as the first page is pending
+		page2.run();
+		assertFalse(stored().containsKey("index1"));
+		page1.run();
+
+		Tracker second = checkpoints.track("index2");
+		second.addPage(new JsonArray().add("a").add("de"), 0);
+		second.finish();
+
+		// Simulate a restart
+		IndexSyncCheckpoints restarted = new IndexSyncCheckpoints(options);
+		restarted.start();
+		assertEquals(new JsonArray().add("b").add("en"), restarted.getResumePoint("index1"));
+		assertFalse(restarted.isCompleted("index1"));
+		assertTrue(restarted.isCompleted("index2"));
+		restarted.finish();
+
+		// Only the first sync after the restart will be resumed
+		restarted.start();
+		assertNull(restarted.getResumePoint("index1"));
+		assertFalse(restarted.isCompleted("index2"));
+	}
+
+	@Test
+	public void testCheckpointsRemovedAfterCompletion() throws Exception {
+		IndexSyncCheckpoints checkpoints = new IndexSyncCheckpoints(options);
+		checkpoints.start();
+		Tracker tracker = checkpoints.track("index1");
+		Action page = tracker.addPage(new JsonArray().add("a").add("en"), 1);
+		tracker.finish();
+		checkpoints.finish();
+
+		// The file is kept until the last request has been completed
+		assertTrue(file().exists());
+		page.run();
+		assertFalse(file().exists());
+	}
+
+	private File file() {
+		return new File(folder.getRoot(), "index-sync-checkpoints.json");
+	}
+
+	private JsonObject stored() throws IOException {
+		return new JsonObject(new String(Files.readAllBytes(file().toPath()), StandardCharsets.UTF_8));
+	}
+}
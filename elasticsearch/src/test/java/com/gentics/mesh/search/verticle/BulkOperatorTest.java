@@ -6,6 +6,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.Before;
@@ -13,12 +14,16 @@ import org.junit.Test;
 
 import com.gentics.mesh.core.data.search.request.BulkRequest;
 import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
+import com.gentics.mesh.core.data.search.request.DeleteDocumentRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.etc.config.search.ComplianceMode;
 import com.gentics.mesh.search.verticle.bulk.BulkOperator;
 
 import io.reactivex.Flowable;
 import io.reactivex.subscribers.TestSubscriber;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.logging.SLF4JLogDelegateFactory;
 
@@ -176,6 +181,28 @@ public class BulkOperatorTest {
 			.assertNotComplete();
 	}
 
+	@Test
+	public void testCoalescing() {
+		AtomicInteger coalesced = new AtomicInteger();
+		BulkOperator operator = new BulkOperator(Vertx.vertx(), Duration.ofMillis(bulkTime), 100, 100000000, coalesced::addAndGet);
+		Flowable.<SearchRequest>just(
+			new CreateDocumentRequest("index", "mesh-index", "1", new JsonObject(), ComplianceMode.ES_6),
+			new CreateDocumentRequest("index", "mesh-index", "1", new JsonObject().put("version", 2), ComplianceMode.ES_6),
+			new DeleteDocumentRequest("index", "mesh-index", "2", ComplianceMode.ES_6),
+			new DeleteDocumentRequest("index", "mesh-index", "1", ComplianceMode.ES_6))
+			.lift(operator)
+			.test()
+			.assertValueCount(1)
+			.assertValueAt(0, request -> {
+				BulkRequest bulk = (BulkRequest) request;
+				return bulk.getRequests().size() == 2
+					&& bulk.getCoalescedRequests().size() == 2
+					&& bulk.requestCount() == 4;
+			})
+			.assertComplete();
+		assertThat(coalesced.get()).isEqualTo(2);
+	}
+
 	private boolean isBulkRequest(SearchRequest request) {
 		return request instanceof BulkRequest;
 	}
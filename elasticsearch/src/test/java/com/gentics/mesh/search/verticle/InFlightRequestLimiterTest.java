@@ -0,0 +1,79 @@
+package com.gentics.mesh.search.verticle;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.search.request.BulkRequest;
+import com.gentics.mesh.core.data.search.request.DeleteDocumentRequest;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.etc.config.search.ComplianceMode;
+
+import io.reactivex.Completable;
+import io.reactivex.observers.TestObserver;
+
+public class InFlightRequestLimiterTest {
+
+	private AtomicLong gauge;
+	private InFlightRequestLimiter limiter;
+
+	@Before
+	public void setUp() {
+		gauge = new AtomicLong();
+		limiter = new InFlightRequestLimiter(2, gauge);
+	}
+
+	@Test
+	public void testConcurrencyLimit() {
+		SearchRequest first = bulk("1");
+		limiter.acquire(first).test().assertComplete();
+		limiter.acquire(bulk("2")).test().assertComplete();
+		TestObserver<Void> third = limiter.acquire(bulk("3")).test();
+		third.assertNotComplete();
+		assertEquals(2, gauge.get());
+
+		limiter.release(first);
+		third.assertComplete();
+		assertEquals(2, limiter.getInFlight());
+	}
+
+	@Test
+	public void testSameDocumentIsNotSentConcurrently() {
+		SearchRequest first = bulk("1", "2");
+		limiter.acquire(first).test().assertComplete();
+		TestObserver<Void> second = limiter.acquire(bulk("2")).test();
+		second.assertNotComplete();
+		assertEquals(1, limiter.getInFlight());
+
+		limiter.release(first);
+		second.assertComplete();
+	}
+
+	@Test
+	public void testNonBulkableRequestIsBarrier() {
+		SearchRequest first = bulk("1");
+		SearchRequest barrier = SearchRequest.create(provider -> Completable.complete());
+		limiter.acquire(first).test().assertComplete();
+		TestObserver<Void> barrierObserver = limiter.acquire(barrier).test();
+		barrierObserver.assertNotComplete();
+
+		limiter.release(first);
+		barrierObserver.assertComplete();
+
+		TestObserver<Void> next = limiter.acquire(bulk("2")).test();
+		next.assertNotComplete();
+		limiter.release(barrier);
+		next.assertComplete();
+	}
+
+	private SearchRequest bulk(String... ids) {
+		DeleteDocumentRequest[] requests = new DeleteDocumentRequest[ids.length];
+		for (int i = 0; i < ids.length; i++) {
+			requests[i] = new DeleteDocumentRequest("index", "mesh-index", ids[i], ComplianceMode.ES_6);
+		}
+		return new BulkRequest(requests);
+	}
+}
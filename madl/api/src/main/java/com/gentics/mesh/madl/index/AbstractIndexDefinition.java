@@ -10,6 +10,8 @@ public abstract class AbstractIndexDefinition implements ElementIndexDefinition
 
 	protected boolean unique = false;
 
+	protected boolean ordered = false;
+
 	protected FieldMap fields;
 
 	@Override
@@ -17,6 +19,11 @@ public abstract class AbstractIndexDefinition implements ElementIndexDefinition
 		return unique;
 	}
 
+	@Override
+	public boolean isOrdered() {
+		return ordered;
+	}
+
 	@Override
 	public FieldMap getFields() {
 		return fields;
@@ -18,6 +18,14 @@ public interface ElementIndexDefinition {
 	 */
 	boolean isUnique();
 
+	/**
+	 * Whether the index entries should be kept in the order of their keys. Ordered indices support range lookups but are slower than hash indices for
+	 * single key lookups.
+	 * 
+	 * @return
+	 */
+	boolean isOrdered();
+
 	/**
 	 * Return the fields which are part of the index.
 	 * 
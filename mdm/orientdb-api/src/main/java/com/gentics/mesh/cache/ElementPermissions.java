@@ -0,0 +1,159 @@
+package com.gentics.mesh.cache;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+import com.gentics.mesh.core.data.perm.InternalPermission;
+
+/**
+ * Cached permissions of the users on a single element.
+ *
+ * <p>For every user a single int is stored next to the numeric id of the user. The lower 16 bits contain the granted permissions and the upper 16 bits
+ * contain the permissions which have been checked. A permission which has been checked but not granted is a cached denial. Only few users access an
+ * element, so the entries are kept in plain arrays which are scanned linearly. Lookups don't allocate.</p>
+ *
+ * <p>Each user entry also records the generation of the cache at which its oldest result was checked. Entries which are older than the last invalidation
+ * of the user are outdated. They are ignored and dropped on access, so invalidating a user does not need to visit every element.</p>
+ */
+public class ElementPermissions {
+
+	private static final int CHECKED_SHIFT = 16;
+
+	private static final int INITIAL_CAPACITY = 2;
+
+	private long[] userIds = new long[INITIAL_CAPACITY];
+
+	private int[] bits = new int[INITIAL_CAPACITY];
+
+	private long[] generations = new long[INITIAL_CAPACITY];
+
+	private int size = 0;
+
+	/**
+	 * Return the cached result for the permission of the user.
+	 *
+	 * @param userId
+	 * @param permission
+	 * @return {@link Boolean#TRUE} if the permission is granted, {@link Boolean#FALSE} if it is denied or null if the permission was not yet checked
+	 */
+	public Boolean get(long userId, InternalPermission permission) {
+		return get(userId, permission, 0);
+	}
+
+	/**
+	 * Return the cached result for the permission of the user, if it has been checked at or after the given generation.
+	 *
+	 * @param userId
+	 * @param permission
+	 * @param validFrom
+	 *            Generation of the last invalidation of the user
+	 * @return {@link Boolean#TRUE} if the permission is granted, {@link Boolean#FALSE} if it is denied or null if no valid result was cached
+	 */
+	public synchronized Boolean get(long userId, InternalPermission permission, long validFrom) {
+		int index = indexOf(userId);
+		if (index < 0) {
+			return null;
+		}
+		if (generations[index] < validFrom) {
+			removeAt(index);
+			return null;
+		}
+		int userBits = bits[index];
+		int mask = 1 << permission.ordinal();
+		if ((userBits & (mask << CHECKED_SHIFT)) == 0) {
+			return null;
+		}
+		return (userBits & mask) != 0 ? Boolean.TRUE : Boolean.FALSE;
+	}
+
+	/**
+	 * Store the result of the permission check for the user.
+	 *
+	 * @param userId
+	 * @param permission
+	 * @param granted
+	 */
+	public void put(long userId, InternalPermission permission, boolean granted) {
+		put(userId, permission, granted, 0, 0);
+	}
+
+	/**
+	 * Store the result of the permission check for the user. Outdated results of the user are discarded first.
+	 *
+	 * @param userId
+	 * @param permission
+	 * @param granted
+	 * @param generation
+	 *            Generation of the cache before the permission was checked
+	 * @param validFrom
+	 *            Generation of the last invalidation of the user
+	 */
+	public synchronized void put(long userId, InternalPermission permission, boolean granted, long generation, long validFrom) {
+		int mask = 1 << permission.ordinal();
+		int added = granted ? mask | (mask << CHECKED_SHIFT) : mask << CHECKED_SHIFT;
+		int index = indexOf(userId);
+		if (index >= 0 && generations[index] < validFrom) {
+			removeAt(index);
+			index = -1;
+		}
+		if (index < 0) {
+			if (size == userIds.length) {
+				userIds = Arrays.copyOf(userIds, size * 2);
+				bits = Arrays.copyOf(bits, size * 2);
+				generations = Arrays.copyOf(generations, size * 2);
+			}
+			index = size++;
+			userIds[index] = userId;
+			bits[index] = 0;
+			generations[index] = generation;
+		} else {
+			generations[index] = Math.min(generations[index], generation);
+		}
+		bits[index] = (bits[index] & ~(mask | (mask << CHECKED_SHIFT))) | added;
+	}
+
+	/**
+	 * Remove all cached permissions of the user.
+	 *
+	 * @param userId
+	 * @return true if permissions of the user were cached
+	 */
+	public synchronized boolean remove(long userId) {
+		int index = indexOf(userId);
+		if (index < 0) {
+			return false;
+		}
+		removeAt(index);
+		return true;
+	}
+
+	/**
+	 * Remove all cached permissions of the users which match the filter.
+	 *
+	 * @param userIdFilter
+	 */
+	public synchronized void removeIf(LongPredicate userIdFilter) {
+		for (int i = size - 1; i >= 0; i--) {
+			if (userIdFilter.test(userIds[i])) {
+				removeAt(i);
+			}
+		}
+	}
+
+	private int indexOf(long userId) {
+		for (int i = 0; i < size; i++) {
+			if (userIds[i] == userId) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void removeAt(int index) {
+		size--;
+		userIds[index] = userIds[size];
+		bits[index] = bits[size];
+		generations[index] = generations[size];
+	}
+
+}
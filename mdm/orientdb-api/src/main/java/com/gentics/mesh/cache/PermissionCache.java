@@ -1,35 +1,115 @@
 package com.gentics.mesh.cache;
 
 import com.gentics.mesh.core.data.perm.InternalPermission;
+import com.orientechnologies.orient.core.id.ORID;
 
-public interface PermissionCache extends MeshCache<String, Boolean> {
+/**
+ * Cache for the results of permission checks. Elements and users are identified by the numeric key of their vertex id, see {@link #key(Object)}.
+ */
+public interface PermissionCache extends MeshCache<Long, ElementPermissions> {
+
+	/**
+	 * Key which is returned for ids which can't be cached.
+	 */
+	long NO_KEY = -1;
+
+	/**
+	 * Return the numeric key for the vertex id. The key combines the cluster id and the cluster position of the record.
+	 *
+	 * @param id
+	 *            Vertex id
+	 * @return Key or {@link #NO_KEY} if the id is not yet persistent and may still change
+	 */
+	static long key(Object id) {
+		if (id instanceof ORID) {
+			ORID rid = (ORID) id;
+			int clusterId = rid.getClusterId();
+			long position = rid.getClusterPosition();
+			if (clusterId < 0 || position < 0) {
+				return NO_KEY;
+			}
+			return ((long) clusterId << 48) | position;
+		}
+		if (id instanceof Number) {
+			return ((Number) id).longValue();
+		}
+		return NO_KEY;
+	}
 
 	/**
 	 * Clear the local cache and send an event to inform other instances to also clear their caches.
-	 * 
+	 *
 	 * @param notify
 	 */
 	void clear(boolean notify);
 
 	/**
-	 * Check whether the element with the given id has the permission.
-	 * 
+	 * Return the cached result of the permission check for the element.
+	 *
+	 * @param userId
+	 *            User key
+	 * @param permission
+	 * @param elementId
+	 *            Element key
+	 * @return {@link Boolean#TRUE} if the permission is granted, {@link Boolean#FALSE} if it is denied or null if the result is not cached
+	 */
+	Boolean getPermission(long userId, InternalPermission permission, long elementId);
+
+	/**
+	 * Check whether the granting permission for the element was stored in the cache.
+	 *
 	 * @param userId
-	 *            User id
+	 *            User key
 	 * @param permission
 	 * @param elementId
+	 *            Element key
 	 * @return
 	 */
-	boolean hasPermission(Object userId, InternalPermission permission, Object elementId);
+	default boolean hasPermission(long userId, InternalPermission permission, long elementId) {
+		return Boolean.TRUE.equals(getPermission(userId, permission, elementId));
+	}
 
 	/**
-	 * Store the granting permission in the perm store.
-	 * 
+	 * Return the current generation of the cache. The generation changes whenever cached permissions get invalidated. It needs to be determined before the
+	 * permissions are loaded from the graph and passed to {@link #store(long, InternalPermission, long, boolean, long)}.
+	 *
+	 * @return
+	 */
+	long generation();
+
+	/**
+	 * Store the result of the permission check in the perm store. The result is not stored if cached permissions have been invalidated since the given
+	 * generation, since the check may have read the state before the change.
+	 *
 	 * @param userId
-	 *            User id
+	 *            User key
 	 * @param permission
 	 * @param elementId
+	 *            Element key
+	 * @param granted
+	 *            Whether the permission is granted or denied
+	 * @param generation
+	 *            Generation of the cache before the permission was checked
+	 */
+	void store(long userId, InternalPermission permission, long elementId, boolean granted, long generation);
+
+	/**
+	 * Remove the cached permissions of all users for the element and inform other instances in the cluster. This needs to be called whenever the
+	 * permissions of a role on the element change. When called within a transaction, the element is invalidated again once the transaction has been
+	 * committed, so results of concurrent checks which still read the previous state are not retained.
+	 *
+	 * @param elementId
+	 *            Element key
+	 */
+	void invalidateElement(long elementId);
+
+	/**
+	 * Remove the cached permissions of the users for all elements and inform other instances in the cluster. This needs to be called whenever the roles of
+	 * the users change. When called within a transaction, the users are invalidated again once the transaction has been committed.
+	 *
+	 * @param userIds
+	 *            User keys
 	 */
-	void store(Object userId, InternalPermission permission, Object elementId);
+	void invalidateUsers(long... userIds);
 
 }
@@ -61,6 +61,15 @@ public class InternalRoutingActionContextImpl extends AbstractInternalActionCont
 		}
 	}
 
+	/**
+	 * Return the routing context of the request.
+	 * 
+	 * @return
+	 */
+	protected RoutingContext getRoutingContext() {
+		return rc;
+	}
+
 	@Override
 	public String getParameter(String parameterName) {
 		return rc.request().getParam(parameterName);
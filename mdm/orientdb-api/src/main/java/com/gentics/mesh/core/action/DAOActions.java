@@ -9,6 +9,7 @@ import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.perm.InternalPermission;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.rest.common.RestModel;
+import com.gentics.mesh.core.verticle.handler.WriteLockScope;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.parameter.PagingParameters;
 
@@ -43,4 +44,17 @@ public interface DAOActions<T extends HibCoreElement, RM extends RestModel> exte
 
 	String getAPIPath(Tx tx, InternalActionContext ac, T element);
 
+	/**
+	 * Return the scope of the write lock which needs to be held while creating, updating or deleting the element. Per default writes are locked globally.
+	 * 
+	 * @param tx
+	 * @param ac
+	 * @param uuid
+	 *            Uuid of the element or null if a new element will be created
+	 * @return
+	 */
+	default WriteLockScope writeLockScope(Tx tx, InternalActionContext ac, String uuid) {
+		return WriteLockScope.global();
+	}
+
 }
@@ -5,6 +5,8 @@ import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
 
+import java.util.Set;
+
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.TypeInfo;
 import com.gentics.mesh.core.data.branch.BranchMicroschemaEdge;
@@ -104,6 +106,36 @@ public interface Branch
 	 */
 	Branch setMigrated(boolean migrated);
 
+	/**
+	 * Return the pending updates of materialized webroot paths. Every entry represents a node whose descendants may have outdated paths.
+	 * 
+	 * @return Entries of the pending updates
+	 */
+	Set<String> getPendingWebrootPathUpdates();
+
+	/**
+	 * Check whether updates of materialized webroot paths are pending within the branch.
+	 * 
+	 * @return
+	 */
+	default boolean hasPendingWebrootPathUpdates() {
+		return !getPendingWebrootPathUpdates().isEmpty();
+	}
+
+	/**
+	 * Add a pending update of materialized webroot paths.
+	 * 
+	 * @param entry
+	 */
+	void addPendingWebrootPathUpdate(String entry);
+
+	/**
+	 * Remove the pending update of materialized webroot paths.
+	 * 
+	 * @param entry
+	 */
+	void removePendingWebrootPathUpdate(String entry);
+
 	/**
 	 * Return the configured hostname of the branch.
 	 * 
@@ -29,6 +29,14 @@ public interface GraphFieldContainerEdge extends MeshEdge {
 
 	String WEBROOT_URLFIELD_INDEX_NAME = ("e." + HAS_FIELD_CONTAINER + "_" + WEBROOT_URLFIELD_INDEX_POSTFIX_NAME).toLowerCase();
 
+	// Full path index
+
+	String WEBROOT_FULLPATH_PROPERTY_KEY = "webrootFullPath";
+
+	String WEBROOT_FULLPATH_INDEX_POSTFIX_NAME = "webrootFullPathIndex";
+
+	String WEBROOT_FULLPATH_INDEX_NAME = ("e." + HAS_FIELD_CONTAINER + "_" + WEBROOT_FULLPATH_INDEX_POSTFIX_NAME).toLowerCase();
+
 	String LANGUAGE_TAG_KEY = "languageTag";
 
 	String BRANCH_UUID_KEY = "branchUuid";
@@ -82,6 +90,7 @@ public interface GraphFieldContainerEdge extends MeshEdge {
 	default void defaultClearDraftPaths() {
 		property(WEBROOT_PROPERTY_KEY, null);
 		property(WEBROOT_URLFIELD_PROPERTY_KEY, null);
+		property(WEBROOT_FULLPATH_PROPERTY_KEY, null);
 	}
 
 	BasicFieldContainer getContainer();
@@ -131,4 +140,24 @@ public interface GraphFieldContainerEdge extends MeshEdge {
 		return property(WEBROOT_URLFIELD_PROPERTY_KEY);
 	}
 
+	/**
+	 * Set the materialized full webroot path of the container. The path consists of the encoded segments of the node and all its parents in the language
+	 * of the container. It does not contain the path prefix of the branch.
+	 * 
+	 * @param fullPath
+	 *            Full path or null if the path can't be materialized
+	 */
+	default void setFullPath(String fullPath) {
+		property(WEBROOT_FULLPATH_PROPERTY_KEY, fullPath);
+	}
+
+	/**
+	 * Return the materialized full webroot path of the container.
+	 * 
+	 * @return Full path or null if the path has not been materialized
+	 */
+	default String getFullPath() {
+		return property(WEBROOT_FULLPATH_PROPERTY_KEY);
+	}
+
 }
@@ -23,6 +23,7 @@ import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.list.MicronodeGraphFieldList;
 import com.gentics.mesh.core.data.node.field.nesting.MicronodeGraphField;
 import com.gentics.mesh.core.data.node.field.nesting.NodeGraphField;
+import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.data.schema.MicroschemaVersion;
 import com.gentics.mesh.core.data.schema.SchemaVersion;
 import com.gentics.mesh.core.data.user.HibUser;
@@ -331,6 +332,21 @@ public interface ContentDaoWrapper extends ContentDao {
 		return findVersion(node, ac, languageTags, type.getHumanCode());
 	}
 
+	/**
+	 * Find the contents of the given nodes that match the given parameters (languages, type). The contents of all nodes are loaded together instead of
+	 * loading them one node at a time.
+	 *
+	 * @param project
+	 *            Project of the nodes
+	 * @param nodes
+	 * @param branchUuid
+	 * @param languageTags
+	 * @param type
+	 * @return Contents in the order of the given nodes. Nodes without a matching content are represented by null
+	 */
+	List<NodeGraphFieldContainer> findVersions(HibProject project, List<? extends HibNode> nodes, String branchUuid, List<String> languageTags,
+		ContainerType type);
+
 	/**
 	 * Delete the language container for the given language from the branch. This will remove all PUBLISHED, DRAFT and INITIAL edges to GFCs for the language
 	 * and branch, and will then delete all "dangling" GFC (GFCs, which are not used by another branch).
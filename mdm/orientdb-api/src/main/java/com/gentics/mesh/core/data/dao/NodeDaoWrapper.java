@@ -98,6 +98,30 @@ public interface NodeDaoWrapper extends NodeDao, DaoWrapper<HibNode>, DaoTransfo
 	 */
 	Stream<? extends HibNode> getChildrenStream(HibNode node, InternalActionContext ac);
 
+	/**
+	 * Return the children for this node ordered by their uuid, starting after the given cursor. Only fetches nodes from the provided branch and also checks
+	 * permissions.
+	 *
+	 * @param node
+	 * @param ac
+	 * @param after
+	 *            Cursor of the previous page, an empty cursor for the first page or null to return the unordered children
+	 * @return
+	 */
+	Stream<? extends HibNode> getChildrenStream(HibNode node, InternalActionContext ac, String after);
+
+	/**
+	 * Return the children of the given nodes. The children of all nodes are loaded together. Only fetches nodes from the provided branch and also checks
+	 * permissions.
+	 *
+	 * @param project
+	 *            Project of the nodes
+	 * @param nodes
+	 * @param ac
+	 * @return Children in the order of the given nodes
+	 */
+	List<? extends List<? extends HibNode>> getChildNodes(HibProject project, List<? extends HibNode> nodes, InternalActionContext ac);
+
 	/**
 	 * Returns the parent node of this node.
 	 *
@@ -107,6 +131,18 @@ public interface NodeDaoWrapper extends NodeDao, DaoWrapper<HibNode>, DaoTransfo
 	 */
 	HibNode getParentNode(HibNode node, String branchUuid);
 
+	/**
+	 * Returns the parent nodes of the given nodes. The parents of all nodes are loaded together.
+	 *
+	 * @param project
+	 *            Project of the nodes
+	 * @param nodes
+	 * @param branchUuid
+	 *            branch Uuid
+	 * @return Parent nodes in the order of the given nodes. Nodes without a parent are represented by null
+	 */
+	List<? extends HibNode> getParentNodes(HibProject project, List<? extends HibNode> nodes, String branchUuid);
+
 	/**
 	 * Set the parent node of this node.
 	 *
@@ -115,6 +115,16 @@ public interface SchemaDaoWrapper extends SchemaDao, DaoWrapper<HibSchema> {
 	 */
 	TraversalResult<? extends Node> getNodes(HibSchema schema);
 
+	/**
+	 * Returns the nodes which are referencing the schema container in the order of their uuid, starting after the node with the given uuid.
+	 *
+	 * @param schema
+	 * @param after
+	 *            Uuid of the node after which the iteration starts or null to start with the first node
+	 * @return
+	 */
+	Iterator<? extends Node> getNodes(HibSchema schema, String after);
+
 	/**
 	 * Return a list of all schema container roots to which the schema container was added.
 	 *
@@ -167,6 +167,17 @@ public interface TagDaoWrapper extends TagDao, DaoWrapper<HibTag>, DaoTransforma
 	 */
 	TransformablePage<? extends HibTag> getTags(HibNode node, HibUser user, PagingParameters params, HibBranch branch);
 
+	/**
+	 * Return the visible tags of the given nodes. The tags of all nodes are loaded using a single lookup.
+	 *
+	 * @param project
+	 * @param nodes
+	 * @param user
+	 * @param branch
+	 * @return Tags in the order of the given nodes
+	 */
+	List<? extends List<? extends HibTag>> getTags(HibProject project, List<? extends HibNode> nodes, HibUser user, HibBranch branch);
+
 	/**
 	 * Tests if the node is tagged with the given tag.
 	 *
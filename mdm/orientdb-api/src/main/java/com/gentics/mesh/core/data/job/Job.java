@@ -30,6 +30,12 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 
 	String COMPLETION_COUNT_PROPERTY_KEY = "completionCount";
 
+	String TOTAL_COUNT_PROPERTY_KEY = "totalCount";
+
+	String THROUGHPUT_PROPERTY_KEY = "throughput";
+
+	String ESTIMATED_REMAINING_TIME_PROPERTY_KEY = "estimatedRemainingTime";
+
 	String STATUS_PROPERTY_KEY = "status";
 
 	String NODE_NAME_PROPERTY_KEY = "nodeName";
@@ -261,6 +267,49 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 	 */
 	void setCompletionCount(long count);
 
+	/**
+	 * Return the total amount of elements which need to be processed.
+	 * 
+	 * @return Total count or null if the count is not yet known
+	 */
+	Long getTotalCount();
+
+	/**
+	 * Set the total amount of elements which need to be processed.
+	 * 
+	 * @param count
+	 */
+	void setTotalCount(Long count);
+
+	/**
+	 * Return the amount of elements which were processed per second.
+	 * 
+	 * @return
+	 */
+	Double getThroughput();
+
+	/**
+	 * Set the amount of elements which were processed per second.
+	 * 
+	 * @param throughput
+	 */
+	void setThroughput(Double throughput);
+
+	/**
+	 * Return the estimated remaining time of the job.
+	 * 
+	 * @return Remaining time in milliseconds or null if the time can't be estimated
+	 */
+	Long getEstimatedRemainingTime();
+
+	/**
+	 * Set the estimated remaining time of the job.
+	 * 
+	 * @param remainingTime
+	 *            Remaining time in milliseconds
+	 */
+	void setEstimatedRemainingTime(Long remainingTime);
+
 	/**
 	 * Get migration status.
 	 * 
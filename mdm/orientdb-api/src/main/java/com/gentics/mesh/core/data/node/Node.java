@@ -44,6 +44,7 @@ import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.path.Path;
+import com.gentics.mesh.path.PathSegment;
 import com.syncleus.ferma.EdgeFrame;
 
 /**
@@ -265,6 +266,17 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	Stream<Node> getChildrenStream(InternalActionContext ac);
 
+	/**
+	 * Return the children for this node ordered by their uuid, starting after the given cursor. Only fetches nodes from the provided branch and also checks
+	 * permissions.
+	 *
+	 * @param ac
+	 * @param after
+	 *            Cursor of the previous page, an empty cursor for the first page or null to return the unordered children
+	 * @return
+	 */
+	Stream<Node> getChildrenStream(InternalActionContext ac, String after);
+
 	/**
 	 * Returns the parent node of this node.
 	 *
@@ -519,6 +531,31 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	Path resolvePath(String branchUuid, ContainerType type, Path nodePath, Stack<String> pathStack);
 
+	/**
+	 * Return the path segment for the container of the node which provides the given segment value.
+	 *
+	 * @param branchUuid
+	 * @param type
+	 *            edge type
+	 * @param segment
+	 *            Decoded segment value
+	 * @return Path segment or null if no container of the node provides the segment
+	 */
+	PathSegment getSegment(String branchUuid, ContainerType type, String segment);
+
+	/**
+	 * Update the materialized full webroot paths of the containers of the node in the branch.
+	 *
+	 * @param branchUuid
+	 * @param type
+	 *            edge type
+	 * @param recursive
+	 *            Whether the full paths of the descendants should be updated as well if a full path of the node changed. The descendants are updated once
+	 *            the transaction has been committed.
+	 * @return Whether a full path of the node changed
+	 */
+	boolean updateWebrootFullPaths(String branchUuid, ContainerType type, boolean recursive);
+
 	/**
 	 * Return the webroot path to the node in the given language. If more than one language is given, the path will lead to the first available language of the
 	 * node.
@@ -60,6 +60,7 @@ public interface Page<T> extends Iterable<T> {
 		info.setPageCount(getPageCount());
 		info.setPerPage(getPerPage());
 		info.setTotalCount(getTotalElements());
+		info.setNextCursor(getNextCursor());
 	}
 
 	/**
@@ -85,6 +86,15 @@ public interface Page<T> extends Iterable<T> {
 	 */
 	boolean hasNextPage();
 
+	/**
+	 * Return the cursor which can be used to load the next page.
+	 * 
+	 * @return Cursor or null if the page does not use cursor based paging or if there is no next page
+	 */
+	default String getNextCursor() {
+		return null;
+	}
+
 	/**
 	 * Check whether there would be a previous page.
 	 */
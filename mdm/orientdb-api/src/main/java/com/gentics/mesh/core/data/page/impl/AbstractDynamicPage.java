@@ -7,6 +7,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.rest.error.GenericRestException;
@@ -37,7 +38,31 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	protected Iterator<? extends T> visibleItems;
 
+	/**
+	 * Cursor after which the page starts or null if offset based paging is used.
+	 */
+	protected String after;
+
+	/**
+	 * Flag which indicates whether the total count should be determined.
+	 */
+	protected boolean countTotal;
+
+	private Function<? super T, Object> idFunction;
+
 	public AbstractDynamicPage(PagingParameters pagingInfo) {
+		this(pagingInfo, null);
+	}
+
+	/**
+	 * Create a new page which also supports cursor based paging. The elements provided by the implementation must be ordered and start after the cursor.
+	 *
+	 * @param pagingInfo
+	 * @param idFunction
+	 *            Function which returns the id of an element that is used to create the cursor of the next page. Cursor based paging is not supported if
+	 *            omitted.
+	 */
+	public AbstractDynamicPage(PagingParameters pagingInfo, Function<? super T, Object> idFunction) {
 		if (pagingInfo.getPage() < 1) {
 			throw new GenericRestException(BAD_REQUEST, "error_page_parameter_must_be_positive", String.valueOf(pagingInfo.getPage()));
 		}
@@ -55,6 +80,26 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 			this.lowerBound = (pageNumber - 1) * perPage;
 		}
 
+		this.after = pagingInfo.getAfter();
+		this.countTotal = pagingInfo.getTotal();
+		this.idFunction = idFunction;
+		if (after != null) {
+			if (idFunction == null) {
+				throw new GenericRestException(BAD_REQUEST, "error_paging_cursor_not_supported");
+			}
+			// The elements are already positioned after the cursor
+			this.lowerBound = perPage == null ? null : 0L;
+			this.countTotal = false;
+		}
+	}
+
+	/**
+	 * Check whether cursor based paging is used.
+	 *
+	 * @return
+	 */
+	protected boolean isCursorPaging() {
+		return after != null;
 	}
 
 	@Override
@@ -64,6 +109,9 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	@Override
 	public long getPageCount() {
+		if (!countTotal) {
+			return -1;
+		}
 		if (totalPages == null) {
 			// The totalPages of the list response must be zero if the perPage parameter is also zero.
 			totalPages = 0L;
@@ -83,6 +131,9 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	@Override
 	public long getTotalElements() {
+		if (!countTotal) {
+			return -1;
+		}
 		// Iterate over all elements to determine the total count
 		while (visibleItems.hasNext()) {
 			visibleItems.next();
@@ -99,6 +150,14 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		return elementsOfPage;
 	}
 
+	@Override
+	public String getNextCursor() {
+		if (!isCursorPaging() || !hasNextPage() || elementsOfPage.isEmpty()) {
+			return null;
+		}
+		return PageCursor.encode(idFunction.apply(elementsOfPage.get(elementsOfPage.size() - 1)));
+	}
+
 	@Override
 	public boolean hasNextPage() {
 		// Iterate over more items as long as the hasNextPage flag has not been set
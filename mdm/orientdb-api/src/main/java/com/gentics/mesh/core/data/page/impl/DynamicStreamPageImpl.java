@@ -3,6 +3,7 @@ package com.gentics.mesh.core.data.page.impl;
 import com.gentics.mesh.parameter.PagingParameters;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -28,6 +29,25 @@ public class DynamicStreamPageImpl<T> extends AbstractDynamicPage<T> {
 		init(stream.filter(filter));
 	}
 
+	/**
+	 * Creates a new page which supports cursor based paging. The stream must be ordered by the uuid and start after the cursor of the paging info if
+	 * a cursor was specified (see {@link PageCursor#decode(String)}).
+	 *
+	 * @param stream
+	 *            a stream of elements to be paged
+	 * @param pagingInfo
+	 *            paging info the user requested
+	 * @param filter
+	 *            the optional filter to be applied to the stream
+	 * @param idFunction
+	 *            function which returns the id of an element that is used to create the cursor of the next page
+	 */
+	public DynamicStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Predicate<? super T> filter,
+		Function<? super T, Object> idFunction) {
+		super(pagingInfo, idFunction);
+		init(filter == null ? stream : stream.filter(filter));
+	}
+
 	private void init(Stream<? extends T> stream) {
 		AtomicLong pageCounter = new AtomicLong();
 		stream = stream
@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.data.page.impl;
 
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -16,4 +17,9 @@ public class DynamicTransformableStreamPageImpl<T extends TransformableElement<?
 	public DynamicTransformableStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Predicate<T> filter) {
 		super(stream, pagingInfo, filter);
 	}
+
+	public DynamicTransformableStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Predicate<T> filter,
+		Function<? super T, Object> idFunction) {
+		super(stream, pagingInfo, filter, idFunction);
+	}
 }
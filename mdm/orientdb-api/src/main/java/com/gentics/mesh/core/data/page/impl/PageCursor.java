@@ -0,0 +1,51 @@
+package com.gentics.mesh.core.data.page.impl;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Base64;
+
+import com.gentics.mesh.util.UUIDUtil;
+
+/**
+ * Utility for cursor based paging. The cursor is the encoded uuid of the last element of a page. Pages which support cursors must read the elements in
+ * the order of their uuid, starting after the decoded uuid (see {@link com.gentics.mesh.graphdb.spi.Database#getVerticesInRange(Class, String, Object, Object)}).
+ */
+public final class PageCursor {
+
+	private PageCursor() {
+	}
+
+	/**
+	 * Encode the uuid of the element into a cursor.
+	 *
+	 * @param uuid
+	 * @return Opaque cursor
+	 */
+	public static String encode(Object uuid) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(uuid.toString().getBytes(UTF_8));
+	}
+
+	/**
+	 * Decode the cursor.
+	 *
+	 * @param cursor
+	 * @return Uuid of the last element of the previous page or null if the cursor is empty and thus selects the first page
+	 */
+	public static String decode(String cursor) {
+		if (cursor == null || cursor.isEmpty()) {
+			return null;
+		}
+		try {
+			String uuid = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+			if (!UUIDUtil.isUUID(uuid)) {
+				throw error(BAD_REQUEST, "error_paging_cursor_invalid", cursor);
+			}
+			return uuid;
+		} catch (IllegalArgumentException e) {
+			throw error(BAD_REQUEST, "error_paging_cursor_invalid", cursor);
+		}
+	}
+
+}
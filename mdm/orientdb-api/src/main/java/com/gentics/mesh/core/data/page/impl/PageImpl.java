@@ -16,6 +16,7 @@ public class PageImpl<T> implements Iterable<T>, Page<T> {
 	protected long pageNumber;
 	protected long totalPages;
 	protected Long perPage;
+	protected String nextCursor;
 
 	/**
 	 * Construct a new page
@@ -76,7 +77,24 @@ public class PageImpl<T> implements Iterable<T>, Page<T> {
 
 	@Override
 	public boolean hasNextPage() {
-		return getPageCount() > getNumber();
+		return nextCursor != null || getPageCount() > getNumber();
+	}
+
+	@Override
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	/**
+	 * Set the cursor which can be used to load the next page.
+	 * 
+	 * @param nextCursor
+	 *            Cursor or null if there is no next page
+	 * @return Fluent API
+	 */
+	public PageImpl<T> setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+		return this;
 	}
 
 }
@@ -1,9 +1,18 @@
 package com.gentics.mesh.core.data.root;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.Tag;
+import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.perm.InternalPermission;
 import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.data.schema.HibSchemaVersion;
 import com.gentics.mesh.core.data.user.HibUser;
+import com.gentics.mesh.core.rest.common.ContainerType;
 
 /**
  * Aggregation node for nodes.
@@ -42,4 +51,56 @@ public interface NodeRoot extends RootVertex<Node> {
 	 */
 	Node create(HibUser user, HibSchemaVersion container, HibProject project, String uuid);
 
+	/**
+	 * Return a stream of all visible nodes of the project ordered by their record id, starting after the given cursor.
+	 *
+	 * @param ac
+	 * @param permission
+	 * @param after
+	 *            Cursor of the previous page, an empty cursor for the first page or null to return the unordered nodes
+	 * @return
+	 */
+	Stream<? extends Node> findAllStream(InternalActionContext ac, InternalPermission permission, String after);
+
+	/**
+	 * Load the parent nodes of the given nodes in the branch using a single lookup.
+	 *
+	 * @param nodes
+	 * @param branchUuid
+	 * @return Parent nodes in the order of the given nodes. Nodes without a parent in the branch are represented by null
+	 */
+	List<Node> findParentNodes(List<? extends HibNode> nodes, String branchUuid);
+
+	/**
+	 * Load the children of the given nodes in the branch of the action context using a single lookup. Only children which are readable (or readable in
+	 * their published version) by the user of the action context are returned.
+	 *
+	 * @param nodes
+	 * @param ac
+	 * @return Children in the order of the given nodes
+	 */
+	List<List<Node>> findChildNodes(List<? extends HibNode> nodes, InternalActionContext ac);
+
+	/**
+	 * Load the contents of the given nodes using a single lookup. The content of the first language tag which exists for a node is selected.
+	 *
+	 * @param nodes
+	 * @param branchUuid
+	 * @param languageTags
+	 * @param type
+	 *            Type of the contents. The initial type is not supported, since it requires the version chain to be traversed
+	 * @return Contents in the order of the given nodes. Nodes without a matching content are represented by null
+	 */
+	List<NodeGraphFieldContainer> findContents(List<? extends HibNode> nodes, String branchUuid, List<String> languageTags, ContainerType type);
+
+	/**
+	 * Load the tags of the given nodes which are visible to the user using a single lookup.
+	 *
+	 * @param nodes
+	 * @param user
+	 * @param branchUuid
+	 * @return Tags in the order of the given nodes
+	 */
+	List<List<Tag>> findTags(List<? extends HibNode> nodes, HibUser user, String branchUuid);
+
 }
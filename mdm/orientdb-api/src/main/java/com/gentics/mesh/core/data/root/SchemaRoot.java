@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data.root;
 
+import java.util.Iterator;
+
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.schema.HibSchema;
@@ -68,6 +70,17 @@ public interface SchemaRoot extends RootVertex<Schema> {
 	 */
 	TraversalResult<? extends Node> getNodes(Schema schema);
 
+	/**
+	 * Returns the nodes which are referencing the schema container in the order of their uuid. The iteration starts after the node with the given uuid,
+	 * which allows reading the nodes in pages.
+	 *
+	 * @param schema
+	 * @param after
+	 *            Uuid of the node after which the iteration starts or null to start with the first node
+	 * @return
+	 */
+	Iterator<? extends Node> getNodes(Schema schema, String after);
+
 	/**
 	 * Return an iterable with all found schema versions.
 	 *
@@ -49,6 +49,16 @@ public interface SchemaVersion
 	 */
 	Iterator<? extends NodeGraphFieldContainer> getDraftFieldContainers(String branchUuid);
 
+	/**
+	 * Returns an iterator for the draft {@link NodeGraphFieldContainer}'s of the branch in the order of their uuid. The iteration starts after the container
+	 * with the given uuid, which allows reading the containers in pages.
+	 *
+	 * @param branchUuid Branch Uuid
+	 * @param after Uuid of the container after which the iteration starts or null to start with the first container
+	 * @return
+	 */
+	Iterator<? extends NodeGraphFieldContainer> getDraftFieldContainers(String branchUuid, String after);
+
 	/**
 	 * Returns all nodes that the user has read permissions for.
 	 *
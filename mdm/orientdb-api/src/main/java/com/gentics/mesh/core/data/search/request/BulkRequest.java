@@ -2,7 +2,10 @@ package com.gentics.mesh.core.data.search.request;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.gentics.mesh.search.SearchProvider;
 
@@ -14,11 +17,29 @@ import io.reactivex.functions.Action;
 public class BulkRequest implements Bulkable {
 
 	private final List<Bulkable> requests;
+	private final List<Bulkable> coalesced;
 	private final Action onComplete;
 
 	public BulkRequest(List<Bulkable> requests) {
+		this(requests, Collections.emptyList());
+	}
+
+	/**
+	 * Create a new bulk request.
+	 * 
+	 * @param requests
+	 *            Requests which will be sent to Elasticsearch
+	 * @param coalesced
+	 *            Requests which have been superseded by the sent requests. These requests will not be sent but their completion actions will be invoked
+	 *            once the bulk has been processed.
+	 */
+	public BulkRequest(List<Bulkable> requests, List<Bulkable> coalesced) {
 		this.requests = requests;
+		this.coalesced = coalesced;
 		this.onComplete = () -> {
+			for (SearchRequest request : coalesced) {
+				request.onComplete().run();
+			}
 			for (SearchRequest request : requests) {
 				request.onComplete().run();
 			}
@@ -32,7 +53,7 @@ public class BulkRequest implements Bulkable {
 	@Override
 	public int requestCount() {
 		// TODO cache
-		return requests.stream()
+		return Stream.concat(requests.stream(), coalesced.stream())
 			.mapToInt(SearchRequest::requestCount)
 			.sum();
 	}
@@ -52,13 +73,24 @@ public class BulkRequest implements Bulkable {
 
 	@Override
 	public String toString() {
-		return requests.size() + " bulked requests. " + requests;
+		return requests.size() + " bulked requests (" + coalesced.size() + " coalesced). " + requests;
 	}
 
 	public Collection<Bulkable> getRequests() {
 		return requests;
 	}
 
+	public Collection<Bulkable> getCoalescedRequests() {
+		return coalesced;
+	}
+
+	@Override
+	public Collection<String> documentKeys() {
+		return requests.stream()
+			.flatMap(request -> request.documentKeys().stream())
+			.collect(Collectors.toSet());
+	}
+
 	@Override
 	public long bulkLength() {
 		// TODO cache
@@ -78,4 +78,12 @@ public interface Tx extends BaseTransaction {
 	}
 
 	TxData data();
+
+	/**
+	 * Register an action which will be invoked once the transaction has been committed. The action will not be invoked if the transaction gets rolled back.
+	 * Actions of nested transactions are invoked once the outermost transaction has been committed.
+	 * 
+	 * @param action
+	 */
+	void afterCommit(Runnable action);
 }
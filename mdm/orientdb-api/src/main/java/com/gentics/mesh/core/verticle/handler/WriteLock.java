@@ -13,11 +13,23 @@ public interface WriteLock extends AutoCloseable {
 	void close();
 
 	/**
-	 * Return the write lock that is configured according to the provided context.
-	 * 
+	 * Return the global write lock that is configured according to the provided context.
+	 *
 	 * @param ac
 	 * @return Fluent API
 	 */
-	WriteLock lock(InternalActionContext ac);
+	default WriteLock lock(InternalActionContext ac) {
+		return lock(ac, WriteLockScope.global());
+	}
+
+	/**
+	 * Return the write lock for the scope that is configured according to the provided context. The returned lock must be closed by the thread which
+	 * acquired it.
+	 *
+	 * @param ac
+	 * @param scope
+	 * @return Acquired lock
+	 */
+	WriteLock lock(InternalActionContext ac, WriteLockScope scope);
 
 }
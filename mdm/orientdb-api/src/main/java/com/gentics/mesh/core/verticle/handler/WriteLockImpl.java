@@ -1,101 +1,235 @@
 package com.gentics.mesh.core.verticle.handler;
 
-import java.util.concurrent.Semaphore;
+import static com.gentics.mesh.metric.SimpleMetric.WRITE_LOCK_CONTENTION_COUNT;
+import static com.gentics.mesh.metric.SimpleMetric.WRITE_LOCK_TIMEOUT_COUNT;
+import static com.gentics.mesh.metric.SimpleMetric.WRITE_LOCK_WAITING_TIME;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.verticle.handler.WriteLockScope.Level;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.metric.MetricsService;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.ILock;
-import static com.gentics.mesh.metric.SimpleMetric.WRITE_LOCK_TIMEOUT_COUNT;
-import static com.gentics.mesh.metric.SimpleMetric.WRITE_LOCK_WAITING_TIME;
 
 import dagger.Lazy;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 
+/**
+ * Write lock which provides scoped locks.
+ *
+ * <p>Locally every level of the scope hierarchy uses a fixed amount of striped read/write locks. A scoped lock acquires the read locks of the parent scopes
+ * and the write lock of its own scope (the read lock for shared scopes). In a cluster all scopes use the global cluster wide lock since writes of other
+ * instances need to be excluded as well.</p>
+ */
 @Singleton
 public class WriteLockImpl implements WriteLock {
 
+	private static final int STRIPES = 64;
+
 	private ILock clusterLock;
-	private final Semaphore localLock = new Semaphore(1);
+	private final ReentrantReadWriteLock globalLock = new ReentrantReadWriteLock(true);
+	private final Map<Level, ReentrantReadWriteLock[]> stripes = new EnumMap<>(Level.class);
 	private final MeshOptions options;
 	private final Lazy<HazelcastInstance> hazelcast;
 	private final boolean isClustered;
-	private final Timer writeLockTimer;
-	private final Counter timeoutCount;
+	private final Map<Level, Timer> writeLockTimers = new EnumMap<>(Level.class);
+	private final Map<Level, Counter> timeoutCounts = new EnumMap<>(Level.class);
+	private final Map<Level, Counter> contentionCounts = new EnumMap<>(Level.class);
+	private final WriteLock noLock = new ScopedLock(new ArrayList<>());
+
+	/**
+	 * Locks which are currently held by the thread in the order in which they were acquired.
+	 */
+	private final ThreadLocal<Deque<ScopedLock>> heldLocks = ThreadLocal.withInitial(ArrayDeque::new);
 
 	@Inject
 	public WriteLockImpl(MeshOptions options, Lazy<HazelcastInstance> hazelcast, MetricsService metricsService) {
 		this.options = options;
 		this.hazelcast = hazelcast;
 		this.isClustered = options.getClusterOptions().isEnabled();
-		this.writeLockTimer = metricsService.timer(WRITE_LOCK_WAITING_TIME);
-		this.timeoutCount = metricsService.counter(WRITE_LOCK_TIMEOUT_COUNT);
+		MeterRegistry registry = metricsService.getMetricRegistry();
+		for (Level level : Level.values()) {
+			String scope = level.metricName();
+			writeLockTimers.put(level, registry.timer(WRITE_LOCK_WAITING_TIME.key(), "scope", scope));
+			timeoutCounts.put(level, registry.counter(WRITE_LOCK_TIMEOUT_COUNT.key(), "scope", scope));
+			contentionCounts.put(level, registry.counter(WRITE_LOCK_CONTENTION_COUNT.key(), "scope", scope));
+			if (level != Level.GLOBAL) {
+				ReentrantReadWriteLock[] locks = new ReentrantReadWriteLock[STRIPES];
+				for (int i = 0; i < STRIPES; i++) {
+					locks[i] = new ReentrantReadWriteLock(true);
+				}
+				stripes.put(level, locks);
+			}
+		}
 	}
 
+	/**
+	 * Release the lock which was most recently acquired by the current thread. Callers should prefer to close the lock which was returned by #lock.
+	 */
 	@Override
 	public void close() {
-		if (isClustered) {
-			if (clusterLock != null && clusterLock.isLockedByCurrentThread()) {
-				clusterLock.unlock();
-			}
-		} else {
-			localLock.release();
+		ScopedLock lock = heldLocks.get().peekLast();
+		if (lock != null) {
+			lock.close();
 		}
 	}
 
 	/**
-	 * Locks writes. Use this to prevent concurrent write transactions.
+	 * Locks writes within the scope. Use this to prevent concurrent write transactions.
 	 */
 	@Override
-	public WriteLock lock(InternalActionContext ac) {
+	public WriteLock lock(InternalActionContext ac, WriteLockScope scope) {
 		if (ac != null && ac.isSkipWriteLock()) {
-			return this;
+			return noLock;
+		}
+		boolean syncWrites = options.getStorageOptions().isSynchronizeWrites();
+		if (!syncWrites) {
+			return noLock;
+		}
+		long timeout = options.getStorageOptions().getSynchronizeWritesTimeout();
+		if (isClustered) {
+			return lockCluster(timeout);
 		} else {
-			boolean syncWrites = options.getStorageOptions().isSynchronizeWrites();
-			if (syncWrites) {
-				Timer.Sample timer = Timer.start();
-				long timeout = options.getStorageOptions().getSynchronizeWritesTimeout();
-				if (isClustered) {
-					try {
-						if (clusterLock == null) {
-							HazelcastInstance hz = hazelcast.get();
-							if (hz != null) {
-								this.clusterLock = hz.getLock(GLOBAL_LOCK_KEY);
-							}
-						}
-						if (clusterLock != null) {
-							boolean isTimeout = !clusterLock.tryLock(timeout, TimeUnit.MILLISECONDS);
-							if (isTimeout) {
-								timeoutCount.increment();
-								throw new RuntimeException("Got timeout while waiting for write lock.");
-							}
-						}
-					} catch (InterruptedException e) {
-						throw new RuntimeException(e);
-					} finally {
-						timer.stop(writeLockTimer);
+			return lockLocal(scope, timeout);
+		}
+	}
+
+	private WriteLock lockCluster(long timeout) {
+		Timer.Sample timer = Timer.start();
+		try {
+			if (clusterLock == null) {
+				HazelcastInstance hz = hazelcast.get();
+				if (hz != null) {
+					this.clusterLock = hz.getLock(GLOBAL_LOCK_KEY);
+				}
+			}
+			if (clusterLock == null) {
+				return noLock;
+			}
+			boolean isTimeout = !clusterLock.tryLock(timeout, TimeUnit.MILLISECONDS);
+			if (isTimeout) {
+				timeoutCounts.get(Level.GLOBAL).increment();
+				throw new RuntimeException("Got timeout while waiting for write lock.");
+			}
+			ILock lock = clusterLock;
+			return hold(new ScopedLock(null) {
+				@Override
+				protected void release() {
+					if (lock.isLockedByCurrentThread()) {
+						lock.unlock();
 					}
-				} else {
-					try {
-						boolean isTimeout = !localLock.tryAcquire(timeout, TimeUnit.MILLISECONDS);
-						if (isTimeout) {
-							timeoutCount.increment();
-							throw new RuntimeException("Got timeout while waiting for write lock.");
-						}
-					} catch (InterruptedException e) {
-						throw new RuntimeException(e);
-					} finally {
-						timer.stop(writeLockTimer);
+				}
+			});
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		} finally {
+			timer.stop(writeLockTimers.get(Level.GLOBAL));
+		}
+	}
+
+	private WriteLock lockLocal(WriteLockScope scope, long timeout) {
+		Level scopeLevel = scope.getLevel();
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+		List<Lock> acquired = new ArrayList<>(Level.values().length);
+		Timer.Sample timer = Timer.start();
+		boolean contended = false;
+		try {
+			// Acquire the locks from the top of the hierarchy to the bottom to prevent deadlocks
+			for (Level level : Level.values()) {
+				if (level.ordinal() > scopeLevel.ordinal()) {
+					break;
+				}
+				ReentrantReadWriteLock readWriteLock = getLock(level, scope.getKey(level));
+				if (readWriteLock == null) {
+					continue;
+				}
+				Lock lock = level == scopeLevel && !scope.isShared() ? readWriteLock.writeLock() : readWriteLock.readLock();
+				if (!lock.tryLock()) {
+					contended = true;
+					if (!lock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+						timeoutCounts.get(scopeLevel).increment();
+						throw new RuntimeException("Got timeout while waiting for write lock {" + scope + "}.");
 					}
 				}
+				acquired.add(lock);
+			}
+			return hold(new ScopedLock(acquired));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (RuntimeException e) {
+			new ScopedLock(acquired).close();
+			throw e;
+		} finally {
+			timer.stop(writeLockTimers.get(scopeLevel));
+			if (contended) {
+				contentionCounts.get(scopeLevel).increment();
+			}
+		}
+	}
+
+	private ScopedLock hold(ScopedLock lock) {
+		heldLocks.get().addLast(lock);
+		return lock;
+	}
+
+	private ReentrantReadWriteLock getLock(Level level, String key) {
+		if (level == Level.GLOBAL) {
+			return globalLock;
+		}
+		if (key == null) {
+			return null;
+		}
+		return stripes.get(level)[(key.hashCode() & Integer.MAX_VALUE) % STRIPES];
+	}
+
+	/**
+	 * Lock which was acquired for a scope. Closing the lock releases the acquired locks in reverse order.
+	 */
+	private class ScopedLock implements WriteLock {
+
+		private final List<Lock> locks;
+
+		private boolean closed = false;
+
+		ScopedLock(List<Lock> locks) {
+			this.locks = locks;
+		}
+
+		@Override
+		public void close() {
+			if (closed) {
+				return;
 			}
-			return this;
+			closed = true;
+			heldLocks.get().remove(this);
+			release();
+		}
+
+		protected void release() {
+			for (int i = locks.size() - 1; i >= 0; i--) {
+				locks.get(i).unlock();
+			}
+		}
+
+		@Override
+		public WriteLock lock(InternalActionContext ac, WriteLockScope scope) {
+			return WriteLockImpl.this.lock(ac, scope);
 		}
 	}
 
@@ -0,0 +1,168 @@
+package com.gentics.mesh.core.verticle.handler;
+
+import java.util.Objects;
+
+/**
+ * Scope of a {@link WriteLock}.
+ *
+ * <p>Scopes form a hierarchy: global, project, branch and element. A lock on a scope is exclusive for that scope and shared for all its parent scopes. A
+ * global lock thus waits for all other locks, a project lock waits for all locks within the project and two locks on elements only wait for each other if
+ * they target the same element.</p>
+ *
+ * <p>A shared scope acquires its own scope shared as well. It is used by concurrent writers which only need to exclude exclusive locks of the scope.</p>
+ */
+public final class WriteLockScope {
+
+	/**
+	 * Levels of the scopes. The order of the constants is the order in which locks are acquired.
+	 */
+	public enum Level {
+		GLOBAL, PROJECT, BRANCH, ELEMENT;
+
+		/**
+		 * Return the name which is used to tag the metrics of the level.
+		 *
+		 * @return
+		 */
+		public String metricName() {
+			return name().toLowerCase();
+		}
+	}
+
+	private static final WriteLockScope GLOBAL = new WriteLockScope(null, null, null, false);
+
+	private final String projectUuid;
+
+	private final String branchUuid;
+
+	private final String elementUuid;
+
+	private final boolean shared;
+
+	private WriteLockScope(String projectUuid, String branchUuid, String elementUuid, boolean shared) {
+		this.projectUuid = projectUuid;
+		this.branchUuid = branchUuid;
+		this.elementUuid = elementUuid;
+		this.shared = shared;
+	}
+
+	/**
+	 * Return the scope which locks all writes. Use this for operations which affect multiple projects (e.g. schema or branch changes).
+	 *
+	 * @return
+	 */
+	public static WriteLockScope global() {
+		return GLOBAL;
+	}
+
+	/**
+	 * Return the scope for writes within the project.
+	 *
+	 * @param projectUuid
+	 * @return
+	 */
+	public static WriteLockScope project(String projectUuid) {
+		return new WriteLockScope(Objects.requireNonNull(projectUuid), null, null, false);
+	}
+
+	/**
+	 * Return the scope for writes within the branch of the project.
+	 *
+	 * @param projectUuid
+	 * @param branchUuid
+	 * @return
+	 */
+	public static WriteLockScope branch(String projectUuid, String branchUuid) {
+		return new WriteLockScope(Objects.requireNonNull(projectUuid), Objects.requireNonNull(branchUuid), null, false);
+	}
+
+	/**
+	 * Return the shared scope for writes within the branch of the project. Shared branch locks don't exclude each other or locks of elements in the
+	 * branch, but wait for exclusive locks of the branch and its parents. Use this for bulk operations like migrations, which run concurrent workers on
+	 * different elements of the branch.
+	 *
+	 * @param projectUuid
+	 * @param branchUuid
+	 * @return
+	 */
+	public static WriteLockScope sharedBranch(String projectUuid, String branchUuid) {
+		return new WriteLockScope(Objects.requireNonNull(projectUuid), Objects.requireNonNull(branchUuid), null, true);
+	}
+
+	/**
+	 * Return the scope for writes to a single element.
+	 *
+	 * @param projectUuid
+	 *            Uuid of the project of the element or null if the element does not belong to a project
+	 * @param branchUuid
+	 *            Uuid of the branch in which the element is modified or null
+	 * @param elementUuid
+	 * @return
+	 */
+	public static WriteLockScope element(String projectUuid, String branchUuid, String elementUuid) {
+		if (projectUuid == null && branchUuid != null) {
+			throw new IllegalArgumentException("A branch can only be specified together with a project");
+		}
+		return new WriteLockScope(projectUuid, branchUuid, Objects.requireNonNull(elementUuid), false);
+	}
+
+	/**
+	 * Return the level of the scope.
+	 *
+	 * @return
+	 */
+	public Level getLevel() {
+		if (elementUuid != null) {
+			return Level.ELEMENT;
+		} else if (branchUuid != null) {
+			return Level.BRANCH;
+		} else if (projectUuid != null) {
+			return Level.PROJECT;
+		} else {
+			return Level.GLOBAL;
+		}
+	}
+
+	/**
+	 * Check whether the scope itself is acquired shared instead of exclusive.
+	 *
+	 * @return
+	 */
+	public boolean isShared() {
+		return shared;
+	}
+
+	/**
+	 * Return the key of the scope for the given level or null if the scope does not contain the level.
+	 *
+	 * @param level
+	 * @return
+	 */
+	public String getKey(Level level) {
+		switch (level) {
+		case PROJECT:
+			return projectUuid;
+		case BRANCH:
+			return branchUuid;
+		case ELEMENT:
+			return elementUuid;
+		default:
+			return null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder(getLevel().metricName());
+		for (Level level : Level.values()) {
+			String key = getKey(level);
+			if (key != null) {
+				builder.append(":").append(key);
+			}
+		}
+		if (shared) {
+			builder.append(":shared");
+		}
+		return builder.toString();
+	}
+}
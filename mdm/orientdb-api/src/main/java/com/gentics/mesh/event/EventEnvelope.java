@@ -0,0 +1,153 @@
+package com.gentics.mesh.event;
+
+import static com.gentics.mesh.core.rest.MeshEvent.EVENT_ENVELOPE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Envelope which contains multiple events. The envelope is published once on the event bus instead of publishing every event separately. The payload of
+ * the events is only encoded when the envelope is sent to other instances and decoded once when it is received.
+ *
+ * <p>Every instance unpacks the received envelopes and publishes the contained events in order to the local consumers of the event addresses. Consumers thus
+ * do not need to be aware of envelopes. Events which were unpacked on an instance other than the origin of the envelope carry the
+ * {@link #REMOTE_HEADER}. Consumers which must only handle the events of their own instance (e.g. the Elasticsearch verticle) ignore those events via
+ * {@link #isRemote(Message)}.</p>
+ */
+public class EventEnvelope {
+
+	private static final Logger log = LoggerFactory.getLogger(EventEnvelope.class);
+
+	/**
+	 * Header which is added to the events of envelopes which were published by another instance. The value is the node name of the origin.
+	 */
+	public static final String REMOTE_HEADER = "mesh-event-remote";
+
+	private static final DeliveryOptions LOCAL_ONLY = new DeliveryOptions().setLocalOnly(true);
+
+	private final String origin;
+
+	private final List<String> addresses;
+
+	private final List<JsonObject> bodies;
+
+	/**
+	 * Create a new envelope.
+	 *
+	 * @param origin
+	 *            Node name of the instance which publishes the envelope
+	 */
+	public EventEnvelope(String origin) {
+		this(origin, new ArrayList<>(), new ArrayList<>());
+	}
+
+	EventEnvelope(String origin, List<String> addresses, List<JsonObject> bodies) {
+		this.origin = origin;
+		this.addresses = addresses;
+		this.bodies = bodies;
+	}
+
+	/**
+	 * Add the event to the envelope.
+	 *
+	 * @param address
+	 *            Address of the event
+	 * @param body
+	 *            Body of the event
+	 * @return Fluent API
+	 */
+	public EventEnvelope add(String address, JsonObject body) {
+		addresses.add(address);
+		bodies.add(body);
+		return this;
+	}
+
+	/**
+	 * Return the node name of the instance which published the envelope.
+	 *
+	 * @return
+	 */
+	public String getOrigin() {
+		return origin;
+	}
+
+	/**
+	 * Return the amount of events in the envelope.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return addresses.size();
+	}
+
+	/**
+	 * Invoke the consumer for every event of the envelope in the order in which the events were added.
+	 *
+	 * @param consumer
+	 *            Consumer which accepts the address and the body of the event
+	 */
+	public void forEach(BiConsumer<String, JsonObject> consumer) {
+		for (int i = 0; i < addresses.size(); i++) {
+			consumer.accept(addresses.get(i), bodies.get(i));
+		}
+	}
+
+	/**
+	 * Publish the envelope on the event bus.
+	 *
+	 * @param eventBus
+	 */
+	public void publish(EventBus eventBus) {
+		eventBus.publish(EVENT_ENVELOPE.address, this, new DeliveryOptions().setCodecName(EventEnvelopeCodec.NAME));
+	}
+
+	/**
+	 * Register the codec for envelopes and the consumer which unpacks received envelopes. This needs to be invoked once for every Vert.x instance before
+	 * envelopes are published.
+	 *
+	 * @param vertx
+	 * @param nodeName
+	 *            Node name of the instance
+	 * @return Consumer which unpacks the envelopes
+	 */
+	public static MessageConsumer<EventEnvelope> register(Vertx vertx, String nodeName) {
+		EventBus eventBus = vertx.eventBus();
+		eventBus.registerCodec(new EventEnvelopeCodec());
+		// The consumer must be registered in the cluster. Local consumers do not receive messages of other instances.
+		return eventBus.<EventEnvelope>consumer(EVENT_ENVELOPE.address, message -> {
+			EventEnvelope envelope = message.body();
+			if (envelope.size() == 0) {
+				return;
+			}
+			if (log.isTraceEnabled()) {
+				log.trace("Unpacking envelope of {" + envelope.getOrigin() + "} with {" + envelope.size() + "} events");
+			}
+			// The envelope has already been sent to all instances. The events must only be delivered to the local consumers.
+			DeliveryOptions deliveryOptions = nodeName.equals(envelope.getOrigin())
+				? LOCAL_ONLY
+				: new DeliveryOptions().setLocalOnly(true).addHeader(REMOTE_HEADER, envelope.getOrigin());
+			envelope.forEach((address, body) -> eventBus.publish(address, body, deliveryOptions));
+		});
+	}
+
+	/**
+	 * Check whether the event was published by another instance.
+	 *
+	 * @param message
+	 * @return
+	 */
+	public static boolean isRemote(Message<?> message) {
+		return message.headers().contains(REMOTE_HEADER);
+	}
+
+}
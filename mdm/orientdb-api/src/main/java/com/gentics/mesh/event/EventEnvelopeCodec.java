@@ -0,0 +1,147 @@
+package com.gentics.mesh.event;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Codec for {@link EventEnvelope}. Local deliveries pass the envelope as is. Envelopes which are sent to other instances are written as a single binary
+ * payload. Larger payloads are compressed.
+ *
+ * <p>The payload starts with the version of the format. Instances drop envelopes of an unknown version, thus all instances of a cluster need to run the
+ * same format version. The version must be incremented whenever the format changes.</p>
+ */
+public class EventEnvelopeCodec implements MessageCodec<EventEnvelope, EventEnvelope> {
+
+	private static final Logger log = LoggerFactory.getLogger(EventEnvelopeCodec.class);
+
+	public static final String NAME = "mesh-event-envelope";
+
+	/**
+	 * Version of the wire format.
+	 */
+	static final byte VERSION = 2;
+
+	/**
+	 * Payloads with at least this amount of bytes will be compressed.
+	 */
+	static final int COMPRESSION_THRESHOLD = 16 * 1024;
+
+	static final byte PLAIN = 0;
+
+	static final byte GZIP = 1;
+
+	@Override
+	public void encodeToWire(Buffer buffer, EventEnvelope envelope) {
+		Buffer payload = Buffer.buffer();
+		appendBytes(payload, envelope.getOrigin().getBytes(StandardCharsets.UTF_8));
+		payload.appendInt(envelope.size());
+		envelope.forEach((address, body) -> {
+			appendBytes(payload, address.getBytes(StandardCharsets.UTF_8));
+			appendBytes(payload, body.toBuffer().getBytes());
+		});
+		buffer.appendByte(VERSION);
+		if (payload.length() >= COMPRESSION_THRESHOLD) {
+			byte[] compressed = compress(payload.getBytes());
+			buffer.appendByte(GZIP);
+			buffer.appendInt(compressed.length);
+			buffer.appendBytes(compressed);
+		} else {
+			buffer.appendByte(PLAIN);
+			buffer.appendInt(payload.length());
+			buffer.appendBuffer(payload);
+		}
+	}
+
+	@Override
+	public EventEnvelope decodeFromWire(int pos, Buffer buffer) {
+		byte version = buffer.getByte(pos);
+		if (version != VERSION) {
+			log.error("Dropping event envelope of unknown format version {" + version + "}. Expected version {" + VERSION
+				+ "}. All instances of the cluster need to use the same version.");
+			return new EventEnvelope(null);
+		}
+		byte type = buffer.getByte(pos + 1);
+		int length = buffer.getInt(pos + 2);
+		int start = pos + 6;
+		Buffer payload = type == GZIP
+			? Buffer.buffer(decompress(buffer.getBytes(start, start + length)))
+			: buffer.slice(start, start + length);
+
+		int originLength = payload.getInt(0);
+		String origin = payload.getString(4, 4 + originLength, StandardCharsets.UTF_8.name());
+		int offset = 4 + originLength;
+		int count = payload.getInt(offset);
+		offset += 4;
+		List<String> addresses = new ArrayList<>(count);
+		List<JsonObject> bodies = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int addressLength = payload.getInt(offset);
+			addresses.add(payload.getString(offset + 4, offset + 4 + addressLength, StandardCharsets.UTF_8.name()));
+			offset += 4 + addressLength;
+			int bodyLength = payload.getInt(offset);
+			// The body is only decoded once for all local consumers
+			bodies.add(new JsonObject(payload.slice(offset + 4, offset + 4 + bodyLength)));
+			offset += 4 + bodyLength;
+		}
+		return new EventEnvelope(origin, addresses, bodies);
+	}
+
+	@Override
+	public EventEnvelope transform(EventEnvelope envelope) {
+		// The envelope is not modified by the consumers
+		return envelope;
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public byte systemCodecID() {
+		return -1;
+	}
+
+	private static void appendBytes(Buffer buffer, byte[] bytes) {
+		buffer.appendInt(bytes.length);
+		buffer.appendBytes(bytes);
+	}
+
+	private static byte[] compress(byte[] data) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(data);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] decompress(byte[] data) {
+		try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+			byte[] chunk = new byte[8192];
+			int read;
+			while ((read = gzip.read(chunk)) != -1) {
+				out.write(chunk, 0, read);
+			}
+			return out.toByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
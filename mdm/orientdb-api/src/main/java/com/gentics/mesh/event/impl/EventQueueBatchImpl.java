@@ -1,7 +1,10 @@
 package com.gentics.mesh.event.impl;
 
+import static com.gentics.mesh.metric.SimpleMetric.EVENT_ENVELOPE_SIZE;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 
@@ -11,11 +14,13 @@ import com.gentics.mesh.core.rest.event.EventCauseAction;
 import com.gentics.mesh.core.rest.event.EventCauseInfo;
 import com.gentics.mesh.core.rest.event.EventCauseInfoImpl;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.EventEnvelope;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.metric.MetricsService;
 
 import io.vertx.core.Vertx;
-import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -35,9 +40,15 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 
 	private final Vertx vertx;
 
+	private final MetricsService metrics;
+
+	private final MeshOptions options;
+
 	@Inject
-	public EventQueueBatchImpl(Vertx vertx) {
+	public EventQueueBatchImpl(Vertx vertx, MetricsService metrics, MeshOptions options) {
 		this.vertx = vertx;
+		this.metrics = metrics;
+		this.options = options;
 	}
 
 	@Override
@@ -67,20 +78,28 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 
 	@Override
 	public void dispatch() {
-		EventBus eventbus = vertx.eventBus();
-		// TODO buffer event dispatching?
+		if (getEntries().isEmpty()) {
+			return;
+		}
+		// All events are published within a single envelope to reduce the amount of messages. The payload of every event is converted without
+		// serializing it to a string, which would have to be parsed again by the consumers.
+		EventEnvelope envelope = new EventEnvelope(options.getNodeName());
 		getEntries().forEach(entry -> {
 			entry.setCause(getCause());
 			MeshEvent event = entry.getEvent();
 			if (log.isDebugEnabled()) {
 				log.debug("Created event sent {}", event);
 			}
-			String json = JsonUtil.toJson(entry);
+			JsonObject body = new JsonObject(JsonUtil.getMapper().convertValue(entry, Map.class));
 			if (log.isTraceEnabled()) {
-				log.trace("Dispatching event '{}' with payload:\n{}", event, json);
+				log.trace("Dispatching event '{}' with payload:\n{}", event, body.encodePrettily());
 			}
-			eventbus.publish(event.getAddress(), new JsonObject(json));
+			envelope.add(event.getAddress(), body);
 		});
+		envelope.publish(vertx.eventBus());
+		if (metrics.isEnabled()) {
+			metrics.meter(EVENT_ENVELOPE_SIZE).record(envelope.size());
+		}
 		getEntries().clear();
 	}
 
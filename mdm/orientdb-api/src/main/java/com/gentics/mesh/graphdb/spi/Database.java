@@ -1,6 +1,7 @@
 package com.gentics.mesh.graphdb.spi;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -22,6 +23,7 @@ import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.madl.frame.VertexFrame;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.syncleus.ferma.EdgeFrame;
+import com.tinkerpop.blueprints.Edge;
 import com.tinkerpop.blueprints.Element;
 import com.tinkerpop.blueprints.TransactionalGraph;
 import com.tinkerpop.blueprints.Vertex;
@@ -285,6 +287,46 @@ public interface Database extends TxFactory {
 	 */
 	Iterator<Vertex> getVertices(Class<?> classOfVertex, String[] fieldNames, Object[] fieldValues);
 
+	/**
+	 * Lazily iterate over the vertices of an ordered composite index (see {@link com.gentics.mesh.madl.index.AbstractIndexDefinitionBuilder#ordered()})
+	 * whose entries start with the given key. The vertices are returned in the order of the second field of the index, thus no sorting is needed.
+	 *
+	 * @param classOfVertex
+	 * @param indexPostfix
+	 *            Postfix of the ordered index of the class
+	 * @param key
+	 *            Value of the first field of the index
+	 * @param after
+	 *            Value of the second field after which the iteration starts or null to start with the first entry of the key
+	 * @return
+	 */
+	Iterator<Vertex> getVerticesInRange(Class<?> classOfVertex, String indexPostfix, Object key, Object after);
+
+	/**
+	 * Locate the vertices of the class which match any of the given values. The values are passed to the database in chunks of bounded size, so that a
+	 * single query stays small. Vertices which store a collection in the field are returned if the collection contains any of the values (once for each
+	 * chunk which contains one of its values).
+	 *
+	 * @param classOfVertex
+	 * @param fieldName
+	 * @param fieldValues
+	 * @return
+	 */
+	Iterator<Vertex> getVerticesIn(Class<?> classOfVertex, String fieldName, Collection<?> fieldValues);
+
+	/**
+	 * Locate the outgoing edges with the given label of all given vertices. The vertex ids are passed to the database in chunks of bounded size. Only edges
+	 * which match the given field values are returned.
+	 *
+	 * @param vertexIds
+	 *            Ids of the vertices from which the edges start
+	 * @param label
+	 * @param fieldNames
+	 * @param fieldValues
+	 * @return
+	 */
+	Iterator<Edge> getOutEdges(Collection<?> vertexIds, String label, String[] fieldNames, Object[] fieldValues);
+
 	/**
 	 * Utilize the index and locate the matching vertices.
 	 *
@@ -0,0 +1,43 @@
+package com.gentics.mesh.parameter.impl;
+
+import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.AbstractParameters;
+import com.gentics.mesh.parameter.GraphQLParameters;
+import org.raml.model.ParamType;
+import org.raml.model.parameter.QueryParameter;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class GraphQLParametersImpl extends AbstractParameters implements GraphQLParameters {
+
+	public GraphQLParametersImpl(ActionContext ac) {
+		super(ac);
+	}
+
+	public GraphQLParametersImpl() {
+	}
+
+	@Override
+	public void validate() {
+		// TODO validate query parameter value
+	}
+
+	@Override
+	public String getName() {
+		return "GraphQL parameters";
+	}
+
+	@Override
+	public Map<? extends String, ? extends QueryParameter> getRAMLParameters() {
+		QueryParameter prettyParameter = new QueryParameter();
+		prettyParameter.setDescription("Specify whether the JSON response should be pretty printed. By default the response is written in compact form.");
+		prettyParameter.setExample("true");
+		prettyParameter.setRequired(false);
+		prettyParameter.setDefaultValue("false");
+		prettyParameter.setType(ParamType.BOOLEAN);
+
+		return Collections.singletonMap(PRETTY_PARAMETER_KEY, prettyParameter);
+	}
+
+}
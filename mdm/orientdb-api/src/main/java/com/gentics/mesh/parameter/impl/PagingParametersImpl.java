@@ -98,6 +98,25 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 		perPageParameter.setRequired(false);
 		perPageParameter.setType(ParamType.NUMBER);
 		parameters.put(PER_PAGE_PARAMETER_KEY, perPageParameter);
+
+		// after
+		QueryParameter afterParameter = new QueryParameter();
+		afterParameter.setDescription(
+			"Cursor after which the page should start. Use an empty value to load the first page and the returned cursor of the paging meta info to load the next page. The page parameter will be ignored.");
+		afterParameter.setExample("IzE1OjI0");
+		afterParameter.setRequired(false);
+		afterParameter.setType(ParamType.STRING);
+		parameters.put(AFTER_PARAMETER_KEY, afterParameter);
+
+		// total
+		QueryParameter totalParameter = new QueryParameter();
+		totalParameter.setDefaultValue("true");
+		totalParameter.setDescription(
+			"Flag which indicates whether the total count and the page count should be determined. Determining the counts requires all elements to be loaded. The counts will be set to -1 if disabled or if a cursor is used.");
+		totalParameter.setExample("false");
+		totalParameter.setRequired(false);
+		totalParameter.setType(ParamType.BOOLEAN);
+		parameters.put(TOTAL_PARAMETER_KEY, totalParameter);
 		return parameters;
 	}
 
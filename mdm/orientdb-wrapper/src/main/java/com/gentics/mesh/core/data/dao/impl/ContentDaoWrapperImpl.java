@@ -1,10 +1,13 @@
 package com.gentics.mesh.core.data.dao.impl;
 
 import static com.gentics.mesh.core.data.util.HibClassConverter.toNode;
+import static com.gentics.mesh.core.data.util.HibClassConverter.toProject;
+import static com.gentics.mesh.core.rest.common.ContainerType.INITIAL;
 
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -21,6 +24,7 @@ import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.list.MicronodeGraphFieldList;
 import com.gentics.mesh.core.data.node.field.nesting.MicronodeGraphField;
 import com.gentics.mesh.core.data.node.field.nesting.NodeGraphField;
+import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.data.schema.MicroschemaVersion;
 import com.gentics.mesh.core.data.schema.SchemaVersion;
 import com.gentics.mesh.core.data.user.HibUser;
@@ -93,6 +97,18 @@ public class ContentDaoWrapperImpl implements ContentDaoWrapper {
 		return toNode(node).findVersion(languageTags, branchUuid, version);
 	}
 
+	@Override
+	public List<NodeGraphFieldContainer> findVersions(HibProject project, List<? extends HibNode> nodes, String branchUuid, List<String> languageTags,
+		ContainerType type) {
+		if (type == INITIAL) {
+			// The initial versions can only be found by traversing the version chain of each content
+			return nodes.stream()
+				.map(node -> findVersion(node, languageTags, branchUuid, type.getHumanCode()))
+				.collect(Collectors.toList());
+		}
+		return toProject(project).getNodeRoot().findContents(nodes, branchUuid, languageTags, type);
+	}
+
 	@Override
 	public void deleteLanguageContainer(HibNode node, InternalActionContext ac, HibBranch branch, String languageTag, BulkActionContext bac, boolean failForLastContainer) {
 		toNode(node).deleteLanguageContainer(ac, branch, languageTag, bac, failForLastContainer);
@@ -17,6 +17,9 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -132,6 +135,8 @@ public class GroupDaoWrapperImpl extends AbstractDaoWrapper<HibGroup> implements
 		for (Role role : getRoles(group)) {
 			graphUser.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
+		// Cached denials may no longer be valid
+		permissionCache.get().invalidateUsers(PermissionCache.key(user.getId()));
 	}
 
 	@Override
@@ -143,7 +148,7 @@ public class GroupDaoWrapperImpl extends AbstractDaoWrapper<HibGroup> implements
 
 		// The user does no longer belong to the group so lets update the shortcut edges
 		user.updateShortcutEdges();
-		permissionCache.get().clear();
+		permissionCache.get().invalidateUsers(PermissionCache.key(user.getId()));
 	}
 
 	@Override
@@ -167,9 +172,13 @@ public class GroupDaoWrapperImpl extends AbstractDaoWrapper<HibGroup> implements
 		graphGroup.setUniqueLinkInTo(graphRole, HAS_ROLE);
 
 		// Add shortcut edges from role to users of this group
+		List<HibUser> users = new ArrayList<>();
 		for (HibUser user : getUsers(group)) {
 			toUser(user).setUniqueLinkOutTo(graphRole, ASSIGNED_TO_ROLE);
+			users.add(user);
 		}
+		// Cached denials may no longer be valid
+		permissionCache.get().invalidateUsers(userKeys(users));
 
 	}
 
@@ -180,10 +189,12 @@ public class GroupDaoWrapperImpl extends AbstractDaoWrapper<HibGroup> implements
 		graphGroup.unlinkIn(graphRole, HAS_ROLE);
 
 		// Update the shortcut edges since the role does no longer belong to the group
+		List<HibUser> users = new ArrayList<>();
 		for (HibUser user : getUsers(group)) {
 			user.updateShortcutEdges();
+			users.add(user);
 		}
-		permissionCache.get().clear();
+		permissionCache.get().invalidateUsers(userKeys(users));
 	}
 
 	@Override
@@ -307,7 +318,11 @@ public class GroupDaoWrapperImpl extends AbstractDaoWrapper<HibGroup> implements
 			bac.inc();
 		}
 		bac.process();
-		permissionCache.get().clear();
+		permissionCache.get().invalidateUsers(userKeys(affectedUsers));
+	}
+
+	private long[] userKeys(Collection<? extends HibUser> users) {
+		return users.stream().mapToLong(user -> PermissionCache.key(user.getId())).toArray();
 	}
 
 	@Override
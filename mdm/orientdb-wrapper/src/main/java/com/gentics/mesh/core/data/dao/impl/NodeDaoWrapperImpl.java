@@ -99,11 +99,26 @@ public class NodeDaoWrapperImpl extends AbstractDaoWrapper<HibNode> implements N
 		return toNode(node).getChildrenStream(ac);
 	}
 
+	@Override
+	public Stream<? extends HibNode> getChildrenStream(HibNode node, InternalActionContext ac, String after) {
+		return toNode(node).getChildrenStream(ac, after);
+	}
+
+	@Override
+	public List<? extends List<? extends HibNode>> getChildNodes(HibProject project, List<? extends HibNode> nodes, InternalActionContext ac) {
+		return toProject(project).getNodeRoot().findChildNodes(nodes, ac);
+	}
+
 	@Override
 	public HibNode getParentNode(HibNode node, String branchUuid) {
 		return toNode(node).getParentNode(branchUuid);
 	}
 
+	@Override
+	public List<? extends HibNode> getParentNodes(HibProject project, List<? extends HibNode> nodes, String branchUuid) {
+		return toProject(project).getNodeRoot().findParentNodes(nodes, branchUuid);
+	}
+
 	@Override
 	public void setParentNode(HibNode node, String branchUuid, HibNode parentNode) {
 		toNode(node).setParentNode(branchUuid, toNode(parentNode));
@@ -112,15 +112,22 @@ public class RoleDaoWrapperImpl extends AbstractDaoWrapper<HibRole> implements R
 
 	@Override
 	public void grantPermissions(HibRole role, HibElement vertex, InternalPermission... permissions) {
+		boolean permissionGranted = false;
 		for (InternalPermission permission : permissions) {
 			Set<String> allowedRoles = vertex.getRoleUuidsForPerm(permission);
 			if (allowedRoles == null) {
 				vertex.setRoleUuidForPerm(permission, Collections.singleton(role.getUuid()));
+				permissionGranted = true;
 			} else {
-				allowedRoles.add(role.getUuid());
+				permissionGranted = allowedRoles.add(role.getUuid()) || permissionGranted;
 				vertex.setRoleUuidForPerm(permission, allowedRoles);
 			}
 		}
+
+		// Cached denials of the element are no longer valid
+		if (permissionGranted) {
+			permissionCache.get().invalidateElement(PermissionCache.key(vertex.getId()));
+		}
 	}
 
 	@Override
@@ -135,7 +142,7 @@ public class RoleDaoWrapperImpl extends AbstractDaoWrapper<HibRole> implements R
 		}
 
 		if (permissionRevoked) {
-			permissionCache.get().clear();
+			permissionCache.get().invalidateElement(PermissionCache.key(vertex.getId()));
 		}
 	}
 
@@ -293,6 +293,12 @@ public class SchemaDaoWrapperImpl extends AbstractDaoWrapper<HibSchema> implemen
 		return boot.get().schemaContainerRoot().getNodes(graphSchema);
 	}
 
+	@Override
+	public Iterator<? extends Node> getNodes(HibSchema schema, String after) {
+		Schema graphSchema = toSchema(schema);
+		return boot.get().schemaContainerRoot().getNodes(graphSchema, after);
+	}
+
 	@Override
 	public void delete(HibSchema schema, BulkActionContext bac) {
 		Schema graphSchema = toSchema(schema);
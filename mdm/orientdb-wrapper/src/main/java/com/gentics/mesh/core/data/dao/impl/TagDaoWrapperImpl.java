@@ -347,6 +347,11 @@ public class TagDaoWrapperImpl extends AbstractDaoWrapper<HibTag> implements Tag
 		return toNode(node).getTags(user, params, branch);
 	}
 
+	@Override
+	public List<? extends List<? extends HibTag>> getTags(HibProject project, List<? extends HibNode> nodes, HibUser user, HibBranch branch) {
+		return toProject(project).getNodeRoot().findTags(nodes, user, branch.getUuid());
+	}
+
 	@Override
 	public boolean hasTag(HibNode node, HibTag tag, HibBranch branch) {
 		return toNode(node).hasTag(tag, branch);
@@ -209,7 +209,7 @@ public class UserDaoWrapperImpl extends AbstractDaoWrapper<HibUser> implements U
 			if (ac.getUser().isAdmin()) {
 				user.setAdmin(requestModel.getAdmin());
 				// Permissions need to be purged
-				permissionCache.get().clear();
+				permissionCache.get().invalidateUsers(PermissionCache.key(user.getId()));
 			} else {
 				throw error(FORBIDDEN, "user_error_admin_privilege_needed_for_admin_flag");
 			}
@@ -419,45 +419,45 @@ public class UserDaoWrapperImpl extends AbstractDaoWrapper<HibUser> implements U
 
 	@Override
 	public boolean hasPermissionForId(HibUser user, Object elementId, InternalPermission permission) {
-		if (permissionCache.get().hasPermission(user.getId(), permission, elementId)) {
-			return true;
-		} else {
-			// Admin users have all permissions
-			if (user.isAdmin()) {
-				for (InternalPermission perm : InternalPermission.values()) {
-					permissionCache.get().store(user.getId(), perm, elementId);
-				}
-				return true;
+		PermissionCache cache = permissionCache.get();
+		long userKey = PermissionCache.key(user.getId());
+		long elementKey = PermissionCache.key(elementId);
+		Boolean cachedPermission = cache.getPermission(userKey, permission, elementKey);
+		if (cachedPermission != null) {
+			return cachedPermission;
+		}
+		// The generation needs to be determined before the permissions are read, so that results of concurrently changed permissions are not cached
+		long generation = cache.generation();
+		// Admin users have all permissions
+		if (user.isAdmin()) {
+			for (InternalPermission perm : InternalPermission.values()) {
+				cache.store(userKey, perm, elementKey, true, generation);
 			}
+			return true;
+		}
 
-			FramedGraph graph = Tx.get().getGraph();
-			// Find all roles that are assigned to the user by checking the
-			// shortcut edge from the index
-			String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
-			Iterable<Edge> roleEdges = graph.getEdges(idxKey.toLowerCase(), user.getId());
-			Vertex vertex = graph.getVertex(elementId);
+		FramedGraph graph = Tx.get().getGraph();
+		// Find all roles that are assigned to the user by checking the
+		// shortcut edge from the index
+		String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
+		Iterable<Edge> roleEdges = graph.getEdges(idxKey.toLowerCase(), user.getId());
+		Vertex vertex = graph.getVertex(elementId);
+		Set<String> allowedRoles = vertex.getProperty(permission.propertyKey());
+		if (allowedRoles != null) {
 			for (Edge roleEdge : roleEdges) {
 				Vertex role = roleEdge.getVertex(Direction.IN);
-
-				Set<String> allowedRoles = vertex.getProperty(permission.propertyKey());
-				boolean hasPermission = allowedRoles != null && allowedRoles.contains(role.<String>getProperty("uuid"));
-				if (hasPermission) {
-					// We only store granting permissions in the store in order
-					// reduce the invalidation calls.
-					// This way we do not need to invalidate the cache if a role
-					// is removed from a group or a role is deleted.
-					permissionCache.get().store(user.getId(), permission, elementId);
+				if (allowedRoles.contains(role.<String>getProperty("uuid"))) {
+					cache.store(userKey, permission, elementKey, true, generation);
 					return true;
 				}
 			}
-			// Fall back to read and check whether the user has read perm. Read permission also includes read published.
-			if (permission == READ_PUBLISHED_PERM) {
-				return hasPermissionForId(user, elementId, READ_PERM);
-			} else {
-				return false;
-			}
 		}
-
+		// Fall back to read and check whether the user has read perm. Read permission also includes read published.
+		boolean granted = permission == READ_PUBLISHED_PERM && hasPermissionForId(user, elementId, READ_PERM);
+		// Denials are cached as well. The cached permissions of the element or the user are invalidated whenever the permissions of a role
+		// on the element or the roles of the user change.
+		cache.store(userKey, permission, elementKey, granted, generation);
+		return granted;
 	}
 
 	@Override
@@ -536,10 +536,11 @@ public class UserDaoWrapperImpl extends AbstractDaoWrapper<HibUser> implements U
 		// user will be just disabled and removed from all groups.");
 		// }
 		// outE(HAS_USER).removeAll();
+		Object userId = user.getId();
 		bac.add(user.onDeleted());
 		user.remove();
 		bac.process();
-		permissionCache.get().clear();
+		permissionCache.get().invalidateUsers(PermissionCache.key(userId));
 	}
 
 	@Override
@@ -568,6 +569,7 @@ public class UserDaoWrapperImpl extends AbstractDaoWrapper<HibUser> implements U
 			String key = perm.propertyKey();
 			targetNode.property(key, sourceNode.property(key));
 		}
+		permissionCache.get().invalidateElement(PermissionCache.key(targetNode.id()));
 		return user;
 	}
 
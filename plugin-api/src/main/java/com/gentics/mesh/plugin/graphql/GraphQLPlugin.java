@@ -10,8 +10,9 @@ import graphql.schema.GraphQLSchema;
 public interface GraphQLPlugin extends MeshPlugin {
 
 	/**
-	 * Create the GraphQL API root schema for the plugin. Please note that this method will be invoked for each query. It is thus recommended to generate the
-	 * type up-front and only return the type field. Doing otherwise could potentially slow down the GraphQL query.
+	 * Create the GraphQL API root schema for the plugin. Please note that this method will be invoked whenever the GraphQL schema of a project needs to be
+	 * built. Built schemas are cached and the returned schema should thus not depend on the query. It is recommended to generate the type up-front and only
+	 * return the type field. Doing otherwise could potentially slow down the GraphQL query.
 	 * 
 	 * @return
 	 */
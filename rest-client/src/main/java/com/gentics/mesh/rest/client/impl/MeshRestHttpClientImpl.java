@@ -80,6 +80,7 @@ import com.gentics.mesh.core.rest.schema.change.impl.SchemaChangesListModel;
 import com.gentics.mesh.core.rest.schema.impl.SchemaCreateRequest;
 import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
 import com.gentics.mesh.core.rest.schema.impl.SchemaUpdateRequest;
+import com.gentics.mesh.core.rest.search.SearchSourceListResponse;
 import com.gentics.mesh.core.rest.search.SearchStatusResponse;
 import com.gentics.mesh.core.rest.tag.TagCreateRequest;
 import com.gentics.mesh.core.rest.tag.TagFamilyCreateRequest;
@@ -869,6 +870,20 @@ public abstract class MeshRestHttpClientImpl extends AbstractMeshRestHttpClient
 		return handleRequest(POST, "/" + encodeSegment(projectName) + "/rawSearch/nodes" + getQuery(parameters), ObjectNode.class, json);
 	}
 
+	@Override
+	public MeshRequest<SearchSourceListResponse> searchNodesSource(String json, ParameterProvider... parameters) {
+		Objects.requireNonNull(json, "json must not be null");
+		return handleRequest(POST, "/search/nodes/source" + getQuery(parameters), SearchSourceListResponse.class, json);
+	}
+
+	@Override
+	public MeshRequest<SearchSourceListResponse> searchNodesSource(String projectName, String json, ParameterProvider... parameters) {
+		Objects.requireNonNull(projectName, "projectName must not be null");
+		Objects.requireNonNull(json, "json must not be null");
+		return handleRequest(POST, "/" + encodeSegment(projectName) + "/search/nodes/source" + getQuery(parameters), SearchSourceListResponse.class,
+			json);
+	}
+
 	@Override
 	public MeshRequest<UserListResponse> searchUsers(String json, ParameterProvider... parameters) {
 		Objects.requireNonNull(json, "json must not be null");
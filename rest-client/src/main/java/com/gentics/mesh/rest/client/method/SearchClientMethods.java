@@ -8,6 +8,7 @@ import com.gentics.mesh.core.rest.project.ProjectListResponse;
 import com.gentics.mesh.core.rest.role.RoleListResponse;
 import com.gentics.mesh.core.rest.schema.MicroschemaListResponse;
 import com.gentics.mesh.core.rest.schema.SchemaListResponse;
+import com.gentics.mesh.core.rest.search.SearchSourceListResponse;
 import com.gentics.mesh.core.rest.search.SearchStatusResponse;
 import com.gentics.mesh.core.rest.tag.TagFamilyListResponse;
 import com.gentics.mesh.core.rest.tag.TagListResponse;
@@ -58,6 +59,27 @@ public interface SearchClientMethods {
 	 */
 	MeshRequest<ObjectNode> searchNodesRaw(String projectName, String json, ParameterProvider... parameters);
 
+	/**
+	 * Search for nodes across all projects and return the documents of the search index without loading the nodes.
+	 * 
+	 * @param json
+	 *            Elasticsearch search request
+	 * @param parameters
+	 * @return
+	 */
+	MeshRequest<SearchSourceListResponse> searchNodesSource(String json, ParameterProvider... parameters);
+
+	/**
+	 * Search for nodes in the project and return the documents of the search index without loading the nodes.
+	 * 
+	 * @param projectName
+	 * @param json
+	 *            Elasticsearch search request
+	 * @param parameters
+	 * @return
+	 */
+	MeshRequest<SearchSourceListResponse> searchNodesSource(String projectName, String json, ParameterProvider... parameters);
+
 	/**
 	 * Search users.
 	 * 
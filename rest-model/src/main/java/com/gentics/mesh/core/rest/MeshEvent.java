@@ -181,6 +181,13 @@ public enum MeshEvent {
 		null,
 		"Emitted when the database status changes. (e.g. offline, online, backup, syncing)"),
 
+	/**
+	 * Envelope which contains multiple events.
+	 */
+	EVENT_ENVELOPE("mesh.event.envelope",
+		null,
+		"Internal event which contains multiple events. The contained events are published to the local consumers of every instance."),
+
 	/**
 	 * Event which is send to update the permission stores.
 	 */
@@ -687,6 +694,8 @@ public enum MeshEvent {
 	public static List<MeshEvent> publicEvents() {
 		List<MeshEvent> events = new ArrayList<>();
 		events.addAll(Arrays.asList(MeshEvent.values()));
+		// The contained events are published separately
+		events.remove(EVENT_ENVELOPE);
 		return events;
 	}
 
@@ -24,6 +24,10 @@ public class PagingMetaInfo {
 	@JsonPropertyDescription("Number of all elements which could be found.")
 	private long totalCount;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Cursor which can be used to load the next page. The cursor is only set for cursor based paging and if another page exists.")
+	private String nextCursor;
+
 	public PagingMetaInfo() {
 	}
 
@@ -111,4 +115,25 @@ public class PagingMetaInfo {
 		return this;
 	}
 
+	/**
+	 * Return the cursor which can be used to load the next page.
+	 * 
+	 * @return Cursor or null if no further page exists or cursor based paging was not used
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	/**
+	 * Set the cursor which can be used to load the next page.
+	 * 
+	 * @param nextCursor
+	 *            Cursor of the next page
+	 * @return Fluent API
+	 */
+	public PagingMetaInfo setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+		return this;
+	}
+
 }
@@ -56,6 +56,18 @@ public class JobResponse extends AbstractResponse {
 	@JsonPropertyDescription("The completion count of the job. This indicates how many items the job has processed.")
 	private long completionCount;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The total amount of items which need to be processed by the job.")
+	private Long totalCount;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The amount of items which were processed per second.")
+	private Double throughput;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The estimated remaining time of the job in milliseconds.")
+	private Long estimatedRemainingTime;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Name of the Gentics Mesh instance on which the job was executed.")
 	private String nodeName;
@@ -201,6 +213,60 @@ public class JobResponse extends AbstractResponse {
 
 	}
 
+	/**
+	 * Return the total amount of elements which need to be processed by the job.
+	 * 
+	 * @return
+	 */
+	public Long getTotalCount() {
+		return totalCount;
+	}
+
+	/**
+	 * Set the total amount of elements which need to be processed by the job.
+	 * 
+	 * @param totalCount
+	 */
+	public void setTotalCount(Long totalCount) {
+		this.totalCount = totalCount;
+	}
+
+	/**
+	 * Return the amount of elements which were processed per second.
+	 * 
+	 * @return
+	 */
+	public Double getThroughput() {
+		return throughput;
+	}
+
+	/**
+	 * Set the amount of elements which were processed per second.
+	 * 
+	 * @param throughput
+	 */
+	public void setThroughput(Double throughput) {
+		this.throughput = throughput;
+	}
+
+	/**
+	 * Return the estimated remaining time of the job in milliseconds.
+	 * 
+	 * @return
+	 */
+	public Long getEstimatedRemainingTime() {
+		return estimatedRemainingTime;
+	}
+
+	/**
+	 * Set the estimated remaining time of the job in milliseconds.
+	 * 
+	 * @param estimatedRemainingTime
+	 */
+	public void setEstimatedRemainingTime(Long estimatedRemainingTime) {
+		this.estimatedRemainingTime = estimatedRemainingTime;
+	}
+
 	/**
 	 * Return the name of the Gentics Mesh node on which the job was executed.
 	 * 
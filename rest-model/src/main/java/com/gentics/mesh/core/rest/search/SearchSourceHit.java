@@ -0,0 +1,69 @@
+package com.gentics.mesh.core.rest.search;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.common.RestModel;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * POJO for a search hit which contains the document of the search index.
+ */
+public class SearchSourceHit implements RestModel {
+
+	@JsonProperty(required = true)
+	@JsonPropertyDescription("Id of the document in the search index.")
+	private String id;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Relevance score of the hit.")
+	private Double score;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Document of the search index. Only the selected fields are included if the query contains source filtering.")
+	private JsonObject source;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Highlighted fragments of the hit if the query requested highlighting.")
+	private JsonObject highlight;
+
+	public SearchSourceHit() {
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public SearchSourceHit setId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public Double getScore() {
+		return score;
+	}
+
+	public SearchSourceHit setScore(Double score) {
+		this.score = score;
+		return this;
+	}
+
+	public JsonObject getSource() {
+		return source;
+	}
+
+	public SearchSourceHit setSource(JsonObject source) {
+		this.source = source;
+		return this;
+	}
+
+	public JsonObject getHighlight() {
+		return highlight;
+	}
+
+	public SearchSourceHit setHighlight(JsonObject highlight) {
+		this.highlight = highlight;
+		return this;
+	}
+
+}
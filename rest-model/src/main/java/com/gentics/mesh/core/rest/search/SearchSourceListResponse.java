@@ -0,0 +1,13 @@
+package com.gentics.mesh.core.rest.search;
+
+import com.gentics.mesh.core.rest.common.ListResponse;
+
+/**
+ * List response which contains the documents of the search index instead of the elements loaded from the graph.
+ */
+public class SearchSourceListResponse extends ListResponse<SearchSourceHit> {
+
+	public SearchSourceListResponse() {
+	}
+
+}
@@ -25,4 +25,6 @@ public final class HttpConstants {
 
 	public static final String APPLICATION_XML = "application/xml";
 
+	public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
 }
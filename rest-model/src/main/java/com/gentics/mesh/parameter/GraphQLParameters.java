@@ -0,0 +1,26 @@
+package com.gentics.mesh.parameter;
+
+public interface GraphQLParameters extends ParameterProvider {
+
+	String PRETTY_PARAMETER_KEY = "pretty";
+
+	/**
+	 * Set the pretty flag. When enabled the JSON response will be indented.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default GraphQLParameters setPretty(boolean flag) {
+		setParameter(PRETTY_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
+	/**
+	 * Check whether the response should be pretty printed. By default the response will be written in compact form.
+	 * 
+	 * @return
+	 */
+	default boolean isPretty() {
+		return "true".equalsIgnoreCase(getParameter(PRETTY_PARAMETER_KEY));
+	}
+}
@@ -9,6 +9,8 @@ public interface PagingParameters extends ParameterProvider {
 	public static final String PER_PAGE_PARAMETER_KEY = "perPage";
 	public static final String SORT_BY_PARAMETER_KEY = "sortBy";
 	public static final String SORT_ORDER_PARAMETER_KEY = "order";
+	public static final String AFTER_PARAMETER_KEY = "after";
+	public static final String TOTAL_PARAMETER_KEY = "total";
 
 	public static final int DEFAULT_PAGE = 1;
 
@@ -56,6 +58,59 @@ public interface PagingParameters extends ParameterProvider {
 		return this;
 	}
 
+	/**
+	 * Return the cursor after which the page should start. An empty cursor selects the first page. Cursor based paging is only used if the parameter has been
+	 * set. The cursor for the next page is returned in the paging meta info of the list response.
+	 * 
+	 * @return Cursor or null if offset based paging should be used
+	 */
+	default String getAfter() {
+		return getParameter(AFTER_PARAMETER_KEY);
+	}
+
+	/**
+	 * Set the cursor after which the page should start.
+	 * 
+	 * @param after
+	 *            Cursor which was returned with the previous page or an empty string for the first page
+	 * @return Fluent API
+	 */
+	default PagingParameters setAfter(String after) {
+		setParameter(AFTER_PARAMETER_KEY, after);
+		return this;
+	}
+
+	/**
+	 * Check whether cursor based paging was requested.
+	 * 
+	 * @return
+	 */
+	default boolean isCursorPaging() {
+		return getAfter() != null;
+	}
+
+	/**
+	 * Return the flag which indicates whether the total count of elements should be determined. Counting requires all elements to be iterated. The total
+	 * count is never determined for cursor based paging.
+	 * 
+	 * @return
+	 */
+	default boolean getTotal() {
+		String value = getParameter(TOTAL_PARAMETER_KEY);
+		return value == null || Boolean.parseBoolean(value);
+	}
+
+	/**
+	 * Set the flag which indicates whether the total count of elements should be determined.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default PagingParameters setTotal(boolean flag) {
+		setParameter(TOTAL_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
 	/**
 	 * Return the sort by parameter value.
 	 * 
@@ -1,9 +1,16 @@
 package com.gentics.mesh.storage.s3;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -12,10 +19,13 @@ import javax.inject.Singleton;
 
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.storage.AbstractBinaryStorage;
+import com.gentics.mesh.storage.LocalBinaryCache;
 import com.gentics.mesh.util.RxUtil;
 
+import io.netty.buffer.Unpooled;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
+import io.reactivex.Single;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.logging.Logger;
@@ -31,6 +41,7 @@ import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
 import software.amazon.awssdk.services.s3.model.CreateBucketResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
@@ -50,11 +61,16 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 
 	private FileSystem fs;
 
+	private LocalBinaryCache cache;
+
 	@Inject
 	public S3BinaryStorage(S3StorageOptions options, Vertx rxVertx) {
 		this.options = options;
 		this.rxVertx = rxVertx;
 		this.fs = rxVertx.fileSystem();
+		if (options.isCacheEnabled()) {
+			this.cache = new LocalBinaryCache(new File(options.getCacheDirectory()), options.getCacheSize(), rxVertx);
+		}
 		init();
 	}
 
@@ -127,49 +143,84 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 	}
 
 	@Override
-	public Flowable<Buffer> read(String hashsum) {
-		return Flowable.generate(sub -> {
+	public Flowable<Buffer> read(String uuid) {
+		if (cache == null) {
+			return getObject(uuid, null);
+		}
+		// Load the entire object into the cache so that subsequent requests can be answered from the local copy.
+		return cache.load(uuid, getObject(uuid, null))
+			.flatMapPublisher(path -> fs.rxOpen(path, new OpenOptions()).toFlowable())
+			.flatMap(RxUtil::toBufferFlow);
+	}
+
+	@Override
+	public Flowable<Buffer> read(String uuid, long offset, long length) {
+		String path = cache == null ? null : cache.getPath(uuid);
+		if (path != null) {
+			return fs.rxOpen(path, new OpenOptions())
+				.toFlowable()
+				.flatMap(file -> RxUtil.toBufferFlow(file.setReadPos(offset).setReadLength(length)));
+		}
+		// Only fetch the requested range instead of skipping the data in front of it
+		return getObject(uuid, "bytes=" + offset + "-" + (offset + length - 1));
+	}
+
+	/**
+	 * Fetch the object or the given range of it. The content is requested from the S3 client as it is consumed.
+	 * 
+	 * @param uuid
+	 * @param range
+	 *            Value of the range header or null to fetch the entire object
+	 * @return
+	 */
+	private Flowable<Buffer> getObject(String uuid, String range) {
+		return Single.<SdkPublisher<ByteBuffer>>create(sub -> {
 			if (log.isDebugEnabled()) {
-				log.debug("Loading data for hash {" + hashsum + "}");
+				log.debug("Loading data for uuid {" + uuid + "} with range {" + range + "}");
+			}
+			GetObjectRequest.Builder request = GetObjectRequest.builder()
+				.bucket(options.getBucketName())
+				.key(uuid);
+			if (range != null) {
+				request.range(range);
 			}
-			// GetObjectRequest rangeObjectRequest = new GetObjectRequest(options.getBucketName(), hashsum);
-			GetObjectRequest request = GetObjectRequest.builder().bucket(options.getBucketName()).build();
-			client.getObject(request, new AsyncResponseTransformer<GetObjectResponse, String>() {
+			client.getObject(request.build(), new AsyncResponseTransformer<GetObjectResponse, SdkPublisher<ByteBuffer>>() {
+
+				private CompletableFuture<SdkPublisher<ByteBuffer>> future;
 
 				@Override
-				public CompletableFuture<String> prepare() {
-					// TODO Auto-generated method stub
-					return null;
+				public CompletableFuture<SdkPublisher<ByteBuffer>> prepare() {
+					future = new CompletableFuture<>();
+					return future;
 				}
 
 				@Override
 				public void onResponse(GetObjectResponse response) {
-					// TODO Auto-generated method stub
-
 				}
 
 				@Override
 				public void onStream(SdkPublisher<ByteBuffer> publisher) {
-					// TODO Auto-generated method stub
-
+					future.complete(publisher);
 				}
 
 				@Override
 				public void exceptionOccurred(Throwable error) {
-					// TODO Auto-generated method stub
-
+					future.completeExceptionally(error);
+				}
+			}).whenComplete((publisher, error) -> {
+				if (error != null) {
+					sub.onError(error);
+				} else {
+					sub.onSuccess(publisher);
 				}
 			});
+		}).flatMapPublisher(publisher -> Flowable.fromPublisher(publisher)
+			.map(byteBuffer -> Buffer.buffer(Unpooled.wrappedBuffer(byteBuffer))));
+	}
 
-			// try (InputStream stream = objectPortion.getObjectContent()) {
-			//
-			// if (log.isDebugEnabled()) {
-			// log.debug("Printing bytes retrieved:");
-			// displayTextInputStream(stream);
-			// }
-			// }
-			// sub.onComplete();
-		});
+	@Override
+	public String getLocalPath(String uuid) {
+		return cache == null ? null : cache.getPath(uuid);
 	}
 
 	@Override
@@ -228,13 +279,24 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 
 	@Override
 	public Completable delete(String uuid) {
-		return Completable.complete();
+		Completable invalidate = cache == null ? Completable.complete() : cache.invalidate(uuid);
+		return invalidate.andThen(Completable.create(sub -> {
+			client.deleteObject(DeleteObjectRequest.builder()
+				.bucket(options.getBucketName())
+				.key(uuid)
+				.build()).whenComplete((response, error) -> {
+					if (error != null) {
+						sub.onError(error);
+					} else {
+						sub.onComplete();
+					}
+				});
+		}));
 	}
 
 	@Override
 	public Buffer readAllSync(String uuid) {
-		// TODO implement
-		return null;
+		return read(uuid).reduce(Buffer.buffer(), Buffer::appendBuffer).blockingGet();
 	}
 
 	@Override
@@ -249,6 +311,23 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 
 	@Override
 	public InputStream openBlockingStream(String uuid) throws IOException {
-		return null;
+		if (cache != null) {
+			// The image manipulator reads the originals via this stream, so they are only downloaded once while they are cached.
+			String path = cache.load(uuid, getObject(uuid, null)).blockingGet();
+			return Files.newInputStream(Paths.get(path));
+		}
+		Iterator<Buffer> buffers = getObject(uuid, null).blockingIterable().iterator();
+		return new SequenceInputStream(new Enumeration<InputStream>() {
+
+			@Override
+			public boolean hasMoreElements() {
+				return buffers.hasNext();
+			}
+
+			@Override
+			public InputStream nextElement() {
+				return new ByteArrayInputStream(buffers.next().getBytes());
+			}
+		});
 	}
 }
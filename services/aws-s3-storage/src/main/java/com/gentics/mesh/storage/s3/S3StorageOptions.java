@@ -6,6 +6,8 @@ public class S3StorageOptions {
 
 	public static final String DEFAULT_BUCKET_NAME = "mesh";
 
+	public static final long DEFAULT_CACHE_SIZE = 0;
+
 	private String url;
 
 	private String accessId;
@@ -16,6 +18,10 @@ public class S3StorageOptions {
 
 	private String region;
 
+	private String cacheDirectory;
+
+	private long cacheSize = DEFAULT_CACHE_SIZE;
+
 	public String getUrl() {
 		return url;
 	}
@@ -61,11 +67,56 @@ public class S3StorageOptions {
 		return this;
 	}
 
+	public String getCacheDirectory() {
+		return cacheDirectory;
+	}
+
+	/**
+	 * Set the local directory in which the binaries will be cached.
+	 * 
+	 * @param cacheDirectory
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setCacheDirectory(String cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+		return this;
+	}
+
+	public long getCacheSize() {
+		return cacheSize;
+	}
+
+	/**
+	 * Set the maximum size of the local binary cache in bytes. The cache is disabled if the size is 0.
+	 * 
+	 * @param cacheSize
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setCacheSize(long cacheSize) {
+		this.cacheSize = cacheSize;
+		return this;
+	}
+
+	/**
+	 * Check whether the local binary cache is enabled.
+	 * 
+	 * @return
+	 */
+	public boolean isCacheEnabled() {
+		return cacheSize > 0;
+	}
+
 	public void validate() {
 		Objects.requireNonNull(url, "No S3 URL has been specified");
 		Objects.requireNonNull(accessId, "No accessId has been specified");
 		Objects.requireNonNull(accessKey, "No accessKey has been specified");
 		Objects.requireNonNull(region, "No region has been specified");
+		if (cacheSize < 0) {
+			throw new IllegalArgumentException("The cache size must not be negative");
+		}
+		if (isCacheEnabled()) {
+			Objects.requireNonNull(cacheDirectory, "No cache directory has been specified");
+		}
 	}
 
 }
@@ -40,6 +40,7 @@ import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Supplier;
 import com.gentics.mesh.image.focalpoint.FocalPointModifier;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.parameter.image.ImageRect;
@@ -67,12 +68,19 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 	private final BootstrapInitializer boot;
 
 	public ImgscalrImageManipulator(Vertx vertx, MeshOptions options, BootstrapInitializer boot) {
-		this(vertx, options.getImageOptions(), boot);
-		
+		this(vertx, options.getImageOptions(), boot, null);
+	}
+
+	public ImgscalrImageManipulator(Vertx vertx, MeshOptions options, BootstrapInitializer boot, MetricsService metrics) {
+		this(vertx, options.getImageOptions(), boot, metrics);
 	}
 
 	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options, BootstrapInitializer boot) {
-		super(vertx, options);
+		this(vertx, options, boot, null);
+	}
+
+	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options, BootstrapInitializer boot, MetricsService metrics) {
+		super(vertx, options, metrics);
 		focalPointModifier = new FocalPointModifier(options);
 		// 10 seconds
 		workerPool = vertx.createSharedWorkerExecutor("resizeWorker", 5, Duration.ofSeconds(10).toNanos());
@@ -309,9 +317,8 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 		return getCacheFilePath(binary.getSHA512Sum(), parameters)
 			.flatMap(cacheFileInfo -> {
-				if (cacheFileInfo.exists) {
-					return Single.just(cacheFileInfo.path);
-				} else {
+				// Concurrent requests for the same variant will share the resize operation
+				return variantCache.getOrCreate(cacheFileInfo, basePath -> {
 					// TODO handle execution timeout
 					// Make sure to run that code in the dedicated thread pool it may be CPU intensive for larger images and we don't want to exhaust the
 					// regular worker
@@ -339,8 +346,9 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 							String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
 							String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
-							String cacheFilePath = cacheFileInfo.path + "." + extension;
+							String cacheFilePath = basePath + "." + extension;
 							File outCacheFile = new File(cacheFilePath);
+							outCacheFile.getParentFile().mkdirs();
 
 							// Write image
 							try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
@@ -358,7 +366,7 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 							bh.fail(e);
 						}
 					}, false).toSingle();
-				}
+				});
 			});
 	}
 
@@ -126,6 +126,18 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 		});
 	}
 
+	@Test
+	public void testExtractImageInfoFromBuffer() throws IOException, JSONException {
+		checkImages((imageName, width, height, color, refImage, origPath, stream) -> {
+			Buffer data = RxUtil.readEntireData(stream).blockingGet();
+
+			ImageInfo info = manipulator.readImageInfo(data).blockingGet();
+			assertEquals("The width or image {" + imageName + "} did not match.", width, info.getWidth());
+			assertEquals("The height or image {" + imageName + "} did not match.", height, info.getHeight());
+			assertEquals("The dominant color of the image did not match {" + imageName + "}", color, info.getDominantColor());
+		});
+	}
+
 	/**
 	 * Get the corresponding reference filename for the given input filename.
 	 *
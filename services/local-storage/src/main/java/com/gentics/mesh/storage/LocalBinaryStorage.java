@@ -178,6 +178,15 @@ public class LocalBinaryStorage extends AbstractBinaryStorage {
 		return obs;
 	}
 
+	@Override
+	public Flowable<Buffer> read(String binaryUuid, long offset, long length) {
+		String path = getFilePath(binaryUuid);
+		return fileSystem
+			.rxOpen(path, new OpenOptions())
+			.toFlowable()
+			.flatMap(file -> RxUtil.toBufferFlow(file.setReadPos(offset).setReadLength(length)));
+	}
+
 	@Override
 	public InputStream openBlockingStream(String uuid) throws IOException {
 		return Files.newInputStream(Paths.get(getFilePath(uuid)));
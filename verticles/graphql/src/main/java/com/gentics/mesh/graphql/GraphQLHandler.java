@@ -6,6 +6,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -13,6 +14,9 @@ import javax.inject.Singleton;
 
 import com.gentics.mesh.core.rest.error.AbstractUnavailableException;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.cache.GraphQLDocumentCache;
+import com.gentics.mesh.graphql.cache.GraphQLPersistedQueryCache;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaCache;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 import com.gentics.mesh.graphql.type.QueryTypeProvider;
 import com.gentics.mesh.util.SearchWaitUtil;
@@ -22,7 +26,9 @@ import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
 import graphql.language.SourceLocation;
+import graphql.schema.GraphQLSchema;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -34,6 +40,8 @@ public class GraphQLHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(GraphQLHandler.class);
 
+	private static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+
 	@Inject
 	public QueryTypeProvider typeProvider;
 
@@ -46,6 +54,15 @@ public class GraphQLHandler {
 	@Inject
 	public SearchWaitUtil waitUtil;
 
+	@Inject
+	public GraphQLSchemaCache schemaCache;
+
+	@Inject
+	public GraphQLDocumentCache documentCache;
+
+	@Inject
+	public GraphQLPersistedQueryCache persistedQueryCache;
+
 	@Inject
 	public GraphQLHandler() {
 	}
@@ -60,48 +77,116 @@ public class GraphQLHandler {
 	 */
 	public void handleQuery(GraphQLContext gc, String body) {
 		waitUtil.awaitSync(gc).andThen(vertx.rxExecuteBlocking(promise -> {
+			GraphQLResponseWriter writer = new GraphQLResponseWriter(gc.getResponse(), gc.getGraphQLParameters().isPretty());
 			try {
-				db.tx(tx -> {
-					JsonObject queryJson = new JsonObject(body);
-					String query = queryJson.getString("query");
-					GraphQL graphQL = newGraphQL(typeProvider.getRootSchema(gc)).build();
+				JsonObject queryJson = new JsonObject(body);
+				String query = resolveQuery(queryJson);
+				if (query == null) {
+					writer.write(OK, createPersistedQueryNotFoundErrors(), null, null);
+					promise.complete();
+					return;
+				}
+				ExecutionResult result = db.tx(tx -> {
+					String schemaKey = schemaCache.createCacheKey(gc);
+					GraphQLSchema schema = schemaCache.getSchema(schemaKey, gc, typeProvider::getRootSchema);
+					GraphQL graphQL = newGraphQL(schema)
+						.preparsedDocumentProvider(documentCache.forSchema(schemaKey))
+						.instrumentation(new DataLoaderDispatcherInstrumentation(gc.getDataLoaderRegistry()))
+						.build();
 					ExecutionInput executionInput = ExecutionInput
 						.newExecutionInput()
 						.query(query)
 						.context(gc)
 						.variables(extractVariables(queryJson))
 						.build();
-					ExecutionResult result = graphQL.execute(executionInput);
-					List<GraphQLError> errors = result.getErrors();
-					JsonObject response = new JsonObject();
-					if (!errors.isEmpty()) {
-						addErrors(errors, response);
-						if (log.isDebugEnabled()) {
-							log.debug("Encountered {" + errors.size() + "} errors while executing query {" + query + "}");
-							for (GraphQLError error : errors) {
-								String loc = "unknown location";
-								if (error.getLocations() != null) {
-									loc = error.getLocations().stream().map(Object::toString).collect(Collectors.joining(","));
-								}
-								log.debug("Error: " + error.getErrorType() + ":" + error.getMessage() + ":" + loc);
+					return graphQL.execute(executionInput);
+				});
+				List<GraphQLError> errors = result.getErrors();
+				JsonArray jsonErrors = null;
+				if (!errors.isEmpty()) {
+					jsonErrors = createErrors(errors);
+					if (log.isDebugEnabled()) {
+						log.debug("Encountered {" + errors.size() + "} errors while executing query {" + query + "}");
+						for (GraphQLError error : errors) {
+							String loc = "unknown location";
+							if (error.getLocations() != null) {
+								loc = error.getLocations().stream().map(Object::toString).collect(Collectors.joining(","));
 							}
+							log.debug("Error: " + error.getErrorType() + ":" + error.getMessage() + ":" + loc);
 						}
 					}
-					if (result.getData() != null) {
-						Map<String, Object> data = result.getData();
-						response.put("data", new JsonObject(data));
-					}
-					gc.send(response.encodePrettily(), OK);
-					promise.complete();
-				});
+				}
+				// The result only contains plain values and can thus be serialized outside of the transaction
+				writer.write(OK, jsonErrors, result.getData(), result.getExtensions());
+				promise.complete();
 			} catch (Exception e) {
-				promise.fail(e);
+				if (writer.isHeadWritten()) {
+					// The status has already been sent. The only way to signal the error to the client is to abort the response.
+					log.error("Error while writing the GraphQL response", e);
+					gc.getResponse().close();
+					promise.complete();
+				} else {
+					promise.fail(e);
+				}
 			}
 		}))
 		.doOnError(gc::fail)
 		.subscribe();
 	}
 
+	/**
+	 * Return the query text of the request. Persisted queries will be resolved via the provided SHA-256 hash when the request does not contain the query
+	 * text. A request which contains both the query and the hash will persist the query.
+	 *
+	 * @param request
+	 *            The request body
+	 * @return Query text or null if the referenced persisted query is not known
+	 */
+	private String resolveQuery(JsonObject request) {
+		String query = request.getString("query");
+		String hash = extractPersistedQueryHash(request);
+		if (hash == null) {
+			return query;
+		}
+		if (query == null) {
+			return persistedQueryCache.get(hash);
+		}
+		persistedQueryCache.store(hash, query);
+		return query;
+	}
+
+	/**
+	 * Extract the SHA-256 hash of the persisted query extension.
+	 *
+	 * @param request
+	 *            The request body
+	 * @return Found hash or null if the request does not use the persisted query extension
+	 */
+	private String extractPersistedQueryHash(JsonObject request) {
+		JsonObject extensions = request.getJsonObject("extensions");
+		if (extensions == null) {
+			return null;
+		}
+		JsonObject persistedQuery = extensions.getJsonObject("persistedQuery");
+		if (persistedQuery == null) {
+			return null;
+		}
+		return persistedQuery.getString("sha256Hash");
+	}
+
+	/**
+	 * Create the errors which inform the client that the referenced persisted query is not known and that the full query needs to be sent.
+	 *
+	 * @return
+	 */
+	private JsonArray createPersistedQueryNotFoundErrors() {
+		JsonObject error = new JsonObject();
+		error.put("message", PERSISTED_QUERY_NOT_FOUND);
+		error.put("type", PERSISTED_QUERY_NOT_FOUND);
+		error.put("extensions", new JsonObject().put("code", "PERSISTED_QUERY_NOT_FOUND"));
+		return new JsonArray().add(error);
+	}
+
 	/**
 	 * Extracts the variables of a query as a map. Returns empty map if no variables are found.
 	 *
@@ -120,20 +205,24 @@ public class GraphQLHandler {
 	}
 
 	/**
-	 * Add the listed errors to the response.
+	 * Transform the listed errors into the JSON representation of the response.
 	 *
 	 * @param errors
-	 * @param response
+	 * @return
 	 */
-	private void addErrors(List<GraphQLError> errors, JsonObject response) {
+	private JsonArray createErrors(List<GraphQLError> errors) {
 		JsonArray jsonErrors = new JsonArray();
-		response.put("errors", jsonErrors);
 		for (GraphQLError error : errors) {
 			JsonObject jsonError = new JsonObject();
 			if (error instanceof ExceptionWhileDataFetching) {
 				ExceptionWhileDataFetching dataError = (ExceptionWhileDataFetching) error;
-				if (dataError.getException() instanceof AbstractUnavailableException) {
-					AbstractUnavailableException restException = (AbstractUnavailableException) dataError.getException();
+				Throwable exception = dataError.getException();
+				// Errors of batched fetchers are wrapped since they are passed along via futures
+				if (exception instanceof CompletionException && exception.getCause() != null) {
+					exception = exception.getCause();
+				}
+				if (exception instanceof AbstractUnavailableException) {
+					AbstractUnavailableException restException = (AbstractUnavailableException) exception;
 					// TODO translate error
 					// TODO add i18n parameters
 					jsonError.put("message", restException.getI18nKey());
@@ -141,7 +230,7 @@ public class GraphQLHandler {
 					jsonError.put("elementId", restException.getElementId());
 					jsonError.put("elementType", restException.getElementType());
 				} else {
-					log.error("Error while fetching data.", dataError.getException());
+					log.error("Error while fetching data.", exception);
 					jsonError.put("message", dataError.getMessage());
 					jsonError.put("type", dataError.getErrorType());
 				}
@@ -153,6 +242,7 @@ public class GraphQLHandler {
 			}
 			jsonErrors.add(jsonError);
 		}
+		return jsonErrors;
 	}
 
 	private void addLocation(GraphQLError error, JsonObject jsonError) {
@@ -0,0 +1,159 @@
+package com.gentics.mesh.graphql;
+
+import static io.vertx.core.http.HttpHeaders.CACHE_CONTROL;
+import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.gentics.mesh.http.HttpConstants;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.util.RxUtil;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Writer which serializes a GraphQL response directly into the HTTP response. The JSON is generated via Jackson and written in chunks to the response
+ * without creating an intermediate {@link io.vertx.core.json.JsonObject} or string representation of the whole response. The writer must be used by a
+ * blocking worker since it waits for slow clients.
+ */
+public class GraphQLResponseWriter {
+
+	/**
+	 * Size of the chunks which are written to the response.
+	 */
+	public static final int CHUNK_SIZE = 64 * 1024;
+
+	/**
+	 * Interval in milliseconds in which the state of the connection is checked while waiting for the write queue to be drained.
+	 */
+	private static final long DRAIN_CHECK_INTERVAL = 1000;
+
+	private final HttpServerResponse response;
+
+	private final boolean pretty;
+
+	/**
+	 * Create a new writer.
+	 *
+	 * @param response
+	 *            Response to write to
+	 * @param pretty
+	 *            Whether the JSON should be indented
+	 */
+	public GraphQLResponseWriter(HttpServerResponse response, boolean pretty) {
+		this.response = response;
+		this.pretty = pretty;
+	}
+
+	/**
+	 * Write the GraphQL response and end the HTTP response.
+	 *
+	 * @param status
+	 *            Status of the response
+	 * @param errors
+	 *            Errors to be added or null if no errors should be added
+	 * @param data
+	 *            Data of the execution result or null if the result contains no data
+	 * @param extensions
+	 *            Extensions of the execution result or null if the result contains no extensions
+	 * @throws IOException
+	 */
+	public void write(HttpResponseStatus status, JsonArray errors, Map<String, Object> data, Map<Object, Object> extensions) throws IOException {
+		response.setStatusCode(status.code());
+		response.putHeader(CONTENT_TYPE, HttpConstants.APPLICATION_JSON_UTF8);
+		if (!response.headers().contains(CACHE_CONTROL)) {
+			response.putHeader(CACHE_CONTROL, "no-cache");
+		}
+		response.setChunked(true);
+
+		ChunkedOutputStream out = new ChunkedOutputStream();
+		try (JsonGenerator generator = JsonUtil.getMapper().getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+			if (pretty) {
+				generator.useDefaultPrettyPrinter();
+			}
+			generator.writeStartObject();
+			if (errors != null) {
+				generator.writeFieldName("errors");
+				generator.writeObject(errors);
+			}
+			if (data != null) {
+				generator.writeFieldName("data");
+				generator.writeObject(data);
+			}
+			if (extensions != null) {
+				generator.writeFieldName("extensions");
+				generator.writeObject(extensions);
+			}
+			generator.writeEndObject();
+		}
+		response.end();
+	}
+
+	/**
+	 * Check whether parts of the response have already been sent to the client. The status code of the response can no longer be changed in this case.
+	 *
+	 * @return
+	 */
+	public boolean isHeadWritten() {
+		return response.headWritten();
+	}
+
+	/**
+	 * Output stream which collects the written bytes and writes them to the response once the chunk size has been reached. The stream is used by a blocking
+	 * worker and waits until the write queue of the response has been drained before more JSON is generated.
+	 */
+	private class ChunkedOutputStream extends OutputStream {
+
+		private Buffer buffer = Buffer.buffer(CHUNK_SIZE);
+
+		@Override
+		public void write(int b) throws IOException {
+			buffer.appendByte((byte) b);
+			flushIfFull();
+		}
+
+		@Override
+		public void write(byte[] bytes, int off, int len) throws IOException {
+			buffer.appendBytes(bytes, off, len);
+			flushIfFull();
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (buffer.length() > 0) {
+				Completable write = RxUtil.writeTo(Flowable.just(buffer), response).cache();
+				buffer = Buffer.buffer(CHUNK_SIZE);
+				// The drain handler is not invoked if the connection gets closed
+				while (!write.blockingAwait(DRAIN_CHECK_INTERVAL, TimeUnit.MILLISECONDS)) {
+					if (response.closed()) {
+						throw new IOException("The connection was closed while writing the GraphQL response");
+					}
+					if (!response.writeQueueFull()) {
+						break;
+					}
+				}
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+
+		private void flushIfFull() throws IOException {
+			if (buffer.length() >= CHUNK_SIZE) {
+				flush();
+			}
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package com.gentics.mesh.graphql.cache;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.CachingMetric;
+import com.gentics.mesh.metric.MetricsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * Cache for parsed and validated GraphQL query documents. The validation result depends on the schema which was used and thus entries are stored per
+ * schema key of the {@link GraphQLSchemaCache}. The key identifies the schema via the project, branch and used schema versions without referencing the
+ * schema instance.
+ */
+@Singleton
+public class GraphQLDocumentCache {
+
+	private static final String NAME = "graphqldocument";
+
+	private final Cache<DocumentKey, PreparsedDocumentEntry> cache;
+
+	private final MeshOptions options;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Counter evictionCounter;
+	private final AtomicLong sizeGauge;
+
+	@Inject
+	public GraphQLDocumentCache(MeshOptions options, MetricsService metricsService) {
+		this.options = options;
+		this.hitCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.HIT, NAME));
+		this.missCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.MISS, NAME));
+		this.evictionCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.EVICTION, NAME));
+		this.sizeGauge = metricsService.longGauge(new CachingMetric(CachingMetric.Event.SIZE, NAME));
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(Math.max(options.getCacheConfig().getGraphQLDocumentCacheSize(), 0))
+			.removalListener((DocumentKey key, PreparsedDocumentEntry value, RemovalCause cause) -> {
+				if (cause.wasEvicted() && isMetricsEnabled()) {
+					evictionCounter.increment();
+				}
+			})
+			.build();
+	}
+
+	/**
+	 * Return a document provider which uses the cache for the schema with the given key.
+	 *
+	 * @param schemaKey
+	 *            Key of the schema in the {@link GraphQLSchemaCache}
+	 * @return
+	 */
+	public PreparsedDocumentProvider forSchema(String schemaKey) {
+		return new PreparsedDocumentProvider() {
+			@Override
+			public PreparsedDocumentEntry get(String query, Function<String, PreparsedDocumentEntry> computeFunction) {
+				return load(new DocumentKey(schemaKey, query), computeFunction);
+			}
+		};
+	}
+
+	private PreparsedDocumentEntry load(DocumentKey key, Function<String, PreparsedDocumentEntry> computeFunction) {
+		if (isDisabled()) {
+			return computeFunction.apply(key.query);
+		}
+		if (!isMetricsEnabled()) {
+			return cache.get(key, k -> computeFunction.apply(k.query));
+		}
+		AtomicBoolean wasCached = new AtomicBoolean(true);
+		PreparsedDocumentEntry entry = cache.get(key, k -> {
+			wasCached.set(false);
+			return computeFunction.apply(k.query);
+		});
+		if (wasCached.get()) {
+			hitCounter.increment();
+		} else {
+			missCounter.increment();
+		}
+		sizeGauge.set(cache.estimatedSize());
+		return entry;
+	}
+
+	/**
+	 * Check whether the cache is disabled via the configured cache size.
+	 *
+	 * @return
+	 */
+	public boolean isDisabled() {
+		return options.getCacheConfig().getGraphQLDocumentCacheSize() <= 0;
+	}
+
+	/**
+	 * Remove all entries from the cache.
+	 */
+	public void clear() {
+		cache.invalidateAll();
+		sizeGauge.set(0);
+	}
+
+	/**
+	 * Return the current size of the cache.
+	 *
+	 * @return
+	 */
+	public long size() {
+		cache.cleanUp();
+		return cache.estimatedSize();
+	}
+
+	private boolean isMetricsEnabled() {
+		return options.getMonitoringOptions().isEnabled();
+	}
+
+	/**
+	 * Key for cached documents. Documents of outdated schemas are no longer requested and get evicted.
+	 */
+	private static class DocumentKey {
+
+		private final String schemaKey;
+
+		private final String query;
+
+		DocumentKey(String schemaKey, String query) {
+			this.schemaKey = schemaKey;
+			this.query = query;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof DocumentKey)) {
+				return false;
+			}
+			DocumentKey other = (DocumentKey) obj;
+			return Objects.equals(schemaKey, other.schemaKey) && Objects.equals(query, other.query);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Objects.hashCode(schemaKey) + Objects.hashCode(query);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.gentics.mesh.graphql.cache;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.CachingMetric;
+import com.gentics.mesh.metric.MetricsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * Store for persisted GraphQL queries. Clients can register a query together with its SHA-256 hash and afterwards only send the hash instead of the full
+ * query text. The store is local to the instance. Clients need to resend the full query when the hash is not known by the instance.
+ */
+@Singleton
+public class GraphQLPersistedQueryCache {
+
+	private static final String NAME = "graphqlpersistedquery";
+
+	private final Cache<String, String> cache;
+
+	private final MeshOptions options;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	@Inject
+	public GraphQLPersistedQueryCache(MeshOptions options, MetricsService metricsService) {
+		this.options = options;
+		this.hitCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.HIT, NAME));
+		this.missCounter = metricsService.counter(new CachingMetric(CachingMetric.Event.MISS, NAME));
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(Math.max(options.getCacheConfig().getGraphQLPersistedQueryCacheSize(), 0))
+			.build();
+	}
+
+	/**
+	 * Return the persisted query for the given hash.
+	 *
+	 * @param hash
+	 *            SHA-256 hash of the query
+	 * @return Query text or null if the query has not yet been persisted
+	 */
+	public String get(String hash) {
+		if (isDisabled()) {
+			return null;
+		}
+		String query = cache.getIfPresent(hash.toLowerCase());
+		if (options.getMonitoringOptions().isEnabled()) {
+			if (query == null) {
+				missCounter.increment();
+			} else {
+				hitCounter.increment();
+			}
+		}
+		return query;
+	}
+
+	/**
+	 * Persist the query for the given hash. The hash will be verified before the query is stored.
+	 *
+	 * @param hash
+	 *            SHA-256 hash which was provided by the client
+	 * @param query
+	 *            Query text
+	 */
+	public void store(String hash, String query) {
+		if (!hash(query).equalsIgnoreCase(hash)) {
+			throw error(BAD_REQUEST, "graphql_error_persisted_query_hash_mismatch", hash);
+		}
+		if (isDisabled()) {
+			return;
+		}
+		cache.put(hash.toLowerCase(), query);
+	}
+
+	/**
+	 * Check whether persisted queries are disabled via the configured cache size.
+	 *
+	 * @return
+	 */
+	public boolean isDisabled() {
+		return options.getCacheConfig().getGraphQLPersistedQueryCacheSize() <= 0;
+	}
+
+	/**
+	 * Remove all persisted queries.
+	 */
+	public void clear() {
+		cache.invalidateAll();
+	}
+
+	/**
+	 * Compute the SHA-256 hash for the given query.
+	 *
+	 * @param query
+	 * @return Hex encoded hash
+	 */
+	public static String hash(String query) {
+		return Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString();
+	}
+}
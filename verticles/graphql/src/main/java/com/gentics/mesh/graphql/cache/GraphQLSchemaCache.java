@@ -0,0 +1,162 @@
+package com.gentics.mesh.graphql.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PLUGIN_REGISTERED;
+import static com.gentics.mesh.core.rest.MeshEvent.PLUGIN_UNDEPLOYED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.AbstractMeshCache;
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.data.project.HibProject;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.plugin.GraphQLPluginRegistry;
+import com.gentics.mesh.plugin.graphql.GraphQLPlugin;
+
+import graphql.schema.GraphQLSchema;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Cache for built GraphQL schemas. Building the schema requires the generation of the types for all schemas and microschemas of a project. The cache key
+ * thus contains the project, branch, API version, the uuids of the used schema versions and the registered GraphQL plugins. Outdated entries will be removed
+ * when schemas, branches or plugins get changed.
+ */
+@Singleton
+public class GraphQLSchemaCache extends AbstractMeshCache<String, GraphQLSchema> {
+
+	private static final Logger log = LoggerFactory.getLogger(GraphQLSchemaCache.class);
+
+	private static final MeshEvent EVENTS[] = {
+		SCHEMA_CREATED,
+		SCHEMA_UPDATED,
+		SCHEMA_DELETED,
+		SCHEMA_MIGRATION_FINISHED,
+		SCHEMA_BRANCH_ASSIGN,
+		SCHEMA_BRANCH_UNASSIGN,
+		MICROSCHEMA_CREATED,
+		MICROSCHEMA_UPDATED,
+		MICROSCHEMA_DELETED,
+		MICROSCHEMA_BRANCH_ASSIGN,
+		MICROSCHEMA_BRANCH_UNASSIGN,
+		PROJECT_SCHEMA_ASSIGNED,
+		PROJECT_SCHEMA_UNASSIGNED,
+		PROJECT_MICROSCHEMA_ASSIGNED,
+		PROJECT_MICROSCHEMA_UNASSIGNED,
+		PROJECT_DELETED,
+		BRANCH_CREATED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED,
+		PLUGIN_REGISTERED,
+		PLUGIN_UNDEPLOYED };
+
+	private final GraphQLPluginRegistry pluginRegistry;
+
+	@Inject
+	public GraphQLSchemaCache(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, GraphQLPluginRegistry pluginRegistry) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getGraphQLSchemaCacheSize());
+		this.pluginRegistry = pluginRegistry;
+	}
+
+	private static EventAwareCache<String, GraphQLSchema> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, GraphQLSchema>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing GraphQL schema cache due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.name("graphqlschema")
+			.maxSize(config.getGraphQLSchemaCacheSize())
+			.build();
+	}
+
+	/**
+	 * Return the cached schema for the context or build it using the provided function. This method needs to be invoked within a transaction since the
+	 * used schema versions have to be loaded in order to construct the key.
+	 *
+	 * @param context
+	 * @param builder
+	 *            Function which builds the schema if it can't be found in the cache
+	 * @return
+	 */
+	public GraphQLSchema getSchema(GraphQLContext context, Function<GraphQLContext, GraphQLSchema> builder) {
+		return getSchema(createCacheKey(context), context, builder);
+	}
+
+	/**
+	 * Return the cached schema for the key or build it using the provided function.
+	 *
+	 * @param key
+	 *            Key which was created via {@link #createCacheKey(GraphQLContext)} for the context
+	 * @param context
+	 * @param builder
+	 *            Function which builds the schema if it can't be found in the cache
+	 * @return
+	 */
+	public GraphQLSchema getSchema(String key, GraphQLContext context, Function<GraphQLContext, GraphQLSchema> builder) {
+		if (isDisabled()) {
+			return builder.apply(context);
+		}
+		return cache.get(key, k -> builder.apply(context));
+	}
+
+	/**
+	 * Create the cache key for the context. Schemas which were built for the same key are equal. This method needs to be invoked within a transaction.
+	 *
+	 * @param context
+	 * @return
+	 */
+	public String createCacheKey(GraphQLContext context) {
+		HibProject project = context.getProject();
+		String schemaVersions = project.getSchemaContainerRoot().findAll().stream()
+			.map(schema -> schema.getLatestVersion().getUuid())
+			.sorted()
+			.collect(Collectors.joining(","));
+		String microschemaVersions = project.getMicroschemaContainerRoot().findAll().stream()
+			.map(microschema -> microschema.getLatestVersion().getUuid())
+			.sorted()
+			.collect(Collectors.joining(","));
+		String plugins = pluginRegistry.getPlugins().stream()
+			.map(GraphQLPlugin::id)
+			.sorted()
+			.collect(Collectors.joining(","));
+		return Stream.of(
+			project.getUuid(),
+			context.getBranch().getUuid(),
+			String.valueOf(context.getApiVersion()),
+			schemaVersions,
+			microschemaVersions,
+			plugins).collect(Collectors.joining("-"));
+	}
+
+}
@@ -2,6 +2,9 @@ package com.gentics.mesh.graphql.context;
 
 import java.util.function.Supplier;
 
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.HibCoreElement;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
@@ -11,6 +14,7 @@ import com.gentics.mesh.core.rest.error.PermissionException;
 import com.gentics.mesh.plugin.graphql.GraphQLPluginContext;
 
 import graphql.schema.DataFetchingEnvironment;
+import io.vertx.core.http.HttpServerResponse;
 
 /**
  * Extended context for GraphQL handling.
@@ -54,6 +58,30 @@ public interface GraphQLContext extends InternalActionContext, GraphQLPluginCont
 	 */
 	boolean hasReadPerm(NodeContent content);
 
+	/**
+	 * Return the data loader registry of the request. The registry contains the loaders which are used to batch lookups.
+	 * 
+	 * @return
+	 */
+	DataLoaderRegistry getDataLoaderRegistry();
+
+	/**
+	 * Return the data loader with the given key from the registry of the request.
+	 * 
+	 * @param key
+	 * @return
+	 */
+	default <K, V> DataLoader<K, V> getDataLoader(String key) {
+		return getDataLoaderRegistry().getDataLoader(key);
+	}
+
+	/**
+	 * Return the HTTP response of the request. The response is used to stream the result of the query to the client.
+	 * 
+	 * @return
+	 */
+	HttpServerResponse getResponse();
+
 	/**
 	 * Gets a value from the context. If the value does not exist yet, the supplier will be called.
 	 * The result is then stored in the context and also returned.
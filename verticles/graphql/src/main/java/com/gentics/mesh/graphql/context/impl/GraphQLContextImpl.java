@@ -2,6 +2,8 @@ package com.gentics.mesh.graphql.context.impl;
 
 import static com.gentics.mesh.core.rest.error.Errors.missingPerm;
 
+import org.dataloader.DataLoaderRegistry;
+
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.data.HibCoreElement;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
@@ -13,9 +15,11 @@ import com.gentics.mesh.core.data.perm.InternalPermission;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.rest.error.PermissionException;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 
 import graphql.ExceptionWhileDataFetching;
 import graphql.schema.DataFetchingEnvironment;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 
@@ -24,10 +28,25 @@ import io.vertx.ext.web.RoutingContext;
  */
 public class GraphQLContextImpl extends InternalRoutingActionContextImpl implements GraphQLContext {
 
+	private DataLoaderRegistry dataLoaderRegistry;
+
 	public GraphQLContextImpl(RoutingContext rc) {
 		super(rc);
 	}
 
+	@Override
+	public HttpServerResponse getResponse() {
+		return getRoutingContext().response();
+	}
+
+	@Override
+	public DataLoaderRegistry getDataLoaderRegistry() {
+		if (dataLoaderRegistry == null) {
+			dataLoaderRegistry = NodeDataLoader.createRegistry(this);
+		}
+		return dataLoaderRegistry;
+	}
+
 	@Override
 	public <T extends HibCoreElement> T requiresPerm(T element, InternalPermission... permission) {
 		UserDaoWrapper userDao = Tx.get().data().userDao();
@@ -0,0 +1,337 @@
+package com.gentics.mesh.graphql.dataloader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.dao.ContentDaoWrapper;
+import com.gentics.mesh.core.data.dao.NodeDaoWrapper;
+import com.gentics.mesh.core.data.dao.TagDaoWrapper;
+import com.gentics.mesh.core.data.node.HibNode;
+import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.core.data.page.Page;
+import com.gentics.mesh.core.data.page.impl.DynamicStreamPageImpl;
+import com.gentics.mesh.core.data.tag.HibTag;
+import com.gentics.mesh.core.db.Tx;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.parameter.PagingParameters;
+
+/**
+ * Data loaders which are used to batch and memoize node related lookups within a single GraphQL request. Lookups are collected for each level of the query
+ * and are loaded together once the level is dispatched. The parents, children and contents of all nodes of a level are loaded using a single graph query
+ * (per requested language and version) instead of one lookup per node. Every distinct key is only loaded once per request.
+ *
+ * The batch functions are invoked synchronously during the query execution and thus run within the transaction of the query.
+ */
+public class NodeDataLoader {
+
+	/**
+	 * Loader for the parent node (and its content) of a node in the branch of the request. See {@link ContentKey}.
+	 */
+	public static final String PARENT_LOADER = "parentLoader";
+
+	/**
+	 * Loader for the breadcrumb (node and all of its parents, starting with the root node) of a node in the branch of the request. See {@link ContentKey}.
+	 */
+	public static final String BREADCRUMB_LOADER = "breadcrumbLoader";
+
+	/**
+	 * Loader for the content of a node. See {@link ContentKey}.
+	 */
+	public static final String CONTENT_LOADER = "contentLoader";
+
+	/**
+	 * Loader for the readable child nodes (and their contents) of a node in the branch of the request. See {@link ContentKey}.
+	 */
+	public static final String CHILDREN_LOADER = "childrenLoader";
+
+	/**
+	 * Loader for a page of the readable tags of a node in the branch of the request. See {@link TagsKey}.
+	 */
+	public static final String TAGS_LOADER = "tagsLoader";
+
+	private final GraphQLContext gc;
+
+	/**
+	 * Parent lookups which are shared between the parent and breadcrumb loader.
+	 */
+	private final Map<HibNode, HibNode> parents = new HashMap<>();
+
+	private NodeDataLoader(GraphQLContext gc) {
+		this.gc = gc;
+	}
+
+	/**
+	 * Create a new registry which contains the node loaders for the given request.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	public static DataLoaderRegistry createRegistry(GraphQLContext gc) {
+		NodeDataLoader loader = new NodeDataLoader(gc);
+		DataLoaderRegistry registry = new DataLoaderRegistry();
+		registry.register(PARENT_LOADER, new DataLoader<ContentKey, NodeContent>(loader::loadParents));
+		registry.register(BREADCRUMB_LOADER, new DataLoader<ContentKey, List<NodeContent>>(loader::loadBreadcrumbs));
+		registry.register(CONTENT_LOADER, new DataLoader<ContentKey, NodeGraphFieldContainer>(loader::loadContents));
+		registry.register(CHILDREN_LOADER, new DataLoader<ContentKey, List<NodeContent>>(loader::loadChildren));
+		registry.register(TAGS_LOADER, new DataLoader<TagsKey, Page<? extends HibTag>>(loader::loadTags));
+		return registry;
+	}
+
+	private CompletableFuture<List<NodeContent>> loadParents(List<ContentKey> keys) {
+		loadParentsOf(nodes(keys));
+		List<ContentKey> parentKeys = new ArrayList<>();
+		for (ContentKey key : keys) {
+			HibNode parent = parents.get(key.node);
+			if (parent != null) {
+				parentKeys.add(new ContentKey(parent, key.languageTags, key.type));
+			}
+		}
+		Map<ContentKey, NodeContent> contents = toNodeContents(parentKeys);
+		List<NodeContent> result = new ArrayList<>(keys.size());
+		for (ContentKey key : keys) {
+			HibNode parent = parents.get(key.node);
+			result.add(parent == null ? null : contents.get(new ContentKey(parent, key.languageTags, key.type)));
+		}
+		return CompletableFuture.completedFuture(result);
+	}
+
+	private CompletableFuture<List<List<NodeContent>>> loadBreadcrumbs(List<ContentKey> keys) {
+		// Load the parents level by level. All nodes of one level are handled by a single lookup.
+		Collection<HibNode> level = nodes(keys);
+		while (!level.isEmpty()) {
+			loadParentsOf(level);
+			Set<HibNode> next = new LinkedHashSet<>();
+			for (HibNode node : level) {
+				HibNode parent = parents.get(node);
+				if (parent != null) {
+					next.add(parent);
+				}
+			}
+			level = next;
+		}
+
+		List<List<ContentKey>> breadcrumbs = new ArrayList<>(keys.size());
+		List<ContentKey> all = new ArrayList<>();
+		for (ContentKey key : keys) {
+			List<ContentKey> breadcrumb = new ArrayList<>();
+			HibNode current = key.node;
+			while (current != null) {
+				breadcrumb.add(new ContentKey(current, key.languageTags, key.type));
+				current = parents.get(current);
+			}
+			Collections.reverse(breadcrumb);
+			breadcrumbs.add(breadcrumb);
+			all.addAll(breadcrumb);
+		}
+
+		Map<ContentKey, NodeContent> contents = toNodeContents(all);
+		List<List<NodeContent>> result = new ArrayList<>(keys.size());
+		for (List<ContentKey> breadcrumb : breadcrumbs) {
+			List<NodeContent> items = new ArrayList<>(breadcrumb.size());
+			for (ContentKey key : breadcrumb) {
+				items.add(contents.get(key));
+			}
+			result.add(items);
+		}
+		return CompletableFuture.completedFuture(result);
+	}
+
+	private CompletableFuture<List<NodeGraphFieldContainer>> loadContents(List<ContentKey> keys) {
+		return CompletableFuture.completedFuture(findContents(keys));
+	}
+
+	private CompletableFuture<List<List<NodeContent>>> loadChildren(List<ContentKey> keys) {
+		NodeDaoWrapper nodeDao = Tx.get().data().nodeDao();
+		List<? extends List<? extends HibNode>> children = nodeDao.getChildNodes(gc.getProject(), nodes(keys), gc);
+
+		List<ContentKey> all = new ArrayList<>();
+		for (int i = 0; i < keys.size(); i++) {
+			ContentKey key = keys.get(i);
+			for (HibNode child : children.get(i)) {
+				all.add(new ContentKey(child, key.languageTags, key.type));
+			}
+		}
+		Map<ContentKey, NodeContent> contents = toNodeContents(all);
+		List<List<NodeContent>> result = new ArrayList<>(keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			ContentKey key = keys.get(i);
+			List<NodeContent> items = new ArrayList<>(children.get(i).size());
+			for (HibNode child : children.get(i)) {
+				items.add(contents.get(new ContentKey(child, key.languageTags, key.type)));
+			}
+			result.add(items);
+		}
+		return CompletableFuture.completedFuture(result);
+	}
+
+	private CompletableFuture<List<Page<? extends HibTag>>> loadTags(List<TagsKey> keys) {
+		TagDaoWrapper tagDao = Tx.get().data().tagDao();
+		// The tags of all nodes are loaded by a single lookup. The pages are created from the tags of each node.
+		Set<HibNode> distinct = new LinkedHashSet<>();
+		for (TagsKey key : keys) {
+			distinct.add(key.node);
+		}
+		List<HibNode> nodes = new ArrayList<>(distinct);
+		List<? extends List<? extends HibTag>> tags = tagDao.getTags(gc.getProject(), nodes, gc.getUser(), gc.getBranch());
+		Map<HibNode, List<? extends HibTag>> tagsByNode = new HashMap<>();
+		for (int i = 0; i < nodes.size(); i++) {
+			tagsByNode.put(nodes.get(i), tags.get(i));
+		}
+		List<Page<? extends HibTag>> result = new ArrayList<>(keys.size());
+		for (TagsKey key : keys) {
+			result.add(new DynamicStreamPageImpl<>(tagsByNode.get(key.node).stream(), key.pagingInfo));
+		}
+		return CompletableFuture.completedFuture(result);
+	}
+
+	/**
+	 * Load the parents of the given nodes which have not been loaded yet.
+	 *
+	 * @param nodes
+	 */
+	private void loadParentsOf(Collection<HibNode> nodes) {
+		Set<HibNode> distinct = new LinkedHashSet<>(nodes);
+		distinct.removeAll(parents.keySet());
+		if (distinct.isEmpty()) {
+			return;
+		}
+		List<HibNode> missing = new ArrayList<>(distinct);
+		NodeDaoWrapper nodeDao = Tx.get().data().nodeDao();
+		List<? extends HibNode> found = nodeDao.getParentNodes(gc.getProject(), missing, gc.getBranch().getUuid());
+		for (int i = 0; i < missing.size(); i++) {
+			parents.put(missing.get(i), found.get(i));
+		}
+	}
+
+	/**
+	 * Load the contents for the given keys. The contents of all keys with the same languages and version are loaded by a single lookup.
+	 *
+	 * @param keys
+	 * @return Contents in the order of the keys
+	 */
+	private List<NodeGraphFieldContainer> findContents(List<ContentKey> keys) {
+		ContentDaoWrapper contentDao = Tx.get().data().contentDao();
+		// Group the keys by languages and version. The group keys don't reference a node.
+		Map<ContentKey, List<Integer>> groups = new LinkedHashMap<>();
+		for (int i = 0; i < keys.size(); i++) {
+			ContentKey key = keys.get(i);
+			groups.computeIfAbsent(new ContentKey(null, key.languageTags, key.type), k -> new ArrayList<>()).add(i);
+		}
+		NodeGraphFieldContainer[] result = new NodeGraphFieldContainer[keys.size()];
+		groups.forEach((group, indices) -> {
+			List<HibNode> nodes = new ArrayList<>(indices.size());
+			for (int index : indices) {
+				nodes.add(keys.get(index).node);
+			}
+			List<NodeGraphFieldContainer> containers = contentDao.findVersions(gc.getProject(), nodes, gc.getBranch().getUuid(), group.languageTags,
+				group.type);
+			for (int i = 0; i < indices.size(); i++) {
+				result[indices.get(i)] = containers.get(i);
+			}
+		});
+		return Arrays.asList(result);
+	}
+
+	private Map<ContentKey, NodeContent> toNodeContents(List<ContentKey> keys) {
+		List<ContentKey> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+		List<NodeGraphFieldContainer> containers = findContents(distinct);
+		Map<ContentKey, NodeContent> contents = new HashMap<>();
+		for (int i = 0; i < distinct.size(); i++) {
+			ContentKey key = distinct.get(i);
+			contents.put(key, new NodeContent(key.node, containers.get(i), key.languageTags, key.type));
+		}
+		return contents;
+	}
+
+	private static List<HibNode> nodes(List<ContentKey> keys) {
+		List<HibNode> nodes = new ArrayList<>(keys.size());
+		for (ContentKey key : keys) {
+			nodes.add(key.node);
+		}
+		return nodes;
+	}
+
+	/**
+	 * Key for the {@link NodeDataLoader#CONTENT_LOADER}, {@link NodeDataLoader#PARENT_LOADER}, {@link NodeDataLoader#BREADCRUMB_LOADER} and
+	 * {@link NodeDataLoader#CHILDREN_LOADER}. The languages and the version are used to select the contents of the loaded nodes.
+	 */
+	public static class ContentKey {
+
+		private final HibNode node;
+
+		private final List<String> languageTags;
+
+		private final ContainerType type;
+
+		public ContentKey(HibNode node, List<String> languageTags, ContainerType type) {
+			this.node = node;
+			this.languageTags = languageTags;
+			this.type = type;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ContentKey)) {
+				return false;
+			}
+			ContentKey other = (ContentKey) obj;
+			return Objects.equals(node, other.node) && Objects.equals(languageTags, other.languageTags) && type == other.type;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(node, languageTags, type);
+		}
+	}
+
+	/**
+	 * Key for the {@link NodeDataLoader#TAGS_LOADER}.
+	 */
+	public static class TagsKey {
+
+		private final HibNode node;
+
+		private final PagingParameters pagingInfo;
+
+		public TagsKey(HibNode node, PagingParameters pagingInfo) {
+			this.node = node;
+			this.pagingInfo = pagingInfo;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof TagsKey)) {
+				return false;
+			}
+			TagsKey other = (TagsKey) obj;
+			return Objects.equals(node, other.node) && pagingInfo.getPage() == other.pagingInfo.getPage()
+				&& Objects.equals(pagingInfo.getPerPage(), other.pagingInfo.getPerPage());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(node, pagingInfo.getPage(), pagingInfo.getPerPage());
+		}
+	}
+}
@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -60,6 +61,11 @@ public abstract class AbstractTypeProvider {
 	public static final String LINK_TYPE_NAME = "LinkType";
 	public static final String NODE_CONTAINER_VERSION_NAME = "NodeVersion";
 
+	/**
+	 * Uuid of the node of a content which is used for cursor based paging.
+	 */
+	protected static final Function<NodeContent, Object> NODE_CONTENT_UUID = content -> content.getNode().getUuid();
+
 	private final MeshOptions options;
 
 	public AbstractTypeProvider(MeshOptions options) {
@@ -88,6 +94,11 @@ public abstract class AbstractTypeProvider {
 
 		// #perPage
 		arguments.add(newArgument().name("perPage").description("Max count of elements per page").type(GraphQLLong).build());
+
+		// #after
+		arguments.add(newArgument().name("after").description(
+			"Cursor of the previous page. Use an empty cursor to load the first page. The page argument will be ignored when a cursor is used. Cursors are only supported by the nodes of a project and the children of a node.")
+			.type(GraphQLString).build());
 		return arguments;
 	}
 
@@ -542,6 +553,10 @@ public abstract class AbstractTypeProvider {
 		if (perPage != null) {
 			parameters.setPerPage(perPage);
 		}
+		String after = env.getArgument("after");
+		if (after != null) {
+			parameters.setAfter(after);
+		}
 		parameters.validate();
 		return parameters;
 	}
@@ -561,23 +576,41 @@ public abstract class AbstractTypeProvider {
 		List<String> languageTags = getLanguageArgument(env);
 		ContainerType type = getNodeVersion(env);
 
-		Stream<NodeContent> contents = nodeRoot.findAllStream(gc, READ_PUBLISHED_PERM)
+		Stream<NodeContent> contents = nodeRoot.findAllStream(gc, READ_PUBLISHED_PERM, getPagingInfo(env).getAfter())
 			// Now lets try to load the containers for those found nodes - apply the language fallback
 			.map(node -> new NodeContent(node, contentDao.findVersion(node, gc, languageTags, type), languageTags, type))
 			// Filter nodes without a container
 			.filter(content -> content.getContainer() != null)
 			.filter(gc::hasReadPerm);
 
-		return applyNodeFilter(env, contents);
+		return applyNodeFilter(env, contents, NODE_CONTENT_UUID);
 	}
 
 	protected DynamicStreamPageImpl<NodeContent> applyNodeFilter(DataFetchingEnvironment env, Stream<? extends NodeContent> stream) {
+		return applyNodeFilter(env, stream, null);
+	}
+
+	/**
+	 * Apply the node filter and the paging to the stream.
+	 *
+	 * @param env
+	 * @param stream
+	 *            Stream of contents. The stream must be ordered and start after the cursor when cursor based paging is used.
+	 * @param idFunction
+	 *            Function which returns the id that is used for the cursor of the next page or null if the stream does not support cursor based paging
+	 * @return
+	 */
+	protected DynamicStreamPageImpl<NodeContent> applyNodeFilter(DataFetchingEnvironment env, Stream<? extends NodeContent> stream,
+		Function<? super NodeContent, Object> idFunction) {
 		Map<String, ?> filterArgument = env.getArgument("filter");
 		PagingParameters pagingInfo = getPagingInfo(env);
 		GraphQLContext gc = env.getContext();
 
-		if (filterArgument != null) {
-			return new DynamicStreamPageImpl<>(stream, pagingInfo, NodeFilter.filter(gc).createPredicate(filterArgument));
+		Predicate<NodeContent> filter = filterArgument != null ? NodeFilter.filter(gc).createPredicate(filterArgument) : null;
+		if (idFunction != null) {
+			return new DynamicStreamPageImpl<>(stream, pagingInfo, filter, idFunction);
+		} else if (filter != null) {
+			return new DynamicStreamPageImpl<>(stream, pagingInfo, filter);
 		} else {
 			return new DynamicStreamPageImpl<>(stream, pagingInfo);
 		}
@@ -31,12 +31,13 @@ import java.util.stream.StreamSupport;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import org.dataloader.DataLoader;
+
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.branch.HibBranch;
 import com.gentics.mesh.core.data.dao.ContentDaoWrapper;
 import com.gentics.mesh.core.data.dao.NodeDaoWrapper;
-import com.gentics.mesh.core.data.dao.TagDaoWrapper;
 import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.NodeContent;
@@ -45,6 +46,7 @@ import com.gentics.mesh.core.data.page.impl.DynamicStreamPageImpl;
 import com.gentics.mesh.core.data.project.HibProject;
 import com.gentics.mesh.core.data.schema.Schema;
 import com.gentics.mesh.core.data.schema.SchemaVersion;
+import com.gentics.mesh.core.data.tag.HibTag;
 import com.gentics.mesh.core.data.user.HibUser;
 import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.rest.common.ContainerType;
@@ -56,6 +58,9 @@ import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader.ContentKey;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader.TagsKey;
 import com.gentics.mesh.graphql.filter.NodeFilter;
 import com.gentics.mesh.graphql.model.NodeReferenceIn;
 import com.gentics.mesh.graphql.type.field.FieldDefinitionProvider;
@@ -116,29 +121,26 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 	 * @return
 	 */
 	public Object parentNodeFetcher(DataFetchingEnvironment env) {
-		NodeDaoWrapper nodeDao = Tx.get().data().nodeDao();
-		ContentDaoWrapper contentDao = Tx.get().data().contentDao();
-
 		NodeContent content = env.getSource();
 		if (content == null) {
 			return null;
 		}
 		GraphQLContext gc = env.getContext();
-		String uuid = gc.getBranch().getUuid();
-		HibNode parentNode = nodeDao.getParentNode(content.getNode(), uuid);
-		// The project root node can have no parent. Lets check this and exit early.
-		if (parentNode == null) {
-			return null;
-		}
-		gc.requiresPerm(parentNode, READ_PERM, READ_PUBLISHED_PERM);
-
 		List<String> languageTags = getLanguageArgument(env, content);
 		ContainerType type = getNodeVersion(env);
 
-		NodeGraphFieldContainer container = contentDao.findVersion(parentNode, gc, languageTags, type);
-		container = gc.requiresReadPermSoft(container, env);
+		DataLoader<ContentKey, NodeContent> parentLoader = gc.getDataLoader(NodeDataLoader.PARENT_LOADER);
+		return parentLoader.load(new ContentKey(content.getNode(), languageTags, type)).thenApply(parent -> {
+			// The project root node can have no parent. Lets check this and exit early.
+			if (parent == null) {
+				return null;
+			}
+			HibNode parentNode = parent.getNode();
+			gc.requiresPerm(parentNode, READ_PERM, READ_PUBLISHED_PERM);
 
-		return new NodeContent(parentNode, container, languageTags, type);
+			NodeGraphFieldContainer container = gc.requiresReadPermSoft(parent.getContainer(), env);
+			return new NodeContent(parentNode, container, languageTags, type);
+		});
 	}
 
 	public Object nodeLanguageFetcher(DataFetchingEnvironment env) {
@@ -158,8 +160,6 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 	}
 
 	public Object breadcrumbFetcher(DataFetchingEnvironment env) {
-		ContentDaoWrapper contentDao = Tx.get().data().contentDao();
-		NodeDaoWrapper nodeDao = Tx.get().data().nodeDao();
 		GraphQLContext gc = env.getContext();
 		NodeContent content = env.getSource();
 		if (content == null) {
@@ -167,14 +167,14 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 		}
 
 		ContainerType type = getNodeVersion(env);
-		return nodeDao.getBreadcrumbNodes(content.getNode(), gc).stream().map(node -> {
-			List<String> languageTags = getLanguageArgument(env, content);
-			NodeGraphFieldContainer container = contentDao.findVersion(node, gc, languageTags, type);
-			return new NodeContent(node, container, languageTags, type);
-		})
-			.filter(item -> item.getContainer() != null)
-			.filter(gc::hasReadPerm)
-			.collect(Collectors.toList());
+		List<String> languageTags = getLanguageArgument(env, content);
+		DataLoader<ContentKey, List<NodeContent>> breadcrumbLoader = gc.getDataLoader(NodeDataLoader.BREADCRUMB_LOADER);
+		return breadcrumbLoader.load(new ContentKey(content.getNode(), languageTags, type)).thenApply(breadcrumb -> {
+			return breadcrumb.stream()
+				.filter(item -> item.getContainer() != null)
+				.filter(gc::hasReadPerm)
+				.collect(Collectors.toList());
+		});
 	}
 
 	public Object languagesFetcher(DataFetchingEnvironment env) {
@@ -328,8 +328,6 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 
 			// .children
 			newPagingFieldWithFetcherBuilder("children", "Load child nodes of the node.", (env) -> {
-				ContentDaoWrapper contentDao = Tx.get().data().contentDao();
-				NodeDaoWrapper nodeDao = Tx.get().data().nodeDao();
 				GraphQLContext gc = env.getContext();
 				NodeContent content = env.getSource();
 				if (content == null) {
@@ -339,12 +337,26 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 				List<String> languageTags = getLanguageArgument(env, content);
 				ContainerType type = getNodeVersion(env);
 
-				Stream<NodeContent> nodes = nodeDao.getChildrenStream(content.getNode(), gc)
-					.map(item -> new NodeContent(item, contentDao.findVersion(item, gc, languageTags, type), languageTags, type))
-					.filter(item -> item.getContainer() != null)
-					.filter(item -> gc.hasReadPerm(item.getContainer()));
+				String after = getPagingInfo(env).getAfter();
+				if (after != null) {
+					// A cursor page is read from the ordered index of the node and can't be shared with the other nodes of the level
+					ContentDaoWrapper contentDao = Tx.get().data().contentDao();
+					NodeDaoWrapper nodeDao = Tx.get().data().nodeDao();
+					Stream<NodeContent> nodes = nodeDao.getChildrenStream(content.getNode(), gc, after)
+						.map(item -> new NodeContent(item, contentDao.findVersion(item, gc, languageTags, type), languageTags, type))
+						.filter(item -> item.getContainer() != null)
+						.filter(item -> gc.hasReadPerm(item.getContainer()));
+					return applyNodeFilter(env, nodes, NODE_CONTENT_UUID);
+				}
 
-				return applyNodeFilter(env, nodes);
+				// The children of all nodes of the level are loaded together
+				DataLoader<ContentKey, List<NodeContent>> childrenLoader = gc.getDataLoader(NodeDataLoader.CHILDREN_LOADER);
+				return childrenLoader.load(new ContentKey(content.getNode(), languageTags, type)).thenApply(children -> {
+					Stream<NodeContent> nodes = children.stream()
+						.filter(item -> item.getContainer() != null)
+						.filter(item -> gc.hasReadPerm(item.getContainer()));
+					return applyNodeFilter(env, nodes);
+				});
 			}, NODE_PAGE_TYPE_NAME)
 				.argument(createLanguageTagArg(false))
 				.argument(NodeFilter.filter(context).createFilterArgument()).build(),
@@ -362,15 +374,14 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			// .tags
 			newFieldDefinition().name("tags").argument(createPagingArgs()).type(new GraphQLTypeReference(TAG_PAGE_TYPE_NAME)).dataFetcher((
 				env) -> {
-				TagDaoWrapper tagDao = Tx.get().data().tagDao();
-
 				GraphQLContext gc = env.getContext();
 				NodeContent content = env.getSource();
 				if (content == null) {
 					return null;
 				}
-				HibNode node = content.getNode();
-				return tagDao.getTags(node, gc.getUser(), getPagingInfo(env), gc.getBranch());
+				PagingParameters pagingInfo = getPagingInfo(env);
+				DataLoader<TagsKey, Page<? extends HibTag>> tagsLoader = gc.getDataLoader(NodeDataLoader.TAGS_LOADER);
+				return tagsLoader.load(new TagsKey(content.getNode(), pagingInfo));
 			}).build(),
 
 			// TODO Fix name confusion and check what version of schema should be used to determine this type
@@ -394,12 +405,13 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 				.argument(createNodeVersionArg())
 				.type(new GraphQLTypeReference(NODE_REFERENCE_PAGE_TYPE_NAME))
 				.dataFetcher(env -> {
+					GraphQLContext gc = env.getContext();
 					NodeContent content = env.getSource();
 					ContainerType type = getNodeVersion(env);
-					Stream<NodeReferenceIn> stream = NodeReferenceIn.fromContent(context, content, type);
+					Stream<NodeReferenceIn> stream = NodeReferenceIn.fromContent(gc, content, type);
 					Map<String, ?> filterInput = env.getArgument("filter");
 					if (filterInput != null) {
-						stream = stream.filter(nodeReferenceFilter(context).createPredicate(filterInput));
+						stream = stream.filter(nodeReferenceFilter(gc).createPredicate(filterInput));
 					}
 
 					return new DynamicStreamPageImpl<>(stream, getPagingInfo(env));
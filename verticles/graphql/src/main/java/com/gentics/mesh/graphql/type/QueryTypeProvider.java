@@ -29,6 +29,7 @@ import static com.gentics.mesh.graphql.type.UserTypeProvider.USER_PAGE_TYPE_NAME
 import static com.gentics.mesh.graphql.type.UserTypeProvider.USER_TYPE_NAME;
 import static graphql.Scalars.GraphQLBoolean;
 import static graphql.Scalars.GraphQLLong;
+import static graphql.Scalars.GraphQLString;
 import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
 import static graphql.schema.GraphQLObjectType.newObject;
 
@@ -561,6 +562,13 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 				return page.hasPreviousPage();
 			}));
 
+		type.field(newFieldDefinition().name("nextCursor").description(
+			"Return the cursor which can be used to load the next page. The cursor is only set when the page was loaded using the after argument.")
+			.type(GraphQLString).dataFetcher(env -> {
+				Page<?> page = env.getSource();
+				return page.getNextCursor();
+			}));
+
 		return type.build();
 	}
 
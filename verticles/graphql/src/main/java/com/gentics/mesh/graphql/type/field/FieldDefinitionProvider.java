@@ -18,15 +18,17 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import org.dataloader.DataLoader;
+
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.binary.Binary;
-import com.gentics.mesh.core.data.dao.ContentDaoWrapper;
 import com.gentics.mesh.core.data.node.HibNode;
 import com.gentics.mesh.core.data.node.Micronode;
 import com.gentics.mesh.core.data.node.NodeContent;
@@ -46,7 +48,6 @@ import com.gentics.mesh.core.data.node.field.list.StringGraphFieldList;
 import com.gentics.mesh.core.data.node.field.nesting.MicronodeGraphField;
 import com.gentics.mesh.core.data.node.field.nesting.NodeGraphField;
 import com.gentics.mesh.core.data.project.HibProject;
-import com.gentics.mesh.core.db.Tx;
 import com.gentics.mesh.core.link.WebRootLinkReplacer;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.node.field.image.FocalPoint;
@@ -54,6 +55,8 @@ import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.rest.schema.ListFieldSchema;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader.ContentKey;
 import com.gentics.mesh.graphql.filter.NodeFilter;
 import com.gentics.mesh.graphql.type.AbstractTypeProvider;
 import com.gentics.mesh.parameter.LinkType;
@@ -254,7 +257,6 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 			.description(schema.getLabel())
 			.type(new GraphQLList(type))
 			.argument(createPagingArgs());
-		NodeFilter nodeFilter = NodeFilter.filter(context);
 
 		// Add link resolving arg to html and string lists
 		switch (schema.getListType()) {
@@ -264,12 +266,11 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 			break;
 		case "node":
 			fieldType.argument(createNodeVersionArg());
-			fieldType.argument(nodeFilter.createFilterArgument());
+			fieldType.argument(NodeFilter.filter(context).createFilterArgument());
 			break;
 		}
 
 		return fieldType.dataFetcher(env -> {
-			ContentDaoWrapper contentDao = Tx.get().data().contentDao();
 			GraphFieldContainer container = env.getSource();
 			GraphQLContext gc = env.getContext();
 
@@ -322,28 +323,35 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 				Map<String, ?> filterArgument = env.getArgument("filter");
 				ContainerType nodeType = getNodeVersion(env);
 
-				Stream<NodeContent> nodes = nodeList.getList().stream().map(item -> {
-					HibNode node = item.getNode();
-					List<String> languageTags;
-					if (container instanceof NodeGraphFieldContainer) {
-						languageTags = Arrays.asList(container.getLanguageTag());
-					} else if (container instanceof Micronode) {
-						Micronode micronode = (Micronode) container;
-						languageTags = Arrays.asList(micronode.getContainer().getLanguageTag());
-					} else {
-						throw error(HttpResponseStatus.INTERNAL_SERVER_ERROR, "container can only be NodeGraphFieldContainer or Micronode");
-					}
-					// TODO we need to add more assertions and check what happens if the itemContainer is null
-					NodeGraphFieldContainer itemContainer = contentDao.findVersion(node, gc, languageTags, nodeType);
-					return new NodeContent(node, itemContainer, languageTags, nodeType);
-				});
-				if (filterArgument != null) {
-					nodes = nodes.filter(nodeFilter.createPredicate(filterArgument));
+				List<String> languageTags;
+				if (container instanceof NodeGraphFieldContainer) {
+					languageTags = Arrays.asList(container.getLanguageTag());
+				} else if (container instanceof Micronode) {
+					Micronode micronode = (Micronode) container;
+					languageTags = Arrays.asList(micronode.getContainer().getLanguageTag());
+				} else {
+					throw error(HttpResponseStatus.INTERNAL_SERVER_ERROR, "container can only be NodeGraphFieldContainer or Micronode");
 				}
-				return nodes
-					.filter(content -> content.getContainer() != null)
-					.filter(gc::hasReadPerm)
+				// The contents of all listed nodes (and of the nodes of other lists on the same level) are loaded together
+				List<HibNode> listedNodes = nodeList.getList().stream()
+					.map(item -> item.getNode())
 					.collect(Collectors.toList());
+				List<ContentKey> keys = listedNodes.stream()
+					.map(node -> new ContentKey(node, languageTags, nodeType))
+					.collect(Collectors.toList());
+				DataLoader<ContentKey, NodeGraphFieldContainer> contentLoader = gc.getDataLoader(NodeDataLoader.CONTENT_LOADER);
+				return contentLoader.loadMany(keys).thenApply(itemContainers -> {
+					// TODO we need to add more assertions and check what happens if the itemContainer is null
+					Stream<NodeContent> nodes = IntStream.range(0, listedNodes.size())
+						.mapToObj(i -> new NodeContent(listedNodes.get(i), itemContainers.get(i), languageTags, nodeType));
+					if (filterArgument != null) {
+						nodes = nodes.filter(NodeFilter.filter(gc).createPredicate(filterArgument));
+					}
+					return nodes
+						.filter(content -> content.getContainer() != null)
+						.filter(gc::hasReadPerm)
+						.collect(Collectors.toList());
+				});
 			case "micronode":
 				MicronodeGraphFieldList micronodeList = container.getMicronodeList(schema.getName());
 				if (micronodeList == null) {
@@ -409,7 +417,6 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 			.argument(createNodeVersionArg())
 			.description(schema.getLabel())
 			.type(new GraphQLTypeReference(NODE_TYPE_NAME)).dataFetcher(env -> {
-				ContentDaoWrapper contentDao = Tx.get().data().contentDao();
 				GraphQLContext gc = env.getContext();
 				GraphFieldContainer source = env.getSource();
 				ContainerType type = getNodeVersion(env);
@@ -423,9 +430,11 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 						List<String> languageTags = getLanguageArgument(env, source);
 						// Check permissions for the linked node
 						gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
-						NodeGraphFieldContainer container = contentDao.findVersion(node, gc, languageTags, type);
-						container = gc.requiresReadPermSoft(container, env);
-						return new NodeContent(node, container, languageTags, type);
+						// Referenced nodes are often shared (e.g. images of teasers). The content is thus loaded via the batching loader.
+						DataLoader<ContentKey, NodeGraphFieldContainer> contentLoader = gc.getDataLoader(NodeDataLoader.CONTENT_LOADER);
+						return contentLoader.load(new ContentKey(node, languageTags, type)).thenApply(container -> {
+							return new NodeContent(node, gc.requiresReadPermSoft(container, env), languageTags, type);
+						});
 					}
 				}
 				return null;